@@ -0,0 +1,256 @@
+package com.games.modules.tictactoe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Board engine for N×N K-in-a-row games (TicTacToe on larger boards, gomoku on
+ * 15×15 or 19×19).
+ *
+ * The board is packed into one long[] holding two bit planes, X's cells in the
+ * first half and O's in the second, one bit per cell (a 19×19 board is 12 longs).
+ * A new mark can only complete lines that pass through it, so win detection
+ * counts matching cells outward from the last move in the four directions:
+ * O(K) per move instead of rescanning the board.
+ */
+public final class KInARowBoard {
+
+    /** Side index of the first player (X). */
+    public static final int X = TicTacToeBoard.X;
+
+    /** Side index of the second player (O). */
+    public static final int O = TicTacToeBoard.O;
+
+    /** Largest supported board size. */
+    public static final int MAX_SIZE = 32;
+
+    // Row and column steps of the four line directions: horizontal, vertical, two diagonals
+    private static final int[] DIRECTION_ROWS = {0, 1, 1, 1};
+    private static final int[] DIRECTION_COLS = {1, 0, 1, -1};
+
+    private final int size;
+    private final int winLength;
+    private final int words;
+    // Bit plane of side s occupies bits[s * words .. (s + 1) * words)
+    private final long[] bits;
+    private int moveCount;
+    private int winner = -1;
+    private int winStart = -1;
+    private int winDirection = -1;
+
+    /**
+     * Creates an empty board.
+     *
+     * @param size The number of rows and columns (3 to MAX_SIZE)
+     * @param winLength The number of marks in a row needed to win (3 to size)
+     */
+    public KInARowBoard(int size, int winLength) {
+        if (size < 3 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between 3 and " + MAX_SIZE + ": " + size);
+        }
+        if (winLength < 3 || winLength > size) {
+            throw new IllegalArgumentException("Win length must be between 3 and the board size: " + winLength);
+        }
+        this.size = size;
+        this.winLength = winLength;
+        this.words = (size * size + 63) >>> 6;
+        this.bits = new long[2 * words];
+    }
+
+    private KInARowBoard(KInARowBoard source) {
+        this.size = source.size;
+        this.winLength = source.winLength;
+        this.words = source.words;
+        this.bits = source.bits.clone();
+        this.moveCount = source.moveCount;
+        this.winner = source.winner;
+        this.winStart = source.winStart;
+        this.winDirection = source.winDirection;
+    }
+
+    /**
+     * Places a mark and checks the lines through it for a win.
+     *
+     * @param side X or O
+     * @param position The cell index (row * size + column)
+     * @return true if the position was valid and empty and the game wasn't over
+     */
+    public boolean place(int side, int position) {
+        if (position < 0 || position >= size * size || winner >= 0 || isOccupied(position)) {
+            return false;
+        }
+        bits[side * words + (position >>> 6)] |= 1L << position;
+        moveCount++;
+        checkWin(side, position);
+        return true;
+    }
+
+    /**
+     * Counts the side's marks in a row through the new mark in each direction.
+     */
+    private void checkWin(int side, int position) {
+        int row = position / size;
+        int col = position % size;
+        for (int direction = 0; direction < 4; direction++) {
+            int dRow = DIRECTION_ROWS[direction];
+            int dCol = DIRECTION_COLS[direction];
+            int backward = count(side, row, col, -dRow, -dCol);
+            int forward = count(side, row, col, dRow, dCol);
+            if (backward + 1 + forward >= winLength) {
+                winner = side;
+                winStart = (row - backward * dRow) * size + (col - backward * dCol);
+                winDirection = direction;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Counts consecutive marks of a side from a cell (exclusive) in one
+     * direction, stopping after winLength - 1.
+     */
+    private int count(int side, int row, int col, int dRow, int dCol) {
+        int matched = 0;
+        int base = side * words;
+        for (int step = 1; step < winLength; step++) {
+            int r = row + step * dRow;
+            int c = col + step * dCol;
+            if (r < 0 || r >= size || c < 0 || c >= size) {
+                break;
+            }
+            int cell = r * size + c;
+            if ((bits[base + (cell >>> 6)] & (1L << cell)) == 0) {
+                break;
+            }
+            matched++;
+        }
+        return matched;
+    }
+
+    /**
+     * Gets the side holding a cell.
+     * @param position The cell index
+     * @return X, O, or -1 if the cell is empty
+     */
+    public int get(int position) {
+        long bit = 1L << position;
+        int word = position >>> 6;
+        if ((bits[word] & bit) != 0) {
+            return X;
+        }
+        return (bits[words + word] & bit) != 0 ? O : -1;
+    }
+
+    /**
+     * Checks if a cell is taken.
+     * @param position The cell index
+     * @return true if either side holds the cell
+     */
+    public boolean isOccupied(int position) {
+        int word = position >>> 6;
+        return ((bits[word] | bits[words + word]) & (1L << position)) != 0;
+    }
+
+    /**
+     * Gets the number of rows and columns.
+     * @return The board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of marks in a row needed to win.
+     * @return The win length
+     */
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /**
+     * Gets the number of marks on the board.
+     * @return The move count
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Gets the winning side.
+     * @return X, O, or -1 if no one has won
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Checks if every cell is taken.
+     * @return true if the board is full
+     */
+    public boolean isFull() {
+        return moveCount == size * size;
+    }
+
+    /**
+     * Checks if the game ended in a draw.
+     * @return true if the board is full and no one won
+     */
+    public boolean isDrawn() {
+        return winner < 0 && isFull();
+    }
+
+    /**
+     * Gets the cells of the winning line (the first winLength cells of it).
+     * @return Cell indexes of the winning line, or an empty list if no one has won
+     */
+    public List<Integer> getWinningPositions() {
+        List<Integer> positions = new ArrayList<>(winLength);
+        if (winner < 0) {
+            return positions;
+        }
+        int row = winStart / size;
+        int col = winStart % size;
+        for (int i = 0; i < winLength; i++) {
+            positions.add((row + i * DIRECTION_ROWS[winDirection]) * size + col + i * DIRECTION_COLS[winDirection]);
+        }
+        return positions;
+    }
+
+    /**
+     * Empties the board.
+     */
+    public void reset() {
+        Arrays.fill(bits, 0);
+        moveCount = 0;
+        winner = -1;
+        winStart = -1;
+        winDirection = -1;
+    }
+
+    /**
+     * Copies the board.
+     * @return An independent copy
+     */
+    public KInARowBoard copy() {
+        return new KInARowBoard(this);
+    }
+
+    /**
+     * Gets the board as one character per cell, row by row: X, O or '.' for empty.
+     * @return The board string
+     */
+    public String toBoardString() {
+        char[] cells = new char[size * size];
+        for (int position = 0; position < cells.length; position++) {
+            int side = get(position);
+            cells[position] = side == X ? 'X' : side == O ? 'O' : '.';
+        }
+        return new String(cells);
+    }
+
+    @Override
+    public String toString() {
+        return size + "x" + size + " (" + winLength + " in a row) " + toBoardString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.games.modules.tictactoe;
+
+import com.game.session.ReplayRules;
+import com.game.session.SessionEvent;
+
+import java.util.SplittableRandom;
+
+/**
+ * Headless rules of N×N K-in-a-row on a KInARowBoard, for the MCTS engine.
+ * Moves are cell indexes; X moves first, so the side to move follows from the
+ * move count.
+ */
+public final class KInARowRules implements ReplayRules<KInARowBoard> {
+
+    // Random playouts sample cells directly until the board is this full, then list the empty cells
+    private static final double SAMPLING_FILL_LIMIT = 0.75;
+
+    private final int size;
+    private final int winLength;
+
+    /**
+     * Creates the rules for a board.
+     *
+     * @param size The number of rows and columns
+     * @param winLength The number of marks in a row needed to win
+     */
+    public KInARowRules(int size, int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+    }
+
+    @Override
+    public KInARowBoard initialState() {
+        return new KInARowBoard(size, winLength);
+    }
+
+    @Override
+    public KInARowBoard copy(KInARowBoard board) {
+        return board.copy();
+    }
+
+    @Override
+    public int getPlayerCount() {
+        return 2;
+    }
+
+    @Override
+    public int getCurrentPlayer(KInARowBoard board) {
+        return board.getMoveCount() & 1;
+    }
+
+    @Override
+    public int getMaxMoves() {
+        return size * size;
+    }
+
+    @Override
+    public int getLegalMoves(KInARowBoard board, int[] moves) {
+        if (board.getWinner() >= 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int position = 0; position < size * size; position++) {
+            if (!board.isOccupied(position)) {
+                moves[count++] = position;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void apply(KInARowBoard board, int move) {
+        if (!board.place(board.getMoveCount() & 1, move)) {
+            throw new IllegalArgumentException("Illegal move: " + move);
+        }
+    }
+
+    /**
+     * Replays a TicTacToeGame session event: a new game clears the board, a move
+     * places the event player's mark and a forfeit leaves the board as it is.
+     */
+    @Override
+    public KInARowBoard applyEvent(KInARowBoard board, SessionEvent event) {
+        switch (event.getAction()) {
+            case TicTacToeGame.ACTION_NEW_GAME:
+                return initialState();
+            case TicTacToeGame.ACTION_MOVE:
+                if (!board.place(event.getPlayer(), (int) event.getData())) {
+                    throw new IllegalArgumentException("Illegal move in session log: " + event.getData());
+                }
+                return board;
+            case TicTacToeGame.ACTION_FORFEIT:
+                return board;
+            default:
+                throw new IllegalArgumentException("Unknown session action: " + event.getAction());
+        }
+    }
+
+    @Override
+    public boolean isTerminal(KInARowBoard board) {
+        return board.getWinner() >= 0 || board.isFull();
+    }
+
+    @Override
+    public int getWinner(KInARowBoard board) {
+        return board.getWinner();
+    }
+
+    /**
+     * Samples random cells until an empty one turns up, which on a mostly empty
+     * board is much cheaper than listing every empty cell.
+     */
+    @Override
+    public int randomMove(KInARowBoard board, SplittableRandom random, int[] moves) {
+        int cells = size * size;
+        if (board.getMoveCount() < cells * SAMPLING_FILL_LIMIT) {
+            while (true) {
+                int position = random.nextInt(cells);
+                if (!board.isOccupied(position)) {
+                    return position;
+                }
+            }
+        }
+        int count = getLegalMoves(board, moves);
+        return moves[random.nextInt(count)];
+    }
+}
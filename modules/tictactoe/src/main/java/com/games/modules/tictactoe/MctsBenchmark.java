@@ -0,0 +1,70 @@
+package com.games.modules.tictactoe;
+
+import com.game.ai.MonteCarloTreeSearch;
+import com.utils.error_handling.Logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scaling benchmark for the MCTS engine on K-in-a-row boards.
+ * Searches the opening position with 1, 2, 4, ... up to all available cores
+ * (one tree per core) and reports playouts per second and the speedup over one
+ * core, then plays a few moves to show how many visits tree reuse carries over.
+ *
+ * Usage: MctsBenchmark [boardSize] [winLength] [budgetMillis]
+ */
+public class MctsBenchmark {
+
+    private static final int REUSE_MOVES = 6;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 15;
+        int winLength = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        long budgetMillis = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        KInARowRules rules = new KInARowRules(size, winLength);
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+
+        Logging.info("🧪 Starting MCTS benchmark - Board: " + size + "x" + size + ", " + winLength
+                + " in a row, budget " + budgetMillis + " ms, cores " + cores);
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                MonteCarloTreeSearch<KInARowBoard> search = new MonteCarloTreeSearch<>(rules, pool, threads,
+                        MonteCarloTreeSearch.DEFAULT_EXPLORATION);
+                // Warm up the JIT, then measure with fresh trees
+                search.search(rules.initialState(), budgetMillis / 2, Long.MAX_VALUE);
+                search.reset();
+                MonteCarloTreeSearch.SearchResult result = search.search(rules.initialState(), budgetMillis,
+                        Long.MAX_VALUE);
+                double rate = result.getPlayoutsPerSecond();
+                if (baseline == 0) {
+                    baseline = rate;
+                }
+                Logging.info(String.format("  %2d threads %12.0f playouts/s %6.2fx  best move %d (%.1f%%)",
+                        threads, rate, rate / baseline, result.move(), result.winRate() * 100));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // Self-play a few moves with tree reuse on the shared CPU pool
+        MonteCarloTreeSearch<KInARowBoard> search = new MonteCarloTreeSearch<>(rules);
+        KInARowBoard board = rules.initialState();
+        for (int i = 0; i < REUSE_MOVES && !rules.isTerminal(board); i++) {
+            MonteCarloTreeSearch.SearchResult result = search.search(board, budgetMillis, Long.MAX_VALUE);
+            rules.apply(board, result.move());
+            search.advance(result.move());
+            Logging.info(String.format("  move %d: %d, %d playouts, %d visits reused", i + 1, result.move(),
+                    result.playouts(), result.reusedVisits()));
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.games.modules.tictactoe;
+
+import com.utils.concurrent.ExecutorRegistry;
+import com.utils.error_handling.Logging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computer opponent for single-player TicTacToe.
+ *
+ * The whole game is solved once with a negamax alpha-beta search whose
+ * transposition table is keyed by the canonical position: the smallest key of
+ * the position's eight rotations and reflections, so symmetric positions share
+ * one entry (627 non-terminal positions instead of 4520). Every reachable position
+ * is then searched with a full window, leaving an exact value for each, so
+ * choosing a move is at most nine table lookups.
+ *
+ * Difficulty adds noise: with probability Difficulty.noise the AI plays a
+ * random empty square instead of a best move. Moves are chosen on a background
+ * thread with a time budget; if the budget runs out (e.g. the table is still
+ * being built) a quick win/block/center heuristic answers instead.
+ */
+public final class TicTacToeAI {
+
+    /**
+     * AI strength, read from the "aiDifficulty" game option.
+     */
+    public enum Difficulty {
+        EASY(0.45, 150),
+        MEDIUM(0.15, 500),
+        HARD(0.0, 1500);
+
+        private final double noise;
+        private final long searchBudgetMillis;
+
+        Difficulty(double noise, long searchBudgetMillis) {
+            this.noise = noise;
+            this.searchBudgetMillis = searchBudgetMillis;
+        }
+
+        /**
+         * Gets the chance of playing a random move instead of a best move.
+         * @return The noise probability
+         */
+        public double getNoise() {
+            return noise;
+        }
+
+        /**
+         * Gets the time the tree search may spend per move on boards larger than 3×3.
+         * @return The search budget in milliseconds
+         */
+        public long getSearchBudgetMillis() {
+            return searchBudgetMillis;
+        }
+
+        /**
+         * Parses an "aiDifficulty" option value.
+         * @param value The option value, e.g. "medium"
+         * @return The difficulty, MEDIUM if the value is missing or unknown
+         */
+        public static Difficulty fromOption(String value) {
+            if (value != null) {
+                for (Difficulty difficulty : values()) {
+                    if (difficulty.name().equalsIgnoreCase(value.trim())) {
+                        return difficulty;
+                    }
+                }
+            }
+            return MEDIUM;
+        }
+    }
+
+    /** Default time budget per AI move. */
+    public static final long DEFAULT_MOVE_BUDGET_MILLIS = 250;
+
+    private static final int KEY_COUNT = 1 << 18;
+    private static final byte FLAG_EXACT = 1;
+    private static final byte FLAG_LOWER = 2;
+    private static final byte FLAG_UPPER = 3;
+
+    // SYMMETRY[s][mask] is mask under the s-th rotation/reflection of the board
+    private static final short[][] SYMMETRY = new short[8][TicTacToeBoard.FULL_MASK + 1];
+
+    static {
+        int[][] permutations = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8}, // identity
+            {6, 3, 0, 7, 4, 1, 8, 5, 2}, // rotate 90
+            {8, 7, 6, 5, 4, 3, 2, 1, 0}, // rotate 180
+            {2, 5, 8, 1, 4, 7, 0, 3, 6}, // rotate 270
+            {2, 1, 0, 5, 4, 3, 8, 7, 6}, // mirror left-right
+            {6, 7, 8, 3, 4, 5, 0, 1, 2}, // mirror top-bottom
+            {0, 3, 6, 1, 4, 7, 2, 5, 8}, // main diagonal
+            {8, 5, 2, 7, 4, 1, 6, 3, 0}  // anti-diagonal
+        };
+        for (int s = 0; s < 8; s++) {
+            for (int mask = 0; mask <= TicTacToeBoard.FULL_MASK; mask++) {
+                int mapped = 0;
+                for (int position = 0; position < 9; position++) {
+                    if ((mask & (1 << permutations[s][position])) != 0) {
+                        mapped |= 1 << position;
+                    }
+                }
+                SYMMETRY[s][mask] = (short) mapped;
+            }
+        }
+    }
+
+    private static final ExecutorService EXECUTOR = ExecutorRegistry.newSerialScheduler("tictactoe-ai");
+
+    private TicTacToeAI() {
+    }
+
+    /**
+     * The solved game, built on first use.
+     */
+    private static final class Solution {
+        private static final byte[] VALUES = new byte[KEY_COUNT];
+        private static final byte[] FLAGS = new byte[KEY_COUNT];
+        private static final int POSITIONS;
+
+        static {
+            long start = System.nanoTime();
+            POSITIONS = solveAll(0, 0, new boolean[KEY_COUNT]);
+            Logging.info("🤖 TicTacToe AI solved " + POSITIONS + " positions in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        }
+
+        /**
+         * Visits every reachable position once per symmetry class and stores its
+         * exact value. Returns the number of positions solved.
+         */
+        private static int solveAll(int me, int opponent, boolean[] visited) {
+            int key = canonicalKey(me, opponent);
+            if (visited[key] || TicTacToeBoard.isWin(opponent) || (me | opponent) == TicTacToeBoard.FULL_MASK) {
+                return 0;
+            }
+            visited[key] = true;
+            search(me, opponent, -Byte.MAX_VALUE, Byte.MAX_VALUE);
+
+            int solved = 1;
+            int empty = ~(me | opponent) & TicTacToeBoard.FULL_MASK;
+            while (empty != 0) {
+                int bit = empty & -empty;
+                empty ^= bit;
+                solved += solveAll(opponent, me | bit, visited);
+            }
+            return solved;
+        }
+
+        /**
+         * Negamax alpha-beta search with a symmetry-reduced transposition table.
+         *
+         * @param me Marks of the side to move
+         * @param opponent Marks of the side that just moved
+         * @return The value for the side to move: positive wins, negative loses,
+         *         larger magnitudes for quicker wins
+         */
+        private static int search(int me, int opponent, int alpha, int beta) {
+            if (TicTacToeBoard.isWin(opponent)) {
+                return -(1 + Integer.bitCount(~(me | opponent) & TicTacToeBoard.FULL_MASK));
+            }
+            if ((me | opponent) == TicTacToeBoard.FULL_MASK) {
+                return 0;
+            }
+
+            int key = canonicalKey(me, opponent);
+            byte flag = FLAGS[key];
+            if (flag != 0) {
+                int value = VALUES[key];
+                if (flag == FLAG_EXACT
+                        || (flag == FLAG_LOWER && value >= beta)
+                        || (flag == FLAG_UPPER && value <= alpha)) {
+                    return value;
+                }
+            }
+
+            int originalAlpha = alpha;
+            int best = -Byte.MAX_VALUE;
+            int empty = ~(me | opponent) & TicTacToeBoard.FULL_MASK;
+            while (empty != 0) {
+                int bit = empty & -empty;
+                empty ^= bit;
+                int value = -search(opponent, me | bit, -beta, -alpha);
+                if (value > best) {
+                    best = value;
+                }
+                if (best > alpha) {
+                    alpha = best;
+                }
+                if (alpha >= beta) {
+                    break;
+                }
+            }
+
+            VALUES[key] = (byte) best;
+            FLAGS[key] = best <= originalAlpha ? FLAG_UPPER : best >= beta ? FLAG_LOWER : FLAG_EXACT;
+            return best;
+        }
+
+        /**
+         * Gets the exact value of a position for the side to move.
+         */
+        static int value(int me, int opponent) {
+            if (TicTacToeBoard.isWin(opponent)) {
+                return -(1 + Integer.bitCount(~(me | opponent) & TicTacToeBoard.FULL_MASK));
+            }
+            if ((me | opponent) == TicTacToeBoard.FULL_MASK) {
+                return 0;
+            }
+            int key = canonicalKey(me, opponent);
+            if (FLAGS[key] == FLAG_EXACT) {
+                return VALUES[key];
+            }
+            // Only boards that can't occur in play (e.g. built from arbitrary masks) get here
+            synchronized (Solution.class) {
+                return search(me, opponent, -Byte.MAX_VALUE, Byte.MAX_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Gets the key shared by a position and its rotations and reflections.
+     */
+    static int canonicalKey(int me, int opponent) {
+        int best = Integer.MAX_VALUE;
+        for (short[] symmetry : SYMMETRY) {
+            int key = symmetry[me] | (symmetry[opponent] << 9);
+            if (key < best) {
+                best = key;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Solves the game in the background so the first AI move doesn't wait for it.
+     */
+    public static void warmUp() {
+        EXECUTOR.execute(TicTacToeAI::getSolvedPositionCount);
+    }
+
+    /**
+     * Gets the number of positions in the solved table, solving the game if needed.
+     * @return Number of canonical positions solved
+     */
+    public static int getSolvedPositionCount() {
+        return Solution.POSITIONS;
+    }
+
+    /**
+     * Gets the game-theoretic value of a position for the side to move.
+     *
+     * @param board The board
+     * @return Positive if the side to move wins with perfect play, negative if it loses, 0 for a draw
+     */
+    public static int evaluate(TicTacToeBoard board) {
+        int side = sideToMove(board);
+        return Solution.value(board.getMask(side), board.getMask(side ^ 1));
+    }
+
+    /**
+     * Chooses a move for the side to move.
+     *
+     * @param board The board (not modified)
+     * @param difficulty The AI strength
+     * @return The position (0-8), or -1 if the game is over
+     */
+    public static int chooseMove(TicTacToeBoard board, Difficulty difficulty) {
+        int empty = board.getEmptyMask();
+        if (empty == 0 || board.getWinner() >= 0) {
+            return -1;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < difficulty.getNoise()) {
+            return randomPosition(empty, random);
+        }
+
+        int side = sideToMove(board);
+        int me = board.getMask(side);
+        int opponent = board.getMask(side ^ 1);
+        int bestValue = Integer.MIN_VALUE;
+        int bestMoves = 0;
+        while (empty != 0) {
+            int bit = empty & -empty;
+            empty ^= bit;
+            int value = -Solution.value(opponent, me | bit);
+            if (value > bestValue) {
+                bestValue = value;
+                bestMoves = bit;
+            } else if (value == bestValue) {
+                bestMoves |= bit;
+            }
+        }
+        // Vary play between equally good moves
+        return randomPosition(bestMoves, random);
+    }
+
+    /**
+     * Chooses a move on the AI thread.
+     * If the budget runs out first, the future completes with a heuristic move.
+     *
+     * @param board The board (copied, so the caller may keep using it)
+     * @param difficulty The AI strength
+     * @param budgetMillis The time budget for the move
+     * @return Future completing with the position (0-8), or -1 if the game is over
+     */
+    public static CompletableFuture<Integer> chooseMoveAsync(TicTacToeBoard board, Difficulty difficulty,
+                                                             long budgetMillis) {
+        TicTacToeBoard position = board.copy();
+        return CompletableFuture.supplyAsync(() -> chooseMove(position, difficulty), EXECUTOR)
+                .completeOnTimeout(quickMove(position), budgetMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Picks a move without search: win if possible, else block, else take the
+     * center, else a random square.
+     */
+    static int quickMove(TicTacToeBoard board) {
+        int empty = board.getEmptyMask();
+        if (empty == 0 || board.getWinner() >= 0) {
+            return -1;
+        }
+        int side = sideToMove(board);
+        int me = board.getMask(side);
+        int opponent = board.getMask(side ^ 1);
+
+        for (int mask : new int[]{me, opponent}) {
+            int candidates = empty;
+            while (candidates != 0) {
+                int bit = candidates & -candidates;
+                candidates ^= bit;
+                if (TicTacToeBoard.isWin(mask | bit)) {
+                    return Integer.numberOfTrailingZeros(bit);
+                }
+            }
+        }
+        if ((empty & (1 << 4)) != 0) {
+            return 4;
+        }
+        return randomPosition(empty, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Gets the side to move: X when both sides have the same number of marks.
+     */
+    private static int sideToMove(TicTacToeBoard board) {
+        return Integer.bitCount(board.getMask(TicTacToeBoard.X)) > Integer.bitCount(board.getMask(TicTacToeBoard.O))
+                ? TicTacToeBoard.O : TicTacToeBoard.X;
+    }
+
+    private static int randomPosition(int mask, ThreadLocalRandom random) {
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+}
@@ -0,0 +1,128 @@
+package com.games.modules.tictactoe;
+
+import com.entities.UserAccount;
+import com.utils.error_handling.Logging;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Random playout benchmark for the TicTacToe engines.
+ * Plays random games to the end with the previous String board (substring
+ * rebuild per move, eight charAt line checks, a draw scan), with TicTacToeGame
+ * and with TicTacToeBoard directly, and reports playouts per second.
+ *
+ * Usage: TicTacToeBenchmark [playouts]
+ */
+public class TicTacToeBenchmark {
+
+    private static final int WARMUP_PLAYOUTS = 500_000;
+    private static final int[][] LINES = {
+        {0, 1, 2}, {3, 4, 5}, {6, 7, 8}, {0, 3, 6}, {1, 4, 7}, {2, 5, 8}, {0, 4, 8}, {2, 4, 6}
+    };
+
+    // Prevents the JIT from eliminating the playouts
+    private static long sink;
+
+    public static void main(String[] args) {
+        int playouts = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        TicTacToePlayer playerX = new TicTacToePlayer(new UserAccount("x", ""), "X");
+        TicTacToePlayer playerO = new TicTacToePlayer(new UserAccount("o", ""), "O");
+        TicTacToeGame game = new TicTacToeGame(Arrays.asList(playerX, playerO));
+        TicTacToeBoard board = new TicTacToeBoard();
+
+        Logging.info("🧪 Starting TicTacToe playout benchmark - Playouts: " + playouts);
+        run("string board", playouts, random -> playStringBoard(random));
+        run("TicTacToeGame", playouts, random -> playGame(game, random));
+        run("TicTacToeBoard", playouts, random -> playBitboard(board, random));
+        Logging.info("Result sink: " + sink);
+    }
+
+    private interface Playout {
+        int play(SplittableRandom random);
+    }
+
+    private static void run(String name, int playouts, Playout playout) {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < WARMUP_PLAYOUTS; i++) {
+            sink += playout.play(random);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < playouts; i++) {
+            sink += playout.play(random);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Logging.info(String.format("  %-16s %12.0f playouts/s %8.1f ns/playout", name,
+                playouts * 1e9 / elapsed, (double) elapsed / playouts));
+    }
+
+    /**
+     * Plays a random game with the previous String board implementation.
+     * @return 1 if X won, 2 if O won, 0 for a draw
+     */
+    private static int playStringBoard(SplittableRandom random) {
+        String board = "123456789";
+        char mark = 'X';
+        while (true) {
+            int position = random.nextInt(9);
+            char current = board.charAt(position);
+            if (current == 'X' || current == 'O') {
+                continue;
+            }
+            board = board.substring(0, position) + mark + board.substring(position + 1);
+            for (int[] line : LINES) {
+                char c = board.charAt(line[0]);
+                if ((c == 'X' || c == 'O') && c == board.charAt(line[1]) && c == board.charAt(line[2])) {
+                    return c == 'X' ? 1 : 2;
+                }
+            }
+            boolean full = true;
+            for (int i = 0; i < 9 && full; i++) {
+                char c = board.charAt(i);
+                full = c == 'X' || c == 'O';
+            }
+            if (full) {
+                return 0;
+            }
+            mark = mark == 'X' ? 'O' : 'X';
+        }
+    }
+
+    /**
+     * Plays a random game through the TicTacToeGame API.
+     */
+    private static int playGame(TicTacToeGame game, SplittableRandom random) {
+        game.reset();
+        while (!game.isGameOver()) {
+            game.place(game.getCurrentPlayer(), random.nextInt(9));
+        }
+        TicTacToePlayer winner = game.getWinner();
+        return winner == null ? 0 : winner == game.getPlayers().get(0) ? 1 : 2;
+    }
+
+    /**
+     * Plays a random game on the bitboard, picking only among empty positions.
+     */
+    private static int playBitboard(TicTacToeBoard board, SplittableRandom random) {
+        board.reset();
+        int side = TicTacToeBoard.X;
+        while (true) {
+            int empty = board.getEmptyMask();
+            int skip = random.nextInt(Integer.bitCount(empty));
+            for (int i = 0; i < skip; i++) {
+                empty &= empty - 1;
+            }
+            board.place(side, Integer.numberOfTrailingZeros(empty));
+            if (TicTacToeBoard.isWin(board.getMask(side))) {
+                return side + 1;
+            }
+            if (board.isFull()) {
+                return 0;
+            }
+            side ^= 1;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.games.modules.tictactoe;
+
+/**
+ * Bitboard for TicTacToe.
+ * Each side's marks are a 9-bit mask, bit i set for position i (0-8, row-major):
+ * _____________
+ * | 0 | 1 | 2 |
+ * | 3 | 4 | 5 |
+ * | 6 | 7 | 8 |
+ * '---'---'---'
+ * A table indexed by mask gives the winning line of every possible mask, so
+ * placing a mark and checking for a win or draw are a few bit operations.
+ */
+public final class TicTacToeBoard {
+
+    /** Side index of the first player (X). */
+    public static final int X = 0;
+
+    /** Side index of the second player (O). */
+    public static final int O = 1;
+
+    /** Mask with every position set. */
+    public static final int FULL_MASK = 0x1FF;
+
+    /** The eight winning lines: rows, columns, diagonals. */
+    public static final int[] WIN_MASKS = {
+        0b000_000_111, 0b000_111_000, 0b111_000_000,
+        0b001_001_001, 0b010_010_010, 0b100_100_100,
+        0b100_010_001, 0b001_010_100
+    };
+
+    // WINNING_LINE[mask] is the first winning line contained in mask, or 0
+    private static final short[] WINNING_LINE = new short[FULL_MASK + 1];
+
+    static {
+        for (int mask = 0; mask <= FULL_MASK; mask++) {
+            for (int line : WIN_MASKS) {
+                if ((mask & line) == line) {
+                    WINNING_LINE[mask] = (short) line;
+                    break;
+                }
+            }
+        }
+    }
+
+    private final int[] marks = new int[2];
+
+    /**
+     * Creates an empty board.
+     */
+    public TicTacToeBoard() {
+    }
+
+    /**
+     * Creates a board from two masks.
+     *
+     * @param xMask Positions held by X
+     * @param oMask Positions held by O
+     */
+    public TicTacToeBoard(int xMask, int oMask) {
+        if ((xMask & oMask) != 0 || ((xMask | oMask) & ~FULL_MASK) != 0) {
+            throw new IllegalArgumentException("Invalid board masks: " + xMask + ", " + oMask);
+        }
+        marks[X] = xMask;
+        marks[O] = oMask;
+    }
+
+    /**
+     * Gets the winning line contained in a mask.
+     * @param mask A side's marks
+     * @return The winning line mask, or 0 if the mask has no complete line
+     */
+    public static int winningLine(int mask) {
+        return WINNING_LINE[mask];
+    }
+
+    /**
+     * Checks if a mask contains a complete line.
+     * @param mask A side's marks
+     * @return true if the mask wins
+     */
+    public static boolean isWin(int mask) {
+        return WINNING_LINE[mask] != 0;
+    }
+
+    /**
+     * Places a mark.
+     *
+     * @param side X or O
+     * @param position The position (0-8)
+     * @return true if the position was valid and empty
+     */
+    public boolean place(int side, int position) {
+        if (position < 0 || position > 8) {
+            return false;
+        }
+        int bit = 1 << position;
+        if (((marks[X] | marks[O]) & bit) != 0) {
+            return false;
+        }
+        marks[side] |= bit;
+        return true;
+    }
+
+    /**
+     * Removes a mark, e.g. to undo a move during search.
+     * @param position The position (0-8)
+     */
+    public void clear(int position) {
+        int bit = ~(1 << position);
+        marks[X] &= bit;
+        marks[O] &= bit;
+    }
+
+    /**
+     * Gets the side holding a position.
+     * @param position The position (0-8)
+     * @return X, O, or -1 if the position is empty
+     */
+    public int get(int position) {
+        int bit = 1 << position;
+        if ((marks[X] & bit) != 0) {
+            return X;
+        }
+        return (marks[O] & bit) != 0 ? O : -1;
+    }
+
+    /**
+     * Gets a side's marks.
+     * @param side X or O
+     * @return The side's mask
+     */
+    public int getMask(int side) {
+        return marks[side];
+    }
+
+    /**
+     * Gets the empty positions.
+     * @return Mask of empty positions
+     */
+    public int getEmptyMask() {
+        return ~(marks[X] | marks[O]) & FULL_MASK;
+    }
+
+    /**
+     * Gets the number of marks on the board.
+     * @return The move count
+     */
+    public int getMoveCount() {
+        return Integer.bitCount(marks[X] | marks[O]);
+    }
+
+    /**
+     * Gets the winning side.
+     * @return X, O, or -1 if neither side has a line
+     */
+    public int getWinner() {
+        if (WINNING_LINE[marks[X]] != 0) {
+            return X;
+        }
+        return WINNING_LINE[marks[O]] != 0 ? O : -1;
+    }
+
+    /**
+     * Gets the winning line.
+     * @return The winning line mask, or 0 if there is no winner
+     */
+    public int getWinningLine() {
+        int line = WINNING_LINE[marks[X]];
+        return line != 0 ? line : WINNING_LINE[marks[O]];
+    }
+
+    /**
+     * Checks if the board is full.
+     * @return true if every position is taken
+     */
+    public boolean isFull() {
+        return (marks[X] | marks[O]) == FULL_MASK;
+    }
+
+    /**
+     * Checks if the game ended in a draw.
+     * @return true if the board is full and neither side won
+     */
+    public boolean isDrawn() {
+        return isFull() && getWinner() < 0;
+    }
+
+    /**
+     * Empties the board.
+     */
+    public void reset() {
+        marks[X] = 0;
+        marks[O] = 0;
+    }
+
+    /**
+     * Copies the board.
+     * @return An independent copy
+     */
+    public TicTacToeBoard copy() {
+        return new TicTacToeBoard(marks[X], marks[O]);
+    }
+
+    /**
+     * Gets the board in the "123456789" string format of TicTacToeGame, where
+     * taken positions show X or O and empty positions their 1-based number.
+     * @return The board string
+     */
+    public String toBoardString() {
+        char[] cells = new char[9];
+        for (int position = 0; position < 9; position++) {
+            int side = get(position);
+            cells[position] = side == X ? 'X' : side == O ? 'O' : (char) ('1' + position);
+        }
+        return new String(cells);
+    }
+
+    @Override
+    public String toString() {
+        return toBoardString();
+    }
+}
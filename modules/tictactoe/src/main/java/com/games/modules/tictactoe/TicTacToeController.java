@@ -5,17 +5,29 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 import com.entities.UserAccount;
+import com.game.GameManager;
 import com.game.GameModule;
 import com.game.GameOptions;
 import com.game.GameState;
+import com.game.ai.MonteCarloTreeSearch;
+import com.game.clock.ClockDisplay;
+import com.game.clock.GameClock;
+import com.game.clock.GameClockService;
+import com.game.clock.TimeControl;
 import com.game.enums.GameMode;
+import com.game.session.SessionEvent;
+import com.game.session.SessionLog;
+import com.game.session.SessionReplayer;
 import com.gui_controllers.game_library.GameLibraryController;
+import com.core.ServiceManager;
 import com.core.screens.ScreenManager;
 import com.config.ScreenRegistry;
+import com.services.WebSocketService;
 import com.utils.error_handling.Logging;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -101,14 +113,27 @@ public class TicTacToeController implements Initializable {
     private String matchId;
     private DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss");
     
-    // Timer variables
-    private javafx.animation.Timeline moveTimer;
-    private int timeRemaining = 30;
+    // Move timer, shown by the shared clock service
+    private static final int DEFAULT_MOVE_SECONDS = 30;
+    private GameClock moveClock;
+    private Boolean timerLow;
+    private Runnable clockSyncDetach;
     
     // Game module integration
     private GameMode gameMode;
     private int playerCount;
     private GameOptions gameOptions;
+    
+    // Board dimensions from the "boardSize" and "winLength" options
+    private int boardSize = TicTacToeGame.DEFAULT_SIZE;
+    private int winLength = TicTacToeGame.DEFAULT_SIZE;
+    
+    // Computer opponent in single-player mode (plays player 2), null otherwise
+    private TicTacToePlayer aiPlayer;
+    private TicTacToeAI.Difficulty aiDifficulty = TicTacToeAI.Difficulty.MEDIUM;
+    private boolean aiThinking = false;
+    // Tree search playing boards larger than 3×3, kept in step with every move for tree reuse
+    private MonteCarloTreeSearch<KInARowBoard> treeSearch;
 
     /**
      * Initialize the controller.
@@ -174,7 +199,13 @@ public class TicTacToeController implements Initializable {
         }
         
         // Initialize timer
-        setupMoveTimer();
+        setupMoveTimer(DEFAULT_MOVE_SECONDS);
+        
+        // Saved games loaded while this screen is up are restored into it
+        TicTacToeModule module = module();
+        if (module != null) {
+            module.attachController(this);
+        }
         
         // Start a new game
         startNewGame();
@@ -192,15 +223,74 @@ public class TicTacToeController implements Initializable {
         
         // Apply any game-specific options
         if (gameOptions != null) {
-            int timeLimit = gameOptions.getIntOption("timeLimit", 30);
-            timeRemaining = timeLimit;
-            updateTimerDisplay();
+            int timeLimit = gameOptions.getIntOption("timeLimit", DEFAULT_MOVE_SECONDS);
+            setupMoveTimer(timeLimit);
+            aiDifficulty = TicTacToeAI.Difficulty.fromOption(gameOptions.getStringOption("aiDifficulty"));
+            
+            boardSize = TicTacToeModule.boardSizeOption(gameOptions);
+            winLength = TicTacToeModule.winLengthOption(gameOptions, boardSize);
+            if (boardSize != TicTacToeGame.DEFAULT_SIZE) {
+                buildBoard(boardSize);
+            }
+        } else {
+            // The clock from initialize() was set up before the mode was known
+            attachClockSync();
+        }
+        
+        // Player 2 is the computer in single-player mode: the solved AI on 3×3, tree search on larger boards
+        boolean classicBoard = boardSize == TicTacToeGame.DEFAULT_SIZE && winLength == TicTacToeGame.DEFAULT_SIZE;
+        if (gameMode == GameMode.SINGLE_PLAYER) {
+            player2 = new TicTacToePlayer(new UserAccount("Computer", "temp_pass2"), "O");
+            player2Name.setText(player2.getUsername() + " (" + aiDifficulty.name().toLowerCase() + ")");
+            aiPlayer = player2;
+            if (classicBoard) {
+                TicTacToeAI.warmUp();
+                treeSearch = null;
+            } else {
+                treeSearch = new MonteCarloTreeSearch<>(new KInARowRules(boardSize, winLength));
+            }
+        } else {
+            aiPlayer = null;
+            treeSearch = null;
         }
         
         // Start the game
         startNewGame();
     }
     
+    /**
+     * Replaces the 3×3 buttons from the FXML with a size×size grid of buttons.
+     */
+    private void buildBoard(int size) {
+        gameBoard.getChildren().clear();
+        gameBoard.getColumnConstraints().clear();
+        gameBoard.getRowConstraints().clear();
+        boardButtons = new ArrayList<>(size * size);
+        
+        double cellSize = Math.max(18, 350.0 / size);
+        for (int i = 0; i < size; i++) {
+            javafx.scene.layout.ColumnConstraints column = new javafx.scene.layout.ColumnConstraints(cellSize);
+            column.setHgrow(javafx.scene.layout.Priority.SOMETIMES);
+            gameBoard.getColumnConstraints().add(column);
+            javafx.scene.layout.RowConstraints row = new javafx.scene.layout.RowConstraints(cellSize);
+            row.setVgrow(javafx.scene.layout.Priority.SOMETIMES);
+            gameBoard.getRowConstraints().add(row);
+        }
+        
+        for (int position = 0; position < size * size; position++) {
+            Button button = new Button();
+            button.getStyleClass().add("board-button");
+            button.setStyle("-fx-font-size: " + Math.max(9, (int) (cellSize * 0.5)) + "px; -fx-padding: 0;");
+            button.setMinSize(cellSize, cellSize);
+            button.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+            button.setOnAction(this::onBoardButtonClicked);
+            gameBoard.add(button, position % size, position / size);
+            boardButtons.add(button);
+        }
+        gameBoard.setMaxSize(javafx.scene.layout.Region.USE_COMPUTED_SIZE, javafx.scene.layout.Region.USE_COMPUTED_SIZE);
+        Logging.info("🎯 Built " + size + "x" + size + " board, " + winLength + " in a row to win");
+    }
+    
     /**
      * Set up chat functionality
      */
@@ -281,6 +371,11 @@ public class TicTacToeController implements Initializable {
             return;
         }
 
+        // Ignore clicks while the computer is choosing its move
+        if (aiThinking || currentPlayer == aiPlayer) {
+            return;
+        }
+
         Button clickedButton = (Button) event.getSource();
         int position = getBoardPosition(clickedButton);
 
@@ -302,6 +397,7 @@ public class TicTacToeController implements Initializable {
         
         // Current player forfeits
         TicTacToePlayer winner = (currentPlayer == player1) ? player2 : player1;
+        GameManager.getInstance().recordEvent(TicTacToeGame.ACTION_FORFEIT, playerIndex(currentPlayer), 0);
         
         // Update score
         if (winner == player1) {
@@ -326,10 +422,20 @@ public class TicTacToeController implements Initializable {
         Logging.info("🔙 Back button clicked - attempting to return to game library");
         
         // Stop any active timers
-        if (moveTimer != null) {
-            moveTimer.stop();
+        if (moveClock != null) {
+            moveClock.stop();
+            GameClockService.getInstance().unregister(moveClock);
             Logging.info("⏸️ Timer stopped");
         }
+        if (clockSyncDetach != null) {
+            clockSyncDetach.run();
+            clockSyncDetach = null;
+        }
+        
+        // Keep an unfinished game; only the snapshot is taken here, the write runs in the background
+        if (gameInProgress && !moveHistory.isEmpty()) {
+            GameManager.getInstance().saveCurrentGameAsync();
+        }
         
         // Navigate back to game library
         try {
@@ -361,15 +467,13 @@ public class TicTacToeController implements Initializable {
      */
     private void startNewGame() {
         // Reset UI
-        for (Button button : boardButtons) {
-            button.setText("");
-            button.getStyleClass().remove("x");
-            button.getStyleClass().remove("o");
-            button.getStyleClass().remove("winning");
-        }
+        clearBoardButtons();
 
         // Initialize game with players
-        game = new TicTacToeGame(Arrays.asList(player1, player2));
+        game = new TicTacToeGame(Arrays.asList(player1, player2), boardSize, winLength);
+        if (treeSearch != null) {
+            treeSearch.reset();
+        }
         
         // Set player1 as the starting player
         currentPlayer = player1;
@@ -382,6 +486,12 @@ public class TicTacToeController implements Initializable {
         gameInProgress = true;
         
         // Clear move history for new game
+        GameManager.getInstance().recordEvent(TicTacToeGame.ACTION_NEW_GAME, -1, 0);
+        TicTacToeModule module = module();
+        if (module != null) {
+            module.startLiveState(gameMode != null ? gameMode : GameMode.LOCAL_MULTIPLAYER,
+                    playerCount > 0 ? playerCount : 2, gameOptions, boardSize);
+        }
         moveHistory.clear();
         updateMoveCount();
         addSystemMessage("New game started.");
@@ -393,19 +503,137 @@ public class TicTacToeController implements Initializable {
         highlightCurrentPlayer();
     }
 
+    /**
+     * Restores a saved game by replaying its session log: the board comes from
+     * the rules, the move history from the moves since the last new game.
+     * Records no events, since the log already holds them.
+     * 
+     * @param options The saved game's options
+     * @param log The session log to replay
+     * @throws IllegalArgumentException if the log holds a move the rules reject
+     */
+    void restoreGame(GameOptions options, SessionLog log) {
+        int size = TicTacToeModule.boardSizeOption(options);
+        int length = TicTacToeModule.winLengthOption(options, size);
+        boolean classicBoard = size == TicTacToeGame.DEFAULT_SIZE && length == TicTacToeGame.DEFAULT_SIZE;
+        List<TicTacToePlayer> players = Arrays.asList(player1, player2);
+        TicTacToeGame restored = classicBoard
+            ? new TicTacToeGame(players, new SessionReplayer<>(log, new TicTacToeRules()).latestState())
+            : new TicTacToeGame(players, new SessionReplayer<>(log, new KInARowRules(size, length)).latestState());
+        
+        // Rebuild the grid and the computer opponent if the save uses another board
+        if (size != boardSize || length != winLength) {
+            boardSize = size;
+            winLength = length;
+            buildBoard(size);
+        }
+        if (aiPlayer != null) {
+            treeSearch = classicBoard ? null : new MonteCarloTreeSearch<>(new KInARowRules(size, length));
+        }
+        game = restored;
+        
+        // Paint the marks
+        clearBoardButtons();
+        String cells = game.getBoard();
+        byte[] liveCells = new byte[size * size];
+        for (int position = 0; position < liveCells.length; position++) {
+            char cell = cells.charAt(position);
+            if (cell == 'X' || cell == 'O') {
+                Button button = boardButtons.get(position);
+                button.setText(String.valueOf(cell));
+                button.getStyleClass().add(cell == 'X' ? "x" : "o");
+                liveCells[position] = cell == 'X' ? TicTacToeModule.CELL_X : TicTacToeModule.CELL_O;
+            }
+        }
+        
+        // Move history and forfeits since the last new game
+        int start = log.size();
+        while (start > 0 && log.get(start - 1).getAction() != TicTacToeGame.ACTION_NEW_GAME) {
+            start--;
+        }
+        moveHistory.clear();
+        TicTacToePlayer forfeited = null;
+        for (SessionEvent event : log.getEvents(start)) {
+            TicTacToePlayer player = event.getPlayer() == 0 ? player1 : player2;
+            if (event.getAction() == TicTacToeGame.ACTION_MOVE) {
+                int position = (int) event.getData();
+                addMoveToHistory(player, position / size, position % size);
+            } else if (event.getAction() == TicTacToeGame.ACTION_FORFEIT) {
+                forfeited = player;
+            }
+        }
+        updateMoveCount();
+        
+        currentPlayer = game.getCurrentPlayer();
+        TicTacToeModule module = module();
+        if (module != null) {
+            module.restoreLiveState(gameMode != null ? gameMode : GameMode.LOCAL_MULTIPLAYER,
+                    playerCount > 0 ? playerCount : 2, options, liveCells, moveHistory.size(),
+                    currentPlayer.getSymbol());
+        }
+        addSystemMessage("Saved game restored.");
+        
+        // Finished games are shown as they ended; scores aren't counted again
+        gameInProgress = false;
+        if (game.getWinner() != null) {
+            pauseTimer();
+            statusLabel.setText(game.getWinner() == player1 ? "Player 1 wins!" : "Player 2 wins!");
+            highlightWinningCombination();
+        } else if (forfeited != null) {
+            pauseTimer();
+            statusLabel.setText(forfeited == player1 ? "Player 1 forfeited. Player 2 wins!"
+                : "Player 2 forfeited. Player 1 wins!");
+        } else if (game.isDrawn()) {
+            pauseTimer();
+            statusLabel.setText("Game ended in a draw!");
+        } else {
+            gameInProgress = true;
+            statusLabel.setText((currentPlayer == player1) ? "Player 1's turn" : "Player 2's turn");
+            restartTimer();
+            if (currentPlayer == aiPlayer) {
+                requestAiMove();
+            }
+        }
+        if (currentPlayerLabel != null) {
+            currentPlayerLabel.setText((currentPlayer == player1) ? "Player 1 (X)" : "Player 2 (O)");
+        }
+        highlightCurrentPlayer();
+        Logging.info("📂 Restored TicTacToe game from " + log.size() + " session events");
+    }
+    
+    /**
+     * Clears every mark and highlight from the board buttons.
+     */
+    private void clearBoardButtons() {
+        for (Button button : boardButtons) {
+            button.setText("");
+            button.getStyleClass().remove("x");
+            button.getStyleClass().remove("o");
+            button.getStyleClass().remove("winning");
+        }
+    }
+
     /**
      * Make a move on the board.
      * 
      * @param button The button that was clicked
-     * @param position The board position (0-8)
+     * @param position The board position (row * board size + column)
      */
     private void makeMove(Button button, int position) {
         // Update game state
         game.place(currentPlayer, position);
+        GameManager.getInstance().recordEvent(TicTacToeGame.ACTION_MOVE, playerIndex(currentPlayer), position);
+        TicTacToeModule module = module();
+        if (module != null) {
+            module.recordLiveMove(position, currentPlayer.getSymbol());
+        }
+        if (treeSearch != null) {
+            treeSearch.advance(position);
+        }
         
         // Add move to history
-        int row = position / 3;
-        int col = position % 3;
+        int row = position / boardSize;
+        int col = position % boardSize;
         addMoveToHistory(currentPlayer, row, col);
         
         // Update UI
@@ -440,8 +668,52 @@ public class TicTacToeController implements Initializable {
             
             // Highlight current player's info
             highlightCurrentPlayer();
+            
+            if (currentPlayer == aiPlayer) {
+                requestAiMove();
+            }
         }
     }
+    
+    /**
+     * Asks the AI for its move off the FX thread and plays it when it arrives.
+     */
+    private void requestAiMove() {
+        aiThinking = true;
+        TicTacToeGame requestedGame = game;
+        statusLabel.setText(aiPlayer.getUsername() + " is thinking...");
+        
+        CompletableFuture<Integer> move = treeSearch != null
+            ? treeSearch.chooseMoveAsync(game.getKInARowBoard(), aiDifficulty.getSearchBudgetMillis())
+            : TicTacToeAI.chooseMoveAsync(game.getBitboard(), aiDifficulty, TicTacToeAI.DEFAULT_MOVE_BUDGET_MILLIS);
+        move.whenComplete((position, error) -> javafx.application.Platform.runLater(() -> {
+                aiThinking = false;
+                // The game may have been restarted or forfeited meanwhile
+                if (requestedGame != game || !gameInProgress || currentPlayer != aiPlayer) {
+                    return;
+                }
+                if (error != null || position == null || position < 0) {
+                    Logging.error("❌ AI failed to choose a move", error);
+                    return;
+                }
+                makeMove(boardButtons.get(position), position);
+            }));
+    }
+
+    /**
+     * Gets the registered TicTacToe module, which keeps the live state used for saves.
+     */
+    private TicTacToeModule module() {
+        GameModule module = GameManager.getInstance().getGame(TicTacToeModule.GAME_ID);
+        return module instanceof TicTacToeModule ? (TicTacToeModule) module : null;
+    }
+
+    /**
+     * Gets a player's index in the session log: 0 for player 1, 1 for player 2.
+     */
+    private int playerIndex(TicTacToePlayer player) {
+        return player == player1 ? 0 : 1;
+    }
 
     /**
      * Highlight the current player's info panel
@@ -525,64 +797,19 @@ public class TicTacToeController implements Initializable {
     }
     
     /**
-     * Calculate the winning positions based on the current game state.
+     * Get the winning positions from the game's bitboard.
      * 
-     * @return List of positions (0-8) that form the winning line, or null if no winning line
+     * @return List of positions that form the winning line, or null if no winning line
      */
     private List<Integer> getWinningPositions() {
-        TicTacToePlayer winner = game.getWinner();
-        
-        if (winner == null) {
+        if (game.getWinner() == null) {
             return null;
         }
-        
-        String board = game.getBoard();
-        List<Integer> positions = new ArrayList<>();
-        
-        // Check rows
-        if (checkLine(board, 0, 1, 2, positions)) return positions;
-        if (checkLine(board, 3, 4, 5, positions)) return positions;
-        if (checkLine(board, 6, 7, 8, positions)) return positions;
-        
-        // Check columns
-        if (checkLine(board, 0, 3, 6, positions)) return positions;
-        if (checkLine(board, 1, 4, 7, positions)) return positions;
-        if (checkLine(board, 2, 5, 8, positions)) return positions;
-        
-        // Check diagonals
-        if (checkLine(board, 0, 4, 8, positions)) return positions;
-        if (checkLine(board, 2, 4, 6, positions)) return positions;
-        
-        return null;
-    }
-    
-    /**
-     * Check if a line forms a winning combination and add positions to the list if it does.
-     * 
-     * @param board The game board
-     * @param pos1 First position
-     * @param pos2 Second position
-     * @param pos3 Third position
-     * @param positions List to add winning positions to
-     * @return true if this line is a winning line
-     */
-    private boolean checkLine(String board, int pos1, int pos2, int pos3, List<Integer> positions) {
-        char c1 = board.charAt(pos1);
-        char c2 = board.charAt(pos2);
-        char c3 = board.charAt(pos3);
-        
-        if ((c1 == 'X' || c1 == 'O') && c1 == c2 && c2 == c3) {
-            positions.add(pos1);
-            positions.add(pos2);
-            positions.add(pos3);
-            return true;
-        }
-        
-        return false;
+        return game.getWinningPositions();
     }
 
     /**
-     * Get the board position (0-8) from a button.
+     * Get the board position (row * board size + column) from a button.
      */
     private int getBoardPosition(Button button) {
         return boardButtons.indexOf(button);
@@ -608,48 +835,70 @@ public class TicTacToeController implements Initializable {
         if (matchIdLabel != null) {
             matchIdLabel.setText(matchId);
         }
+        attachClockSync();
     }
 
     /**
      * Set up the move timer
+     * 
+     * @param seconds Time per move
      */
-    private void setupMoveTimer() {
-        if (moveTimer != null) {
-            moveTimer.stop();
+    private void setupMoveTimer(int seconds) {
+        GameClockService clockService = GameClockService.getInstance();
+        if (moveClock != null) {
+            moveClock.stop();
+            clockService.unregister(moveClock);
         }
         
-        timeRemaining = 30;
-        updateTimerDisplay();
-        
-        moveTimer = new javafx.animation.Timeline(
-            new javafx.animation.KeyFrame(javafx.util.Duration.seconds(1), event -> {
-                timeRemaining--;
-                updateTimerDisplay();
-                
-                if (timeRemaining <= 0) {
-                    // Time's up for current player - optional: auto forfeit or skip turn
-                    addSystemMessage("Time's up for " + currentPlayer.getUsername() + "!");
-                    restartTimer();
-                }
-            })
-        );
-        
-        moveTimer.setCycleCount(javafx.animation.Animation.INDEFINITE);
+        moveClock = new GameClock(2, TimeControl.perMove(seconds * 1000L));
+        updateTimerDisplay(seconds);
+        clockService.register(moveClock, new ClockDisplay() {
+            @Override
+            public void update(int player, long remainingSeconds) {
+                updateTimerDisplay(remainingSeconds);
+            }
+            
+            @Override
+            public void timeUp(int player) {
+                // Time's up for current player - optional: auto forfeit or skip turn
+                addSystemMessage("Time's up for " + currentPlayer.getUsername() + "!");
+                restartTimer();
+            }
+        });
+        attachClockSync();
+    }
+    
+    /**
+     * Makes online games follow the server's clock for the current match,
+     * replacing any sync attached for an earlier clock or match ID.
+     */
+    private void attachClockSync() {
+        if (clockSyncDetach != null) {
+            clockSyncDetach.run();
+            clockSyncDetach = null;
+        }
+        WebSocketService webSocket = ServiceManager.getInstance().getWebSocketService();
+        if (gameMode == GameMode.ONLINE_MULTIPLAYER && matchId != null && moveClock != null
+                && webSocket != null && webSocket.isConnected()) {
+            clockSyncDetach = GameClockService.getInstance().attachServerSync(webSocket, matchId, moveClock);
+        }
     }
     
     /**
      * Update the timer display
      */
-    private void updateTimerDisplay() {
+    private void updateTimerDisplay(long remainingSeconds) {
         if (timerLabel != null) {
-            String timeText = String.format("%02d:%02d", timeRemaining / 60, timeRemaining % 60);
+            String timeText = String.format("%02d:%02d", remainingSeconds / 60, remainingSeconds % 60);
             timerLabel.setText(timeText);
             
             // Change color when time is running low
-            if (timeRemaining <= 10) {
-                timerLabel.setStyle("-fx-text-fill: -fx-danger-color; -fx-font-weight: bold;");
-            } else {
-                timerLabel.setStyle("-fx-text-fill: -fx-accent-color; -fx-font-weight: bold;");
+            boolean low = remainingSeconds <= 10;
+            if (timerLow == null || timerLow != low) {
+                timerLow = low;
+                timerLabel.setStyle(low
+                    ? "-fx-text-fill: -fx-danger-color; -fx-font-weight: bold;"
+                    : "-fx-text-fill: -fx-accent-color; -fx-font-weight: bold;");
             }
         }
     }
@@ -658,8 +907,8 @@ public class TicTacToeController implements Initializable {
      * Start the move timer
      */
     private void startTimer() {
-        if (moveTimer != null) {
-            moveTimer.play();
+        if (moveClock != null) {
+            moveClock.resume();
         }
     }
     
@@ -667,20 +916,17 @@ public class TicTacToeController implements Initializable {
      * Pause the move timer
      */
     private void pauseTimer() {
-        if (moveTimer != null) {
-            moveTimer.pause();
+        if (moveClock != null) {
+            moveClock.pause();
         }
     }
     
     /**
-     * Restart the timer with full time
+     * Restart the timer with full time for the current player
      */
     private void restartTimer() {
-        if (moveTimer != null) {
-            moveTimer.stop();
-            timeRemaining = 30;
-            updateTimerDisplay();
-            moveTimer.play();
+        if (moveClock != null) {
+            moveClock.startTurn(playerIndex(currentPlayer));
         }
     }
     
@@ -1,25 +1,29 @@
 package com.games.modules.tictactoe;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * TicTacToe game implementation.
  * Manages the game board, validates moves, and detects wins/draws.
+ * The classic 3×3 board is a TicTacToeBoard, so moves and win/draw checks are
+ * bit operations. Larger boards (the "boardSize" option, K in a row) use a
+ * KInARowBoard, which only checks the lines through each new mark.
  */
 public class TicTacToeGame {
     
-    private static final char PLAYER_ONE_CHAR = 'X';
-    private static final char PLAYER_TWO_CHAR = 'O';
+    // Session log action codes (see GameManager.recordEvent)
+    public static final int ACTION_NEW_GAME = 0;
+    public static final int ACTION_MOVE = 1;
+    public static final int ACTION_FORFEIT = 2;
     
-    // Board state - stored as a string where each character represents a position
-    // "123456789" where 1-9 will be X for player 1, O for player 2, or
-    // the initial number for an unclaimed box.
-    // _____________
-    // | 1 | 2 | 3 |
-    // | 4 | 5 | 6 |
-    // | 7 | 8 | 9 |
-    // '---'---'---'
-    private String board;
+    /** Default board size and win length: classic TicTacToe. */
+    public static final int DEFAULT_SIZE = 3;
+    
+    // Board state - X and O marks as bitboards (see TicTacToeBoard) on 3×3,
+    // otherwise a KInARowBoard; exactly one of the two is set
+    private final TicTacToeBoard board;
+    private final KInARowBoard largeBoard;
     
     private final List<TicTacToePlayer> players;
     private TicTacToePlayer currentPlayer;
@@ -31,119 +35,162 @@ public class TicTacToeGame {
      * @param players List of players, should contain exactly 2 players
      */
     public TicTacToeGame(List<TicTacToePlayer> players) {
+        this(players, DEFAULT_SIZE, DEFAULT_SIZE);
+    }
+    
+    /**
+     * Creates a new K-in-a-row game on an N×N board.
+     * 
+     * @param players List of players, should contain exactly 2 players
+     * @param boardSize Number of rows and columns (3 to KInARowBoard.MAX_SIZE)
+     * @param winLength Marks in a row needed to win (3 to boardSize)
+     */
+    public TicTacToeGame(List<TicTacToePlayer> players, int boardSize, int winLength) {
         if (players.size() != 2) {
             throw new IllegalArgumentException("TicTacToe requires exactly 2 players");
         }
         
         this.players = players;
-        this.board = "123456789";
+        if (boardSize == DEFAULT_SIZE && winLength == DEFAULT_SIZE) {
+            this.board = new TicTacToeBoard();
+            this.largeBoard = null;
+        } else {
+            this.board = null;
+            this.largeBoard = new KInARowBoard(boardSize, winLength);
+        }
         this.currentPlayer = players.get(0); // Player 1 starts
         this.winner = null;
     }
 
     /**
-     * Gets the current board state.
+     * Resumes a classic 3×3 game from a board, e.g. one replayed from a session log.
+     * 
+     * @param players List of players, should contain exactly 2 players
+     * @param board The board; the game takes ownership of it
+     */
+    TicTacToeGame(List<TicTacToePlayer> players, TicTacToeBoard board) {
+        this(players, board, null, board.getMoveCount(), board.getWinner());
+    }
+    
+    /**
+     * Resumes a K-in-a-row game from a board, e.g. one replayed from a session log.
+     * 
+     * @param players List of players, should contain exactly 2 players
+     * @param board The board; the game takes ownership of it
+     */
+    TicTacToeGame(List<TicTacToePlayer> players, KInARowBoard board) {
+        this(players, null, board, board.getMoveCount(), board.getWinner());
+    }
+    
+    private TicTacToeGame(List<TicTacToePlayer> players, TicTacToeBoard board, KInARowBoard largeBoard,
+                          int moveCount, int winningSide) {
+        if (players.size() != 2) {
+            throw new IllegalArgumentException("TicTacToe requires exactly 2 players");
+        }
+        
+        this.players = players;
+        this.board = board;
+        this.largeBoard = largeBoard;
+        // X moves first and the winner is the side that moved last
+        this.winner = winningSide >= 0 ? players.get(winningSide) : null;
+        this.currentPlayer = winner != null ? winner : players.get(moveCount & 1);
+    }
+
+    /**
+     * Gets the current board state, one character per cell, row by row.
+     * On 3×3 positions 1-9 show X for player 1, O for player 2, or their number
+     * if empty; on larger boards empty cells are '.'.
      * @return The board state as a string
      */
     public String getBoard() {
-        return this.board;
+        return board != null ? board.toBoardString() : largeBoard.toBoardString();
+    }
+    
+    /**
+     * Gets the bitboard holding the game's marks.
+     * @return The bitboard (do not modify), or null on boards larger than 3×3
+     */
+    public TicTacToeBoard getBitboard() {
+        return board;
+    }
+    
+    /**
+     * Gets the board engine of a game larger than 3×3.
+     * @return The board (do not modify), or null on the classic 3×3 board
+     */
+    public KInARowBoard getKInARowBoard() {
+        return largeBoard;
+    }
+    
+    /**
+     * Gets the number of rows and columns.
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return board != null ? DEFAULT_SIZE : largeBoard.getSize();
+    }
+    
+    /**
+     * Gets the number of marks in a row needed to win.
+     * @return The win length
+     */
+    public int getWinLength() {
+        return board != null ? DEFAULT_SIZE : largeBoard.getWinLength();
     }
 
     /**
      * Places a mark on the board.
      * 
      * @param player The player making the move
-     * @param position The position to place the mark (0-8)
+     * @param position The position to place the mark (row * board size + column)
      * @return true if the move was successful, false otherwise
      */
     public boolean place(TicTacToePlayer player, int position) {
-        // Validate position
-        if (position < 0 || position > 8) {
-            return false; // Invalid position
-        }
-        
-        // Check if position is already taken
-        if (this.board.charAt(position) == PLAYER_ONE_CHAR ||
-            this.board.charAt(position) == PLAYER_TWO_CHAR) {
-            return false; // Position already taken
-        }
-        
-        // Check if it's the player's turn
-        if (player != currentPlayer) {
-            return false; // Not this player's turn
+        // Moves after the game is won and moves out of turn are rejected
+        if (this.winner != null || player != currentPlayer) {
+            return false;
         }
         
-        // Place the mark
-        char mark = player.getSymbol().equals("X") ? PLAYER_ONE_CHAR : PLAYER_TWO_CHAR;
-        this.board = this.board.substring(0, position) + mark + this.board.substring(position + 1);
-        
-        // Check for win
-        TicTacToePlayer winCheck = checkWinner();
-        if (winCheck != null) {
-            this.winner = winCheck;
+        // Place the mark; fails if the position is invalid or taken
+        int side = player.getSymbol().equals("X") ? TicTacToeBoard.X : TicTacToeBoard.O;
+        boolean won;
+        if (board != null) {
+            if (!board.place(side, position)) {
+                return false;
+            }
+            // Only the side that just moved can have completed a line
+            won = TicTacToeBoard.isWin(board.getMask(side));
+        } else {
+            if (!largeBoard.place(side, position)) {
+                return false;
+            }
+            won = largeBoard.getWinner() == side;
         }
         
-        // Switch turns if no winner
-        if (this.winner == null) {
+        if (won) {
+            this.winner = player;
+        } else {
             this.currentPlayer = (this.currentPlayer == players.get(0)) ? players.get(1) : players.get(0);
         }
         
         return true;
     }
-
-    /**
-     * Checks if a player has won.
-     * @return The winning player, or null if no winner
-     */
-    private TicTacToePlayer checkWinner() {
-        // Check rows
-        if (checkLine(0, 1, 2)) return getPlayerAtPosition(0);
-        if (checkLine(3, 4, 5)) return getPlayerAtPosition(3);
-        if (checkLine(6, 7, 8)) return getPlayerAtPosition(6);
-        
-        // Check columns
-        if (checkLine(0, 3, 6)) return getPlayerAtPosition(0);
-        if (checkLine(1, 4, 7)) return getPlayerAtPosition(1);
-        if (checkLine(2, 5, 8)) return getPlayerAtPosition(2);
-        
-        // Check diagonals
-        if (checkLine(0, 4, 8)) return getPlayerAtPosition(0);
-        if (checkLine(2, 4, 6)) return getPlayerAtPosition(2);
-        
-        return null;
-    }
     
     /**
-     * Checks if a line (row, column, or diagonal) has the same mark.
-     * 
-     * @param pos1 First position
-     * @param pos2 Second position
-     * @param pos3 Third position
-     * @return true if all positions have the same mark (X or O)
-     */
-    private boolean checkLine(int pos1, int pos2, int pos3) {
-        char c1 = this.board.charAt(pos1);
-        char c2 = this.board.charAt(pos2);
-        char c3 = this.board.charAt(pos3);
-        
-        return (c1 == PLAYER_ONE_CHAR || c1 == PLAYER_TWO_CHAR) && 
-               c1 == c2 && c2 == c3;
-    }
-    
-    /**
-     * Gets the player at a given position.
-     * 
-     * @param position The board position
-     * @return The player at that position, or null if no player
-     */
-    private TicTacToePlayer getPlayerAtPosition(int position) {
-        char mark = this.board.charAt(position);
-        if (mark == PLAYER_ONE_CHAR) {
-            return players.get(0);
-        } else if (mark == PLAYER_TWO_CHAR) {
-            return players.get(1);
+     * Gets the positions of the winning line.
+     * @return Positions of the winning line, or an empty list if no one has won
+     */
+    public List<Integer> getWinningPositions() {
+        if (largeBoard != null) {
+            return largeBoard.getWinningPositions();
         }
-        return null;
+        List<Integer> positions = new ArrayList<>(3);
+        int line = board.getWinningLine();
+        while (line != 0) {
+            positions.add(Integer.numberOfTrailingZeros(line));
+            line &= line - 1;
+        }
+        return positions;
     }
 
     /**
@@ -151,21 +198,7 @@ public class TicTacToeGame {
      * @return true if the game is a draw, false otherwise
      */
     public boolean isDrawn() {
-        // If there's a winner, it's not a draw
-        if (this.winner != null) {
-            return false;
-        }
-        
-        // Check if the board is full
-        for (int i = 0; i < 9; i++) {
-            char c = this.board.charAt(i);
-            if (c != PLAYER_ONE_CHAR && c != PLAYER_TWO_CHAR) {
-                return false; // Board still has empty spaces
-            }
-        }
-        
-        // If no winner and the board is full, it's a draw
-        return true;
+        return this.winner == null && (board != null ? board.isFull() : largeBoard.isFull());
     }
     
     /**
@@ -204,7 +237,11 @@ public class TicTacToeGame {
      * Resets the game to its initial state.
      */
     public void reset() {
-        this.board = "123456789";
+        if (board != null) {
+            board.reset();
+        } else {
+            largeBoard.reset();
+        }
         this.currentPlayer = players.get(0);
         this.winner = null;
     }
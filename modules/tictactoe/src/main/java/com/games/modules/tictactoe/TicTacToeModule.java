@@ -1,11 +1,16 @@
 package com.games.modules.tictactoe;
 
+import com.game.GameManager;
 import com.game.GameModule;
 import com.game.enums.GameDifficulty;
 import com.game.enums.GameMode;
 import com.game.GameOptions;
 import com.game.GameState;
+import com.game.session.ReplayRules;
+import com.game.session.SessionLog;
+import com.game.state.StateSchema;
 import com.utils.error_handling.Logging;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -20,10 +25,28 @@ import javafx.stage.Stage;
  */
 public class TicTacToeModule implements GameModule {
     
-    private static final String GAME_ID = "tictactoe";
+    static final String GAME_ID = "tictactoe";
     private static final String GAME_NAME = "Tic Tac Toe";
     private static final String GAME_DESCRIPTION = "Classic 3x3 grid game for two players";
     
+    // State schema - field IDs must never be reused once saves exist
+    private static final StateSchema STATE_SCHEMA = StateSchema.builder(GAME_ID, 1)
+            .stringKey(1, "currentPlayer")
+            .intKey(2, "movesCount")
+            .bytesKey(3, "gameBoard")
+            .build();
+    
+    // Cell values in the "gameBoard" state array
+    static final byte CELL_EMPTY = 0;
+    static final byte CELL_X = 1;
+    static final byte CELL_O = 2;
+    
+    // State of the game on screen, updated on every move; only touched on the JavaFX thread
+    private GameState liveState;
+    
+    // Controller of the game on screen, which saved games are restored into; only touched on the JavaFX thread
+    private TicTacToeController controller;
+    
     @Override
     public String getGameId() {
         return GAME_ID;
@@ -97,12 +120,83 @@ public class TicTacToeModule implements GameModule {
     @Override
     public void onGameClose() {
         Logging.info("🔄 " + getGameName() + " closing - cleaning up resources");
+        liveState = null;
+        controller = null;
+    }
+    
+    /**
+     * Attaches the controller of the game on screen, so loaded saves can be restored into it.
+     * @param controller The controller
+     */
+    void attachController(TicTacToeController controller) {
+        this.controller = controller;
+    }
+    
+    /**
+     * Starts a new live state for a game that was just set up on screen.
+     * @param gameMode The game mode
+     * @param playerCount Number of players
+     * @param gameOptions The game options, may be null
+     * @param boardSize The number of rows and columns
+     */
+    void startLiveState(GameMode gameMode, int playerCount, GameOptions gameOptions, int boardSize) {
+        restoreLiveState(gameMode, playerCount, gameOptions, new byte[boardSize * boardSize], 0, "X");
+    }
+    
+    /**
+     * Replaces the live state with a game already in progress, e.g. one restored from a save.
+     * @param gameMode The game mode
+     * @param playerCount Number of players
+     * @param gameOptions The game options, may be null
+     * @param cells The board cells (CELL_EMPTY, CELL_X or CELL_O), row by row; not copied
+     * @param movesCount The number of moves played
+     * @param currentPlayer The symbol of the player to move, "X" or "O"
+     */
+    void restoreLiveState(GameMode gameMode, int playerCount, GameOptions gameOptions, byte[] cells,
+                          int movesCount, String currentPlayer) {
+        GameState state = new GameState(GAME_ID, GAME_NAME, gameMode, playerCount,
+                gameOptions != null ? gameOptions : new GameOptions());
+        state.setStateValue("currentPlayer", currentPlayer);
+        state.setIntStateValue("movesCount", movesCount);
+        state.setStateValue("gameBoard", cells);
+        liveState = state;
+    }
+    
+    /**
+     * Records a move in the live state.
+     * The board array is replaced rather than changed in place, since snapshots
+     * taken for saves may still be reading the previous one.
+     * @param position The cell played (row * board size + column)
+     * @param symbol The mover's symbol, "X" or "O"
+     */
+    void recordLiveMove(int position, String symbol) {
+        GameState state = liveState;
+        if (state == null) {
+            return;
+        }
+        byte[] board = ((byte[]) state.getStateValue("gameBoard")).clone();
+        board[position] = "X".equals(symbol) ? CELL_X : CELL_O;
+        state.setStateValue("gameBoard", board);
+        state.setIntStateValue("movesCount", state.getIntStateValue("movesCount", 0) + 1);
+        state.setStateValue("currentPlayer", "X".equals(symbol) ? "O" : "X");
+    }
+    
+    /**
+     * Gets a copy-on-write snapshot of the game on screen, in O(1).
+     * @return The snapshot, or null if no game is being played
+     */
+    @Override
+    public GameState snapshotGameState() {
+        GameState state = liveState;
+        return state != null ? state.snapshot() : null;
     }
     
     @Override
     public GameState getGameState() {
-        // This would be implemented to save the current game state
-        // For now, return a basic game state
+        if (liveState != null) {
+            return liveState.snapshot();
+        }
+        // No game on screen: a fresh 3×3 game
         GameOptions options = new GameOptions();
         options.setOption("boardSize", 3);
         options.setOption("aiDifficulty", "medium");
@@ -113,7 +207,7 @@ public class TicTacToeModule implements GameModule {
         // Add game-specific state data
         gameState.setStateValue("currentPlayer", "X");
         gameState.setStateValue("movesCount", 0);
-        gameState.setStateValue("gameBoard", new String[3][3]); // 3x3 board
+        gameState.setStateValue("gameBoard", new byte[9]); // 3x3 board, row-major, 0 = empty
         
         return gameState;
     }
@@ -198,16 +292,112 @@ public class TicTacToeModule implements GameModule {
         return screenLoader.loadTicTacToeScreen(screenLoadable);
     }
     
+    @Override
+    public StateSchema getStateSchema() {
+        return STATE_SCHEMA;
+    }
+    
+    @Override
+    public ReplayRules<?> getRules(GameOptions gameOptions) {
+        int size = boardSizeOption(gameOptions);
+        int winLength = winLengthOption(gameOptions, size);
+        if (size == TicTacToeGame.DEFAULT_SIZE && winLength == TicTacToeGame.DEFAULT_SIZE) {
+            return new TicTacToeRules();
+        }
+        return new KInARowRules(size, winLength);
+    }
+    
+    /**
+     * Reads the "boardSize" option, clamped to the supported sizes.
+     * @param gameOptions The game options, or null for the default
+     * @return The board size
+     */
+    static int boardSizeOption(GameOptions gameOptions) {
+        int size = gameOptions != null
+                ? gameOptions.getIntOption("boardSize", TicTacToeGame.DEFAULT_SIZE) : TicTacToeGame.DEFAULT_SIZE;
+        return Math.max(3, Math.min(KInARowBoard.MAX_SIZE, size));
+    }
+    
+    /**
+     * Reads the "winLength" option. Larger boards default to 5 in a row (gomoku)
+     * once they are big enough.
+     * @param gameOptions The game options, or null for the default
+     * @param boardSize The board size
+     * @return The win length
+     */
+    static int winLengthOption(GameOptions gameOptions, int boardSize) {
+        int defaultLength = Math.min(boardSize, 5);
+        int winLength = gameOptions != null ? gameOptions.getIntOption("winLength", defaultLength) : defaultLength;
+        return Math.max(3, Math.min(boardSize, winLength));
+    }
+    
+    /**
+     * Restores a saved game into the game on screen by replaying the session log
+     * GameManager restored from the save. Saves without a log are replayed from
+     * their board, which is first recorded into the session log as moves.
+     */
     @Override
     public void loadGameState(GameState gameState) {
         Logging.info("📂 Loading TicTacToe game state");
+        if (gameState == null) {
+            return;
+        }
         
-        if (gameState != null) {
-            // Load game-specific state data
-            String currentPlayer = gameState.getStringStateValue("currentPlayer", "X");
-            int movesCount = gameState.getIntStateValue("movesCount", 0);
-            
-            Logging.info("📊 Loaded game state - Current player: " + currentPlayer + ", Moves: " + movesCount);
+        TicTacToeController view = controller;
+        SessionLog log = GameManager.getInstance().getSessionLog();
+        if (view == null || log == null) {
+            Logging.warning("⚠️ " + GAME_NAME + " is not running - launch it before loading a saved game");
+            return;
+        }
+        GameOptions options = gameState.getGameOptions();
+        if (log.isEmpty()) {
+            recordBoardAsMoves(gameState, boardSizeOption(options));
+        }
+        
+        Runnable restore = () -> {
+            try {
+                view.restoreGame(options, log);
+            } catch (IllegalArgumentException e) {
+                Logging.error("❌ Could not replay saved " + GAME_NAME + " game: " + e.getMessage(), e);
+            }
+        };
+        if (Platform.isFxApplicationThread()) {
+            restore.run();
+        } else {
+            Platform.runLater(restore);
+        }
+    }
+    
+    /**
+     * Records the marks of a save's "gameBoard" as a new game and its moves, X
+     * and O alternating. The order of the original moves isn't known, but the
+     * replayed board is the same.
+     */
+    private void recordBoardAsMoves(GameState gameState, int boardSize) {
+        Object value = gameState.getStateValue("gameBoard");
+        if (!(value instanceof byte[]) || ((byte[]) value).length != boardSize * boardSize) {
+            return;
+        }
+        byte[] cells = (byte[]) value;
+        GameManager manager = GameManager.getInstance();
+        manager.recordEvent(TicTacToeGame.ACTION_NEW_GAME, -1, 0);
+        int nextX = nextCell(cells, CELL_X, 0);
+        int nextO = nextCell(cells, CELL_O, 0);
+        while (nextX < cells.length) {
+            manager.recordEvent(TicTacToeGame.ACTION_MOVE, TicTacToeBoard.X, nextX);
+            nextX = nextCell(cells, CELL_X, nextX + 1);
+            if (nextO < cells.length) {
+                manager.recordEvent(TicTacToeGame.ACTION_MOVE, TicTacToeBoard.O, nextO);
+                nextO = nextCell(cells, CELL_O, nextO + 1);
+            }
+        }
+        Logging.info("📜 Save has no session log - recorded its board as moves");
+    }
+    
+    private static int nextCell(byte[] cells, byte value, int from) {
+        while (from < cells.length && cells[from] != value) {
+            from++;
         }
+        return from;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.games.modules.tictactoe;
+
+import com.game.session.ReplayRules;
+import com.game.session.SessionEvent;
+
+import java.util.SplittableRandom;
+
+/**
+ * Headless rules of classic 3×3 TicTacToe on a TicTacToeBoard.
+ * Moves are positions 0-8; X moves first, so the side to move follows from the
+ * number of marks. Every operation is a few bit operations on the two masks.
+ */
+public final class TicTacToeRules implements ReplayRules<TicTacToeBoard> {
+
+    @Override
+    public TicTacToeBoard initialState() {
+        return new TicTacToeBoard();
+    }
+
+    @Override
+    public TicTacToeBoard copy(TicTacToeBoard board) {
+        return board.copy();
+    }
+
+    @Override
+    public int getPlayerCount() {
+        return 2;
+    }
+
+    @Override
+    public int getCurrentPlayer(TicTacToeBoard board) {
+        return board.getMoveCount() & 1;
+    }
+
+    @Override
+    public int getMaxMoves() {
+        return 9;
+    }
+
+    @Override
+    public int getLegalMoves(TicTacToeBoard board, int[] moves) {
+        if (board.getWinner() >= 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int empty = board.getEmptyMask(); empty != 0; empty &= empty - 1) {
+            moves[count++] = Integer.numberOfTrailingZeros(empty);
+        }
+        return count;
+    }
+
+    @Override
+    public void apply(TicTacToeBoard board, int move) {
+        if (!board.place(board.getMoveCount() & 1, move)) {
+            throw new IllegalArgumentException("Illegal move: " + move);
+        }
+    }
+
+    /**
+     * Replays a TicTacToeGame session event: a new game clears the board, a move
+     * places the event player's mark and a forfeit leaves the board as it is.
+     */
+    @Override
+    public TicTacToeBoard applyEvent(TicTacToeBoard board, SessionEvent event) {
+        switch (event.getAction()) {
+            case TicTacToeGame.ACTION_NEW_GAME:
+                return initialState();
+            case TicTacToeGame.ACTION_MOVE:
+                if (!board.place(event.getPlayer(), (int) event.getData())) {
+                    throw new IllegalArgumentException("Illegal move in session log: " + event.getData());
+                }
+                return board;
+            case TicTacToeGame.ACTION_FORFEIT:
+                return board;
+            default:
+                throw new IllegalArgumentException("Unknown session action: " + event.getAction());
+        }
+    }
+
+    @Override
+    public boolean isTerminal(TicTacToeBoard board) {
+        return board.isFull() || board.getWinner() >= 0;
+    }
+
+    @Override
+    public int getWinner(TicTacToeBoard board) {
+        return board.getWinner();
+    }
+
+    /**
+     * Picks a random empty position straight from the empty mask.
+     */
+    @Override
+    public int randomMove(TicTacToeBoard board, SplittableRandom random, int[] moves) {
+        int empty = board.getEmptyMask();
+        for (int skip = random.nextInt(Integer.bitCount(empty)); skip > 0; skip--) {
+            empty &= empty - 1;
+        }
+        return Integer.numberOfTrailingZeros(empty);
+    }
+}
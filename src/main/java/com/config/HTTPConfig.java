@@ -16,6 +16,7 @@ public class HTTPConfig {
     private static final String USERS_URL = "/users";
     private static final String REGISTRATION_ENDPOINT = "/register";
     private static final String LOGIN_ENDPOINT = "/login";
+    private static final String REFRESH_ENDPOINT = "/refresh";
 
     /**
      *
@@ -38,9 +39,22 @@ public class HTTPConfig {
         return SERVER_URL + USERS_URL + LOGIN_ENDPOINT;
     }
 
+    /**
+     *
+     */
+    public static String getRefreshUrl() {
+        return SERVER_URL + USERS_URL + REFRESH_ENDPOINT;
+    }
+
     //Timeout duration of HTTP client (in seconds)
     public static final int HTTP_TIMEOUT = 5;
 
     //Timeout duration of HTTP request (in seconds)
     public static final int HTTP_REQUEST_TIMEOUT = 10;
+
+    //How long before expiry the JWT token is refreshed (in seconds)
+    public static final int TOKEN_REFRESH_THRESHOLD = 60;
+
+    //Delay before retrying a failed token refresh (in seconds)
+    public static final int TOKEN_REFRESH_RETRY_DELAY = 15;
 }
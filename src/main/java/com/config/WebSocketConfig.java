@@ -17,6 +17,7 @@ public class WebSocketConfig {
     private static final String WS_GENERAL_ENDPOINT = "/websocket";
     private static final String WS_GAME_ENDPOINT = "/websocket/game";
     private static final String WS_CHAT_ENDPOINT = "/websocket/chat";
+    private static final String WS_LOBBY_ENDPOINT = "/websocket/lobby";
     
     /**
      * Gets the general WebSocket URL for basic messaging
@@ -42,6 +43,46 @@ public class WebSocketConfig {
         return WS_SERVER_URL + WS_CHAT_ENDPOINT;
     }
     
+    /**
+     * Gets the lobby WebSocket URL for match listing and matchmaking
+     * @return WebSocket URL for lobby communication
+     */
+    public static String getLobbyWebSocketUrl() {
+        return WS_SERVER_URL + WS_LOBBY_ENDPOINT;
+    }
+    
+    /**
+     * Gets the path of the general WebSocket endpoint
+     * @return General endpoint path
+     */
+    public static String getGeneralEndpoint() {
+        return WS_GENERAL_ENDPOINT;
+    }
+    
+    /**
+     * Gets the path of the game WebSocket endpoint
+     * @return Game endpoint path
+     */
+    public static String getGameEndpoint() {
+        return WS_GAME_ENDPOINT;
+    }
+    
+    /**
+     * Gets the path of the chat WebSocket endpoint
+     * @return Chat endpoint path
+     */
+    public static String getChatEndpoint() {
+        return WS_CHAT_ENDPOINT;
+    }
+    
+    /**
+     * Gets the path of the lobby WebSocket endpoint
+     * @return Lobby endpoint path
+     */
+    public static String getLobbyEndpoint() {
+        return WS_LOBBY_ENDPOINT;
+    }
+    
     /**
      * Gets the base WebSocket server URL
      * @return Base WebSocket server URL
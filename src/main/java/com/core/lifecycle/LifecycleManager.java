@@ -1,9 +1,12 @@
 package com.core.lifecycle;
 
+import com.services.LocalStorageService;
+import com.utils.concurrent.ExecutorRegistry;
 import com.utils.error_handling.ErrorHandler;
 import com.utils.error_handling.Logging;
 import com.utils.error_handling.enums.ErrorCategory;
 import com.utils.error_handling.enums.ErrorSeverity;
+import com.utils.metrics.MetricsExporter;
 
 import javafx.stage.Stage;
 
@@ -61,6 +64,12 @@ public class LifecycleManager {
         } catch (Exception e) {
             ErrorHandler.handleNonCriticalError(e, "Error occurred during shutdown", 
                                               ErrorCategory.SYSTEM, ErrorSeverity.HIGH);
+        } finally {
+            // Always write queued encrypted data to disk, even if a shutdown step failed
+            LocalStorageService.getInstance().shutdown();
+            // Last, so the final metrics report includes the shutdown writes
+            MetricsExporter.getInstance().shutdown();
+            ExecutorRegistry.getInstance().shutdown();
         }
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.core.lifecycle.start;
 
 import com.core.ServiceManager;
+import com.services.LocalStorageService;
 import com.utils.error_handling.Logging;
+import com.utils.metrics.MetricsExporter;
 
 /**
  * Manages the initialization of application services.
@@ -13,6 +15,8 @@ import com.utils.error_handling.Logging;
  */
 public class ServiceManagement {
 
+    private static final long METRICS_EXPORT_INTERVAL_SECONDS = 60;
+
     /**
      * Initializes all application services.
      * This method is called directly by LifecycleManager.
@@ -23,6 +27,12 @@ public class ServiceManagement {
         // Initialize ServiceManager (singleton pattern handles initialization)
         ServiceManager.getInstance();
         
+        // Publish metrics over JMX and to a periodically rewritten report in the app data directory
+        MetricsExporter exporter = MetricsExporter.getInstance();
+        exporter.registerMBean();
+        exporter.start(LocalStorageService.getInstance().getAppDataPath().resolve(MetricsExporter.DEFAULT_FILE_NAME),
+                METRICS_EXPORT_INTERVAL_SECONDS);
+        
         Logging.info("Application services initialized successfully");
     }
 }
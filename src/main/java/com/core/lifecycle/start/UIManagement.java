@@ -7,6 +7,7 @@ import com.utils.error_handling.ErrorHandler;
 import com.utils.error_handling.Logging;
 import com.utils.error_handling.enums.ErrorCategory;
 import com.utils.error_handling.enums.ErrorSeverity;
+import com.utils.metrics.FxThreadMonitor;
 
 import javafx.stage.Stage;
 
@@ -41,6 +42,9 @@ public class UIManagement {
             // Show the stage explicitly
             stage.show();
             
+            // Watch the FX thread for stalls and slow frames from here on
+            FxThreadMonitor.getInstance().start(stage);
+            
             Logging.info("UI initialized successfully");
             
         } catch (Exception e) {
@@ -1,5 +1,7 @@
 package com.core.lifecycle.stop;
 
+import com.core.ServiceManager;
+import com.game.GameManager;
 import com.utils.error_handling.ErrorHandler;
 import com.utils.error_handling.Logging;
 import com.utils.error_handling.enums.ErrorCategory;
@@ -27,6 +29,9 @@ public class ServiceManagement {
             // Save any pending data
             // Close any open connections
             // Clean up service resources
+            ServiceManager.getInstance().getLoginService().shutdown();
+            ServiceManager.getInstance().getTokenService().shutdown();
+            GameManager.getInstance().shutdown();
             
             Logging.info("Services shutdown completed");
             
@@ -4,6 +4,7 @@ import com.utils.error_handling.ErrorHandler;
 import com.utils.error_handling.Logging;
 import com.utils.error_handling.enums.ErrorCategory;
 import com.utils.error_handling.enums.ErrorSeverity;
+import com.utils.metrics.FxThreadMonitor;
 
 /**
  * Manages the shutdown of the application's UI components.
@@ -27,6 +28,7 @@ public class UIManagement {
             // Close any open dialogs or popups
             // Clear any UI caches
             // Save any UI state if needed
+            FxThreadMonitor.getInstance().stop();
             
             Logging.info("UI shutdown completed");
             
@@ -9,6 +9,9 @@ import com.utils.error_handling.ErrorHandler;
 import com.utils.error_handling.Logging;
 import com.utils.error_handling.enums.ErrorCategory;
 import com.utils.error_handling.enums.ErrorSeverity;
+import com.utils.metrics.Counter;
+import com.utils.metrics.LatencyHistogram;
+import com.utils.metrics.MetricsRegistry;
 
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -31,6 +34,12 @@ public class ScreenManager {
     
     private static ScreenManager instance; // Singleton instance
     
+    // ==================== METRICS ====================
+    
+    private static final LatencyHistogram NAVIGATE_TIME = MetricsRegistry.getInstance().histogram("screen.navigate");
+    private static final LatencyHistogram NAVIGATE_GAME_TIME = MetricsRegistry.getInstance().histogram("screen.navigate_game");
+    private static final Counter NAVIGATE_FAILURES = MetricsRegistry.getInstance().counter("screen.navigate.failures");
+    
     // ==================== INSTANCE FIELDS ====================
     
     private final Stage mainStage; // Primary application window
@@ -133,6 +142,7 @@ public class ScreenManager {
      * @throws IllegalArgumentException if screen is null
      */
     public <T> T navigateTo(ScreenLoadable screen) {
+        long startTime = System.nanoTime();
         try {
             Logging.info("Navigating to screen: " + (screen != null ? screen.getFxmlPath() : "null"));
             
@@ -182,10 +192,12 @@ public class ScreenManager {
                 loadCss(screen.getCssPath());
             }
             
+            NAVIGATE_TIME.recordSince(startTime);
             Logging.info("Successfully navigated to screen: " + screen.getFxmlPath());
             return controller;
             
         } catch (Exception e) {
+            NAVIGATE_FAILURES.increment();
             String errorMsg = "Failed to navigate to screen: " + 
                             (screen != null ? screen.getFxmlPath() : "null");
             Logging.error(errorMsg + ": " + e.getMessage(), e);
@@ -206,6 +218,7 @@ public class ScreenManager {
      * @throws IllegalArgumentException if gameFxmlPath is null
      */
     public <T> T navigateToGame(String gameFxmlPath, String gameCssPath, String gameTitle) {
+        long startTime = System.nanoTime();
         try {
             Logging.info("🎮 Navigating to game: " + gameFxmlPath);
             
@@ -246,10 +259,12 @@ public class ScreenManager {
                 loadCss(gameCssPath);
             }
             
+            NAVIGATE_GAME_TIME.recordSince(startTime);
             Logging.info("✅ Successfully navigated to game: " + gameFxmlPath);
             return controller;
             
         } catch (Exception e) {
+            NAVIGATE_FAILURES.increment();
             String errorMsg = "Failed to navigate to game: " + gameFxmlPath;
             Logging.error(errorMsg + ": " + e.getMessage(), e);
             ErrorHandler.handleCriticalError(e, errorMsg);
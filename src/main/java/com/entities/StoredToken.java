@@ -1,5 +1,7 @@
 package com.entities;
 
+import com.network.JwtClaims;
+
 import java.time.LocalDateTime;
 
 /**
@@ -14,6 +16,7 @@ public class StoredToken {
     private String token;
     private String username;
     private LocalDateTime expiresAt;
+    private transient JwtClaims claims;
 
     /**
      * Default constructor.
@@ -42,6 +45,18 @@ public class StoredToken {
      */
     public void setToken(String token) {
         this.token = token;
+        this.claims = null;
+    }
+
+    /**
+     * Gets the decoded claims of the stored token, decoding them on first use.
+     * Not persisted; derived from the token string.
+     */
+    public JwtClaims getClaims() {
+        if (claims == null && token != null) {
+            claims = JwtClaims.decode(token);
+        }
+        return claims;
     }
 
     /**
@@ -2,11 +2,17 @@ package com.game;
 
 import com.game.enums.GameDifficulty;
 import com.game.enums.GameMode;
+import com.game.saves.AutoSaveScheduler;
+import com.game.saves.SaveGameStore;
+import com.game.session.SessionLog;
+import com.game.state.StateSchema;
+import com.services.LocalStorageService;
 import com.utils.error_handling.Logging;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -19,15 +25,21 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class GameManager {
     
+    private static final String SAVES_DIRECTORY = "saves";
+    
     private static GameManager instance;
     private final Map<String, GameModule> registeredGames;
-    private final Map<String, GameState> savedGames;
+    private final SaveGameStore saveStore;
+    private final AutoSaveScheduler autoSaveScheduler;
     private GameModule currentGame;
     private Stage currentGameStage;
+    private SessionLog sessionLog;
     
     private GameManager() {
         this.registeredGames = new ConcurrentHashMap<>();
-        this.savedGames = new ConcurrentHashMap<>();
+        this.saveStore = new SaveGameStore(
+                LocalStorageService.getInstance().getAppDataPath().resolve(SAVES_DIRECTORY));
+        this.autoSaveScheduler = new AutoSaveScheduler(saveStore, this::snapshotCurrentGame);
         this.currentGame = null;
         this.currentGameStage = null;
     }
@@ -60,7 +72,11 @@ public class GameManager {
         }
         
         registeredGames.put(gameId, gameModule);
-        Logging.info("🎮 Registered game: " + gameModule.getGameName() + " (ID: " + gameId + ")");
+        StateSchema schema = gameModule.getStateSchema();
+        if (schema != null) {
+            StateSchema.register(gameId, schema);
+        }
+        Logging.info("🎮 Registered game: {} (ID: {})", gameModule.getGameName(), gameId);
     }
     
     /**
@@ -70,6 +86,7 @@ public class GameManager {
     public void unregisterGame(String gameId) {
         GameModule game = registeredGames.remove(gameId);
         if (game != null) {
+            StateSchema.register(gameId, null);
             Logging.info("🗑️ Unregistered game: " + game.getGameName() + " (ID: " + gameId + ")");
         }
     }
@@ -150,13 +167,14 @@ public class GameManager {
             Scene gameScene = game.launchGame(primaryStage, gameMode, playerCount, gameOptions);
             
             if (gameScene != null) {
-                currentGame = game;
+                beginSession(game);
                 currentGameStage = primaryStage;
                 
                 // Set the game scene on the stage
                 primaryStage.setScene(gameScene);
                 primaryStage.setTitle(game.getGameName() + " - " + gameMode.getDisplayName());
                 primaryStage.setResizable(false);
+                autoSaveScheduler.start();
                 
                 Logging.info("✅ Game launched successfully: " + game.getGameName());
             } else {
@@ -247,11 +265,12 @@ public class GameManager {
             );
             
             if (controller != null) {
-                currentGame = game;
+                beginSession(game);
                 currentGameStage = screenManager.getMainStage();
                 
                 // Initialize the game controller with game parameters
                 initializeGameController(controller, gameMode, playerCount, gameOptions);
+                autoSaveScheduler.start();
                 
                 Logging.info("✅ TicTacToe launched successfully using main app's screen system");
                 return true;
@@ -290,11 +309,12 @@ public class GameManager {
             );
             
             if (controller != null) {
-                currentGame = game;
+                beginSession(game);
                 currentGameStage = screenManager.getMainStage();
                 
                 // Initialize the game controller if it has an initializeGame method
                 initializeGameController(controller, gameMode, playerCount, gameOptions);
+                autoSaveScheduler.start();
                 
                 Logging.info("✅ Generic game launched successfully: " + game.getGameName());
                 return true;
@@ -364,6 +384,7 @@ public class GameManager {
     public void closeCurrentGame() {
         if (currentGame != null) {
             Logging.info("🔄 Closing current game: " + currentGame.getGameName());
+            autoSaveScheduler.stop();
             
             try {
                 currentGame.onGameClose();
@@ -373,6 +394,7 @@ public class GameManager {
             
             currentGame = null;
             currentGameStage = null;
+            sessionLog = null;
         }
     }
     
@@ -393,31 +415,100 @@ public class GameManager {
     }
     
     /**
-     * Saves the current game state.
+     * Makes a game the running game and starts its session log.
+     */
+    private void beginSession(GameModule game) {
+        currentGame = game;
+        sessionLog = new SessionLog();
+    }
+    
+    /**
+     * Gets the event log of the running game's session.
+     * @return The session log, or null if no game is running
+     */
+    public SessionLog getSessionLog() {
+        return sessionLog;
+    }
+    
+    /**
+     * Records an action of the running game in its session log.
+     * Games call this for every move so saves and spectators can replay the
+     * session instead of shipping full state snapshots.
+     * 
+     * @param action The game-defined action code (not negative)
+     * @param player The player index, or -1 for system events
+     * @param data The game-defined action value
+     * @return The index of the recorded event, or -1 if no game is running
+     */
+    public int recordEvent(int action, int player, long data) {
+        SessionLog log = sessionLog;
+        return log != null ? log.append(action, player, data) : -1;
+    }
+    
+    /**
+     * Gets a snapshot of the running game's state for saving, carrying the
+     * session log under SessionLog.STATE_KEY.
+     * Called on the JavaFX thread.
+     */
+    private GameState snapshotCurrentGame() {
+        GameModule game = currentGame;
+        if (game == null) {
+            return null;
+        }
+        GameState snapshot = game.snapshotGameState();
+        SessionLog log = sessionLog;
+        if (snapshot != null && log != null && !log.isEmpty()) {
+            snapshot.setStateValue(SessionLog.STATE_KEY, log.toByteArray());
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Saves the current game state, waiting for the write to finish.
+     * Blocks on disk I/O, so it is only for callers off the JavaFX thread that
+     * need the write done (e.g. tools and tests); UI code uses saveCurrentGameAsync.
      * @return The saved game state, or null if no game is running
      */
     public GameState saveCurrentGame() {
-        if (currentGame == null) {
+        return saveCurrentGameAsync().join();
+    }
+    
+    /**
+     * Saves the current game state in the background.
+     * Only the snapshot is taken on the calling thread; encoding and the disk
+     * write run on the save store's writer thread while the game keeps running.
+     * @return Future completing with the saved game state, or null if nothing was saved
+     */
+    public CompletableFuture<GameState> saveCurrentGameAsync() {
+        GameModule game = currentGame;
+        if (game == null) {
             Logging.warning("⚠️ No game running to save");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
         
+        GameState snapshot;
         try {
-            GameState gameState = currentGame.getGameState();
-            if (gameState != null) {
-                savedGames.put(gameState.getGameId() + "_" + System.currentTimeMillis(), gameState);
-                Logging.info("💾 Saved game state: " + currentGame.getGameName());
-                return gameState;
-            }
+            snapshot = snapshotCurrentGame();
         } catch (Exception e) {
             Logging.error("❌ Error saving game state: " + e.getMessage(), e);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (snapshot == null) {
+            return CompletableFuture.completedFuture(null);
         }
         
-        return null;
+        return saveStore.saveAsync(snapshot).thenApply(savedState -> {
+            if (savedState != null) {
+                Logging.info("💾 Saved game state: " + game.getGameName());
+            }
+            return savedState;
+        });
     }
     
     /**
      * Loads a saved game state.
+     * For the running game the saved session log is restored before the game's
+     * loadGameState, so the game can rebuild its state from getSessionLog().
      * @param gameState The game state to load
      * @return true if the game was loaded successfully
      */
@@ -434,6 +525,10 @@ public class GameManager {
         }
         
         try {
+            // The log goes first: games rebuild their state by replaying it
+            if (game == currentGame) {
+                restoreSessionLog(gameState);
+            }
             game.loadGameState(gameState);
             Logging.info("📂 Loaded game state: " + game.getGameName());
             return true;
@@ -444,26 +539,49 @@ public class GameManager {
     }
     
     /**
-     * Gets all saved games.
+     * Continues the session log stored in a save, so new events extend it.
+     */
+    private void restoreSessionLog(GameState gameState) {
+        Object encoded = gameState.getStateValue(SessionLog.STATE_KEY);
+        if (!(encoded instanceof byte[])) {
+            sessionLog = new SessionLog();
+            return;
+        }
+        try {
+            sessionLog = SessionLog.fromBytes((byte[]) encoded);
+            Logging.info("📜 Restored session log: " + sessionLog.size() + " events");
+        } catch (IllegalArgumentException e) {
+            Logging.warning("⚠️ Ignoring unreadable session log in save: " + e.getMessage());
+            sessionLog = new SessionLog();
+        }
+    }
+    
+    /**
+     * Gets all saved games, newest first.
+     * State data is loaded from disk only when a save is accessed.
      * @return List of all saved game states
      */
     public List<GameState> getAllSavedGames() {
-        return new ArrayList<>(savedGames.values());
+        return saveStore.getAllSaves();
     }
     
     /**
-     * Gets saved games for a specific game.
+     * Gets saved games for a specific game, newest first.
+     * State data is loaded from disk only when a save is accessed.
      * @param gameId The game ID
      * @return List of saved game states for the specified game
      */
     public List<GameState> getSavedGames(String gameId) {
-        List<GameState> gameStates = new ArrayList<>();
-        for (GameState state : savedGames.values()) {
-            if (gameId.equals(state.getGameId())) {
-                gameStates.add(state);
-            }
-        }
-        return gameStates;
+        return saveStore.getSaves(gameId);
+    }
+    
+    /**
+     * Gets the most recent saved game for a specific game.
+     * @param gameId The game ID
+     * @return The latest saved game state, or null if there is none
+     */
+    public GameState getLatestSavedGame(String gameId) {
+        return saveStore.getLatestSave(gameId);
     }
     
     /**
@@ -471,14 +589,35 @@ public class GameManager {
      * @param gameState The game state to delete
      */
     public void deleteSavedGame(GameState gameState) {
-        if (gameState != null) {
-            savedGames.values().removeIf(state -> 
-                state.getGameId().equals(gameState.getGameId()) && 
-                state.getSaveTime().equals(gameState.getSaveTime()));
+        if (gameState == null) {
+            return;
+        }
+        
+        long saveId = gameState.getSaveId();
+        if (saveId == GameState.UNSAVED_ID) {
+            // Not read from the store - match by game and save time
+            for (GameState state : saveStore.getSaves(gameState.getGameId())) {
+                if (state.getSaveTime().equals(gameState.getSaveTime())) {
+                    saveId = state.getSaveId();
+                    break;
+                }
+            }
+        }
+        
+        if (saveStore.delete(saveId)) {
             Logging.info("🗑️ Deleted saved game: " + gameState.getDisplayName());
         }
     }
     
+    /**
+     * Stops autosaving and closes the saved game store.
+     * Called during application shutdown.
+     */
+    public void shutdown() {
+        autoSaveScheduler.shutdown();
+        saveStore.shutdown();
+    }
+    
     /**
      * Gets games filtered by criteria.
      * @param gameMode The game mode to filter by (null for all modes)
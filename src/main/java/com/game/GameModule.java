@@ -1,5 +1,7 @@
 package com.game;
 
+import com.game.rules.GameRules;
+import com.game.state.StateSchema;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
@@ -121,9 +123,40 @@ public interface GameModule {
      */
     GameState getGameState();
     
+    /**
+     * Gets a snapshot of the current game state for saving.
+     * Called on the JavaFX thread; the snapshot is then serialized on a background
+     * thread, so it must not change after it is returned. Games that keep a live
+     * GameState should return liveState.snapshot(), which is O(1).
+     * The default builds a new state with getGameState().
+     * @return Snapshot of the game state, or null if there is nothing to save
+     */
+    default GameState snapshotGameState() {
+        return getGameState();
+    }
+    
     /**
      * Loads a saved game state.
      * @param gameState The saved game state
      */
     void loadGameState(GameState gameState);
-} 
\ No newline at end of file
+    
+    /**
+     * Gets the schema of the game's state data, used to encode saves and state
+     * updates compactly. Games without a schema have their values written by name.
+     * @return The state schema, or null if the game doesn't declare one
+     */
+    default StateSchema getStateSchema() {
+        return null;
+    }
+    
+    /**
+     * Gets the game's rules without any UI, for AI search, self-play simulation
+     * (see SelfPlaySimulator), fuzzing and engine benchmarks. Must not touch JavaFX.
+     * @param gameOptions The game options (e.g. board size), or null for the defaults
+     * @return The rules, or null if the game doesn't provide headless rules
+     */
+    default GameRules<?> getRules(GameOptions gameOptions) {
+        return null;
+    }
+}
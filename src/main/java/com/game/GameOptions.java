@@ -1,11 +1,13 @@
 package com.game;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import com.game.state.SlotStore;
+
 /**
  * Container for game-specific options and configuration.
  * Allows games to define custom parameters while maintaining a common interface.
+ * Values are held in a SlotStore, so primitive options are stored unboxed.
  *
  * @authors Clement Luo
  * @date January 2025
@@ -13,10 +15,23 @@ import java.util.Map;
  */
 public class GameOptions {
     
-    private final Map<String, Object> options;
+    private final SlotStore options;
     
     public GameOptions() {
-        this.options = new HashMap<>();
+        this.options = new SlotStore();
+    }
+    
+    private GameOptions(SlotStore options) {
+        this.options = options;
+    }
+    
+    /**
+     * Creates a snapshot of the options in O(1).
+     * Later changes to either object don't affect the other.
+     * @return The snapshot
+     */
+    public GameOptions snapshot() {
+        return new GameOptions(options.snapshot());
     }
     
     /**
@@ -25,7 +40,25 @@ public class GameOptions {
      * @param value The option value
      */
     public void setOption(String key, Object value) {
-        options.put(key, value);
+        options.put(SlotStore.keyId(key), value);
+    }
+    
+    /**
+     * Sets an integer option without boxing.
+     * @param key The option key
+     * @param value The option value
+     */
+    public void setIntOption(String key, int value) {
+        options.putInt(SlotStore.keyId(key), value);
+    }
+    
+    /**
+     * Sets a boolean option without boxing.
+     * @param key The option key
+     * @param value The option value
+     */
+    public void setBooleanOption(String key, boolean value) {
+        options.putBoolean(SlotStore.keyId(key), value);
     }
     
     /**
@@ -34,7 +67,7 @@ public class GameOptions {
      * @return The option value, or null if not found
      */
     public Object getOption(String key) {
-        return options.get(key);
+        return options.get(SlotStore.findKeyId(key));
     }
     
     /**
@@ -44,7 +77,8 @@ public class GameOptions {
      * @return The option value or default value
      */
     public Object getOption(String key, Object defaultValue) {
-        return options.getOrDefault(key, defaultValue);
+        int id = SlotStore.findKeyId(key);
+        return options.containsKey(id) ? options.get(id) : defaultValue;
     }
     
     /**
@@ -53,7 +87,7 @@ public class GameOptions {
      * @return The string value, or null if not found
      */
     public String getStringOption(String key) {
-        Object value = options.get(key);
+        Object value = options.get(SlotStore.findKeyId(key));
         return value instanceof String ? (String) value : null;
     }
     
@@ -74,8 +108,8 @@ public class GameOptions {
      * @return The integer value, or null if not found
      */
     public Integer getIntOption(String key) {
-        Object value = options.get(key);
-        return value instanceof Integer ? (Integer) value : null;
+        int id = SlotStore.findKeyId(key);
+        return options.isInt(id) ? options.getInt(id, 0) : null;
     }
     
     /**
@@ -85,8 +119,7 @@ public class GameOptions {
      * @return The integer value or default value
      */
     public int getIntOption(String key, int defaultValue) {
-        Integer value = getIntOption(key);
-        return value != null ? value : defaultValue;
+        return options.getInt(SlotStore.findKeyId(key), defaultValue);
     }
     
     /**
@@ -95,8 +128,8 @@ public class GameOptions {
      * @return The boolean value, or null if not found
      */
     public Boolean getBooleanOption(String key) {
-        Object value = options.get(key);
-        return value instanceof Boolean ? (Boolean) value : null;
+        int id = SlotStore.findKeyId(key);
+        return options.isBoolean(id) ? options.getBoolean(id, false) : null;
     }
     
     /**
@@ -106,8 +139,7 @@ public class GameOptions {
      * @return The boolean value or default value
      */
     public boolean getBooleanOption(String key, boolean defaultValue) {
-        Boolean value = getBooleanOption(key);
-        return value != null ? value : defaultValue;
+        return options.getBoolean(SlotStore.findKeyId(key), defaultValue);
     }
     
     /**
@@ -116,7 +148,7 @@ public class GameOptions {
      * @return true if the option exists
      */
     public boolean hasOption(String key) {
-        return options.containsKey(key);
+        return options.containsKey(SlotStore.findKeyId(key));
     }
     
     /**
@@ -124,7 +156,7 @@ public class GameOptions {
      * @param key The option key
      */
     public void removeOption(String key) {
-        options.remove(key);
+        options.remove(SlotStore.findKeyId(key));
     }
     
     /**
@@ -132,7 +164,7 @@ public class GameOptions {
      * @return Map of all options
      */
     public Map<String, Object> getAllOptions() {
-        return new HashMap<>(options);
+        return options.toMap();
     }
     
     /**
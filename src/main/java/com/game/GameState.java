@@ -1,14 +1,26 @@
 package com.game;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.game.enums.GameMode;
+import com.game.state.SlotStore;
 
 /**
  * Represents the state of a game for saving and loading purposes.
  * Each game can define its own state structure while using this common interface.
+ * 
+ * States read back from the save store carry their save ID and load their state
+ * data lazily on first access, so listing saves doesn't deserialize payloads.
+ * 
+ * Values are held in a SlotStore, so int/long/double/boolean values are stored
+ * unboxed. Modules that update values every frame can resolve key IDs once with
+ * keyId() and use the ID-based accessors to skip the key lookup as well.
+ * 
+ * A module can keep one live GameState, mutate it as the game runs, and hand
+ * out snapshot() copies for saving. Snapshots are O(1) copy-on-write views, so
+ * they can be serialized on a background thread while the game keeps playing.
  *
  * @authors Clement Luo
  * @date January 2025
@@ -16,10 +28,16 @@ import com.game.enums.GameMode;
  */
 public class GameState {
     
+    /** Save ID of states that haven't been written to the save store. */
+    public static final long UNSAVED_ID = -1;
+    
     private final String gameId;
     private final String gameName;
     private final LocalDateTime saveTime;
-    private final Map<String, Object> stateData;
+    private final long saveId;
+    private final boolean autosave;
+    private volatile SlotStore stateData;
+    private Supplier<Map<String, Object>> stateDataLoader;
     private final GameMode gameMode;
     private final int playerCount;
     private final GameOptions gameOptions;
@@ -35,15 +53,128 @@ public class GameState {
      */
     public GameState(String gameId, String gameName, GameMode gameMode, 
                     int playerCount, GameOptions gameOptions) {
+        this.saveId = UNSAVED_ID;
+        this.autosave = false;
         this.gameId = gameId;
         this.gameName = gameName;
         this.saveTime = LocalDateTime.now();
-        this.stateData = new HashMap<>();
+        this.stateData = new SlotStore();
+        this.gameMode = gameMode;
+        this.playerCount = playerCount;
+        this.gameOptions = gameOptions;
+    }
+    
+    /**
+     * Creates a game state read back from the save store.
+     * 
+     * @param saveId The save store ID
+     * @param gameId The game identifier
+     * @param gameName The game name
+     * @param saveTime When the game was saved
+     * @param gameMode The game mode
+     * @param playerCount Number of players
+     * @param gameOptions Game options
+     * @param autosave Whether the save was made by the autosave scheduler
+     * @param stateDataLoader Loads the state data on first access
+     */
+    public GameState(long saveId, String gameId, String gameName, LocalDateTime saveTime, GameMode gameMode,
+                    int playerCount, GameOptions gameOptions, boolean autosave,
+                    Supplier<Map<String, Object>> stateDataLoader) {
+        this.saveId = saveId;
+        this.autosave = autosave;
+        this.gameId = gameId;
+        this.gameName = gameName;
+        this.saveTime = saveTime;
+        this.stateDataLoader = stateDataLoader;
         this.gameMode = gameMode;
         this.playerCount = playerCount;
         this.gameOptions = gameOptions;
     }
     
+    private GameState(GameState source, SlotStore stateData) {
+        this.saveId = UNSAVED_ID;
+        this.autosave = false;
+        this.gameId = source.gameId;
+        this.gameName = source.gameName;
+        this.saveTime = LocalDateTime.now();
+        this.stateData = stateData;
+        this.gameMode = source.gameMode;
+        this.playerCount = source.playerCount;
+        this.gameOptions = source.gameOptions != null ? source.gameOptions.snapshot() : null;
+    }
+    
+    /**
+     * Creates a snapshot of this state for saving, in O(1).
+     * The snapshot shares this state's values copy-on-write: later changes to
+     * either state don't affect the other, so the snapshot can be read on another
+     * thread while this state keeps changing. Mutable values such as arrays must
+     * be replaced, not modified in place, once a snapshot has been taken.
+     * Call on the thread that mutates this state.
+     * 
+     * @return An unsaved snapshot with the current time as its save time
+     */
+    public GameState snapshot() {
+        return new GameState(this, stateData().snapshot());
+    }
+    
+    /**
+     * Gets the state data, loading it from the save store on first access.
+     * Only the first access takes the lock, keeping per-frame reads cheap.
+     */
+    private SlotStore stateData() {
+        SlotStore data = stateData;
+        if (data != null) {
+            return data;
+        }
+        synchronized (this) {
+            if (stateData == null) {
+                Map<String, Object> loaded = stateDataLoader.get();
+                SlotStore store = new SlotStore();
+                if (loaded != null) {
+                    store.putAll(loaded);
+                }
+                stateDataLoader = null;
+                stateData = store;
+            }
+            return stateData;
+        }
+    }
+    
+    /**
+     * Gets the interned ID of a state key for the ID-based accessors.
+     * IDs are global, so resolve them once (e.g. in a static field) and reuse them.
+     * 
+     * @param key The state key
+     * @return The key ID
+     */
+    public static int keyId(String key) {
+        return SlotStore.keyId(key);
+    }
+    
+    /**
+     * Gets the save store ID.
+     * @return The save ID, or UNSAVED_ID if this state hasn't been saved
+     */
+    public long getSaveId() {
+        return saveId;
+    }
+    
+    /**
+     * Checks if this state was saved by the autosave scheduler.
+     * @return true for autosaves, false for manual saves and unsaved states
+     */
+    public boolean isAutosave() {
+        return autosave;
+    }
+    
+    /**
+     * Checks if the state data has been loaded.
+     * @return false if the state data is still waiting to be read from the save store
+     */
+    public boolean isStateDataLoaded() {
+        return stateData != null;
+    }
+    
     /**
      * Gets the game identifier.
      * @return The game ID
@@ -98,7 +229,79 @@ public class GameState {
      * @param value The state value
      */
     public void setStateValue(String key, Object value) {
-        stateData.put(key, value);
+        stateData().put(SlotStore.keyId(key), value);
+    }
+    
+    /**
+     * Sets an integer state value without boxing.
+     * @param key The state key
+     * @param value The state value
+     */
+    public void setIntStateValue(String key, int value) {
+        stateData().putInt(SlotStore.keyId(key), value);
+    }
+    
+    /**
+     * Sets an integer state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param value The state value
+     */
+    public void setIntStateValue(int keyId, int value) {
+        stateData().putInt(keyId, value);
+    }
+    
+    /**
+     * Sets a long state value without boxing.
+     * @param key The state key
+     * @param value The state value
+     */
+    public void setLongStateValue(String key, long value) {
+        stateData().putLong(SlotStore.keyId(key), value);
+    }
+    
+    /**
+     * Sets a long state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param value The state value
+     */
+    public void setLongStateValue(int keyId, long value) {
+        stateData().putLong(keyId, value);
+    }
+    
+    /**
+     * Sets a double state value without boxing.
+     * @param key The state key
+     * @param value The state value
+     */
+    public void setDoubleStateValue(String key, double value) {
+        stateData().putDouble(SlotStore.keyId(key), value);
+    }
+    
+    /**
+     * Sets a double state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param value The state value
+     */
+    public void setDoubleStateValue(int keyId, double value) {
+        stateData().putDouble(keyId, value);
+    }
+    
+    /**
+     * Sets a boolean state value without boxing.
+     * @param key The state key
+     * @param value The state value
+     */
+    public void setBooleanStateValue(String key, boolean value) {
+        stateData().putBoolean(SlotStore.keyId(key), value);
+    }
+    
+    /**
+     * Sets a boolean state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param value The state value
+     */
+    public void setBooleanStateValue(int keyId, boolean value) {
+        stateData().putBoolean(keyId, value);
     }
     
     /**
@@ -107,7 +310,7 @@ public class GameState {
      * @return The state value, or null if not found
      */
     public Object getStateValue(String key) {
-        return stateData.get(key);
+        return stateData().get(SlotStore.findKeyId(key));
     }
     
     /**
@@ -117,7 +320,9 @@ public class GameState {
      * @return The state value or default value
      */
     public Object getStateValue(String key, Object defaultValue) {
-        return stateData.getOrDefault(key, defaultValue);
+        SlotStore data = stateData();
+        int id = SlotStore.findKeyId(key);
+        return data.containsKey(id) ? data.get(id) : defaultValue;
     }
     
     /**
@@ -126,7 +331,7 @@ public class GameState {
      * @return The string value, or null if not found
      */
     public String getStringStateValue(String key) {
-        Object value = stateData.get(key);
+        Object value = stateData().get(SlotStore.findKeyId(key));
         return value instanceof String ? (String) value : null;
     }
     
@@ -147,8 +352,9 @@ public class GameState {
      * @return The integer value, or null if not found
      */
     public Integer getIntStateValue(String key) {
-        Object value = stateData.get(key);
-        return value instanceof Integer ? (Integer) value : null;
+        SlotStore data = stateData();
+        int id = SlotStore.findKeyId(key);
+        return data.isInt(id) ? data.getInt(id, 0) : null;
     }
     
     /**
@@ -158,8 +364,57 @@ public class GameState {
      * @return The integer value or default value
      */
     public int getIntStateValue(String key, int defaultValue) {
-        Integer value = getIntStateValue(key);
-        return value != null ? value : defaultValue;
+        return stateData().getInt(SlotStore.findKeyId(key), defaultValue);
+    }
+    
+    /**
+     * Gets an integer state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param defaultValue The default value
+     * @return The integer value or default value
+     */
+    public int getIntStateValue(int keyId, int defaultValue) {
+        return stateData().getInt(keyId, defaultValue);
+    }
+    
+    /**
+     * Gets a long state value with a default value.
+     * @param key The state key
+     * @param defaultValue The default value
+     * @return The long value or default value
+     */
+    public long getLongStateValue(String key, long defaultValue) {
+        return stateData().getLong(SlotStore.findKeyId(key), defaultValue);
+    }
+    
+    /**
+     * Gets a long state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param defaultValue The default value
+     * @return The long value or default value
+     */
+    public long getLongStateValue(int keyId, long defaultValue) {
+        return stateData().getLong(keyId, defaultValue);
+    }
+    
+    /**
+     * Gets a double state value with a default value.
+     * @param key The state key
+     * @param defaultValue The default value
+     * @return The double value or default value
+     */
+    public double getDoubleStateValue(String key, double defaultValue) {
+        return stateData().getDouble(SlotStore.findKeyId(key), defaultValue);
+    }
+    
+    /**
+     * Gets a double state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param defaultValue The default value
+     * @return The double value or default value
+     */
+    public double getDoubleStateValue(int keyId, double defaultValue) {
+        return stateData().getDouble(keyId, defaultValue);
     }
     
     /**
@@ -168,8 +423,9 @@ public class GameState {
      * @return The boolean value, or null if not found
      */
     public Boolean getBooleanStateValue(String key) {
-        Object value = stateData.get(key);
-        return value instanceof Boolean ? (Boolean) value : null;
+        SlotStore data = stateData();
+        int id = SlotStore.findKeyId(key);
+        return data.isBoolean(id) ? data.getBoolean(id, false) : null;
     }
     
     /**
@@ -179,8 +435,17 @@ public class GameState {
      * @return The boolean value or default value
      */
     public boolean getBooleanStateValue(String key, boolean defaultValue) {
-        Boolean value = getBooleanStateValue(key);
-        return value != null ? value : defaultValue;
+        return stateData().getBoolean(SlotStore.findKeyId(key), defaultValue);
+    }
+    
+    /**
+     * Gets a boolean state value by key ID.
+     * @param keyId The key ID from keyId()
+     * @param defaultValue The default value
+     * @return The boolean value or default value
+     */
+    public boolean getBooleanStateValue(int keyId, boolean defaultValue) {
+        return stateData().getBoolean(keyId, defaultValue);
     }
     
     /**
@@ -189,7 +454,7 @@ public class GameState {
      * @return true if the state value exists
      */
     public boolean hasStateValue(String key) {
-        return stateData.containsKey(key);
+        return stateData().containsKey(SlotStore.findKeyId(key));
     }
     
     /**
@@ -197,7 +462,7 @@ public class GameState {
      * @param key The state key
      */
     public void removeStateValue(String key) {
-        stateData.remove(key);
+        stateData().remove(SlotStore.findKeyId(key));
     }
     
     /**
@@ -205,14 +470,14 @@ public class GameState {
      * @return Map of all state data
      */
     public Map<String, Object> getAllStateData() {
-        return new HashMap<>(stateData);
+        return stateData().toMap();
     }
     
     /**
      * Clears all state data.
      */
     public void clearStateData() {
-        stateData.clear();
+        stateData().clear();
     }
     
     /**
@@ -220,7 +485,7 @@ public class GameState {
      * @return Number of state values
      */
     public int getStateDataSize() {
-        return stateData.size();
+        return stateData().size();
     }
     
     /**
@@ -228,7 +493,7 @@ public class GameState {
      * @return true if no state values exist
      */
     public boolean isStateDataEmpty() {
-        return stateData.isEmpty();
+        return stateData().isEmpty();
     }
     
     /**
@@ -241,10 +506,12 @@ public class GameState {
     
     /**
      * Gets a display name for the saved game.
+     * Saves whose mode is unknown to this version show "Unknown mode".
      * @return Display name
      */
     public String getDisplayName() {
         return String.format("%s - %s (%d players) - %s", 
-                           gameName, gameMode.getDisplayName(), playerCount, getFormattedSaveTime());
+                           gameName, gameMode != null ? gameMode.getDisplayName() : "Unknown mode",
+                           playerCount, getFormattedSaveTime());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,485 @@
+package com.game.ai;
+
+import com.game.rules.GameRules;
+import com.utils.concurrent.ExecutorRegistry;
+import com.utils.error_handling.Logging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Monte Carlo tree search for any game described by GameRules.
+ *
+ * Each search runs root-parallel on a fork-join pool: every worker grows its own
+ * UCT tree from the same position with its own random stream, so playouts need
+ * no locking, and the root statistics of all trees are summed to pick the move
+ * (the most visited one). Searches stop when the per-move time budget runs out.
+ *
+ * The trees are kept between moves: call advance() with every move played in the
+ * game (including the engine's own), and the subtree under that move becomes the
+ * new root, keeping its playouts for the next search. Call reset() when the game
+ * is replaced or changed in any other way.
+ *
+ * Instances are not meant to be shared between games; the public methods are
+ * synchronized so a search and an advance() never overlap. reset() is the
+ * exception: it doesn't wait for a running search but makes it stop within a
+ * few playouts, so a UI thread can restart the game while the engine thinks.
+ *
+ * @param <S> The game's state type
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class MonteCarloTreeSearch<S> {
+
+    /** Default UCT exploration constant (sqrt 2, for rewards in [0, 1]). */
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+    /** Largest number of nodes a single tree may grow to; beyond it leaves are only played out. */
+    public static final int MAX_NODES_PER_TREE = 500_000;
+
+    // Playouts between deadline checks
+    private static final int CLOCK_CHECK_INTERVAL = 16;
+
+    private final GameRules<S> rules;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final double exploration;
+    private final SplittableRandom seeds;
+    // Bumped by reset() without the lock; running searches stop when it changes
+    private final AtomicInteger generation = new AtomicInteger();
+    // Generation the trees were built in, guarded by the lock
+    private int treeGeneration;
+    private List<Tree<S>> trees;
+    private SearchResult lastResult;
+
+    /**
+     * Outcome of one search.
+     *
+     * @param move The chosen move, or -1 if the game was already over
+     * @param playouts Playouts run by this search
+     * @param elapsedNanos Wall time of the search
+     * @param reusedVisits Root visits carried over from earlier searches
+     * @param visits Root visits of the chosen move, summed over all trees
+     * @param winRate Average reward of the chosen move for the player making it (0 to 1)
+     */
+    public record SearchResult(int move, long playouts, long elapsedNanos, long reusedVisits,
+                               long visits, double winRate) {
+
+        /**
+         * Gets the search speed.
+         * @return Playouts per second
+         */
+        public double getPlayoutsPerSecond() {
+            return elapsedNanos == 0 ? 0 : playouts * 1e9 / elapsedNanos;
+        }
+    }
+
+    /**
+     * Creates a search on the shared CPU pool, one tree per pool thread.
+     * @param rules The game rules
+     */
+    public MonteCarloTreeSearch(GameRules<S> rules) {
+        this(rules, ExecutorRegistry.getInstance().cpuPool(), ExecutorRegistry.getInstance().cpuPool().getParallelism(),
+                DEFAULT_EXPLORATION);
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param rules The game rules
+     * @param pool The pool running the playouts
+     * @param parallelism The number of trees searched in parallel
+     * @param exploration The UCT exploration constant
+     */
+    public MonteCarloTreeSearch(GameRules<S> rules, ForkJoinPool pool, int parallelism, double exploration) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.rules = rules;
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.exploration = exploration;
+        this.seeds = new SplittableRandom();
+    }
+
+    /**
+     * Searches a position and chooses a move for the player to move.
+     * If the trees from earlier searches were kept in step with advance(), their
+     * playouts are reused; the state passed in must then be the one they reached.
+     *
+     * @param state The position (not modified)
+     * @param budgetMillis The time budget for the search
+     * @return The chosen move, or -1 if the game is over or the search was reset
+     */
+    public synchronized int chooseMove(S state, long budgetMillis) {
+        return search(state, budgetMillis, Long.MAX_VALUE).move();
+    }
+
+    /**
+     * Chooses a move on the search's pool.
+     *
+     * @param state The position (copied, so the caller may keep using it)
+     * @param budgetMillis The time budget for the search
+     * @return Future completing with the chosen move, or -1 if the game is over or the search was reset
+     */
+    public CompletableFuture<Integer> chooseMoveAsync(S state, long budgetMillis) {
+        S position = rules.copy(state);
+        return CompletableFuture.supplyAsync(() -> chooseMove(position, budgetMillis), pool);
+    }
+
+    /**
+     * Searches a position until the time budget or the playout limit runs out,
+     * or until reset() is called.
+     *
+     * @param state The position (not modified)
+     * @param budgetMillis The time budget for the search
+     * @param maxPlayouts The playout limit per tree
+     * @return The search result
+     */
+    public synchronized SearchResult search(S state, long budgetMillis, long maxPlayouts) {
+        long start = System.nanoTime();
+        int searchGeneration = syncGeneration();
+        if (rules.isTerminal(state)) {
+            lastResult = new SearchResult(-1, 0, 0, 0, 0, 0);
+            return lastResult;
+        }
+        if (trees == null) {
+            trees = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                trees.add(new Tree<>(rules, rules.copy(state), seeds.split()));
+            }
+        }
+
+        long reusedVisits = 0;
+        for (Tree<S> tree : trees) {
+            reusedVisits += tree.root.visits;
+        }
+        long deadline = start + budgetMillis * 1_000_000L;
+        long playouts = pool.invoke(new SearchRound<>(this, searchGeneration, deadline, maxPlayouts));
+        if (generation.get() != searchGeneration) {
+            // Reset while searching: the trees belong to the old game
+            trees = null;
+            lastResult = null;
+            return new SearchResult(-1, playouts, System.nanoTime() - start, reusedVisits, 0, 0);
+        }
+
+        // Sum the root statistics of every tree, by move
+        Map<Integer, double[]> totals = new HashMap<>();
+        for (Tree<S> tree : trees) {
+            Node root = tree.root;
+            for (int i = 0; i < root.childCount; i++) {
+                Node child = root.children[i];
+                double[] total = totals.computeIfAbsent(child.move, move -> new double[2]);
+                total[0] += child.visits;
+                total[1] += child.reward;
+            }
+        }
+        int bestMove = -1;
+        double[] best = null;
+        for (Map.Entry<Integer, double[]> entry : totals.entrySet()) {
+            double[] total = entry.getValue();
+            if (best == null || total[0] > best[0] || (total[0] == best[0] && total[1] > best[1])) {
+                best = total;
+                bestMove = entry.getKey();
+            }
+        }
+
+        if (bestMove >= 0 && !isLegal(state, bestMove)) {
+            // The trees were not advanced in step with the game: start over from this position
+            Logging.warning("⚠️ MCTS trees out of step with the game, rebuilding them");
+            trees = null;
+            return search(state, budgetMillis, maxPlayouts);
+        }
+
+        lastResult = new SearchResult(bestMove, playouts, System.nanoTime() - start, reusedVisits,
+                best == null ? 0 : (long) best[0], best == null || best[0] == 0 ? 0 : best[1] / best[0]);
+        return lastResult;
+    }
+
+    /**
+     * Moves every tree down to the subtree of a move played in the game,
+     * keeping that subtree's playouts for the next search.
+     * Does nothing before the first search.
+     *
+     * @param move The move played
+     */
+    public synchronized void advance(int move) {
+        syncGeneration();
+        if (trees == null) {
+            return;
+        }
+        for (Tree<S> tree : trees) {
+            tree.advance(move);
+        }
+    }
+
+    /**
+     * Drops the search trees, e.g. when a new game starts.
+     * Doesn't take the lock: a running search stops within a few playouts and
+     * returns -1, and the trees are dropped before the next search or advance.
+     */
+    public void reset() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Gets the result of the last search.
+     * @return The result, or null if nothing was searched since the last reset
+     */
+    public synchronized SearchResult getLastResult() {
+        syncGeneration();
+        return lastResult;
+    }
+
+    /**
+     * Drops the trees if reset() was called since they were built.
+     * Called with the lock held.
+     * @return The current generation
+     */
+    private int syncGeneration() {
+        int current = generation.get();
+        if (current != treeGeneration) {
+            trees = null;
+            lastResult = null;
+            treeGeneration = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the number of trees searched in parallel.
+     * @return The parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private boolean isLegal(S state, int move) {
+        int[] moves = new int[rules.getMaxMoves()];
+        int count = rules.getLegalMoves(state, moves);
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Searches all trees in parallel, one subtask per tree.
+     */
+    private static final class SearchRound<S> extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final MonteCarloTreeSearch<S> search;
+        private final int generation;
+        private final long deadline;
+        private final long maxPlayouts;
+
+        SearchRound(MonteCarloTreeSearch<S> search, int generation, long deadline, long maxPlayouts) {
+            this.search = search;
+            this.generation = generation;
+            this.deadline = deadline;
+            this.maxPlayouts = maxPlayouts;
+        }
+
+        @Override
+        protected Long compute() {
+            List<TreeSearch<S>> tasks = new ArrayList<>(search.trees.size());
+            for (Tree<S> tree : search.trees) {
+                tasks.add(new TreeSearch<>(tree, search.exploration, search.generation, generation, deadline,
+                        maxPlayouts));
+            }
+            invokeAll(tasks);
+            long playouts = 0;
+            for (TreeSearch<S> task : tasks) {
+                playouts += task.playouts;
+            }
+            return playouts;
+        }
+    }
+
+    /**
+     * Runs playouts on one tree until the deadline or a reset.
+     */
+    private static final class TreeSearch<S> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Tree<S> tree;
+        private final double exploration;
+        private final AtomicInteger currentGeneration;
+        private final int generation;
+        private final long deadline;
+        private final long maxPlayouts;
+        private long playouts;
+
+        TreeSearch(Tree<S> tree, double exploration, AtomicInteger currentGeneration, int generation,
+                   long deadline, long maxPlayouts) {
+            this.tree = tree;
+            this.exploration = exploration;
+            this.currentGeneration = currentGeneration;
+            this.generation = generation;
+            this.deadline = deadline;
+            this.maxPlayouts = maxPlayouts;
+        }
+
+        @Override
+        protected void compute() {
+            while (playouts < maxPlayouts) {
+                tree.playout(exploration);
+                playouts++;
+                if (playouts % CLOCK_CHECK_INTERVAL == 0
+                        && (System.nanoTime() - deadline >= 0 || currentGeneration.get() != generation)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * One worker's search tree and the position at its root.
+     */
+    private static final class Tree<S> {
+        private final GameRules<S> rules;
+        private final SplittableRandom random;
+        private final int[] moves;
+        private S rootState;
+        private Node root;
+        private int nodeCount;
+
+        Tree(GameRules<S> rules, S rootState, SplittableRandom random) {
+            this.rules = rules;
+            this.random = random;
+            this.moves = new int[rules.getMaxMoves()];
+            this.rootState = rootState;
+            this.root = new Node(null, -1, -1);
+            this.nodeCount = 1;
+        }
+
+        /**
+         * Selects down the tree by UCT, expands one new node, plays the game out
+         * at random and backs the result up to the root.
+         */
+        void playout(double exploration) {
+            S state = rules.copy(rootState);
+            Node node = root;
+            while (true) {
+                if (node.untried == null) {
+                    node.expand(rules, state, moves);
+                }
+                if (node.untriedCount > 0) {
+                    if (nodeCount < MAX_NODES_PER_TREE) {
+                        int index = random.nextInt(node.untriedCount);
+                        int move = node.untried[index];
+                        node.untried[index] = node.untried[--node.untriedCount];
+                        int player = rules.getCurrentPlayer(state);
+                        rules.apply(state, move);
+                        node = node.addChild(move, player);
+                        nodeCount++;
+                    }
+                    break;
+                }
+                if (node.childCount == 0) {
+                    break;
+                }
+                node = node.select(exploration);
+                rules.apply(state, node.move);
+            }
+
+            while (!rules.isTerminal(state)) {
+                rules.apply(state, rules.randomMove(state, random, moves));
+            }
+            int winner = rules.getWinner(state);
+
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                n.reward += winner < 0 ? 0.5 : winner == n.player ? 1 : 0;
+            }
+        }
+
+        void advance(int move) {
+            rules.apply(rootState, move);
+            Node next = null;
+            for (int i = 0; i < root.childCount; i++) {
+                if (root.children[i].move == move) {
+                    next = root.children[i];
+                    break;
+                }
+            }
+            if (next == null) {
+                root = new Node(null, -1, -1);
+                nodeCount = 1;
+            } else {
+                next.parent = null;
+                root = next;
+                // The node count is not recomputed; it only bounds growth
+                nodeCount = Math.min(nodeCount, next.visits + 1);
+            }
+        }
+    }
+
+    /**
+     * A position in a search tree, reached by playing move.
+     */
+    private static final class Node {
+        private Node parent;
+        private final int move;
+        // Player who played move, whose perspective reward is counted from
+        private final int player;
+        private Node[] children;
+        private int childCount;
+        // Moves without a child yet; null until the node is first expanded
+        private int[] untried;
+        private int untriedCount;
+        private int visits;
+        private double reward;
+
+        Node(Node parent, int move, int player) {
+            this.parent = parent;
+            this.move = move;
+            this.player = player;
+        }
+
+        <S> void expand(GameRules<S> rules, S state, int[] moves) {
+            int count = rules.isTerminal(state) ? 0 : rules.getLegalMoves(state, moves);
+            untried = new int[count];
+            System.arraycopy(moves, 0, untried, 0, count);
+            untriedCount = count;
+            children = new Node[count];
+        }
+
+        Node addChild(int move, int player) {
+            Node child = new Node(this, move, player);
+            children[childCount++] = child;
+            return child;
+        }
+
+        /**
+         * Picks the child with the highest upper confidence bound.
+         */
+        Node select(double exploration) {
+            double logVisits = Math.log(visits);
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < childCount; i++) {
+                Node child = children[i];
+                double score = child.reward / child.visits + exploration * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+    }
+}
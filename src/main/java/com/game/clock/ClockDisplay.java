@@ -0,0 +1,27 @@
+package com.game.clock;
+
+/**
+ * Receives clock updates from GameClockService, on the JavaFX thread.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public interface ClockDisplay {
+
+    /**
+     * Shows a player's remaining time. Called only when the player to move or
+     * the displayed whole second changes, not on every pulse.
+     *
+     * @param player The player whose turn is running
+     * @param remainingSeconds Remaining time rounded up to whole seconds (0 once time is up)
+     */
+    void update(int player, long remainingSeconds);
+
+    /**
+     * Called once when the running player's time is up.
+     * @param player The player out of time
+     */
+    default void timeUp(int player) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.game.clock;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Turn clock for a game, one time bank per player.
+ *
+ * Time is measured with the monotonic System.nanoTime rather than counted in
+ * ticks: the clock stores each player's remaining time and the start of the
+ * running turn, and remaining time is computed when asked for. A late or
+ * missed UI pulse therefore never drifts the clock, and nothing is allocated
+ * per tick. The display is driven by GameClockService.
+ *
+ * Methods are synchronized so a server sync arriving on the WebSocket thread
+ * can update the clock while the FX thread reads it.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class GameClock {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final TimeControl timeControl;
+    private final LongSupplier nanoTime;
+    private final long[] remainingNanos;
+    private int activePlayer = -1;
+    private long turnStart;
+    private boolean paused;
+    private long pausedAt;
+
+    /**
+     * Creates a stopped clock with every player at the starting time.
+     *
+     * @param playerCount The number of players
+     * @param timeControl The time rules
+     */
+    public GameClock(int playerCount, TimeControl timeControl) {
+        this(playerCount, timeControl, System::nanoTime);
+    }
+
+    /**
+     * Creates a clock reading time from a custom source, e.g. in tests.
+     */
+    GameClock(int playerCount, TimeControl timeControl, LongSupplier nanoTime) {
+        if (playerCount < 1) {
+            throw new IllegalArgumentException("A clock needs at least one player: " + playerCount);
+        }
+        this.timeControl = timeControl;
+        this.nanoTime = nanoTime;
+        this.remainingNanos = new long[playerCount];
+        Arrays.fill(remainingNanos, timeControl.getInitialMillis() * NANOS_PER_MILLI);
+    }
+
+    /**
+     * Ends the running turn, if any, and starts a player's turn.
+     * The player ending a turn is charged its time and gets the increment, unless
+     * the same player's turn is only restarted; with a per-move time control the
+     * new turn starts with the full time.
+     *
+     * @param player The player to move (may be the same player, to restart its turn)
+     */
+    public synchronized void startTurn(int player) {
+        long now = nanoTime.getAsLong();
+        if (activePlayer >= 0) {
+            long increment = player != activePlayer ? timeControl.getIncrementMillis() * NANOS_PER_MILLI : 0;
+            remainingNanos[activePlayer] = remainingAt(activePlayer, now) + increment;
+        }
+        if (timeControl.isPerMove()) {
+            remainingNanos[player] = timeControl.getInitialMillis() * NANOS_PER_MILLI;
+        }
+        activePlayer = player;
+        turnStart = now;
+        paused = false;
+    }
+
+    /**
+     * Stops the clock, charging the running turn without an increment (e.g. when the game ends).
+     */
+    public synchronized void stop() {
+        if (activePlayer >= 0) {
+            remainingNanos[activePlayer] = remainingAt(activePlayer, nanoTime.getAsLong());
+            activePlayer = -1;
+        }
+        paused = false;
+    }
+
+    /**
+     * Pauses the running turn.
+     */
+    public synchronized void pause() {
+        if (activePlayer >= 0 && !paused) {
+            paused = true;
+            pausedAt = nanoTime.getAsLong();
+        }
+    }
+
+    /**
+     * Resumes a paused turn; the paused time isn't charged.
+     */
+    public synchronized void resume() {
+        if (paused) {
+            turnStart += nanoTime.getAsLong() - pausedAt;
+            paused = false;
+        }
+    }
+
+    /**
+     * Resets every player to the starting time and stops the clock.
+     */
+    public synchronized void reset() {
+        Arrays.fill(remainingNanos, timeControl.getInitialMillis() * NANOS_PER_MILLI);
+        activePlayer = -1;
+        paused = false;
+    }
+
+    /**
+     * Replaces the clock state with the server's authoritative times.
+     * The running turn is treated as already past its delay.
+     *
+     * @param activePlayer The player whose turn is running on the server, or -1 if the clock is stopped
+     * @param remainingMillis Each player's remaining time when the server sent the update
+     * @param latencyMillis Estimated time since the server sent the update
+     */
+    public synchronized void sync(int activePlayer, long[] remainingMillis, long latencyMillis) {
+        int players = Math.min(remainingMillis.length, remainingNanos.length);
+        for (int i = 0; i < players; i++) {
+            remainingNanos[i] = remainingMillis[i] * NANOS_PER_MILLI;
+        }
+        this.activePlayer = activePlayer < remainingNanos.length ? activePlayer : -1;
+        this.turnStart = nanoTime.getAsLong() - (latencyMillis + timeControl.getDelayMillis()) * NANOS_PER_MILLI;
+        this.paused = false;
+    }
+
+    /**
+     * Gets a player's remaining time, counting the running turn.
+     * @param player The player index
+     * @return Remaining milliseconds (negative once the time is up)
+     */
+    public synchronized long getRemainingMillis(int player) {
+        return Math.floorDiv(remainingAt(player, nanoTime.getAsLong()), NANOS_PER_MILLI);
+    }
+
+    /**
+     * Checks if a player has run out of time.
+     * @param player The player index
+     * @return true if the player's remaining time is used up
+     */
+    public synchronized boolean isTimeUp(int player) {
+        return remainingAt(player, nanoTime.getAsLong()) <= 0;
+    }
+
+    /**
+     * Gets the player whose turn is running.
+     * @return The player index, or -1 if the clock is stopped
+     */
+    public synchronized int getActivePlayer() {
+        return activePlayer;
+    }
+
+    /**
+     * Checks if a turn is running and not paused.
+     * @return true if time is being used
+     */
+    public synchronized boolean isRunning() {
+        return activePlayer >= 0 && !paused;
+    }
+
+    /**
+     * Gets the time rules.
+     * @return The time control
+     */
+    public TimeControl getTimeControl() {
+        return timeControl;
+    }
+
+    /**
+     * Gets the number of players.
+     * @return The player count
+     */
+    public int getPlayerCount() {
+        return remainingNanos.length;
+    }
+
+    /**
+     * Gets a player's remaining nanoseconds at a time, charging the running
+     * turn beyond its delay.
+     */
+    private long remainingAt(int player, long now) {
+        if (player != activePlayer) {
+            return remainingNanos[player];
+        }
+        long elapsed = (paused ? pausedAt : now) - turnStart - timeControl.getDelayMillis() * NANOS_PER_MILLI;
+        return remainingNanos[player] - Math.max(0, elapsed);
+    }
+
+    @Override
+    public synchronized String toString() {
+        long now = nanoTime.getAsLong();
+        StringBuilder builder = new StringBuilder("GameClock[").append(timeControl);
+        for (int i = 0; i < remainingNanos.length; i++) {
+            builder.append(i == activePlayer ? ", *" : ", ").append(remainingAt(i, now) / NANOS_PER_MILLI).append("ms");
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,215 @@
+package com.game.clock;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.services.WebSocketService;
+import com.utils.error_handling.Logging;
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Drives every visible game clock from one shared JavaFX pulse.
+ *
+ * Instead of each game controller running its own Timeline, clocks are
+ * registered here with a ClockDisplay. A single AnimationTimer, running only
+ * while at least one clock is registered, reads each clock once per frame and
+ * calls its display only when the shown second or the player to move changes,
+ * so an idle frame costs a few reads and allocates nothing. Because clocks keep
+ * time with System.nanoTime, the pulse rate never affects their accuracy.
+ *
+ * Online games can follow the server's authoritative clock with
+ * attachServerSync(), which applies "clock_sync" WebSocket messages:
+ * {"type":"clock_sync","matchId":"M12345","active":0,"remaining":[29000,30000],"latency":40}
+ *
+ * register() and unregister() must be called on the JavaFX thread.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class GameClockService {
+
+    /** WebSocket message type carrying the server's clock state. */
+    public static final String SYNC_MESSAGE_TYPE = "clock_sync";
+
+    private static GameClockService instance;
+
+    // Replaced, never mutated, so the pulse iterates it without locking or allocating
+    private volatile Registration[] registrations = new Registration[0];
+    private AnimationTimer pulse;
+    private boolean pulseRunning;
+
+    private GameClockService() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     * @return The clock service
+     */
+    public static synchronized GameClockService getInstance() {
+        if (instance == null) {
+            instance = new GameClockService();
+        }
+        return instance;
+    }
+
+    /**
+     * A registered clock and what its display last showed.
+     */
+    private static final class Registration {
+        private final GameClock clock;
+        private final ClockDisplay display;
+        private int shownPlayer = -1;
+        private long shownSeconds = -1;
+        private boolean timeUpReported;
+
+        Registration(GameClock clock, ClockDisplay display) {
+            this.clock = clock;
+            this.display = display;
+        }
+    }
+
+    /**
+     * Starts showing a clock. The display is updated right away if a turn is running.
+     *
+     * @param clock The clock
+     * @param display The display to update
+     */
+    public void register(GameClock clock, ClockDisplay display) {
+        unregister(clock);
+        Registration[] current = registrations;
+        Registration[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = new Registration(clock, display);
+        registrations = updated;
+        refresh(updated[current.length]);
+        if (!pulseRunning) {
+            if (pulse == null) {
+                pulse = new AnimationTimer() {
+                    @Override
+                    public void handle(long now) {
+                        tick();
+                    }
+                };
+            }
+            pulse.start();
+            pulseRunning = true;
+            Logging.debug("⏱️ Game clock pulse started");
+        }
+    }
+
+    /**
+     * Stops showing a clock. The pulse stops when no clocks are left.
+     * @param clock The clock
+     */
+    public void unregister(GameClock clock) {
+        Registration[] current = registrations;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].clock == clock) {
+                Registration[] updated = new Registration[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                registrations = updated;
+                break;
+            }
+        }
+        if (registrations.length == 0 && pulseRunning) {
+            pulse.stop();
+            pulseRunning = false;
+            Logging.debug("⏱️ Game clock pulse stopped");
+        }
+    }
+
+    /**
+     * Gets the number of clocks being shown.
+     * @return The registered clock count
+     */
+    public int getRegisteredCount() {
+        return registrations.length;
+    }
+
+    /**
+     * Updates every display whose shown time changed. Runs once per frame.
+     */
+    private void tick() {
+        for (Registration registration : registrations) {
+            refresh(registration);
+        }
+    }
+
+    private static void refresh(Registration registration) {
+        GameClock clock = registration.clock;
+        int player = clock.getActivePlayer();
+        if (player < 0) {
+            return;
+        }
+        long remaining = clock.getRemainingMillis(player);
+        long seconds = remaining <= 0 ? 0 : (remaining + 999) / 1000;
+        if (player != registration.shownPlayer || seconds != registration.shownSeconds) {
+            registration.shownPlayer = player;
+            registration.shownSeconds = seconds;
+            registration.display.update(player, seconds);
+        }
+        if (remaining > 0) {
+            registration.timeUpReported = false;
+        } else if (!registration.timeUpReported && clock.isRunning()) {
+            registration.timeUpReported = true;
+            registration.display.timeUp(player);
+        }
+    }
+
+    /**
+     * Keeps a clock in step with the server's clock_sync messages for a match.
+     *
+     * @param webSocket The connected WebSocket service
+     * @param matchId The match whose messages to apply
+     * @param clock The clock to sync
+     * @return Detaches the listener; call it when the game closes
+     */
+    public Runnable attachServerSync(WebSocketService webSocket, String matchId, GameClock clock) {
+        Consumer<String> listener = message -> applyServerMessage(clock, matchId, message);
+        webSocket.addMessageListener(listener);
+        return () -> webSocket.removeMessageListener(listener);
+    }
+
+    /**
+     * Applies a clock_sync message to a clock if it is for the match.
+     *
+     * @param clock The clock to sync
+     * @param matchId The clock's match
+     * @param message The raw WebSocket message
+     * @return true if the message was a sync for the match and was applied
+     */
+    static boolean applyServerMessage(GameClock clock, String matchId, String message) {
+        // Cheap check first: most messages on the socket aren't clock updates
+        if (message == null || !message.contains(SYNC_MESSAGE_TYPE)) {
+            return false;
+        }
+        try {
+            JsonObject json = JsonParser.parseString(message).getAsJsonObject();
+            if (!SYNC_MESSAGE_TYPE.equals(getString(json, "type")) || !matchId.equals(getString(json, "matchId"))) {
+                return false;
+            }
+            JsonArray remaining = json.getAsJsonArray("remaining");
+            long[] remainingMillis = new long[remaining.size()];
+            for (int i = 0; i < remainingMillis.length; i++) {
+                remainingMillis[i] = remaining.get(i).getAsLong();
+            }
+            int active = json.has("active") ? json.get("active").getAsInt() : -1;
+            long latency = json.has("latency") ? json.get("latency").getAsLong() : 0;
+            clock.sync(active, remainingMillis, latency);
+            return true;
+        } catch (RuntimeException e) {
+            Logging.warning("⚠️ Ignoring malformed clock sync message: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static String getString(JsonObject json, String key) {
+        JsonElement element = json.get(key);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.game.clock;
+
+/**
+ * Time rules of a GameClock: the starting time per player, the increment added
+ * after each move (Fischer), the delay before a turn starts using time (simple
+ * delay), and whether the time is per move rather than per game.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class TimeControl {
+
+    private final long initialMillis;
+    private final long incrementMillis;
+    private final long delayMillis;
+    private final boolean perMove;
+
+    private TimeControl(long initialMillis, long incrementMillis, long delayMillis, boolean perMove) {
+        if (initialMillis <= 0 || incrementMillis < 0 || delayMillis < 0) {
+            throw new IllegalArgumentException("Invalid time control: " + initialMillis + "/" + incrementMillis
+                    + "/" + delayMillis);
+        }
+        this.initialMillis = initialMillis;
+        this.incrementMillis = incrementMillis;
+        this.delayMillis = delayMillis;
+        this.perMove = perMove;
+    }
+
+    /**
+     * Creates a move timer: every turn starts with the full time.
+     * @param moveMillis Time per move
+     * @return The time control
+     */
+    public static TimeControl perMove(long moveMillis) {
+        return new TimeControl(moveMillis, 0, 0, true);
+    }
+
+    /**
+     * Creates a game clock without increment or delay.
+     * @param initialMillis Time per player for the whole game
+     * @return The time control
+     */
+    public static TimeControl suddenDeath(long initialMillis) {
+        return new TimeControl(initialMillis, 0, 0, false);
+    }
+
+    /**
+     * Creates a chess clock that adds an increment after each move.
+     * @param initialMillis Starting time per player
+     * @param incrementMillis Time added after each move
+     * @return The time control
+     */
+    public static TimeControl fischer(long initialMillis, long incrementMillis) {
+        return new TimeControl(initialMillis, incrementMillis, 0, false);
+    }
+
+    /**
+     * Creates a chess clock whose turns only start using time after a delay.
+     * @param initialMillis Starting time per player
+     * @param delayMillis Free time at the start of each turn
+     * @return The time control
+     */
+    public static TimeControl delay(long initialMillis, long delayMillis) {
+        return new TimeControl(initialMillis, 0, delayMillis, false);
+    }
+
+    /**
+     * Gets the starting time per player (per move for a move timer).
+     * @return The starting time in milliseconds
+     */
+    public long getInitialMillis() {
+        return initialMillis;
+    }
+
+    /**
+     * Gets the time added after each move.
+     * @return The increment in milliseconds
+     */
+    public long getIncrementMillis() {
+        return incrementMillis;
+    }
+
+    /**
+     * Gets the free time at the start of each turn.
+     * @return The delay in milliseconds
+     */
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    /**
+     * Checks if every turn starts with the full time.
+     * @return true for a move timer, false for a game clock
+     */
+    public boolean isPerMove() {
+        return perMove;
+    }
+
+    @Override
+    public String toString() {
+        if (perMove) {
+            return initialMillis / 1000 + "s per move";
+        }
+        return initialMillis / 1000 + "s" + (incrementMillis > 0 ? " +" + incrementMillis / 1000.0 + "s" : "")
+                + (delayMillis > 0 ? " d" + delayMillis / 1000.0 + "s" : "");
+    }
+}
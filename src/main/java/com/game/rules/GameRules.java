@@ -0,0 +1,97 @@
+package com.game.rules;
+
+import java.util.SplittableRandom;
+
+/**
+ * Headless rules of a turn-based game, with no JavaFX dependency.
+ * Used by the AI engines to search the game and to play it out.
+ *
+ * States are mutable and owned by the caller: apply() changes the state it is
+ * given, and copy() must return a fully independent state. Moves are game-defined
+ * ints (e.g. a board cell index). Implementations must be thread-safe for
+ * distinct states, since searches run on several threads at once.
+ *
+ * @param <S> The game's state type
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public interface GameRules<S> {
+
+    /**
+     * Creates the state at the start of a game.
+     * @return The initial state
+     */
+    S initialState();
+
+    /**
+     * Copies a state.
+     * @param state The state to copy
+     * @return An independent copy
+     */
+    S copy(S state);
+
+    /**
+     * Gets the number of players.
+     * @return The player count
+     */
+    int getPlayerCount();
+
+    /**
+     * Gets the player to move.
+     * @param state The state
+     * @return The player index (0-based)
+     */
+    int getCurrentPlayer(S state);
+
+    /**
+     * Gets an upper bound on the number of legal moves in any state,
+     * used to size move buffers.
+     * @return The maximum number of legal moves
+     */
+    int getMaxMoves();
+
+    /**
+     * Lists the legal moves.
+     * @param state The state
+     * @param moves Buffer of at least getMaxMoves() entries to fill
+     * @return The number of legal moves written (0 if the game is over)
+     */
+    int getLegalMoves(S state, int[] moves);
+
+    /**
+     * Plays a legal move for the player to move.
+     * @param state The state to change
+     * @param move The move
+     */
+    void apply(S state, int move);
+
+    /**
+     * Checks if the game is over.
+     * @param state The state
+     * @return true if no more moves can be played
+     */
+    boolean isTerminal(S state);
+
+    /**
+     * Gets the winner of a finished game.
+     * @param state The state
+     * @return The winning player index, or -1 for a draw or an unfinished game
+     */
+    int getWinner(S state);
+
+    /**
+     * Picks a uniformly random legal move, for random playouts.
+     * Override when moves can be sampled faster than listing them all.
+     *
+     * @param state The state (not finished)
+     * @param random The random source
+     * @param moves Buffer of at least getMaxMoves() entries
+     * @return The move
+     */
+    default int randomMove(S state, SplittableRandom random, int[] moves) {
+        int count = getLegalMoves(state, moves);
+        return moves[random.nextInt(count)];
+    }
+}
@@ -0,0 +1,310 @@
+package com.game.rules;
+
+import com.utils.concurrent.ExecutorRegistry;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays games headlessly through GameRules, spread over all cores, for AI
+ * training data, fuzzing module rules and benchmarking their engines.
+ *
+ * The game range is split recursively into chunks on a fork-join pool; each
+ * chunk tallies its own results and the tallies are merged on the way back up,
+ * so workers share nothing while playing. Game i is always played with a random
+ * stream seeded from (seed, i), so any failing game can be replayed alone with
+ * playGame().
+ *
+ * With validation on, every game is checked as it is played: a move the policy
+ * picks must be legal, a position that isn't over must have legal moves and the
+ * player to move must be in range. Validation lists the legal moves every ply,
+ * so throughput runs turn it off. Games must always end within maxPlies, and
+ * exceptions thrown by the rules count as failures; the first failure is kept
+ * for the result.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class SelfPlaySimulator {
+
+    /** Default limit on moves per game before it is reported as not ending. */
+    public static final int DEFAULT_MAX_PLIES = 100_000;
+
+    // Games per leaf task
+    private static final int CHUNK_SIZE = 1024;
+
+    private SelfPlaySimulator() {
+    }
+
+    /**
+     * Chooses moves for every player in self-play.
+     * @param <S> The game's state type
+     */
+    @FunctionalInterface
+    public interface MovePolicy<S> {
+
+        /**
+         * Chooses a move for the player to move.
+         *
+         * @param rules The game rules
+         * @param state The position (not finished; do not modify)
+         * @param random The game's random stream
+         * @param moves Buffer of at least rules.getMaxMoves() entries
+         * @return The move
+         */
+        int chooseMove(GameRules<S> rules, S state, SplittableRandom random, int[] moves);
+    }
+
+    /**
+     * Gets the policy playing uniformly random legal moves.
+     * @param <S> The game's state type
+     * @return The random policy
+     */
+    public static <S> MovePolicy<S> randomPolicy() {
+        return GameRules::randomMove;
+    }
+
+    /**
+     * Results of a simulation run.
+     *
+     * @param games Games played
+     * @param wins Wins per player index
+     * @param draws Games without a winner
+     * @param plies Moves played in all games
+     * @param failures Games that broke a rules invariant or threw
+     * @param firstFailure Description of the lowest-numbered failing game, or null
+     * @param elapsedNanos Wall time of the run
+     */
+    public record SimulationResult(long games, long[] wins, long draws, long plies, long failures,
+                                   String firstFailure, long elapsedNanos) {
+
+        /**
+         * Gets the simulation speed.
+         * @return Games per second
+         */
+        public double getGamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Gets the average game length.
+         * @return Moves per game
+         */
+        public double getAverageLength() {
+            return games == 0 ? 0 : (double) plies / games;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d games (%.0f/s), wins %s, draws %d, %.1f moves/game, %d failures%s",
+                    games, getGamesPerSecond(), Arrays.toString(wins), draws, getAverageLength(), failures,
+                    firstFailure == null ? "" : " - first: " + firstFailure);
+        }
+    }
+
+    /**
+     * Plays random games on the shared CPU pool, validating every move.
+     *
+     * @param rules The game rules
+     * @param games The number of games
+     * @param seed Seed of the run
+     * @return The results
+     */
+    public static <S> SimulationResult run(GameRules<S> rules, long games, long seed) {
+        return run(rules, randomPolicy(), games, seed, ExecutorRegistry.getInstance().cpuPool(), DEFAULT_MAX_PLIES, true);
+    }
+
+    /**
+     * Plays games on a pool.
+     *
+     * @param rules The game rules
+     * @param policy The policy choosing every player's moves
+     * @param games The number of games
+     * @param seed Seed of the run
+     * @param pool The pool to play on
+     * @param maxPlies Moves per game before it is reported as not ending
+     * @param validate Whether to check every move against the legal moves
+     * @return The results
+     */
+    public static <S> SimulationResult run(GameRules<S> rules, MovePolicy<S> policy, long games, long seed,
+                                           ForkJoinPool pool, int maxPlies, boolean validate) {
+        long start = System.nanoTime();
+        Tally tally = pool.invoke(new SimulationTask<>(rules, policy, seed, 0, games, maxPlies, validate));
+        return new SimulationResult(games, tally.wins, tally.draws, tally.plies, tally.failures,
+                tally.firstFailure, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays one game of a run, e.g. to replay a failure.
+     *
+     * @param rules The game rules
+     * @param policy The policy choosing every player's moves
+     * @param seed Seed of the run
+     * @param gameIndex Index of the game in the run
+     * @return The final state
+     */
+    public static <S> S playGame(GameRules<S> rules, MovePolicy<S> policy, long seed, long gameIndex) {
+        S state = rules.initialState();
+        SplittableRandom random = new SplittableRandom(gameSeed(seed, gameIndex));
+        int[] moves = new int[rules.getMaxMoves()];
+        while (!rules.isTerminal(state)) {
+            rules.apply(state, policy.chooseMove(rules, state, random, moves));
+        }
+        return state;
+    }
+
+    /**
+     * Gets the seed of game i of a run: the run seed mixed with the index
+     * (the SplittableRandom finalizer), so nearby games get unrelated streams.
+     */
+    private static long gameSeed(long seed, long gameIndex) {
+        long z = seed + gameIndex * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Results of a range of games, merged up the task tree.
+     */
+    private static final class Tally {
+        private final long[] wins;
+        private long draws;
+        private long plies;
+        private long failures;
+        private long firstFailureIndex = Long.MAX_VALUE;
+        private String firstFailure;
+
+        Tally(int players) {
+            this.wins = new long[players];
+        }
+
+        void fail(long gameIndex, String message) {
+            failures++;
+            if (gameIndex < firstFailureIndex) {
+                firstFailureIndex = gameIndex;
+                firstFailure = "game " + gameIndex + ": " + message;
+            }
+        }
+
+        void merge(Tally other) {
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+            }
+            draws += other.draws;
+            plies += other.plies;
+            failures += other.failures;
+            if (other.firstFailureIndex < firstFailureIndex) {
+                firstFailureIndex = other.firstFailureIndex;
+                firstFailure = other.firstFailure;
+            }
+        }
+    }
+
+    /**
+     * Plays games [from, to), splitting the range in half until it is one chunk.
+     */
+    private static final class SimulationTask<S> extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final GameRules<S> rules;
+        private final MovePolicy<S> policy;
+        private final long seed;
+        private final long from;
+        private final long to;
+        private final int maxPlies;
+        private final boolean validate;
+
+        SimulationTask(GameRules<S> rules, MovePolicy<S> policy, long seed, long from, long to, int maxPlies,
+                       boolean validate) {
+            this.rules = rules;
+            this.policy = policy;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+            this.maxPlies = maxPlies;
+            this.validate = validate;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from > CHUNK_SIZE) {
+                long middle = (from + to) >>> 1;
+                SimulationTask<S> left = new SimulationTask<>(rules, policy, seed, from, middle, maxPlies, validate);
+                left.fork();
+                Tally tally = new SimulationTask<>(rules, policy, seed, middle, to, maxPlies, validate).compute();
+                tally.merge(left.join());
+                return tally;
+            }
+
+            Tally tally = new Tally(rules.getPlayerCount());
+            int[] moves = new int[rules.getMaxMoves()];
+            int[] legal = new int[rules.getMaxMoves()];
+            for (long game = from; game < to; game++) {
+                try {
+                    play(game, tally, moves, legal);
+                } catch (RuntimeException e) {
+                    tally.fail(game, e.toString());
+                }
+            }
+            return tally;
+        }
+
+        private void play(long game, Tally tally, int[] moves, int[] legal) {
+            S state = rules.initialState();
+            SplittableRandom random = new SplittableRandom(gameSeed(seed, game));
+            int plies = 0;
+            while (!rules.isTerminal(state)) {
+                if (validate && !checkPosition(game, plies, state, tally, legal)) {
+                    return;
+                }
+                int move = policy.chooseMove(rules, state, random, moves);
+                if (validate && !contains(legal, rules.getLegalMoves(state, legal), move)) {
+                    tally.fail(game, "illegal move " + move + " at ply " + plies);
+                    return;
+                }
+                rules.apply(state, move);
+                if (++plies > maxPlies) {
+                    tally.fail(game, "no result after " + maxPlies + " moves");
+                    return;
+                }
+            }
+
+            tally.plies += plies;
+            int winner = rules.getWinner(state);
+            if (winner < 0) {
+                tally.draws++;
+            } else {
+                tally.wins[winner]++;
+            }
+        }
+
+        /**
+         * Checks an unfinished position has a valid player to move and legal moves.
+         */
+        private boolean checkPosition(long game, int plies, S state, Tally tally, int[] legal) {
+            int player = rules.getCurrentPlayer(state);
+            if (player < 0 || player >= rules.getPlayerCount()) {
+                tally.fail(game, "player to move out of range: " + player + " at ply " + plies);
+                return false;
+            }
+            if (rules.getLegalMoves(state, legal) == 0) {
+                tally.fail(game, "no legal moves in an unfinished game at ply " + plies);
+                return false;
+            }
+            return true;
+        }
+
+        private static boolean contains(int[] moves, int count, int move) {
+            for (int i = 0; i < count; i++) {
+                if (moves[i] == move) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
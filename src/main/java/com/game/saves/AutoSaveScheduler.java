@@ -0,0 +1,209 @@
+package com.game.saves;
+
+import com.config.UserSettingsConfig;
+import com.game.GameState;
+import com.services.LocalStorageService;
+import com.utils.concurrent.ExecutorRegistry;
+import com.utils.error_handling.Logging;
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Periodically autosaves the running game to the SaveGameStore.
+ *
+ * On each tick a snapshot of the game state is taken on the JavaFX thread (the
+ * game mutates its state there). Copying, encoding, hashing and the disk write
+ * then run on a background thread, so an autosave costs the FX thread only the
+ * snapshot, which is O(1) for games that return GameState.snapshot().
+ *
+ * Write amplification is capped three ways: a snapshot whose encoded content is
+ * unchanged since the last autosave of that game is skipped, a tick is skipped
+ * while the previous autosave is still in flight, and only the newest
+ * MAX_AUTOSAVES_PER_GAME autosaves of each game are kept.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class AutoSaveScheduler {
+
+    /** Preference key for the auto-save enabled setting. */
+    public static final String AUTO_SAVE_ENABLED_KEY = "autoSaveEnabled";
+
+    /** Preference key for the auto-save interval setting, in minutes. */
+    public static final String AUTO_SAVE_INTERVAL_KEY = "autoSaveInterval";
+
+    private static final int MAX_AUTOSAVES_PER_GAME = 3;
+
+    private final SaveGameStore store;
+    private final Supplier<GameState> snapshotSource;
+    private final ScheduledExecutorService executor = ExecutorRegistry.newSerialScheduler("autosave");
+
+    private final AtomicBoolean autosaveInFlight = new AtomicBoolean(false);
+    // Content digest of the last autosave per game; only touched on the autosave thread
+    private final Map<String, byte[]> lastSavedDigests = new HashMap<>();
+    private ScheduledFuture<?> scheduledTask;
+
+    /**
+     * Creates an autosave scheduler.
+     *
+     * @param store The store to write autosaves to
+     * @param snapshotSource Supplies a snapshot of the running game's state that won't change
+     *                       afterwards, or null if no game is running
+     */
+    public AutoSaveScheduler(SaveGameStore store, Supplier<GameState> snapshotSource) {
+        this.store = store;
+        this.snapshotSource = snapshotSource;
+    }
+
+    /**
+     * Starts autosaving using the user's auto-save settings.
+     * Does nothing if auto-save is disabled.
+     */
+    public void start() {
+        LocalStorageService storage = LocalStorageService.getInstance();
+        boolean enabled = storage.getPreference(AUTO_SAVE_ENABLED_KEY, UserSettingsConfig.DEFAULT_AUTO_SAVE_ENABLED);
+        int intervalMinutes = storage.getPreference(AUTO_SAVE_INTERVAL_KEY, UserSettingsConfig.DEFAULT_AUTO_SAVE_INTERVAL);
+
+        if (!enabled || intervalMinutes <= 0) {
+            Logging.info("ℹ️ Auto-save disabled");
+            stop();
+            return;
+        }
+        start(TimeUnit.MINUTES.toMillis(intervalMinutes));
+    }
+
+    /**
+     * Starts autosaving at a fixed interval, replacing any running schedule.
+     *
+     * @param intervalMillis Time between autosaves in milliseconds
+     */
+    public synchronized void start(long intervalMillis) {
+        stop();
+        scheduledTask = executor.scheduleAtFixedRate(this::autosave, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        Logging.info("💾 Auto-save scheduled every " + intervalMillis + " ms");
+    }
+
+    /**
+     * Stops autosaving. An autosave already in flight still completes.
+     */
+    public synchronized void stop() {
+        if (scheduledTask != null) {
+            scheduledTask.cancel(false);
+            scheduledTask = null;
+        }
+    }
+
+    /**
+     * Stops autosaving and the autosave thread.
+     * Called during application shutdown.
+     */
+    public void shutdown() {
+        stop();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks if autosaving is scheduled.
+     *
+     * @return true if autosaves are scheduled
+     */
+    public synchronized boolean isRunning() {
+        return scheduledTask != null;
+    }
+
+    /**
+     * Captures and writes an autosave now, unless one is already in flight.
+     */
+    public void autosave() {
+        if (!autosaveInFlight.compareAndSet(false, true)) {
+            Logging.debug("Skipping autosave: previous autosave still in progress");
+            return;
+        }
+
+        try {
+            Platform.runLater(this::captureSnapshot);
+        } catch (IllegalStateException e) {
+            // JavaFX isn't running (headless use) - capture on this thread
+            captureSnapshot();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the running game's state and hands it to the autosave thread.
+     */
+    private void captureSnapshot() {
+        try {
+            GameState state = snapshotSource.get();
+            if (state == null) {
+                autosaveInFlight.set(false);
+                return;
+            }
+
+            executor.execute(() -> writeSnapshot(state));
+
+        } catch (Exception e) {
+            autosaveInFlight.set(false);
+            Logging.error("❌ Failed to capture autosave snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encodes and writes a captured snapshot unless its content is unchanged.
+     */
+    private void writeSnapshot(GameState state) {
+        try {
+            Map<String, Object> options = state.getGameOptions() != null
+                    ? state.getGameOptions().getAllOptions() : Collections.emptyMap();
+            Map<String, Object> stateData = state.getAllStateData();
+            byte[] payload = SaveGameStore.encodeStateData(state.getGameId(), stateData);
+            byte[] digest = digest(state, options, payload);
+
+            if (Arrays.equals(digest, lastSavedDigests.get(state.getGameId()))) {
+                Logging.debug("Skipping autosave: game state unchanged");
+                return;
+            }
+
+            GameState saved = store.append(state, options, stateData, payload, true);
+            if (saved != null) {
+                lastSavedDigests.put(state.getGameId(), digest);
+                store.pruneAutosaves(state.getGameId(), MAX_AUTOSAVES_PER_GAME);
+                Logging.info("💾 Autosaved game: " + state.getGameName());
+            }
+        } catch (Exception e) {
+            Logging.error("❌ Autosave failed: " + e.getMessage(), e);
+        } finally {
+            autosaveInFlight.set(false);
+        }
+    }
+
+    /**
+     * Digests the content of a snapshot: game, mode, players, options and state data.
+     */
+    private static byte[] digest(GameState state, Map<String, Object> options, byte[] payload)
+            throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(String.valueOf(state.getGameMode()).getBytes());
+        digest.update((byte) state.getPlayerCount());
+        digest.update(SaveGameStore.encodeStateData(null, options));
+        digest.update(payload);
+        return digest.digest();
+    }
+}
@@ -0,0 +1,706 @@
+package com.game.saves;
+
+import com.game.GameOptions;
+import com.game.GameState;
+import com.game.enums.GameMode;
+import com.game.state.StateCodec;
+import com.game.state.StateSchema;
+import com.utils.concurrent.ExecutorRegistry;
+import com.utils.error_handling.Logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Durable store for saved games, backed by an append-only log file.
+ *
+ * Every save, autosave and delete appends one record:
+ * - 16-byte prefix: header length, payload length, header CRC32, payload CRC32
+ * - header: record type and save metadata (game, time, mode, players, options)
+ * - payload: the GameState state data (saves only), as a StateCodec snapshot when
+ *   the game has a registered StateSchema and as a name/value map otherwise
+ *
+ * On open the log is scanned header by header (payloads are skipped) to build an
+ * in-memory index by save ID and by game, with the latest save per game kept
+ * separately for O(1) lookup. A torn record at the end of the log is truncated.
+ * Saves returned by the store load their state data lazily from the log.
+ * When deleted records make up more than half of the log, it is compacted by
+ * copying the live records to a new file and atomically replacing the log.
+ * saveAsync() encodes and writes on a background writer thread, so callers on
+ * the JavaFX thread only pay for taking a GameState snapshot.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SaveGameStore {
+
+    // ==================== CONSTANTS ====================
+
+    private static final String LOG_FILE = "saves.log";
+    private static final String COMPACT_SUFFIX = ".compact";
+
+    private static final int RECORD_PREFIX_SIZE = 16;
+    private static final byte RECORD_SAVE = 1;
+    private static final byte RECORD_DELETE = 2;
+    private static final byte RECORD_AUTOSAVE = 3;
+    private static final int INDEX_READ_SIZE = 4096;
+
+    // Don't bother compacting until this much of the log is dead records
+    private static final long COMPACTION_MIN_GARBAGE_BYTES = 1024 * 1024;
+
+    // ==================== INSTANCE FIELDS ====================
+
+    private final Path directory;
+    private final Path logPath;
+    private FileChannel channel;
+    private long logSize;
+    private long garbageBytes;
+    private long nextSaveId = 1;
+
+    // Index of live saves
+    private final Map<Long, SaveEntry> entriesById = new HashMap<>();
+    private final Map<String, NavigableMap<Long, SaveEntry>> entriesByGame = new HashMap<>();
+    private final Map<String, SaveEntry> latestByGame = new HashMap<>();
+
+    // Runs saveAsync() writes in submission order
+    private final ExecutorService writer = ExecutorRegistry.newSerialScheduler("save-writer");
+
+    /**
+     * Creates a store in the given directory. The log is opened on first use.
+     *
+     * @param directory The directory holding the save log
+     */
+    public SaveGameStore(Path directory) {
+        this.directory = directory;
+        this.logPath = directory.resolve(LOG_FILE);
+    }
+
+    // ==================== PUBLIC API ====================
+
+    /**
+     * Appends a save of a game state.
+     *
+     * @param gameState The game state to save
+     * @return The saved game state carrying its save ID, or null if the write failed
+     */
+    public GameState save(GameState gameState) {
+        // Copy the state before taking the store lock; a lazily loaded state
+        // takes its own lock and then the store's to read its data
+        Map<String, Object> options = gameState.getGameOptions() != null
+                ? gameState.getGameOptions().getAllOptions() : Collections.emptyMap();
+        Map<String, Object> stateData = gameState.getAllStateData();
+
+        try {
+            return append(gameState, options, stateData, encodeStateData(gameState.getGameId(), stateData), false);
+        } catch (IOException e) {
+            Logging.error("❌ Failed to encode saved game: " + gameState.getGameId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Appends a save of a game state on the writer thread.
+     * The state must not change afterwards; pass a GameState.snapshot() of a
+     * state the game keeps mutating.
+     *
+     * @param gameState The game state to save
+     * @return Future completing with the saved game state, or null if the write failed
+     */
+    public CompletableFuture<GameState> saveAsync(GameState gameState) {
+        try {
+            return CompletableFuture.supplyAsync(() -> save(gameState), writer);
+        } catch (RejectedExecutionException e) {
+            Logging.warning("⚠️ Save store is shut down, saving on the calling thread");
+            return CompletableFuture.completedFuture(save(gameState));
+        }
+    }
+
+    /**
+     * Appends a save whose options and state data were already copied and encoded.
+     */
+    synchronized GameState append(GameState gameState, Map<String, Object> options, Map<String, Object> stateData,
+                                  byte[] payloadArray, boolean autosave) {
+        try {
+            ensureOpen();
+
+            long saveId = nextSaveId++;
+            ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(256);
+            DataOutputStream header = new DataOutputStream(headerBytes);
+            header.writeByte(autosave ? RECORD_AUTOSAVE : RECORD_SAVE);
+            header.writeLong(saveId);
+            StateDataCodec.writeString(header, gameState.getGameId());
+            StateDataCodec.writeString(header, gameState.getGameName());
+            header.writeLong(gameState.getSaveTime().toEpochSecond(ZoneOffset.UTC));
+            header.writeInt(gameState.getSaveTime().getNano());
+            StateDataCodec.writeString(header, gameState.getGameMode() != null ? gameState.getGameMode().name() : "");
+            header.writeInt(gameState.getPlayerCount());
+            StateDataCodec.writeMap(header, options);
+
+            byte[] headerArray = headerBytes.toByteArray();
+            long offset = appendRecord(headerArray, payloadArray);
+
+            SaveEntry entry = new SaveEntry(saveId, gameState.getGameId(), gameState.getGameName(),
+                    gameState.getSaveTime(), gameState.getGameMode(), gameState.getPlayerCount(), options,
+                    autosave, offset, headerArray.length, payloadArray.length, crc(payloadArray));
+            addToIndex(entry);
+
+            Logging.debug("Saved game " + entry.gameId + " as save " + saveId);
+            // The caller's data is already in memory, so the returned state doesn't need to reload it
+            return entry.toGameState(() -> stateData);
+
+        } catch (IOException e) {
+            Logging.error("❌ Failed to write saved game: " + gameState.getGameId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Encodes state data into the payload format of the log.
+     * Uses the game's state schema when one is registered.
+     */
+    static byte[] encodeStateData(String gameId, Map<String, Object> stateData) throws IOException {
+        StateSchema schema = StateSchema.forGame(gameId);
+        if (schema != null) {
+            return StateCodec.encode(schema, stateData);
+        }
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(1024);
+        StateDataCodec.writeMap(new DataOutputStream(payloadBytes), stateData);
+        return payloadBytes.toByteArray();
+    }
+
+    /**
+     * Deletes all but the newest autosaves of a game. Manual saves are kept.
+     *
+     * @param gameId The game ID
+     * @param keep Number of autosaves to keep
+     * @return Number of autosaves deleted
+     */
+    public synchronized int pruneAutosaves(String gameId, int keep) {
+        if (!openQuietly()) {
+            return 0;
+        }
+        NavigableMap<Long, SaveEntry> entries = entriesByGame.get(gameId);
+        if (entries == null) {
+            return 0;
+        }
+
+        List<Long> expired = new ArrayList<>();
+        int autosaves = 0;
+        for (SaveEntry entry : entries.descendingMap().values()) {
+            if (entry.autosave && ++autosaves > keep) {
+                expired.add(entry.saveId);
+            }
+        }
+        for (long saveId : expired) {
+            delete(saveId);
+        }
+        return expired.size();
+    }
+
+    /**
+     * Gets the saves of a game, newest first. State data is not loaded.
+     *
+     * @param gameId The game ID
+     * @return The saves of the game
+     */
+    public synchronized List<GameState> getSaves(String gameId) {
+        if (!openQuietly()) {
+            return new ArrayList<>();
+        }
+        NavigableMap<Long, SaveEntry> entries = entriesByGame.get(gameId);
+        List<GameState> saves = new ArrayList<>(entries != null ? entries.size() : 0);
+        if (entries != null) {
+            for (SaveEntry entry : entries.descendingMap().values()) {
+                saves.add(toLazyGameState(entry));
+            }
+        }
+        return saves;
+    }
+
+    /**
+     * Gets all saves, newest first. State data is not loaded.
+     *
+     * @return All saves in the store
+     */
+    public synchronized List<GameState> getAllSaves() {
+        if (!openQuietly()) {
+            return new ArrayList<>();
+        }
+        List<SaveEntry> entries = new ArrayList<>(entriesById.values());
+        entries.sort(Comparator.comparingLong((SaveEntry entry) -> entry.saveId).reversed());
+
+        List<GameState> saves = new ArrayList<>(entries.size());
+        for (SaveEntry entry : entries) {
+            saves.add(toLazyGameState(entry));
+        }
+        return saves;
+    }
+
+    /**
+     * Gets the most recent save of a game.
+     *
+     * @param gameId The game ID
+     * @return The latest save, or null if the game has none
+     */
+    public synchronized GameState getLatestSave(String gameId) {
+        if (!openQuietly()) {
+            return null;
+        }
+        SaveEntry entry = latestByGame.get(gameId);
+        return entry != null ? toLazyGameState(entry) : null;
+    }
+
+    /**
+     * Gets a save by ID.
+     *
+     * @param saveId The save ID
+     * @return The save, or null if not found
+     */
+    public synchronized GameState getSave(long saveId) {
+        if (!openQuietly()) {
+            return null;
+        }
+        SaveEntry entry = entriesById.get(saveId);
+        return entry != null ? toLazyGameState(entry) : null;
+    }
+
+    /**
+     * Deletes a save by appending a delete record.
+     *
+     * @param saveId The save ID
+     * @return true if the save existed and was deleted
+     */
+    public synchronized boolean delete(long saveId) {
+        try {
+            ensureOpen();
+
+            SaveEntry entry = entriesById.get(saveId);
+            if (entry == null) {
+                return false;
+            }
+
+            ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(16);
+            DataOutputStream header = new DataOutputStream(headerBytes);
+            header.writeByte(RECORD_DELETE);
+            header.writeLong(saveId);
+            byte[] headerArray = headerBytes.toByteArray();
+            appendRecord(headerArray, new byte[0]);
+
+            removeFromIndex(entry);
+            garbageBytes += entry.recordSize() + RECORD_PREFIX_SIZE + headerArray.length;
+            compactIfNeeded();
+            return true;
+
+        } catch (IOException e) {
+            Logging.error("❌ Failed to delete saved game: " + saveId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of live saves.
+     *
+     * @return Number of saves
+     */
+    public synchronized int getSaveCount() {
+        return openQuietly() ? entriesById.size() : 0;
+    }
+
+    /**
+     * Rewrites the log with only the live records.
+     *
+     * @throws IOException if the compacted log could not be written
+     */
+    public synchronized void compact() throws IOException {
+        ensureOpen();
+
+        Path compactPath = directory.resolve(LOG_FILE + COMPACT_SUFFIX);
+        List<SaveEntry> liveEntries = new ArrayList<>(entriesById.values());
+        liveEntries.sort(Comparator.comparingLong(entry -> entry.saveId));
+
+        long[] newOffsets = new long[liveEntries.size()];
+        long position = 0;
+        try (FileChannel out = FileChannel.open(compactPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < liveEntries.size(); i++) {
+                SaveEntry entry = liveEntries.get(i);
+                transferFully(entry.recordOffset, entry.recordSize(), out);
+                newOffsets[i] = position;
+                position += entry.recordSize();
+            }
+            out.force(true);
+        }
+
+        channel.close();
+        try {
+            try {
+                Files.move(compactPath, logPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(compactPath, logPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            // Reopen whichever log is in place; if the move failed the old one and its offsets still hold
+            try {
+                channel = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                // Rebuild the index from disk on next use
+                close();
+                throw e;
+            }
+        }
+
+        // Only update offsets once the new log is in place
+        for (int i = 0; i < liveEntries.size(); i++) {
+            liveEntries.get(i).recordOffset = newOffsets[i];
+        }
+        Logging.info("🗜️ Compacted save log: " + logSize + " -> " + position + " bytes");
+        logSize = position;
+        garbageBytes = 0;
+    }
+
+    /**
+     * Finishes pending background saves, stops the writer thread and closes the log.
+     * Called during application shutdown.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                Logging.warning("⚠️ Pending saves did not finish before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        close();
+    }
+
+    /**
+     * Closes the save log. It is reopened on next use.
+     */
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Logging.warning("Failed to close save log", e);
+        }
+        channel = null;
+        entriesById.clear();
+        entriesByGame.clear();
+        latestByGame.clear();
+    }
+
+    // ==================== LOG I/O ====================
+
+    /**
+     * Opens the log and builds the index if not done yet.
+     */
+    private void ensureOpen() throws IOException {
+        if (channel != null) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        garbageBytes = 0;
+        loadIndex();
+        Logging.info("📂 Opened save log: " + entriesById.size() + " saves, " + logSize + " bytes");
+        compactIfNeeded();
+    }
+
+    /**
+     * Opens the log for read-only operations, logging failures.
+     */
+    private boolean openQuietly() {
+        try {
+            ensureOpen();
+            return true;
+        } catch (IOException e) {
+            Logging.error("❌ Failed to open save log: " + logPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * Scans the record headers of the log, skipping payloads, and truncates a torn tail.
+     */
+    private void loadIndex() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        // Sized to hold the prefix and a typical header, so most records take one read
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_READ_SIZE);
+
+        while (position + RECORD_PREFIX_SIZE <= size) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), size - position));
+            readFully(buffer, position);
+            int headerLength = buffer.getInt(0);
+            int payloadLength = buffer.getInt(4);
+            int headerCrc = buffer.getInt(8);
+            int payloadCrc = buffer.getInt(12);
+
+            if (headerLength <= 0 || payloadLength < 0
+                    || position + RECORD_PREFIX_SIZE + headerLength + payloadLength > size) {
+                break;
+            }
+
+            byte[] header = new byte[headerLength];
+            if (RECORD_PREFIX_SIZE + headerLength <= buffer.limit()) {
+                buffer.get(RECORD_PREFIX_SIZE, header);
+            } else {
+                readFully(ByteBuffer.wrap(header), position + RECORD_PREFIX_SIZE);
+            }
+            if (crc(header) != headerCrc) {
+                break;
+            }
+
+            applyRecord(header, position, payloadLength, payloadCrc);
+            position += RECORD_PREFIX_SIZE + headerLength + payloadLength;
+        }
+
+        if (position < size) {
+            Logging.warning("⚠️ Save log has a damaged tail, truncating " + (size - position) + " bytes");
+            channel.truncate(position);
+        }
+        logSize = position;
+    }
+
+    /**
+     * Applies one record from the log to the index.
+     */
+    private void applyRecord(byte[] headerArray, long offset, int payloadLength, int payloadCrc) throws IOException {
+        DataInputStream header = new DataInputStream(new ByteArrayInputStream(headerArray));
+        byte type = header.readByte();
+        long saveId = header.readLong();
+        nextSaveId = Math.max(nextSaveId, saveId + 1);
+
+        if (type == RECORD_DELETE) {
+            SaveEntry entry = entriesById.get(saveId);
+            if (entry != null) {
+                removeFromIndex(entry);
+                garbageBytes += entry.recordSize();
+            }
+            garbageBytes += RECORD_PREFIX_SIZE + headerArray.length;
+            return;
+        }
+
+        String gameId = StateDataCodec.readString(header);
+        String gameName = StateDataCodec.readString(header);
+        LocalDateTime saveTime = LocalDateTime.ofEpochSecond(header.readLong(), header.readInt(), ZoneOffset.UTC);
+        String gameModeName = StateDataCodec.readString(header);
+        int playerCount = header.readInt();
+        Map<String, Object> options = StateDataCodec.readMap(header);
+
+        GameMode gameMode = parseGameMode(gameModeName, saveId);
+        addToIndex(new SaveEntry(saveId, gameId, gameName, saveTime, gameMode, playerCount, options,
+                type == RECORD_AUTOSAVE, offset, headerArray.length, payloadLength, payloadCrc));
+    }
+
+    /**
+     * Maps a stored game mode name back to the enum.
+     * Modes renamed or removed since the save was written become null instead of
+     * failing the whole log.
+     */
+    private static GameMode parseGameMode(String name, long saveId) {
+        if (name.isEmpty()) {
+            return null;
+        }
+        try {
+            return GameMode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            Logging.warning("⚠️ Unknown game mode '" + name + "' in save " + saveId);
+            return null;
+        }
+    }
+
+    /**
+     * Appends a record to the end of the log and forces it to disk.
+     *
+     * @return The offset of the record
+     */
+    private long appendRecord(byte[] header, byte[] payload) throws IOException {
+        ByteBuffer prefix = ByteBuffer.allocate(RECORD_PREFIX_SIZE);
+        prefix.putInt(header.length).putInt(payload.length).putInt(crc(header)).putInt(crc(payload)).flip();
+        ByteBuffer[] buffers = {prefix, ByteBuffer.wrap(header), ByteBuffer.wrap(payload)};
+
+        long offset = logSize;
+        long recordSize = RECORD_PREFIX_SIZE + header.length + payload.length;
+        long written = 0;
+        channel.position(offset);
+        while (written < recordSize) {
+            written += channel.write(buffers);
+        }
+        channel.force(false);
+
+        logSize = offset + recordSize;
+        return offset;
+    }
+
+    /**
+     * Reads and decodes the state data payload of a save.
+     */
+    private synchronized Map<String, Object> loadStateData(long saveId) {
+        SaveEntry entry = entriesById.get(saveId);
+        if (entry == null || channel == null) {
+            Logging.warning("⚠️ Saved game no longer available: " + saveId);
+            return null;
+        }
+
+        try {
+            ByteBuffer payload = ByteBuffer.allocate(entry.payloadLength);
+            readFully(payload, entry.recordOffset + RECORD_PREFIX_SIZE + entry.headerLength);
+            if (crc(payload.array()) != entry.payloadCrc) {
+                Logging.error("❌ Saved game data is corrupted: " + saveId);
+                return null;
+            }
+            if (StateCodec.isFrame(payload.array())) {
+                return StateCodec.decode(StateSchema.forGame(entry.gameId), payload.array());
+            }
+            return StateDataCodec.readMap(new DataInputStream(new ByteArrayInputStream(payload.array())));
+        } catch (IOException | IllegalArgumentException e) {
+            Logging.error("❌ Failed to read saved game data: " + saveId, e);
+            return null;
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (garbageBytes >= COMPACTION_MIN_GARBAGE_BYTES && garbageBytes * 2 > logSize) {
+            compact();
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of save log");
+            }
+        }
+    }
+
+    private void transferFully(long position, long count, FileChannel out) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            transferred += channel.transferTo(position + transferred, count - transferred, out);
+        }
+    }
+
+    private static int crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    // ==================== INDEX ====================
+
+    private void addToIndex(SaveEntry entry) {
+        entriesById.put(entry.saveId, entry);
+        entriesByGame.computeIfAbsent(entry.gameId, key -> new TreeMap<>()).put(entry.saveId, entry);
+
+        SaveEntry latest = latestByGame.get(entry.gameId);
+        if (latest == null || entry.saveId > latest.saveId) {
+            latestByGame.put(entry.gameId, entry);
+        }
+    }
+
+    private void removeFromIndex(SaveEntry entry) {
+        entriesById.remove(entry.saveId);
+
+        NavigableMap<Long, SaveEntry> gameEntries = entriesByGame.get(entry.gameId);
+        if (gameEntries == null) {
+            return;
+        }
+        gameEntries.remove(entry.saveId);
+        if (gameEntries.isEmpty()) {
+            entriesByGame.remove(entry.gameId);
+            latestByGame.remove(entry.gameId);
+        } else if (latestByGame.get(entry.gameId) == entry) {
+            latestByGame.put(entry.gameId, gameEntries.lastEntry().getValue());
+        }
+    }
+
+    private GameState toLazyGameState(SaveEntry entry) {
+        long saveId = entry.saveId;
+        return entry.toGameState(() -> loadStateData(saveId));
+    }
+
+    // ==================== INDEX ENTRY ====================
+
+    /**
+     * Metadata of a live save and the location of its record in the log.
+     */
+    private static final class SaveEntry {
+
+        final long saveId;
+        final String gameId;
+        final String gameName;
+        final LocalDateTime saveTime;
+        final GameMode gameMode;
+        final int playerCount;
+        final Map<String, Object> options;
+        final boolean autosave;
+        final int headerLength;
+        final int payloadLength;
+        final int payloadCrc;
+        long recordOffset;
+
+        SaveEntry(long saveId, String gameId, String gameName, LocalDateTime saveTime, GameMode gameMode,
+                  int playerCount, Map<String, Object> options, boolean autosave, long recordOffset,
+                  int headerLength, int payloadLength, int payloadCrc) {
+            this.saveId = saveId;
+            this.gameId = gameId;
+            this.gameName = gameName;
+            this.saveTime = saveTime;
+            this.gameMode = gameMode;
+            this.playerCount = playerCount;
+            this.options = options;
+            this.autosave = autosave;
+            this.recordOffset = recordOffset;
+            this.headerLength = headerLength;
+            this.payloadLength = payloadLength;
+            this.payloadCrc = payloadCrc;
+        }
+
+        long recordSize() {
+            return RECORD_PREFIX_SIZE + headerLength + payloadLength;
+        }
+
+        GameState toGameState(Supplier<Map<String, Object>> stateDataLoader) {
+            GameOptions gameOptions = new GameOptions();
+            for (Map.Entry<String, Object> option : options.entrySet()) {
+                gameOptions.setOption(option.getKey(), option.getValue());
+            }
+            return new GameState(saveId, gameId, gameName, saveTime, gameMode, playerCount,
+                    gameOptions, autosave, stateDataLoader);
+        }
+    }
+}
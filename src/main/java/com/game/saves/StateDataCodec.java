@@ -0,0 +1,64 @@
+package com.game.saves;
+
+import com.game.state.StateCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary encoding of the key/value maps held by GameState and GameOptions.
+ * Values are written with StateCodec's type tags so Integers come back as
+ * Integers (a plain JSON round trip would turn them into Doubles and break the
+ * typed getters). Used for options in save headers and for the state data of
+ * games without a registered StateSchema.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+final class StateDataCodec {
+
+    private StateDataCodec() {
+    }
+
+    /**
+     * Writes a map as an entry count followed by key/tag/value triples.
+     */
+    static void writeMap(DataOutput out, Map<String, Object> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            StateCodec.writeString(out, entry.getKey());
+            StateCodec.writeValue(out, entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a map written by writeMap.
+     */
+    static Map<String, Object> readMap(DataInput in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new HashMap<>(Math.max(4, size * 4 / 3 + 1));
+        for (int i = 0; i < size; i++) {
+            String key = StateCodec.readString(in);
+            map.put(key, StateCodec.readValue(in));
+        }
+        return map;
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string (not limited to 64 KB like writeUTF).
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        StateCodec.writeString(out, value);
+    }
+
+    /**
+     * Reads a string written by writeString.
+     */
+    static String readString(DataInput in) throws IOException {
+        return StateCodec.readString(in);
+    }
+}
@@ -0,0 +1,29 @@
+package com.game.session;
+
+import com.game.rules.GameRules;
+
+/**
+ * Game rules that can also rebuild state from a session log, used by
+ * SessionReplayer. Builds on the game's headless GameRules: the initial state
+ * and checkpoint copies come from initialState() and copy(), and events only
+ * add the mapping from the game's action codes to changes of that state.
+ * Implementations must be deterministic: applying the same events to the same
+ * state always gives the same result.
+ *
+ * @param <S> The game's state type
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public interface ReplayRules<S> extends GameRules<S> {
+
+    /**
+     * Applies one session log event to a state.
+     * @param state The state before the event (may be modified in place)
+     * @param event The event
+     * @return The state after the event, e.g. a new initialState() when the event starts a new game
+     * @throws IllegalArgumentException if the event can't be applied to the state
+     */
+    S applyEvent(S state, SessionEvent event);
+}
@@ -0,0 +1,86 @@
+package com.game.session;
+
+/**
+ * One recorded action of a game session: a move, a forfeit, a restart, etc.
+ * The meaning of the action code, player index and data value is defined by
+ * the game; e.g. TicTacToe records a move as its board position in data.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class SessionEvent {
+
+    private static final byte[] NO_PAYLOAD = new byte[0];
+
+    private final int index;
+    private final long timeMillis;
+    private final int action;
+    private final int player;
+    private final long data;
+    private final byte[] payload;
+
+    SessionEvent(int index, long timeMillis, int action, int player, long data, byte[] payload) {
+        this.index = index;
+        this.timeMillis = timeMillis;
+        this.action = action;
+        this.player = player;
+        this.data = data;
+        this.payload = payload != null ? payload : NO_PAYLOAD;
+    }
+
+    /**
+     * Gets the position of the event in its session log.
+     * @return The event index, starting at 0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets when the event happened.
+     * @return Milliseconds since the session started
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * Gets the game-defined action code.
+     * @return The action code
+     */
+    public int getAction() {
+        return action;
+    }
+
+    /**
+     * Gets the player who acted.
+     * @return The player index, or -1 for system events
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the game-defined action value (e.g. a board position).
+     * @return The data value
+     */
+    public long getData() {
+        return data;
+    }
+
+    /**
+     * Gets extra action data for actions that don't fit in a long.
+     * @return The payload, empty if there is none (do not modify)
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionEvent{#" + index + " +" + timeMillis + "ms action=" + action
+                + " player=" + player + " data=" + data
+                + (payload.length > 0 ? " payload=" + payload.length + "B" : "") + "}";
+    }
+}
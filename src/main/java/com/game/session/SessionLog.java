@@ -0,0 +1,458 @@
+package com.game.session;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of the actions of a game session.
+ *
+ * Events are packed into a single byte array as varints: time since the
+ * previous event, action, player, data and payload length, followed by the
+ * payload. A TicTacToe move takes about 6 bytes. Every INDEX_INTERVAL events the
+ * byte offset is indexed, so reading event i decodes at most INDEX_INTERVAL
+ * events.
+ *
+ * Because the log only grows, snapshot() is O(1): the snapshot shares the
+ * buffer and reads only the prefix that existed when it was taken. Spectators
+ * receive the log incrementally with encodeSince() / appendEncoded() instead
+ * of full state snapshots; SessionReplayer rebuilds game state from it.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SessionLog {
+
+    /** GameState key under which saves carry the session log. */
+    public static final String STATE_KEY = "sessionLog";
+
+    /** Number of events between indexed offsets. */
+    public static final int INDEX_INTERVAL = 64;
+
+    private static final byte FORMAT_MAGIC = 'L';
+    private static final byte FORMAT_VERSION = 1;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final long startEpochMillis;
+    private final boolean readOnly;
+    private long startNanos;
+    private byte[] buffer;
+    private int length;
+    private int count;
+    private long lastTimeMillis;
+    // Byte offset and time of events 0, INDEX_INTERVAL, 2 * INDEX_INTERVAL, ...
+    private int[] indexOffsets;
+    private long[] indexTimes;
+
+    /**
+     * Creates an empty log for a session starting now.
+     */
+    public SessionLog() {
+        this(System.currentTimeMillis(), false);
+        this.buffer = new byte[INITIAL_CAPACITY];
+        this.indexOffsets = new int[4];
+        this.indexTimes = new long[4];
+    }
+
+    private SessionLog(long startEpochMillis, boolean readOnly) {
+        this.startEpochMillis = startEpochMillis;
+        this.readOnly = readOnly;
+        this.startNanos = System.nanoTime();
+    }
+
+    // ==================== WRITING ====================
+
+    /**
+     * Records an action that happened now.
+     *
+     * @param action The game-defined action code (not negative)
+     * @param player The player index, or -1 for system events
+     * @param data The game-defined action value
+     * @return The index of the recorded event
+     */
+    public int append(int action, int player, long data) {
+        return append(action, player, data, null);
+    }
+
+    /**
+     * Records an action with extra data that happened now.
+     *
+     * @param action The game-defined action code (not negative)
+     * @param player The player index, or -1 for system events
+     * @param data The game-defined action value
+     * @param payload Extra action data, or null
+     * @return The index of the recorded event
+     */
+    public synchronized int append(int action, int player, long data, byte[] payload) {
+        if (readOnly) {
+            throw new IllegalStateException("Session log snapshots are read-only");
+        }
+        if (action < 0) {
+            throw new IllegalArgumentException("Action codes must not be negative: " + action);
+        }
+
+        long timeMillis = Math.max(lastTimeMillis, (System.nanoTime() - startNanos) / 1_000_000);
+        int payloadLength = payload != null ? payload.length : 0;
+        ensureCapacity(length + 4 * 10 + 5 + payloadLength);
+
+        if (count % INDEX_INTERVAL == 0) {
+            addIndex(count / INDEX_INTERVAL, length, lastTimeMillis);
+        }
+        writeVarLong(timeMillis - lastTimeMillis);
+        writeVarLong(action);
+        writeVarLong(zigZag(player));
+        writeVarLong(zigZag(data));
+        writeVarLong(payloadLength);
+        if (payloadLength > 0) {
+            System.arraycopy(payload, 0, buffer, length, payloadLength);
+            length += payloadLength;
+        }
+
+        lastTimeMillis = timeMillis;
+        return count++;
+    }
+
+    /**
+     * Appends events encoded by encodeSince() on another copy of this log.
+     *
+     * @param chunk The encoded events
+     * @throws IllegalArgumentException if the chunk doesn't continue this log
+     */
+    public synchronized void appendEncoded(byte[] chunk) {
+        if (readOnly) {
+            throw new IllegalStateException("Session log snapshots are read-only");
+        }
+        Reader reader = new Reader(chunk, 0);
+        int fromIndex = (int) reader.readVarLong();
+        int events = (int) reader.readVarLong();
+        if (fromIndex != count) {
+            throw new IllegalArgumentException("Chunk starts at event " + fromIndex + " but the log has " + count);
+        }
+        appendRaw(chunk, reader.position, chunk.length - reader.position, events);
+    }
+
+    // ==================== READING ====================
+
+    /**
+     * Gets the number of recorded events.
+     * @return The event count
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Checks if no events were recorded.
+     * @return true if the log is empty
+     */
+    public synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Gets when the session started.
+     * @return The start time in epoch milliseconds
+     */
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * Gets the encoded size of the events.
+     * @return The size in bytes
+     */
+    public synchronized int getEncodedSize() {
+        return length;
+    }
+
+    /**
+     * Gets a recorded event.
+     *
+     * @param index The event index
+     * @return The event
+     */
+    public SessionEvent get(int index) {
+        SessionEvent[] result = new SessionEvent[1];
+        forEach(index, index + 1, event -> result[0] = event);
+        return result[0];
+    }
+
+    /**
+     * Decodes events in order.
+     *
+     * @param fromIndex The first event index (inclusive)
+     * @param toIndex The last event index (exclusive)
+     * @param action Called with each event
+     */
+    public void forEach(int fromIndex, int toIndex, Consumer<SessionEvent> action) {
+        byte[] data;
+        int start;
+        long time;
+        int first;
+        synchronized (this) {
+            if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("Events " + fromIndex + "-" + toIndex + " of " + count);
+            }
+            if (fromIndex == toIndex) {
+                return;
+            }
+            // The prefix up to count never changes, so it can be decoded outside the lock
+            int slot = fromIndex / INDEX_INTERVAL;
+            data = buffer;
+            start = indexOffsets[slot];
+            time = indexTimes[slot];
+            first = slot * INDEX_INTERVAL;
+        }
+
+        Reader reader = new Reader(data, start);
+        for (int index = first; index < toIndex; index++) {
+            time += reader.readVarLong();
+            int eventAction = (int) reader.readVarLong();
+            int player = (int) unZigZag(reader.readVarLong());
+            long value = unZigZag(reader.readVarLong());
+            int payloadLength = (int) reader.readVarLong();
+            byte[] payload = null;
+            if (payloadLength > 0) {
+                payload = Arrays.copyOfRange(data, reader.position, reader.position + payloadLength);
+            }
+            reader.position += payloadLength;
+            if (index >= fromIndex) {
+                action.accept(new SessionEvent(index, time, eventAction, player, value, payload));
+            }
+        }
+    }
+
+    /**
+     * Decodes events from an index to the end of the log.
+     *
+     * @param fromIndex The first event index
+     * @return The events
+     */
+    public List<SessionEvent> getEvents(int fromIndex) {
+        List<SessionEvent> events = new ArrayList<>();
+        forEach(fromIndex, size(), events::add);
+        return events;
+    }
+
+    // ==================== SNAPSHOTS AND ENCODING ====================
+
+    /**
+     * Creates a read-only view of the events recorded so far, in O(1).
+     * @return The snapshot
+     */
+    public synchronized SessionLog snapshot() {
+        SessionLog snapshot = new SessionLog(startEpochMillis, true);
+        snapshot.buffer = buffer;
+        snapshot.length = length;
+        snapshot.count = count;
+        snapshot.lastTimeMillis = lastTimeMillis;
+        snapshot.indexOffsets = indexOffsets;
+        snapshot.indexTimes = indexTimes;
+        return snapshot;
+    }
+
+    /**
+     * Encodes the events from an index onwards for appendEncoded().
+     * Spectators call this with the number of events they already have.
+     *
+     * @param fromIndex The first event to include
+     * @return The encoded events
+     */
+    public synchronized byte[] encodeSince(int fromIndex) {
+        if (fromIndex < 0 || fromIndex > count) {
+            throw new IndexOutOfBoundsException("Event " + fromIndex + " of " + count);
+        }
+        int offset = offsetOf(fromIndex);
+        Writer header = new Writer(20);
+        header.writeVarLong(fromIndex);
+        header.writeVarLong(count - fromIndex);
+
+        byte[] chunk = Arrays.copyOf(header.bytes, header.length + length - offset);
+        System.arraycopy(buffer, offset, chunk, header.length, length - offset);
+        return chunk;
+    }
+
+    /**
+     * Encodes the whole log, e.g. to store it in a save.
+     * @return The encoded log
+     */
+    public synchronized byte[] toByteArray() {
+        Writer header = new Writer(32);
+        header.bytes[0] = FORMAT_MAGIC;
+        header.bytes[1] = FORMAT_VERSION;
+        header.length = 2;
+        header.writeVarLong(startEpochMillis);
+        header.writeVarLong(count);
+
+        byte[] encoded = Arrays.copyOf(header.bytes, header.length + length);
+        System.arraycopy(buffer, 0, encoded, header.length, length);
+        return encoded;
+    }
+
+    /**
+     * Decodes a log written by toByteArray(). Events appended afterwards continue
+     * the session's timeline from its last event.
+     *
+     * @param encoded The encoded log
+     * @return The log
+     * @throws IllegalArgumentException if the data isn't an encoded session log
+     */
+    public static SessionLog fromBytes(byte[] encoded) {
+        if (encoded == null || encoded.length < 2 || encoded[0] != FORMAT_MAGIC || encoded[1] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not an encoded session log");
+        }
+        Reader reader = new Reader(encoded, 2);
+        long startEpochMillis = reader.readVarLong();
+        int events = (int) reader.readVarLong();
+
+        SessionLog log = new SessionLog(startEpochMillis, false);
+        log.buffer = new byte[Math.max(INITIAL_CAPACITY, encoded.length - reader.position)];
+        log.indexOffsets = new int[4];
+        log.indexTimes = new long[4];
+        log.appendRaw(encoded, reader.position, encoded.length - reader.position, events);
+        log.startNanos = System.nanoTime() - log.lastTimeMillis * 1_000_000;
+        return log;
+    }
+
+    // ==================== INTERNALS ====================
+
+    /**
+     * Appends already encoded events, validating them and extending the index.
+     */
+    private void appendRaw(byte[] source, int offset, int byteLength, int events) {
+        Reader reader = new Reader(source, offset);
+        int end = offset + byteLength;
+        long time = lastTimeMillis;
+        int[] eventOffsets = new int[events];
+        long[] eventTimes = new long[events];
+        for (int i = 0; i < events; i++) {
+            eventOffsets[i] = length + reader.position - offset;
+            eventTimes[i] = time;
+            time += reader.readVarLong();
+            reader.readVarLong();
+            reader.readVarLong();
+            reader.readVarLong();
+            reader.skipPayload();
+            if (reader.position > end) {
+                throw new IllegalArgumentException("Truncated session log data");
+            }
+        }
+        if (reader.position != end) {
+            throw new IllegalArgumentException("Unexpected data after session log events");
+        }
+
+        ensureCapacity(length + byteLength);
+        System.arraycopy(source, offset, buffer, length, byteLength);
+        for (int i = 0; i < events; i++) {
+            if ((count + i) % INDEX_INTERVAL == 0) {
+                addIndex((count + i) / INDEX_INTERVAL, eventOffsets[i], eventTimes[i]);
+            }
+        }
+        length += byteLength;
+        count += events;
+        lastTimeMillis = time;
+    }
+
+    private int offsetOf(int index) {
+        if (index == count) {
+            return length;
+        }
+        int slot = index / INDEX_INTERVAL;
+        Reader reader = new Reader(buffer, indexOffsets[slot]);
+        for (int i = slot * INDEX_INTERVAL; i < index; i++) {
+            reader.readVarLong();
+            reader.readVarLong();
+            reader.readVarLong();
+            reader.readVarLong();
+            reader.skipPayload();
+        }
+        return reader.position;
+    }
+
+    private void addIndex(int slot, int offset, long time) {
+        // Replace rather than grow in place: snapshots may share the arrays
+        if (slot >= indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, indexOffsets.length * 2);
+            indexTimes = Arrays.copyOf(indexTimes, indexTimes.length * 2);
+        }
+        indexOffsets[slot] = offset;
+        indexTimes[slot] = time;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Varint reader over a byte array.
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= data.length) {
+                    throw new IllegalArgumentException("Truncated session log data");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in session log data");
+        }
+
+        void skipPayload() {
+            int payloadLength = (int) readVarLong();
+            position += payloadLength;
+        }
+    }
+
+    /**
+     * Varint writer for small headers.
+     */
+    private static final class Writer {
+        private final byte[] bytes;
+        private int length;
+
+        Writer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.game.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rebuilds game state from a session log by fast-forwarding through its events.
+ *
+ * The state after every checkpointInterval events is kept as a checkpoint, so
+ * seeking to any event applies at most checkpointInterval events to a copy of
+ * the nearest earlier checkpoint. Checkpoints are created while fast-forwarding
+ * and stay valid as the log grows, since the log is append-only.
+ *
+ * Not thread-safe; use one replayer per viewer.
+ *
+ * @param <S> The game's state type
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SessionReplayer<S> {
+
+    /** Default number of events between checkpoints. */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 256;
+
+    private final SessionLog log;
+    private final ReplayRules<S> rules;
+    private final int checkpointInterval;
+    // checkpoints.get(k) is the state after k * checkpointInterval events
+    private final List<S> checkpoints = new ArrayList<>();
+
+    /**
+     * Creates a replayer with the default checkpoint interval.
+     *
+     * @param log The session log to replay
+     * @param rules The game's replay rules
+     */
+    public SessionReplayer(SessionLog log, ReplayRules<S> rules) {
+        this(log, rules, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a replayer.
+     *
+     * @param log The session log to replay
+     * @param rules The game's replay rules
+     * @param checkpointInterval Number of events between checkpoints (at least 1)
+     */
+    public SessionReplayer(SessionLog log, ReplayRules<S> rules, int checkpointInterval) {
+        this.log = log;
+        this.rules = rules;
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+        this.checkpoints.add(rules.copy(rules.initialState()));
+    }
+
+    /**
+     * Gets the state after the first eventCount events.
+     *
+     * @param eventCount Number of events to apply, from 0 to log.size()
+     * @return A new state the caller may modify
+     */
+    public S stateAt(int eventCount) {
+        if (eventCount < 0 || eventCount > log.size()) {
+            throw new IndexOutOfBoundsException("Event " + eventCount + " of " + log.size());
+        }
+
+        int checkpoint = Math.min(eventCount / checkpointInterval, checkpoints.size() - 1);
+        int from = checkpoint * checkpointInterval;
+        @SuppressWarnings("unchecked")
+        S[] state = (S[]) new Object[]{rules.copy(checkpoints.get(checkpoint))};
+
+        log.forEach(from, eventCount, event -> {
+            state[0] = rules.applyEvent(state[0], event);
+            int applied = event.getIndex() + 1;
+            if (applied % checkpointInterval == 0 && applied / checkpointInterval == checkpoints.size()) {
+                checkpoints.add(rules.copy(state[0]));
+            }
+        });
+        return state[0];
+    }
+
+    /**
+     * Gets the state after all events recorded so far.
+     * @return A new state the caller may modify
+     */
+    public S latestState() {
+        return stateAt(log.size());
+    }
+
+    /**
+     * Gets the number of checkpoints kept, including the initial state.
+     * @return The checkpoint count
+     */
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+}
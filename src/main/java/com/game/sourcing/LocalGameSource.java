@@ -7,6 +7,10 @@ import com.game.GameState;
 import com.game.enums.GameDifficulty;
 import com.game.enums.GameMode;
 import com.utils.error_handling.Logging;
+import com.utils.error_handling.SafeExecute;
+import com.utils.error_handling.SafeExecute.BatchResult;
+import com.utils.metrics.LatencyHistogram;
+import com.utils.metrics.MetricsRegistry;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
@@ -20,6 +24,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,6 +40,9 @@ import java.util.stream.Stream;
 public class LocalGameSource implements GameSource {
     
     private static final String SOURCE_NAME = "Local Games";
+    private static final LatencyHistogram DISCOVER_TIME = MetricsRegistry.getInstance().histogram("modules.discover");
+    private static final LatencyHistogram MODULE_LOAD_TIME = MetricsRegistry.getInstance().histogram("modules.load");
+    private static final int MAX_PARALLEL_LOADS = 4;
     
     @Override
     public String getName() {
@@ -52,6 +60,7 @@ public class LocalGameSource implements GameSource {
         Logging.info("🔍 Discovering games from modules directory...");
         
         List<GameModule> games = new ArrayList<>();
+        long startTime = System.nanoTime();
         
         try {
             File modulesDir = new File(ModuleConfig.MODULES_DIR);
@@ -66,8 +75,21 @@ public class LocalGameSource implements GameSource {
                 return games;
             }
             
+            // Modules load independently and mostly wait on disk, so load them in parallel
+            List<Callable<GameModule>> loads = new ArrayList<>();
             for (File moduleDir : moduleDirs) {
-                GameModule game = loadGameModule(moduleDir);
+                loads.add(() -> {
+                    long moduleStartTime = System.nanoTime();
+                    try {
+                        return loadGameModule(moduleDir);
+                    } finally {
+                        MODULE_LOAD_TIME.recordSince(moduleStartTime);
+                    }
+                });
+            }
+            BatchResult<GameModule> loaded = SafeExecute.executeBatchParallel(loads,
+                    "Failed to load game modules", MAX_PARALLEL_LOADS);
+            for (GameModule game : loaded.getSuccessfulResults()) {
                 if (game != null) {
                     games.add(game);
                 }
@@ -77,6 +99,8 @@ public class LocalGameSource implements GameSource {
             
         } catch (Exception e) {
             Logging.error("❌ Error discovering games from modules: " + e.getMessage(), e);
+        } finally {
+            DISCOVER_TIME.recordSince(startTime);
         }
         
         return games;
@@ -0,0 +1,374 @@
+package com.game.state;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Key/value storage for GameState and GameOptions that keeps primitives unboxed.
+ *
+ * Key names are interned once into global IDs. Each store holds parallel arrays
+ * with one slot per key it contains: the key ID, a kind byte, a long for
+ * int/long/double/boolean values and an Object for everything else. A store's
+ * size depends only on its own keys, not on how many names were ever interned.
+ * Slots are found by scanning the store's key IDs, which for the handful of
+ * keys a state holds is cheaper than hashing and allocates nothing; the
+ * String-keyed methods add one lookup in the intern table. Read methods accept
+ * the -1 returned by findKeyId() and treat it as absent.
+ *
+ * snapshot() is O(1): the snapshot shares the arrays, and whichever side
+ * writes next copies them first (copy-on-write). A snapshot can therefore be
+ * read on another thread while the original keeps changing. Object values are
+ * shared, not copied, so mutable values (e.g. arrays) must be replaced rather
+ * than modified in place once a snapshot may exist.
+ *
+ * Not thread-safe; guarded by the owning object.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class SlotStore {
+
+    // Slot kinds
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte OBJECT = 5;
+
+    // Global key intern table
+    private static final Map<String, Integer> KEY_IDS = new ConcurrentHashMap<>();
+    private static volatile String[] keyNames = new String[64];
+    private static int nextKeyId;
+
+    private static final int[] NO_KEYS = new int[0];
+    private static final byte[] NO_KINDS = new byte[0];
+    private static final long[] NO_BITS = new long[0];
+    private static final Object[] NO_REFS = new Object[0];
+
+    // Slots 0 to size - 1 are in use, in no particular order
+    private int[] keys = NO_KEYS;
+    private byte[] kinds = NO_KINDS;
+    private long[] bits = NO_BITS;
+    private Object[] refs = NO_REFS;
+    private int size;
+    // Arrays may be shared with a snapshot and must be copied before writing
+    private boolean shared;
+
+    // ==================== KEY IDS ====================
+
+    /**
+     * Gets the interned ID of a key name, assigning one on first use.
+     * Resolve IDs once (e.g. in a static field) to skip the lookup on hot paths.
+     *
+     * @param name The key name
+     * @return The key ID
+     */
+    public static int keyId(String name) {
+        Integer id = KEY_IDS.get(name);
+        return id != null ? id : internKey(name);
+    }
+
+    /**
+     * Gets the ID of a key name without interning it.
+     * Lookups of names that were never stored shouldn't grow the intern table.
+     *
+     * @param name The key name
+     * @return The key ID, or -1 if the name was never interned
+     */
+    public static int findKeyId(String name) {
+        Integer id = KEY_IDS.get(name);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Gets the name of an interned key ID.
+     *
+     * @param id The key ID
+     * @return The key name
+     */
+    public static String keyName(int id) {
+        return keyNames[id];
+    }
+
+    private static synchronized int internKey(String name) {
+        Integer existing = KEY_IDS.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = nextKeyId++;
+        String[] names = keyNames;
+        if (id >= names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        names[id] = name;
+        keyNames = names;
+        KEY_IDS.put(name, id);
+        return id;
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Stores a value, unboxing Integer, Long, Double and Boolean.
+     */
+    public void put(int id, Object value) {
+        if (value instanceof Integer) {
+            putBits(id, INT, (Integer) value);
+        } else if (value instanceof Long) {
+            putBits(id, LONG, (Long) value);
+        } else if (value instanceof Double) {
+            putBits(id, DOUBLE, Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Boolean) {
+            putBits(id, BOOLEAN, (Boolean) value ? 1 : 0);
+        } else {
+            int slot = slotForWrite(id);
+            kinds[slot] = OBJECT;
+            refs[slot] = value;
+        }
+    }
+
+    public void putInt(int id, int value) {
+        putBits(id, INT, value);
+    }
+
+    public void putLong(int id, long value) {
+        putBits(id, LONG, value);
+    }
+
+    public void putDouble(int id, double value) {
+        putBits(id, DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    public void putBoolean(int id, boolean value) {
+        putBits(id, BOOLEAN, value ? 1 : 0);
+    }
+
+    private void putBits(int id, byte kind, long value) {
+        int slot = slotForWrite(id);
+        kinds[slot] = kind;
+        bits[slot] = value;
+        refs[slot] = null;
+    }
+
+    /**
+     * Removes a value.
+     */
+    public void remove(int id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return;
+        }
+        ensureWritable();
+        // Move the last slot into the gap
+        int last = --size;
+        keys[slot] = keys[last];
+        kinds[slot] = kinds[last];
+        bits[slot] = bits[last];
+        refs[slot] = refs[last];
+        refs[last] = null;
+    }
+
+    /**
+     * Removes all values, keeping the allocated slots.
+     */
+    public void clear() {
+        if (shared) {
+            keys = NO_KEYS;
+            kinds = NO_KINDS;
+            bits = NO_BITS;
+            refs = NO_REFS;
+            shared = false;
+        } else {
+            Arrays.fill(refs, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Stores all entries of a map.
+     */
+    public void putAll(Map<String, Object> values) {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            put(keyId(entry.getKey()), entry.getValue());
+        }
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * Gets a value, boxing primitives.
+     *
+     * @return The value, or null if absent
+     */
+    public Object get(int id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return null;
+        }
+        switch (kinds[slot]) {
+            case INT:
+                return (int) bits[slot];
+            case LONG:
+                return bits[slot];
+            case DOUBLE:
+                return Double.longBitsToDouble(bits[slot]);
+            case BOOLEAN:
+                return bits[slot] != 0;
+            default:
+                return refs[slot];
+        }
+    }
+
+    /**
+     * Gets an int value without boxing.
+     *
+     * @return The value, or defaultValue if absent or not an int
+     */
+    public int getInt(int id, int defaultValue) {
+        int slot = slotOf(id, INT);
+        return slot >= 0 ? (int) bits[slot] : defaultValue;
+    }
+
+    public long getLong(int id, long defaultValue) {
+        int slot = slotOf(id, LONG);
+        return slot >= 0 ? bits[slot] : defaultValue;
+    }
+
+    public double getDouble(int id, double defaultValue) {
+        int slot = slotOf(id, DOUBLE);
+        return slot >= 0 ? Double.longBitsToDouble(bits[slot]) : defaultValue;
+    }
+
+    public boolean getBoolean(int id, boolean defaultValue) {
+        int slot = slotOf(id, BOOLEAN);
+        return slot >= 0 ? bits[slot] != 0 : defaultValue;
+    }
+
+    public boolean isInt(int id) {
+        return slotOf(id, INT) >= 0;
+    }
+
+    public boolean isBoolean(int id) {
+        return slotOf(id, BOOLEAN) >= 0;
+    }
+
+    /**
+     * Checks if a value is stored. Negative IDs (from findKeyId) are never present.
+     */
+    public boolean containsKey(int id) {
+        return slotOf(id) >= 0;
+    }
+
+    /**
+     * Finds the slot holding a key.
+     * @return The slot, or -1 if the key isn't stored
+     */
+    private int slotOf(int id) {
+        int[] ids = keys;
+        for (int slot = 0; slot < size; slot++) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the slot holding a key with a value of the given kind.
+     * @return The slot, or -1 if the key isn't stored or holds another kind
+     */
+    private int slotOf(int id, byte kind) {
+        int slot = slotOf(id);
+        return slot >= 0 && kinds[slot] == kind ? slot : -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the values into a new map keyed by name.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>(Math.max(4, size * 4 / 3 + 1));
+        String[] names = keyNames;
+        for (int slot = 0; slot < size; slot++) {
+            map.put(names[keys[slot]], get(keys[slot]));
+        }
+        return map;
+    }
+
+    /**
+     * Creates a snapshot of this store in O(1) by sharing its arrays.
+     * The first write to either store afterwards copies the arrays.
+     */
+    public SlotStore snapshot() {
+        SlotStore snapshot = new SlotStore();
+        snapshot.keys = keys;
+        snapshot.kinds = kinds;
+        snapshot.bits = bits;
+        snapshot.refs = refs;
+        snapshot.size = size;
+        snapshot.shared = true;
+        shared = true;
+        return snapshot;
+    }
+
+    /**
+     * Creates an independent copy of this store.
+     */
+    public SlotStore copy() {
+        SlotStore copy = new SlotStore();
+        copy.keys = keys.clone();
+        copy.kinds = kinds.clone();
+        copy.bits = bits.clone();
+        copy.refs = refs.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Finds the slot for a key, adding one if the key isn't stored yet, and makes
+     * the arrays private to this store.
+     */
+    private int slotForWrite(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Invalid state key ID: " + id);
+        }
+        ensureWritable();
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size == keys.length) {
+            int capacity = Math.max(4, keys.length * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            bits = Arrays.copyOf(bits, capacity);
+            refs = Arrays.copyOf(refs, capacity);
+        }
+        slot = size++;
+        keys[slot] = id;
+        return slot;
+    }
+
+    /**
+     * Copies the arrays if they are shared with a snapshot.
+     */
+    private void ensureWritable() {
+        if (shared) {
+            keys = keys.clone();
+            kinds = kinds.clone();
+            bits = bits.clone();
+            refs = refs.clone();
+            shared = false;
+        }
+    }
+}
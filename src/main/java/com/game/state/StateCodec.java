@@ -0,0 +1,509 @@
+package com.game.state;
+
+import com.google.gson.Gson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact binary encoding of GameState and GameOptions values.
+ *
+ * A frame is a kind byte ('S' full snapshot, 'D' delta), the schema version and
+ * a list of fields. Keys registered in the StateSchema are written as a varint
+ * tag (field ID and wire type) followed by the raw value: zigzag varints for
+ * ints, longs and booleans, 8 bytes for doubles and length-prefixed bytes for
+ * strings and byte arrays. Keys not in the schema, or whose value doesn't match
+ * the declared type, are written by name with a type-tagged value so no data is
+ * lost. Unknown field IDs are skipped when decoding, which lets schemas evolve.
+ *
+ * A delta holds only the fields that changed since the previous snapshot plus
+ * removal markers, and is applied on top of that snapshot.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class StateCodec {
+
+    // Frame kinds
+    private static final byte FRAME_SNAPSHOT = 'S';
+    private static final byte FRAME_DELTA = 'D';
+
+    // Wire types (low 3 bits of a field tag)
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_BYTES = 2;
+    private static final int WIRE_DYNAMIC = 3;
+    private static final int WIRE_REMOVED = 4;
+
+    // Type tags of dynamic values
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INTEGER = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_BOOLEAN = 5;
+    private static final byte TAG_JSON = 6;
+    private static final byte TAG_BYTES = 7;
+
+    private static final Gson GSON = new Gson();
+
+    private StateCodec() {
+    }
+
+    // ==================== FRAMES ====================
+
+    /**
+     * Encodes a full snapshot of a value map.
+     *
+     * @param schema The schema of the values, or null to write every value by name
+     * @param values The values to encode
+     * @return The encoded snapshot frame
+     */
+    public static byte[] encode(StateSchema schema, Map<String, Object> values) {
+        List<Map.Entry<String, Object>> fields = new ArrayList<>(values.entrySet());
+        return writeFrame(FRAME_SNAPSHOT, schema, fields, List.of());
+    }
+
+    /**
+     * Encodes the changes between two value maps.
+     *
+     * @param schema The schema of the values, or null to write every value by name
+     * @param previous The values the receiver already has
+     * @param current The new values
+     * @return The encoded delta frame, or null if nothing changed
+     */
+    public static byte[] encodeDelta(StateSchema schema, Map<String, Object> previous, Map<String, Object> current) {
+        List<Map.Entry<String, Object>> changed = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            Object old = previous.get(entry.getKey());
+            if (!Objects.deepEquals(old, entry.getValue())
+                    || (old == null && !previous.containsKey(entry.getKey()))) {
+                changed.add(entry);
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+        return writeFrame(FRAME_DELTA, schema, changed, removed);
+    }
+
+    /**
+     * Decodes a full snapshot frame.
+     *
+     * @param schema The schema the frame was written with (any version)
+     * @param frame The encoded frame
+     * @return The decoded values
+     * @throws IllegalArgumentException if the data is not a valid snapshot frame
+     */
+    public static Map<String, Object> decode(StateSchema schema, byte[] frame) {
+        if (frame.length == 0 || frame[0] != FRAME_SNAPSHOT) {
+            throw new IllegalArgumentException("Not a state snapshot frame");
+        }
+        return apply(schema, new HashMap<>(), frame);
+    }
+
+    /**
+     * Applies a snapshot or delta frame to a base map.
+     * Snapshots replace the base; deltas patch a copy of it.
+     *
+     * @param schema The schema the frame was written with (any version)
+     * @param base The values the frame applies to (not modified)
+     * @param frame The encoded frame
+     * @return The resulting values
+     * @throws IllegalArgumentException if the data is not a valid frame
+     */
+    public static Map<String, Object> apply(StateSchema schema, Map<String, Object> base, byte[] frame) {
+        if (!isFrame(frame)) {
+            throw new IllegalArgumentException("Not a state frame");
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+            byte kind = in.readByte();
+            readVarLong(in); // Schema version - fields are matched by ID across versions
+            int fieldCount = checkLength(in, readVarLong(in));
+
+            Map<String, Object> values = kind == FRAME_DELTA ? new HashMap<>(base) : new HashMap<>(fieldCount * 4 / 3 + 1);
+            for (int i = 0; i < fieldCount; i++) {
+                readField(in, schema, values);
+            }
+            return values;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Corrupted state frame", e);
+        }
+    }
+
+    /**
+     * Checks if data starts with a state frame header.
+     *
+     * @param data The data to check
+     * @return true for snapshot and delta frames
+     */
+    public static boolean isFrame(byte[] data) {
+        return data.length > 0 && (data[0] == FRAME_SNAPSHOT || data[0] == FRAME_DELTA);
+    }
+
+    private static byte[] writeFrame(byte kind, StateSchema schema,
+                                     List<Map.Entry<String, Object>> fields, List<String> removed) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + fields.size() * 8);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(kind);
+            writeVarLong(out, schema != null ? schema.getVersion() : 0);
+            writeVarLong(out, fields.size() + removed.size());
+
+            for (Map.Entry<String, Object> field : fields) {
+                writeField(out, schema, field.getKey(), field.getValue());
+            }
+            for (String name : removed) {
+                StateKey key = schema != null ? schema.getKey(name) : null;
+                if (key != null) {
+                    writeVarLong(out, tag(key.getId(), WIRE_REMOVED));
+                } else {
+                    writeVarLong(out, tag(0, WIRE_REMOVED));
+                    writeString(out, name);
+                }
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // ByteArrayOutputStream doesn't throw; only unencodable values get here
+            throw new IllegalArgumentException("Failed to encode state", e);
+        }
+    }
+
+    // ==================== FIELDS ====================
+
+    private static void writeField(DataOutput out, StateSchema schema, String name, Object value) throws IOException {
+        StateKey key = schema != null ? schema.getKey(name) : null;
+        if (key == null || !matchesType(key.getType(), value)) {
+            writeVarLong(out, tag(0, WIRE_DYNAMIC));
+            writeString(out, name);
+            writeValue(out, value);
+            return;
+        }
+
+        switch (key.getType()) {
+            case INT:
+                writeVarLong(out, tag(key.getId(), WIRE_VARINT));
+                writeVarLong(out, zigZag((Integer) value));
+                break;
+            case LONG:
+                writeVarLong(out, tag(key.getId(), WIRE_VARINT));
+                writeVarLong(out, zigZag((Long) value));
+                break;
+            case BOOLEAN:
+                writeVarLong(out, tag(key.getId(), WIRE_VARINT));
+                writeVarLong(out, (Boolean) value ? 1 : 0);
+                break;
+            case DOUBLE:
+                writeVarLong(out, tag(key.getId(), WIRE_FIXED64));
+                out.writeDouble((Double) value);
+                break;
+            case STRING:
+                writeVarLong(out, tag(key.getId(), WIRE_BYTES));
+                byte[] utf8 = ((String) value).getBytes(StandardCharsets.UTF_8);
+                writeVarLong(out, utf8.length);
+                out.write(utf8);
+                break;
+            case BYTES:
+                writeVarLong(out, tag(key.getId(), WIRE_BYTES));
+                byte[] data = (byte[]) value;
+                writeVarLong(out, data.length);
+                out.write(data);
+                break;
+        }
+    }
+
+    private static void readField(DataInput in, StateSchema schema, Map<String, Object> values) throws IOException {
+        long tag = readVarLong(in);
+        int id = (int) (tag >>> 3);
+        int wire = (int) (tag & 7);
+
+        if (wire == WIRE_DYNAMIC) {
+            String name = readString(in);
+            values.put(name, readValue(in, schema));
+            return;
+        }
+
+        StateKey key = schema != null ? schema.getKey(id) : null;
+        if (wire == WIRE_REMOVED) {
+            String name = id == 0 ? readString(in) : key != null ? key.getName() : null;
+            if (name != null) {
+                values.remove(name);
+            }
+            return;
+        }
+
+        // Read the raw value first so unknown or retyped fields can be skipped
+        long varint = 0;
+        byte[] data = null;
+        switch (wire) {
+            case WIRE_VARINT:
+                varint = readVarLong(in);
+                break;
+            case WIRE_FIXED64:
+                varint = in.readLong();
+                break;
+            case WIRE_BYTES:
+                data = new byte[checkLength(in, readVarLong(in))];
+                in.readFully(data);
+                break;
+            default:
+                throw new IOException("Unknown wire type: " + wire);
+        }
+
+        if (key == null || wireType(key.getType()) != wire) {
+            return;
+        }
+
+        switch (key.getType()) {
+            case INT:
+                values.put(key.getName(), (int) unZigZag(varint));
+                break;
+            case LONG:
+                values.put(key.getName(), unZigZag(varint));
+                break;
+            case BOOLEAN:
+                values.put(key.getName(), varint != 0);
+                break;
+            case DOUBLE:
+                values.put(key.getName(), Double.longBitsToDouble(varint));
+                break;
+            case STRING:
+                values.put(key.getName(), new String(data, StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                values.put(key.getName(), data);
+                break;
+        }
+    }
+
+    private static boolean matchesType(StateType type, Object value) {
+        switch (type) {
+            case INT:
+                return value instanceof Integer;
+            case LONG:
+                return value instanceof Long;
+            case DOUBLE:
+                return value instanceof Double;
+            case BOOLEAN:
+                return value instanceof Boolean;
+            case STRING:
+                return value instanceof String;
+            case BYTES:
+                return value instanceof byte[];
+            default:
+                return false;
+        }
+    }
+
+    private static int wireType(StateType type) {
+        switch (type) {
+            case DOUBLE:
+                return WIRE_FIXED64;
+            case STRING:
+            case BYTES:
+                return WIRE_BYTES;
+            default:
+                return WIRE_VARINT;
+        }
+    }
+
+    // ==================== DYNAMIC VALUES ====================
+
+    /**
+     * Writes a value with a type tag so it decodes back to the same type.
+     * Values other than primitives, strings and byte arrays are written as JSON
+     * with their class name.
+     *
+     * @param out The output to write to
+     * @param value The value to write (may be null)
+     * @throws IOException if writing fails
+     */
+    public static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TAG_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TAG_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof byte[]) {
+            byte[] data = (byte[]) value;
+            out.writeByte(TAG_BYTES);
+            out.writeInt(data.length);
+            out.write(data);
+        } else {
+            out.writeByte(TAG_JSON);
+            writeString(out, value.getClass().getName());
+            writeString(out, GSON.toJson(value));
+        }
+    }
+
+    /**
+     * Reads a value written by writeValue.
+     * JSON values decode as plain lists, maps and primitives.
+     *
+     * @param in The input to read from
+     * @return The value (may be null)
+     * @throws IOException if reading fails or the tag is unknown
+     */
+    public static Object readValue(DataInput in) throws IOException {
+        return readValue(in, null);
+    }
+
+    /**
+     * Reads a value written by writeValue.
+     * JSON values decode as their class only if the schema registers it; the
+     * class name comes from the data, so it is never loaded by name.
+     *
+     * @param in The input to read from
+     * @param schema The schema whose value classes may be decoded, or null for none
+     * @return The value (may be null)
+     * @throws IOException if reading fails or the tag is unknown
+     */
+    public static Object readValue(DataInput in, StateSchema schema) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_INTEGER:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_BYTES:
+                byte[] data = new byte[checkLength(in, in.readInt())];
+                in.readFully(data);
+                return data;
+            case TAG_JSON:
+                String className = readString(in);
+                String json = readString(in);
+                Class<?> type = schema != null ? schema.getValueClass(className) : null;
+                if (type != null) {
+                    try {
+                        return GSON.fromJson(json, type);
+                    } catch (RuntimeException e) {
+                        // Can't be instantiated from this JSON - fall back to plain values
+                    }
+                }
+                return GSON.fromJson(json, Object.class);
+            default:
+                throw new IOException("Unknown state value tag: " + tag);
+        }
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string (not limited to 64 KB like writeUTF).
+     *
+     * @param out The output to write to
+     * @param value The string to write
+     * @throws IOException if writing fails
+     */
+    public static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by writeString.
+     *
+     * @param in The input to read from
+     * @return The string
+     * @throws IOException if reading fails
+     */
+    public static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[checkLength(in, in.readInt())];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks a length or count read from the data before anything is sized by it.
+     * Each entry takes at least one byte, so it can't exceed the bytes left when
+     * the input is a stream.
+     *
+     * @param in The input the length was read from
+     * @param length The length
+     * @return The length as an int
+     * @throws IOException if the length is negative or longer than the remaining data
+     */
+    private static int checkLength(DataInput in, long length) throws IOException {
+        long remaining = in instanceof InputStream stream ? stream.available() : Integer.MAX_VALUE;
+        if (length < 0 || length > remaining) {
+            throw new IOException("Invalid length: " + length);
+        }
+        return (int) length;
+    }
+
+    // ==================== VARINTS ====================
+
+    private static long tag(int id, int wire) {
+        return ((long) id << 3) | wire;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,108 @@
+package com.game.state;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes successive snapshots of a value map as a stream of frames, sending
+ * only the fields that changed since the previous frame.
+ * A full snapshot is sent first and then every fullSnapshotInterval frames, so a
+ * receiver that joins late or drops a frame resynchronizes.
+ *
+ * Receivers apply each frame with StateCodec.apply() to the values they hold.
+ * Not thread-safe; use one encoder per stream.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class StateDeltaEncoder {
+
+    private final StateSchema schema;
+    private final int fullSnapshotInterval;
+    private Map<String, Object> previous;
+    private int framesSinceSnapshot;
+
+    /**
+     * Creates an encoder.
+     *
+     * @param schema The schema of the values, or null to write every value by name
+     * @param fullSnapshotInterval Number of frames between full snapshots (at least 1)
+     */
+    public StateDeltaEncoder(StateSchema schema, int fullSnapshotInterval) {
+        this.schema = schema;
+        this.fullSnapshotInterval = Math.max(1, fullSnapshotInterval);
+    }
+
+    /**
+     * Encodes the next snapshot of the values.
+     *
+     * @param current The current values (copied, so the caller may keep mutating them)
+     * @return A snapshot or delta frame, or null if nothing changed since the last frame
+     */
+    public byte[] next(Map<String, Object> current) {
+        byte[] frame;
+        if (previous == null || framesSinceSnapshot >= fullSnapshotInterval) {
+            frame = StateCodec.encode(schema, current);
+            framesSinceSnapshot = 0;
+        } else {
+            frame = StateCodec.encodeDelta(schema, previous, current);
+            if (frame == null) {
+                return null;
+            }
+        }
+
+        framesSinceSnapshot++;
+        previous = copyOf(current);
+        return frame;
+    }
+
+    /**
+     * Checks if the values differ from the last encoded frame.
+     *
+     * @param current The current values
+     * @return true if next() would produce a frame
+     */
+    public boolean hasChanged(Map<String, Object> current) {
+        return previous == null || StateCodec.encodeDelta(schema, previous, current) != null;
+    }
+
+    /**
+     * Copies values, cloning arrays so in-place changes to them are still detected.
+     * Other mutable values must be replaced rather than modified in place.
+     */
+    private static Map<String, Object> copyOf(Map<String, Object> values) {
+        Map<String, Object> copy = new HashMap<>(values);
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            entry.setValue(copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Object[]) {
+            Object[] array = ((Object[]) value).clone();
+            for (int i = 0; i < array.length; i++) {
+                array[i] = copyValue(array[i]);
+            }
+            return array;
+        }
+        if (value != null && value.getClass().isArray()) {
+            // Primitive array
+            int length = Array.getLength(value);
+            Object array = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, array, 0, length);
+            return array;
+        }
+        return value;
+    }
+
+    /**
+     * Forgets the previous values so the next frame is a full snapshot.
+     */
+    public void reset() {
+        previous = null;
+        framesSinceSnapshot = 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.game.state;
+
+/**
+ * A typed key registered in a StateSchema.
+ * The field ID identifies the key on the wire and must never be reused for a
+ * different key once saves or network frames using it exist.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class StateKey {
+
+    private final int id;
+    private final String name;
+    private final StateType type;
+
+    StateKey(int id, String name, StateType type) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * Gets the wire field ID.
+     * @return The field ID (always positive)
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the key name used in GameState and GameOptions.
+     * @return The key name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the value type.
+     * @return The value type
+     */
+    public StateType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return name + "#" + id + ":" + type;
+    }
+}
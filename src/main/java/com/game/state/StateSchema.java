@@ -0,0 +1,221 @@
+package com.game.state;
+
+import com.utils.error_handling.Logging;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versioned set of typed keys for a game's state.
+ * Games declare the keys they use so StateCodec can write their values as
+ * compact tagged fields instead of self-describing name/value pairs.
+ *
+ * Schemas evolve by adding keys with new field IDs and bumping the version.
+ * Data written with another version still decodes: unknown fields are skipped
+ * and missing fields are simply absent.
+ *
+ * Values of other types travel as JSON with their class name. Frames may come
+ * from other clients, so only classes registered with valueClass() are decoded
+ * as themselves; anything else decodes as plain lists, maps and primitives.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class StateSchema {
+
+    // Schemas of registered games, by game ID
+    private static final Map<String, StateSchema> REGISTERED_SCHEMAS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int version;
+    private final Map<String, StateKey> keysByName;
+    private final StateKey[] keysById;
+    private final Map<String, Class<?>> valueClasses;
+
+    private StateSchema(String name, int version, Map<String, StateKey> keysByName, int maxId,
+                        Map<String, Class<?>> valueClasses) {
+        this.name = name;
+        this.version = version;
+        this.keysByName = Collections.unmodifiableMap(keysByName);
+        this.valueClasses = Collections.unmodifiableMap(valueClasses);
+        this.keysById = new StateKey[maxId + 1];
+        for (StateKey key : keysByName.values()) {
+            keysById[key.getId()] = key;
+        }
+    }
+
+    /**
+     * Starts building a schema.
+     *
+     * @param name The schema name, usually the game ID
+     * @param version The schema version
+     * @return A new builder
+     */
+    public static Builder builder(String name, int version) {
+        return new Builder(name, version);
+    }
+
+    // ==================== REGISTRY ====================
+
+    /**
+     * Registers the schema used for a game's state.
+     *
+     * @param gameId The game ID
+     * @param schema The schema, or null to remove the registration
+     */
+    public static void register(String gameId, StateSchema schema) {
+        if (schema == null) {
+            REGISTERED_SCHEMAS.remove(gameId);
+            return;
+        }
+        REGISTERED_SCHEMAS.put(gameId, schema);
+        Logging.info("📐 Registered state schema: " + schema.getName() + " v" + schema.getVersion()
+                + " (" + schema.getKeys().size() + " keys) for game " + gameId);
+    }
+
+    /**
+     * Gets the schema registered for a game.
+     *
+     * @param gameId The game ID
+     * @return The schema, or null if the game has none
+     */
+    public static StateSchema forGame(String gameId) {
+        return gameId != null ? REGISTERED_SCHEMAS.get(gameId) : null;
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Gets a key by name.
+     * @param name The key name
+     * @return The key, or null if not in the schema
+     */
+    public StateKey getKey(String name) {
+        return keysByName.get(name);
+    }
+
+    /**
+     * Gets a key by field ID.
+     * @param id The field ID
+     * @return The key, or null if not in the schema
+     */
+    public StateKey getKey(int id) {
+        return id > 0 && id < keysById.length ? keysById[id] : null;
+    }
+
+    /**
+     * Gets a class registered for JSON values by its name.
+     * @param className The class name written with the value
+     * @return The class, or null if it isn't registered
+     */
+    public Class<?> getValueClass(String className) {
+        return valueClasses.get(className);
+    }
+
+    /**
+     * Gets all keys in declaration order.
+     * @return Unmodifiable collection of keys
+     */
+    public Collection<StateKey> getKeys() {
+        return keysByName.values();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "StateSchema{" + name + " v" + version + ", keys=" + keysByName.values() + '}';
+    }
+
+    // ==================== BUILDER ====================
+
+    /**
+     * Builder for StateSchema.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final int version;
+        private final Map<String, StateKey> keys = new LinkedHashMap<>();
+        private final Map<Integer, StateKey> ids = new HashMap<>();
+        private final Map<String, Class<?>> valueClasses = new HashMap<>();
+        private int maxId;
+
+        private Builder(String name, int version) {
+            this.name = name;
+            this.version = version;
+        }
+
+        public Builder intKey(int id, String name) {
+            return key(id, name, StateType.INT);
+        }
+
+        public Builder longKey(int id, String name) {
+            return key(id, name, StateType.LONG);
+        }
+
+        public Builder doubleKey(int id, String name) {
+            return key(id, name, StateType.DOUBLE);
+        }
+
+        public Builder booleanKey(int id, String name) {
+            return key(id, name, StateType.BOOLEAN);
+        }
+
+        public Builder stringKey(int id, String name) {
+            return key(id, name, StateType.STRING);
+        }
+
+        public Builder bytesKey(int id, String name) {
+            return key(id, name, StateType.BYTES);
+        }
+
+        /**
+         * Adds a key.
+         *
+         * @param id The wire field ID (positive, unique within the schema)
+         * @param name The key name (unique within the schema)
+         * @param type The value type
+         * @return This builder
+         */
+        public Builder key(int id, String name, StateType type) {
+            if (id <= 0) {
+                throw new IllegalArgumentException("State key ID must be positive: " + name);
+            }
+            if (ids.containsKey(id) || keys.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicate state key: " + name + "#" + id);
+            }
+            StateKey key = new StateKey(id, name, type);
+            keys.put(name, key);
+            ids.put(id, key);
+            maxId = Math.max(maxId, id);
+            return this;
+        }
+
+        /**
+         * Allows values of a class to be decoded from JSON as that class.
+         *
+         * @param type The value class
+         * @return This builder
+         */
+        public Builder valueClass(Class<?> type) {
+            valueClasses.put(type.getName(), type);
+            return this;
+        }
+
+        public StateSchema build() {
+            return new StateSchema(name, version, new LinkedHashMap<>(keys), maxId, new HashMap<>(valueClasses));
+        }
+    }
+}
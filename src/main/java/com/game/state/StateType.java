@@ -0,0 +1,17 @@
+package com.game.state;
+
+/**
+ * Value types of schema-registered game state keys.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public enum StateType {
+    INT,
+    LONG,
+    DOUBLE,
+    BOOLEAN,
+    STRING,
+    BYTES
+}
@@ -1,9 +1,11 @@
 package com.gui_controllers;
 
 import com.viewmodels.LoginViewModel;
+import javafx.beans.binding.Bindings;
 import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.VBox;
 
 /**
@@ -52,6 +54,14 @@ public class LoginController {
         createAccountButton.setOnAction(e -> viewModel.handleCreateAccount());
         forgotPasswordLink.setOnAction(e -> viewModel.handleForgotPassword());
         
+        // While a login runs, show its progress on the login button; Escape cancels it
+        bindLoginProgress(viewModel);
+        mainForm.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.ESCAPE) {
+                viewModel.cancelLogin();
+            }
+        });
+        
         // Ensure text fields lose focus when clicking outside
         mainForm.setOnMouseClicked(e -> mainForm.requestFocus());
         
@@ -67,6 +77,20 @@ public class LoginController {
         rememberMe.selectedProperty().addListener(rememberMeListener);
     }
     
+    /**
+     * Disables the login buttons and shows the login's progress while one is running
+     */
+    private void bindLoginProgress(LoginViewModel viewModel) {
+        loginButton.textProperty().unbind();
+        String idleText = loginButton.getText();
+        loginButton.textProperty().bind(Bindings.createStringBinding(
+            () -> viewModel.busyProperty().get() && viewModel.progressProperty().get() != null
+                ? viewModel.progressProperty().get().getDisplayText() : idleText,
+            viewModel.busyProperty(), viewModel.progressProperty()));
+        loginButton.disableProperty().bind(viewModel.busyProperty());
+        guestLoginButton.disableProperty().bind(viewModel.busyProperty());
+    }
+    
     /**
      * Clears existing listeners to prevent duplicate logging
      */
@@ -1,9 +1,11 @@
 package com.gui_controllers;
 
 import com.viewmodels.RegisterViewModel;
+import javafx.beans.binding.Bindings;
 import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.AnchorPane;
 
 import java.time.LocalDate;
@@ -62,6 +64,14 @@ public class RegisterController {
         createAccountButton.setOnAction(e -> viewModel.handleRegistration());
         backToLoginButton.setOnAction(e -> viewModel.navigateToLogin());
         
+        // While a registration runs, show its progress on the create button; Escape cancels it
+        bindRegistrationProgress(viewModel);
+        mainContainer.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.ESCAPE) {
+                viewModel.cancelRegistration();
+            }
+        });
+        
         // Ensure text fields lose focus when clicking outside
         mainContainer.setOnMouseClicked(e -> mainContainer.requestFocus());
         
@@ -91,6 +101,19 @@ public class RegisterController {
         });
     }
     
+    /**
+     * Disables the create button and shows the registration's progress while one is running
+     */
+    private void bindRegistrationProgress(RegisterViewModel viewModel) {
+        createAccountButton.textProperty().unbind();
+        String idleText = createAccountButton.getText();
+        createAccountButton.textProperty().bind(Bindings.createStringBinding(
+            () -> viewModel.busyProperty().get() && viewModel.progressProperty().get() != null
+                ? viewModel.progressProperty().get().getDisplayText() : idleText,
+            viewModel.busyProperty(), viewModel.progressProperty()));
+        createAccountButton.disableProperty().bind(viewModel.busyProperty());
+    }
+    
     /**
      * Clears existing listeners to prevent duplicate logging
      */
@@ -138,14 +138,15 @@ public class AuthenticatedHTTPHandler {
 
     /**
      * Adds the authorization header to the connection if a valid token is available.
+     * If the token has expired, this waits for the background refresh to finish.
      *
      * @param conn The HTTP connection to add the header to
      */
     private void addAuthorizationHeader(HttpURLConnection conn) {
-        if (tokenService.hasValidToken()) {
-            String authHeader = tokenService.getAuthorizationHeader();
+        String authHeader = tokenService.getValidAuthorizationHeader();
+        if (authHeader != null) {
             conn.setRequestProperty("Authorization", authHeader);
-            Logging.info("Added authorization header for user: " + tokenService.getCurrentUsername());
+            Logging.debug("Added authorization header for user: {}", tokenService.getCurrentUsername());
         } else {
             Logging.warning("No valid token available for authenticated request");
         }
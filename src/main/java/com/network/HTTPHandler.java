@@ -23,6 +23,9 @@ import com.network.requests.RegistrationRequest;
 import com.network.responses.LoginResponse;
 import com.network.responses.RegistrationResponse;
 import com.utils.error_handling.Logging;
+import com.utils.metrics.Counter;
+import com.utils.metrics.LatencyHistogram;
+import com.utils.metrics.MetricsRegistry;
 import javafx.application.Platform;
 
 /**
@@ -40,6 +43,13 @@ public class HTTPHandler {
     //JSON parser
     private static final Gson gson = new Gson();
 
+    //Request metrics: latency per endpoint, including failed requests
+    private static final LatencyHistogram REGISTER_TIME = MetricsRegistry.getInstance().histogram("http.register");
+    private static final LatencyHistogram LOGIN_TIME = MetricsRegistry.getInstance().histogram("http.login");
+    private static final LatencyHistogram REFRESH_TIME = MetricsRegistry.getInstance().histogram("http.refresh");
+    private static final Counter IO_ERRORS = MetricsRegistry.getInstance().counter("http.io_errors");
+    private static final Counter ERROR_RESPONSES = MetricsRegistry.getInstance().counter("http.error_responses");
+
     // Trust manager that accepts all certificates (for development only)
     private static final TrustManager[] trustAllCerts = new TrustManager[]{
         new X509TrustManager() {
@@ -53,6 +63,12 @@ public class HTTPHandler {
      * Registers an user account on the server.
      */
     public static RegistrationResponse register(String username, String password, String fullName, String dateOfBirth) throws IOException {
+        RegistrationResponse response = timed(REGISTER_TIME, () -> sendRegistration(username, password, fullName, dateOfBirth));
+        countResponse(response.getStatusCode());
+        return response;
+    }
+
+    private static RegistrationResponse sendRegistration(String username, String password, String fullName, String dateOfBirth) throws IOException {
         String registrationUrl = HTTPConfig.getRegistrationUrl();
         Logging.info("🔗 Attempting to register user at: " + registrationUrl);
         
@@ -100,6 +116,12 @@ public class HTTPHandler {
      * Authenticates a user with the provided credentials.
      */
     public static LoginResponse login(String username, String password) throws IOException {
+        LoginResponse response = timed(LOGIN_TIME, () -> sendLogin(username, password));
+        countResponse(response.getStatusCode());
+        return response;
+    }
+
+    private static LoginResponse sendLogin(String username, String password) throws IOException {
         String loginUrl = HTTPConfig.getLoginUrl();
         Logging.info("🔗 Attempting to login at: " + loginUrl);
         
@@ -140,4 +162,82 @@ public class HTTPHandler {
         
         return new LoginResponse(responseCode, responseBody);
     }
+
+    /**
+     * Exchanges the current JWT token for a new one.
+     * The server responds in the same format as a login.
+     */
+    public static LoginResponse refreshToken(String authorizationHeader) throws IOException {
+        LoginResponse response = timed(REFRESH_TIME, () -> sendRefresh(authorizationHeader));
+        countResponse(response.getStatusCode());
+        return response;
+    }
+
+    private static LoginResponse sendRefresh(String authorizationHeader) throws IOException {
+        String refreshUrl = HTTPConfig.getRefreshUrl();
+        Logging.info("🔗 Attempting to refresh token at: " + refreshUrl);
+
+        URL url = new URL(refreshUrl);
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+
+        conn.setRequestMethod("POST");
+        conn.setRequestProperty("Content-Type", "application/json");
+        conn.setRequestProperty("Authorization", authorizationHeader);
+        conn.setDoOutput(true);
+
+        // Set timeouts to prevent hanging
+        conn.setConnectTimeout(HTTPConfig.HTTP_TIMEOUT * 1000);
+        conn.setReadTimeout(HTTPConfig.HTTP_REQUEST_TIMEOUT * 1000);
+
+        // If it's an HTTPS connection, disable hostname verification for development
+        if (conn instanceof HttpsURLConnection) {
+            HttpsURLConnection httpsConn = (HttpsURLConnection) conn;
+            httpsConn.setHostnameVerifier((hostname, session) -> true);
+        }
+
+        try (OutputStream os = conn.getOutputStream()) {
+            byte[] input = "{}".getBytes(StandardCharsets.UTF_8);
+            os.write(input, 0, input.length);
+        }
+
+        int responseCode = conn.getResponseCode();
+        InputStream is = (responseCode == 200) ? conn.getInputStream() : conn.getErrorStream();
+        String responseBody = is != null ? new String(is.readAllBytes(), StandardCharsets.UTF_8) : "";
+
+        Logging.info("📥 Token refresh response - Status: " + responseCode);
+
+        return new LoginResponse(responseCode, responseBody);
+    }
+
+    /**
+     * An HTTP exchange that may fail with an IOException.
+     */
+    @FunctionalInterface
+    private interface HttpCall<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * Runs an HTTP exchange, recording its latency whether or not it succeeds.
+     */
+    private static <T> T timed(LatencyHistogram histogram, HttpCall<T> call) throws IOException {
+        long startTime = System.nanoTime();
+        try {
+            return call.call();
+        } catch (IOException e) {
+            IO_ERRORS.increment();
+            throw e;
+        } finally {
+            histogram.recordSince(startTime);
+        }
+    }
+
+    /**
+     * Counts responses with a 4xx or 5xx status.
+     */
+    private static void countResponse(int statusCode) {
+        if (statusCode >= 400) {
+            ERROR_RESPONSES.increment();
+        }
+    }
 }
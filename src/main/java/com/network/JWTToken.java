@@ -1,12 +1,17 @@
 package com.network;
 
 import com.utils.error_handling.Logging;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Represents a JWT token for user authentication.
  * Handles token storage, validation, and expiration checking.
+ * The expiry is precomputed as epoch millis and the authorization header is
+ * built once, so validity checks are a clock read and a compare.
  *
  * @authors Clement Luo
  * @date June 29, 2025
@@ -19,6 +24,10 @@ public class JWTToken {
     private final LocalDateTime issuedAt;
     private final LocalDateTime expiresAt;
     private final String tokenType;
+    private final long expiresAtEpochMillis;
+    private final String authorizationHeader;
+    private volatile JwtClaims claims;
+    private volatile boolean claimsDecoded;
 
     /**
      * Creates a new JWT token.
@@ -30,21 +39,44 @@ public class JWTToken {
      * @param tokenType The type of token (e.g., "Bearer")
      */
     public JWTToken(String token, String username, LocalDateTime issuedAt, LocalDateTime expiresAt, String tokenType) {
+        this(token, username, issuedAt, expiresAt, tokenType, null);
+    }
+
+    /**
+     * Creates a new JWT token with already decoded claims.
+     *
+     * @param token The JWT token string
+     * @param username The username associated with this token
+     * @param issuedAt When the token was issued
+     * @param expiresAt When the token expires
+     * @param tokenType The type of token (e.g., "Bearer")
+     * @param claims The decoded payload claims, or null to decode them on first use
+     */
+    public JWTToken(String token, String username, LocalDateTime issuedAt, LocalDateTime expiresAt, String tokenType, JwtClaims claims) {
+        this(token, username, issuedAt, expiresAt, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                tokenType, claims);
+    }
+
+    private JWTToken(String token, String username, LocalDateTime issuedAt, LocalDateTime expiresAt,
+                     long expiresAtEpochMillis, String tokenType, JwtClaims claims) {
         this.token = token;
+        this.claims = claims;
+        this.claimsDecoded = claims != null;
         this.username = username;
         this.issuedAt = issuedAt;
         this.expiresAt = expiresAt;
         this.tokenType = tokenType;
+        this.expiresAtEpochMillis = expiresAtEpochMillis;
+        this.authorizationHeader = tokenType + " " + token;
         
         // Log token creation
-        Logging.info("JWT token created for user: '" + username + 
-                    "', issued: " + issuedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + 
-                    ", expires: " + expiresAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + 
-                    ", type: " + tokenType);
+        // LocalDateTime.toString() is the ISO local date-time format, built only if logged
+        Logging.info("JWT token created for user: '{}', issued: {}, expires: {}, type: {}",
+                    username, issuedAt, expiresAt, tokenType);
         
         // Log token length for security monitoring
         if (token != null) {
-            Logging.info("JWT token length: " + token.length() + " characters");
+            Logging.info("JWT token length: {} characters", token.length());
         }
     }
 
@@ -58,15 +90,15 @@ public class JWTToken {
      * @return A new JWT token instance
      */
     public static JWTToken fromServerResponse(String token, String username, long expiresInSeconds) {
-        Logging.info("Creating JWT token from server response - Username: '" + username + 
-                    "', Expires in: " + expiresInSeconds + " seconds");
+        Logging.info("Creating JWT token from server response - Username: '{}', Expires in: {} seconds",
+                    username, expiresInSeconds);
         
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime expiresAt = now.plusSeconds(expiresInSeconds);
         
         JWTToken jwtToken = new JWTToken(token, username, now, expiresAt, "Bearer");
         
-        Logging.info("JWT token created successfully from server response for user: '" + username + "'");
+        Logging.info("JWT token created successfully from server response for user: '{}'", username);
         return jwtToken;
     }
 
@@ -79,32 +111,38 @@ public class JWTToken {
      * @return A new JWT token instance
      */
     public static JWTToken fromServerResponse(String token, String username, LocalDateTime expiresAt) {
-        Logging.info("Creating JWT token from server response with explicit expiration - Username: '" + username + 
-                    "', Expires at: " + expiresAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        Logging.info("Creating JWT token from server response with explicit expiration - Username: '{}', Expires at: {}",
+                    username, expiresAt);
         
         JWTToken jwtToken = new JWTToken(token, username, LocalDateTime.now(), expiresAt, "Bearer");
         
-        Logging.info("JWT token created successfully from server response with explicit expiration for user: '" + username + "'");
+        Logging.info("JWT token created successfully from server response with explicit expiration for user: '{}'", username);
         return jwtToken;
     }
 
+    /**
+     * Creates a JWT token expiring at an absolute instant, such as the "exp" claim.
+     * The instant is used as is; getExpiresAt() shows it in the local time zone
+     * like the other constructors.
+     *
+     * @param token The JWT token string
+     * @param username The username associated with this token
+     * @param expiresAtEpochSecond When the token expires, in seconds since the epoch
+     * @param claims The decoded payload claims, or null to decode them on first use
+     * @return A new JWT token instance
+     */
+    public static JWTToken fromEpochSecond(String token, String username, long expiresAtEpochSecond, JwtClaims claims) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochSecond(expiresAtEpochSecond), ZoneId.systemDefault());
+        return new JWTToken(token, username, LocalDateTime.now(), expiresAt, expiresAtEpochSecond * 1000L, "Bearer", claims);
+    }
+
     /**
      * Checks if the token is expired.
      *
      * @return true if the token is expired, false otherwise
      */
     public boolean isExpired() {
-        boolean expired = LocalDateTime.now().isAfter(expiresAt);
-        
-        if (expired) {
-            Logging.warning("JWT token is EXPIRED for user: '" + username + 
-                          "', expired at: " + expiresAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        } else {
-            Logging.debug("JWT token is VALID for user: '" + username + 
-                         "', expires at: " + expiresAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        }
-        
-        return expired;
+        return System.currentTimeMillis() > expiresAtEpochMillis;
     }
 
     /**
@@ -114,18 +152,7 @@ public class JWTToken {
      * @return true if the token will expire within the specified time, false otherwise
      */
     public boolean expiresWithin(int minutes) {
-        LocalDateTime warningTime = LocalDateTime.now().plusMinutes(minutes);
-        boolean willExpire = expiresAt.isBefore(warningTime);
-        
-        if (willExpire) {
-            long minutesLeft = getSecondsUntilExpiration() / 60;
-            Logging.warning("JWT token will expire within " + minutes + " minutes for user: '" + username + 
-                          "', expires in: " + minutesLeft + " minutes");
-        } else {
-            Logging.debug("JWT token will NOT expire within " + minutes + " minutes for user: '" + username + "'");
-        }
-        
-        return willExpire;
+        return expiresAtEpochMillis < System.currentTimeMillis() + minutes * 60_000L;
     }
 
     /**
@@ -134,20 +161,7 @@ public class JWTToken {
      * @return Seconds remaining until expiration, negative if expired
      */
     public long getSecondsUntilExpiration() {
-        long secondsLeft = java.time.Duration.between(LocalDateTime.now(), expiresAt).getSeconds();
-        
-        if (secondsLeft <= 0) {
-            Logging.warning("JWT token has EXPIRED for user: '" + username + 
-                          "', expired " + Math.abs(secondsLeft) + " seconds ago");
-        } else if (secondsLeft < 300) { // Less than 5 minutes
-            Logging.warning("JWT token expires soon for user: '" + username + 
-                          "', expires in: " + secondsLeft + " seconds");
-        } else {
-            Logging.debug("JWT token time remaining for user: '" + username + 
-                         "', expires in: " + secondsLeft + " seconds");
-        }
-        
-        return secondsLeft;
+        return Math.floorDiv(expiresAtEpochMillis - System.currentTimeMillis(), 1000L);
     }
 
     /**
@@ -156,17 +170,11 @@ public class JWTToken {
      * @return The authorization header value (e.g., "Bearer eyJhbGciOiJIUzI1NiIs...")
      */
     public String getAuthorizationHeader() {
-        String authHeader = tokenType + " " + token;
-        
-        Logging.debug("Generated authorization header for user: '" + username + 
-                     "', header type: " + tokenType + ", token length: " + token.length());
-        
-        return authHeader;
+        return authorizationHeader;
     }
 
     // Getters
     public String getToken() { 
-        Logging.debug("JWT token retrieved for user: '" + username + "'");
         return token; 
     }
     
@@ -185,6 +193,33 @@ public class JWTToken {
     public String getTokenType() { 
         return tokenType; 
     }
+    
+    public long getExpiresAtEpochMillis() { 
+        return expiresAtEpochMillis; 
+    }
+    
+    /**
+     * Gets the decoded payload claims, decoding them on first use.
+     *
+     * @return The claims, or null if the token payload cannot be decoded
+     */
+    public JwtClaims getClaims() {
+        if (!claimsDecoded) {
+            claims = JwtClaims.decode(token);
+            claimsDecoded = true;
+        }
+        return claims;
+    }
+    
+    /**
+     * Gets the roles granted by this token.
+     *
+     * @return The roles, empty if none or if the payload cannot be decoded
+     */
+    public List<String> getRoles() {
+        JwtClaims decoded = getClaims();
+        return decoded != null ? decoded.getRoles() : List.of();
+    }
 
     @Override
     public String toString() {
@@ -195,7 +230,6 @@ public class JWTToken {
                 ", expired=" + isExpired() +
                 '}';
         
-        Logging.debug("JWT token toString() called for user: '" + username + "'");
         return tokenInfo;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.network;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.utils.error_handling.Logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Typed view of the claims in a JWT token payload.
+ * The payload is located by scanning for the segment separators, decoded once
+ * with the URL-safe Base64 decoder and parsed straight from the decoded bytes.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class JwtClaims {
+
+    private static final Base64.Decoder URL_DECODER = Base64.getUrlDecoder();
+
+    private final String subject;
+    private final Long expiresAtEpochSecond;
+    private final Long issuedAtEpochSecond;
+    private final List<String> roles;
+
+    private JwtClaims(String subject, Long expiresAtEpochSecond, Long issuedAtEpochSecond, List<String> roles) {
+        this.subject = subject;
+        this.expiresAtEpochSecond = expiresAtEpochSecond;
+        this.issuedAtEpochSecond = issuedAtEpochSecond;
+        this.roles = roles;
+    }
+
+    /**
+     * Decodes the claims from a JWT token string.
+     *
+     * @param token The JWT token (header.payload.signature)
+     * @return The decoded claims, or null if the token is not a decodable JWT
+     */
+    public static JwtClaims decode(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        int payloadStart = token.indexOf('.') + 1;
+        int payloadEnd = payloadStart > 0 ? token.indexOf('.', payloadStart) : -1;
+        if (payloadStart == 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            Logging.warning("Invalid JWT token format: expected 3 parts");
+            return null;
+        }
+
+        try {
+            // Base64url is pure ASCII, so the token's chars map one-to-one to bytes
+            byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+            ByteBuffer payload = URL_DECODER.decode(ByteBuffer.wrap(tokenBytes, payloadStart, payloadEnd - payloadStart));
+
+            JsonObject json;
+            try (Reader reader = new InputStreamReader(new ByteArrayInputStream(
+                    payload.array(), payload.arrayOffset() + payload.position(), payload.remaining()),
+                    StandardCharsets.UTF_8)) {
+                json = JsonParser.parseReader(reader).getAsJsonObject();
+            }
+
+            return new JwtClaims(readSubject(json), readLong(json, "exp"), readLong(json, "iat"), readRoles(json));
+
+        } catch (Exception e) {
+            Logging.warning("Failed to decode JWT token payload: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads the subject from the standard "sub" claim, falling back to common username claims.
+     */
+    private static String readSubject(JsonObject json) {
+        for (String claim : new String[]{"sub", "username", "user", "name"}) {
+            JsonElement value = json.get(claim);
+            if (value != null && value.isJsonPrimitive()) {
+                return value.getAsString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a numeric claim, or null if it is missing or not a number.
+     */
+    private static Long readLong(JsonObject json, String claim) {
+        JsonElement value = json.get(claim);
+        if (value == null || !value.isJsonPrimitive() || !value.getAsJsonPrimitive().isNumber()) {
+            return null;
+        }
+        return value.getAsLong();
+    }
+
+    /**
+     * Reads roles from a "roles" array, a comma-separated "roles" string or a single "role" claim.
+     */
+    private static List<String> readRoles(JsonObject json) {
+        JsonElement value = json.has("roles") ? json.get("roles") : json.get("role");
+        if (value == null || value.isJsonNull()) {
+            return Collections.emptyList();
+        }
+
+        List<String> roles = new ArrayList<>();
+        if (value.isJsonArray()) {
+            JsonArray array = value.getAsJsonArray();
+            for (JsonElement role : array) {
+                roles.add(role.getAsString());
+            }
+        } else {
+            for (String role : value.getAsString().split(",")) {
+                if (!role.isBlank()) {
+                    roles.add(role.trim());
+                }
+            }
+        }
+        return Collections.unmodifiableList(roles);
+    }
+
+    /**
+     * Gets the subject (username) of the token.
+     * @return The subject, or null if not present
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Gets the "exp" claim.
+     * @return Expiration in epoch seconds, or null if not present
+     */
+    public Long getExpiresAtEpochSecond() {
+        return expiresAtEpochSecond;
+    }
+
+    /**
+     * Gets the "iat" claim.
+     * @return Issue time in epoch seconds, or null if not present
+     */
+    public Long getIssuedAtEpochSecond() {
+        return issuedAtEpochSecond;
+    }
+
+    /**
+     * Gets the roles granted by the token.
+     * @return Unmodifiable list of roles, empty if none
+     */
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * Checks if the token grants a role.
+     * @param role The role to check
+     * @return true if the role is present
+     */
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    /**
+     * Gets the expiration time as a local date-time, like the rest of the client.
+     * @return The expiration time, or null if not present
+     */
+    public LocalDateTime getExpiresAt() {
+        return toLocalDateTime(expiresAtEpochSecond);
+    }
+
+    /**
+     * Gets the issue time as a local date-time, like the rest of the client.
+     * @return The issue time, or null if not present
+     */
+    public LocalDateTime getIssuedAt() {
+        return toLocalDateTime(issuedAtEpochSecond);
+    }
+
+    private static LocalDateTime toLocalDateTime(Long epochSecond) {
+        return epochSecond != null ? LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtClaims{" +
+                "subject='" + subject + '\'' +
+                ", exp=" + expiresAtEpochSecond +
+                ", iat=" + issuedAtEpochSecond +
+                ", roles=" + roles +
+                '}';
+    }
+}
@@ -1,9 +1,10 @@
 package com.network.responses;
 
-import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.network.JWTToken;
+import com.network.JwtClaims;
 import com.utils.error_handling.Logging;
 
 import java.time.LocalDateTime;
@@ -20,11 +21,13 @@ import java.time.format.DateTimeFormatter;
 public class LoginResponse {
     private final int statusCode;
     private final String responseBody;
+    private final JsonElement parsedBody;
     private final JWTToken jwtToken;
 
     public LoginResponse(int statusCode, String responseBody) {
         this.statusCode = statusCode;
         this.responseBody = responseBody;
+        this.parsedBody = parseBody(responseBody);
         this.jwtToken = parseJWTTokenFromResponse();
     }
 
@@ -83,13 +86,13 @@ public class LoginResponse {
         }
 
         // Check if response is not valid JSON
-        if (!isValidJSON(responseBody)) {
+        if (parsedBody == null) {
             Logging.error("Server response is not valid JSON: " + responseBody);
             return null;
         }
 
         try {
-            JsonObject jsonResponse = JsonParser.parseString(responseBody).getAsJsonObject();
+            JsonObject jsonResponse = parsedBody.getAsJsonObject();
             
             // Try different possible token field names
             String token = null;
@@ -114,6 +117,9 @@ public class LoginResponse {
 
             Logging.info("Found JWT token in field: '" + tokenFieldName + "', length: " + token.length() + " characters");
 
+            // Decode the token payload once for username, expiration and roles
+            JwtClaims claims = JwtClaims.decode(token);
+
             // Try to get username from response
             String username = null;
             String usernameFieldName = null;
@@ -131,7 +137,7 @@ public class LoginResponse {
             } else {
                 Logging.info("No username found in server response, attempting to extract from JWT token");
                 // Try to extract username from JWT token payload
-                username = extractUsernameFromJWTToken(token);
+                username = claims != null ? claims.getSubject() : null;
                 if (username != null) {
                     Logging.info("Extracted username from JWT token: '" + username + "'");
                 } else {
@@ -146,25 +152,27 @@ public class LoginResponse {
                 // Server provides expiration in seconds from now
                 long expiresInSeconds = jsonResponse.get("expires_in").getAsLong();
                 Logging.info("Found expiration in field 'expires_in': " + expiresInSeconds + " seconds");
-                jwtToken = JWTToken.fromServerResponse(token, username, expiresInSeconds);
+                LocalDateTime now = LocalDateTime.now();
+                jwtToken = new JWTToken(token, username, now, now.plusSeconds(expiresInSeconds), "Bearer", claims);
                 
             } else if (jsonResponse.has("expires_at")) {
                 // Server provides explicit expiration timestamp
                 String expiresAtString = jsonResponse.get("expires_at").getAsString();
                 Logging.info("Found expiration in field 'expires_at': " + expiresAtString);
                 LocalDateTime expiresAt = LocalDateTime.parse(expiresAtString, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                jwtToken = JWTToken.fromServerResponse(token, username, expiresAt);
+                jwtToken = new JWTToken(token, username, LocalDateTime.now(), expiresAt, "Bearer", claims);
                 
             } else {
-                // Try to extract expiration from JWT token payload
-                LocalDateTime tokenExpiration = extractExpirationFromJWTToken(token);
+                // Try to extract expiration from JWT token payload; "exp" is an absolute instant
+                Long tokenExpiration = claims != null ? claims.getExpiresAtEpochSecond() : null;
                 if (tokenExpiration != null) {
-                    Logging.info("Found expiration in JWT token payload: " + tokenExpiration.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-                    jwtToken = JWTToken.fromServerResponse(token, username, tokenExpiration);
+                    Logging.info("Found expiration in JWT token payload: " + tokenExpiration + " (epoch seconds)");
+                    jwtToken = JWTToken.fromEpochSecond(token, username, tokenExpiration, claims);
                 } else {
                     // Default to 1 hour expiration if not specified anywhere
                     Logging.warning("No expiration information found in server response or JWT token, defaulting to 1 hour");
-                    jwtToken = JWTToken.fromServerResponse(token, username, 3600);
+                    LocalDateTime now = LocalDateTime.now();
+                    jwtToken = new JWTToken(token, username, now, now.plusSeconds(3600), "Bearer", claims);
                 }
             }
 
@@ -208,21 +216,20 @@ public class LoginResponse {
     }
 
     /**
-     * Checks if the response body is valid JSON.
+     * Parses the response body as JSON once for all later lookups.
      *
-     * @param responseBody The response body to check
-     * @return true if the response is valid JSON, false otherwise
+     * @param responseBody The response body to parse
+     * @return The parsed JSON, or null if the body is empty or not valid JSON
      */
-    private boolean isValidJSON(String responseBody) {
+    private static JsonElement parseBody(String responseBody) {
         if (responseBody == null || responseBody.trim().isEmpty()) {
-            return false;
+            return null;
         }
         
         try {
-            JsonParser.parseString(responseBody);
-            return true;
+            return JsonParser.parseString(responseBody);
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
@@ -247,13 +254,13 @@ public class LoginResponse {
         }
         
         // Handle non-JSON responses
-        if (!isValidJSON(responseBody)) {
+        if (parsedBody == null) {
             return "Server returned an invalid response. Please try again.";
         }
         
         // Try to extract error message from JSON response
         try {
-            JsonObject jsonResponse = JsonParser.parseString(responseBody).getAsJsonObject();
+            JsonObject jsonResponse = parsedBody.getAsJsonObject();
             
             if (jsonResponse.has("error")) {
                 return jsonResponse.get("error").getAsString();
@@ -282,134 +289,4 @@ public class LoginResponse {
                 return "Login failed. Please try again.";
         }
     }
-
-    /**
-     * Extracts username from a JWT token.
-     *
-     * @param token The JWT token to extract username from
-     * @return The extracted username, or null if extraction fails
-     */
-    private String extractUsernameFromJWTToken(String token) {
-        try {
-            // JWT tokens have 3 parts separated by dots: header.payload.signature
-            String[] parts = token.split("\\.");
-            if (parts.length != 3) {
-                Logging.warning("Invalid JWT token format: expected 3 parts, got " + parts.length);
-                return null;
-            }
-            
-            // Decode the payload (second part)
-            String payload = parts[1];
-            
-            // Add padding if needed for base64 decoding
-            while (payload.length() % 4 != 0) {
-                payload += "=";
-            }
-            
-            // Replace URL-safe characters
-            payload = payload.replace('-', '+').replace('_', '/');
-            
-            // Decode base64
-            byte[] decodedBytes = java.util.Base64.getDecoder().decode(payload);
-            String decodedPayload = new String(decodedBytes, java.nio.charset.StandardCharsets.UTF_8);
-            
-            Logging.debug("JWT payload: " + decodedPayload);
-            
-            // Parse the JSON payload
-            JsonObject payloadJson = JsonParser.parseString(decodedPayload).getAsJsonObject();
-            
-            // Extract username from common JWT claim names
-            String username = null;
-            if (payloadJson.has("sub")) {
-                username = payloadJson.get("sub").getAsString();
-                Logging.debug("Found username in 'sub' claim: '" + username + "'");
-            } else if (payloadJson.has("username")) {
-                username = payloadJson.get("username").getAsString();
-                Logging.debug("Found username in 'username' claim: '" + username + "'");
-            } else if (payloadJson.has("user")) {
-                username = payloadJson.get("user").getAsString();
-                Logging.debug("Found username in 'user' claim: '" + username + "'");
-            } else if (payloadJson.has("name")) {
-                username = payloadJson.get("name").getAsString();
-                Logging.debug("Found username in 'name' claim: '" + username + "'");
-            }
-            
-            if (username != null) {
-                Logging.info("Successfully extracted username from JWT token: '" + username + "'");
-            } else {
-                Logging.warning("No username found in JWT token payload. Available claims: " + payloadJson.keySet());
-            }
-            
-            return username;
-            
-        } catch (Exception e) {
-            Logging.error("Failed to extract username from JWT token: " + e.getMessage(), e);
-            return null;
-        }
-    }
-
-    /**
-     * Extracts expiration time from a JWT token.
-     *
-     * @param token The JWT token to extract expiration from
-     * @return The extracted expiration time, or null if extraction fails
-     */
-    private LocalDateTime extractExpirationFromJWTToken(String token) {
-        try {
-            // JWT tokens have 3 parts separated by dots: header.payload.signature
-            String[] parts = token.split("\\.");
-            if (parts.length != 3) {
-                Logging.warning("Invalid JWT token format: expected 3 parts, got " + parts.length);
-                return null;
-            }
-            
-            // Decode the payload (second part)
-            String payload = parts[1];
-            
-            // Add padding if needed for base64 decoding
-            while (payload.length() % 4 != 0) {
-                payload += "=";
-            }
-            
-            // Replace URL-safe characters
-            payload = payload.replace('-', '+').replace('_', '/');
-            
-            // Decode base64
-            byte[] decodedBytes = java.util.Base64.getDecoder().decode(payload);
-            String decodedPayload = new String(decodedBytes, java.nio.charset.StandardCharsets.UTF_8);
-            
-            Logging.debug("JWT payload for expiration extraction: " + decodedPayload);
-            
-            // Parse the JSON payload
-            JsonObject payloadJson = JsonParser.parseString(decodedPayload).getAsJsonObject();
-            
-            // Extract expiration from JWT exp claim (this is the standard expiration claim)
-            LocalDateTime expiration = null;
-            if (payloadJson.has("exp")) {
-                try {
-                    long exp = payloadJson.get("exp").getAsLong();
-                    expiration = LocalDateTime.ofEpochSecond(exp, 0, java.time.ZoneOffset.UTC);
-                    Logging.debug("Found expiration in 'exp' claim: " + expiration.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-                } catch (NumberFormatException e) {
-                    Logging.warning("Invalid expiration value in JWT token: " + payloadJson.get("exp").getAsString());
-                    return null;
-                } catch (Exception e) {
-                    Logging.warning("Failed to parse expiration from JWT token: " + e.getMessage());
-                    return null;
-                }
-            }
-            
-            if (expiration != null) {
-                Logging.info("Successfully extracted expiration from JWT token: " + expiration.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            } else {
-                Logging.warning("No valid expiration information found in JWT token payload. Available claims: " + payloadJson.keySet());
-            }
-            
-            return expiration;
-            
-        } catch (Exception e) {
-            Logging.error("Failed to extract expiration from JWT token: " + e.getMessage(), e);
-            return null;
-        }
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.services;
+
+/**
+ * Stages of an asynchronous login or registration, reported to the caller
+ * so the UI can show what is happening.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public enum AuthProgress {
+    CONTACTING_SERVER("Contacting server..."),
+    SIGNING_IN("Signing in..."),
+    SUCCEEDED("Done"),
+    FAILED("Failed"),
+    CANCELLED("Cancelled");
+
+    private final String displayText;
+
+    AuthProgress(String displayText) {
+        this.displayText = displayText;
+    }
+
+    /**
+     * Gets a short description suitable for a button or status label.
+     * @return The display text
+     */
+    public String getDisplayText() {
+        return displayText;
+    }
+
+    /**
+     * Checks whether this is a final stage.
+     * @return true once the operation has finished
+     */
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,60 @@
+package com.services;
+
+import com.network.JWTToken;
+
+/**
+ * Outcome of an asynchronous login or registration.
+ * Failures carry a title and message ready to show in an error dialog.
+ * A cancelled operation has no result: its future is cancelled instead.
+ * A successful login carries the session token; LoginService stores it only
+ * once the result has been delivered, so a cancelled login never replaces the
+ * current session.
+ *
+ * @param success Whether the operation succeeded
+ * @param errorTitle Dialog title for a failure, null otherwise
+ * @param errorMessage User-friendly failure message, null otherwise
+ * @param token Token issued by a successful login, null otherwise
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public record AuthResult(boolean success, String errorTitle, String errorMessage, JWTToken token) {
+
+    private static final AuthResult SUCCESS = new AuthResult(true, null, null, null);
+
+    /**
+     * Gets a successful result.
+     * @return The result
+     */
+    public static AuthResult succeeded() {
+        return SUCCESS;
+    }
+
+    /**
+     * Creates a successful login result.
+     * @param token The issued token, may be null if the server sent none
+     * @return The result
+     */
+    public static AuthResult succeeded(JWTToken token) {
+        return token == null ? SUCCESS : new AuthResult(true, null, null, token);
+    }
+
+    /**
+     * Creates a failed result.
+     * @param title Dialog title
+     * @param message User-friendly message
+     * @return The result
+     */
+    public static AuthResult failed(String title, String message) {
+        return new AuthResult(false, title, message, null);
+    }
+
+    /**
+     * Checks whether the operation failed.
+     * @return true if there is an error to show
+     */
+    public boolean isFailure() {
+        return !success;
+    }
+}
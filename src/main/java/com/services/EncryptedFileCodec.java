@@ -0,0 +1,164 @@
+package com.services;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the encrypted file format used by LocalStorageService.
+ *
+ * Binary format (version 1):
+ * - 4 bytes: magic "OMGE"
+ * - 1 byte: format version
+ * - 12 bytes: AES-GCM nonce
+ * - remaining bytes: AES-GCM ciphertext including the 16-byte tag
+ *
+ * Files without the header are treated as the legacy format: Base64 text of
+ * AES/ECB ciphertext. Cipher instances are cached per thread.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class EncryptedFileCodec {
+
+    private static final byte[] MAGIC = {'O', 'M', 'G', 'E'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final int NONCE_SIZE = 12;
+    private static final int TAG_BITS = 128;
+    private static final int HEADER_SIZE = MAGIC.length + 1 + NONCE_SIZE;
+
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String LEGACY_TRANSFORMATION = "AES";
+
+    private static final ThreadLocal<Cipher> GCM_CIPHER = ThreadLocal.withInitial(() -> createCipher(GCM_TRANSFORMATION));
+    private static final ThreadLocal<Cipher> LEGACY_CIPHER = ThreadLocal.withInitial(() -> createCipher(LEGACY_TRANSFORMATION));
+
+    private final SecretKey secretKey;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Creates a codec for the given AES key.
+     *
+     * @param secretKey The AES key used for all files
+     */
+    public EncryptedFileCodec(SecretKey secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    /**
+     * Encrypts plaintext into the binary format.
+     *
+     * @param plaintext The data to encrypt
+     * @return Header and ciphertext buffers, ready for a gathering channel write
+     * @throws GeneralSecurityException if encryption fails
+     */
+    public ByteBuffer[] encrypt(byte[] plaintext) throws GeneralSecurityException {
+        byte[] nonce = new byte[NONCE_SIZE];
+        random.nextBytes(nonce);
+
+        Cipher cipher = GCM_CIPHER.get();
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_BITS, nonce));
+        byte[] ciphertext = cipher.doFinal(plaintext);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(MAGIC).put(FORMAT_VERSION).put(nonce).flip();
+        return new ByteBuffer[]{header, ByteBuffer.wrap(ciphertext)};
+    }
+
+    /**
+     * Decrypts file contents in either the binary or the legacy format.
+     *
+     * @param data The raw file contents
+     * @return The decrypted plaintext
+     * @throws GeneralSecurityException if decryption or authentication fails
+     */
+    public byte[] decrypt(byte[] data) throws GeneralSecurityException {
+        if (!isBinaryFormat(data)) {
+            Cipher cipher = LEGACY_CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, secretKey);
+            byte[] encrypted = Base64.getDecoder().decode(new String(data, StandardCharsets.UTF_8).trim());
+            return cipher.doFinal(encrypted);
+        }
+
+        Cipher cipher = GCM_CIPHER.get();
+        cipher.init(Cipher.DECRYPT_MODE, secretKey,
+                new GCMParameterSpec(TAG_BITS, data, MAGIC.length + 1, NONCE_SIZE));
+        return cipher.doFinal(data, HEADER_SIZE, data.length - HEADER_SIZE);
+    }
+
+    /**
+     * Checks if file contents start with the binary format header.
+     *
+     * @param data The raw file contents
+     * @return true for the binary format, false for the legacy Base64 format
+     */
+    public boolean isBinaryFormat(byte[] data) {
+        if (data.length < HEADER_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return data[MAGIC.length] == FORMAT_VERSION;
+    }
+
+    /**
+     * Writes encrypted plaintext to a file through a channel and forces it to disk.
+     *
+     * @param path The file to write (created or truncated)
+     * @param plaintext The data to encrypt and write
+     * @throws IOException if the write fails
+     * @throws GeneralSecurityException if encryption fails
+     */
+    public void writeFile(Path path, byte[] plaintext) throws IOException, GeneralSecurityException {
+        ByteBuffer[] buffers = encrypt(plaintext);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads a whole file through a channel.
+     *
+     * @param path The file to read
+     * @return The raw file contents
+     * @throws IOException if the read fails
+     */
+    public static byte[] readFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends
+            }
+            return buffer.hasRemaining() ? Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array();
+        }
+    }
+
+    /**
+     * Creates a cipher for the thread-local caches.
+     */
+    private static Cipher createCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher not available: " + transformation, e);
+        }
+    }
+}
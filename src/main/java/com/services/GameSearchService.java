@@ -6,6 +6,7 @@ import com.game.enums.GameMode;
 import com.game.sourcing.GameSource;
 import com.game.sourcing.LocalGameSource;
 import com.game.sourcing.RemoteGameSource;
+import com.utils.concurrent.ExecutorRegistry;
 import com.utils.error_handling.Logging;
 import com.utils.error_handling.SafeExecute;
 
@@ -93,7 +94,7 @@ public class GameSearchService {
                     Logging.error("❌ Failed to discover games from " + source.getName() + ": " + e.getMessage(), e);
                     return new ArrayList<GameModule>();
                 }
-            });
+            }, ExecutorRegistry.getInstance().io());
             futures.add(future);
         }
         
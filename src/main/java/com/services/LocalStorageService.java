@@ -9,27 +9,53 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.utils.concurrent.ExecutorRegistry;
 import com.utils.error_handling.Logging;
+import com.utils.metrics.Counter;
+import com.utils.metrics.LatencyHistogram;
+import com.utils.metrics.MetricsRegistry;
 
-import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.*;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.prefs.Preferences;
 
 /**
  * Service for securely storing data locally on the client's computer.
  * Provides both encrypted file storage and Java Preferences storage.
+ * 
+ * Encrypted files use the binary AES-GCM format from EncryptedFileCodec; legacy
+ * Base64 files are still readable and are rewritten in the new format on first read.
+ * 
+ * Encrypted writes are write-behind: the data is serialized on the caller's thread,
+ * queued per filename (last write wins) and encrypted and written on a background
+ * thread using an fsync'd temporary file and an atomic rename. Reads see queued
+ * writes immediately. Call flush() to force pending writes to disk.
+ * 
+ * Decrypted reads are cached per filename and class. A cached object is reused
+ * until the file is stored or deleted through this service, or its modification
+ * time or size changes on disk (checked at most every CACHE_VALIDATION_INTERVAL_MS).
+ * Cached objects are shared between callers and must be treated as read-only.
  *
  * @authors Clement Luo
  * @date June 29, 2025
@@ -49,6 +75,25 @@ public class LocalStorageService {
     private static final int KEY_SIZE = 256;
     private static final int SALT_SIZE = 32;
     
+    // Write-behind settings
+    private static final long WRITE_BEHIND_DELAY_MS = 250;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    
+    // Read cache settings
+    private static final long CACHE_VALIDATION_INTERVAL_MS = 1000;
+    
+    /** Queued in place of serialized data to mark a pending delete. */
+    private static final String PENDING_DELETE = new String("<pending-delete>");
+    
+    // Metrics: disk reads (read + decrypt + parse), file writes (encrypt + fsync + rename) and cache use
+    private static final LatencyHistogram READ_TIME = MetricsRegistry.getInstance().histogram("storage.read");
+    private static final LatencyHistogram WRITE_TIME = MetricsRegistry.getInstance().histogram("storage.write");
+    private static final LatencyHistogram FLUSH_TIME = MetricsRegistry.getInstance().histogram("storage.flush");
+    private static final Counter CACHE_HITS = MetricsRegistry.getInstance().counter("storage.cache_hits");
+    private static final Counter CACHE_MISSES = MetricsRegistry.getInstance().counter("storage.cache_misses");
+    private static final Counter WRITE_FAILURES = MetricsRegistry.getInstance().counter("storage.write_failures");
+    
     // ==================== INSTANCE FIELDS ====================
     
     private final Preferences preferences;
@@ -56,6 +101,20 @@ public class LocalStorageService {
     private final Path encryptedDataDir;
     private final Gson gson;
     private SecretKey secretKey;
+    private EncryptedFileCodec codec;
+    
+    // Write-behind state: filename -> serialized JSON or PENDING_DELETE
+    private final Map<String, String> pendingWrites = new ConcurrentHashMap<>();
+    // Last JSON each file was flushed with, compared by identity against cached pending writes
+    private final Map<String, String> flushedWrites = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+    // Delay before retrying failed writes, doubled after each failed flush (guarded by flushLock)
+    private long retryDelayMs = WRITE_BEHIND_DELAY_MS;
+    // Read cache state: filename -> (class -> deserialized object)
+    private final Map<String, Map<Class<?>, CachedValue>> readCache = new ConcurrentHashMap<>();
+    
+    private final ScheduledExecutorService writeExecutor = ExecutorRegistry.newSerialScheduler("storage-writer");
     
     // ==================== SINGLETON ====================
     
@@ -82,13 +141,14 @@ public class LocalStorageService {
         
         // Initialize Gson for JSON serialization with custom type adapters
         this.gson = new GsonBuilder()
-                .setPrettyPrinting()
                 .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
                 .create();
         
         // Initialize encryption
         initializeEncryption();
         
+        MetricsRegistry.getInstance().gauge("storage.pending_writes", pendingWrites::size);
+        
         Logging.info("LocalStorageService initialized successfully");
     }
     
@@ -219,6 +279,8 @@ public class LocalStorageService {
     
     /**
      * Store an object as encrypted JSON file.
+     * The object is serialized immediately; encryption and the disk write happen
+     * on the background writer, coalesced with any other writes to the same file.
      *
      * @param filename The filename to store the data under
      * @param data The object to store (will be serialized to JSON)
@@ -226,24 +288,12 @@ public class LocalStorageService {
      */
     public <T> void storeEncryptedData(String filename, T data) {
         try {
-            Logging.debug("Storing encrypted data: " + filename);
-            
-            // Ensure encrypted data directory exists
-            if (!Files.exists(encryptedDataDir)) {
-                Files.createDirectories(encryptedDataDir);
-            }
+            Logging.debug("Queueing encrypted data write: " + filename);
             
-            // Serialize object to JSON
+            // Serialize now so later changes to the object don't leak into the write
             String json = gson.toJson(data);
-            
-            // Encrypt the JSON string
-            String encryptedData = encrypt(json);
-            
-            // Write to file
-            Path filePath = encryptedDataDir.resolve(filename + ".enc");
-            Files.write(filePath, encryptedData.getBytes(StandardCharsets.UTF_8));
-            
-            Logging.debug("Successfully stored encrypted data: " + filename);
+            enqueueWrite(filename, json);
+            readCache.remove(filename);
         } catch (Exception e) {
             Logging.error("Failed to store encrypted data: " + filename, e);
             throw new RuntimeException("Failed to store encrypted data", e);
@@ -260,22 +310,50 @@ public class LocalStorageService {
      */
     public <T> T getEncryptedData(String filename, Class<T> classType) {
         try {
+            CachedValue cached = readCache.getOrDefault(filename, Map.of()).get(classType);
+            if (cached != null && isCacheValid(filename, cached)) {
+                CACHE_HITS.increment();
+                return classType.cast(cached.value);
+            }
+            CACHE_MISSES.increment();
+            
             Logging.debug("Retrieving encrypted data: " + filename);
             
+            // Serve queued writes that haven't reached disk yet
+            String pending = pendingWrites.get(filename);
+            if (pending != null) {
+                if (pending == PENDING_DELETE) {
+                    return null;
+                }
+                T data = gson.fromJson(pending, classType);
+                cacheValue(filename, classType, new CachedValue(data, pending, null), pending);
+                return data;
+            }
+            
             Path filePath = encryptedDataDir.resolve(filename + ".enc");
             if (!Files.exists(filePath)) {
                 Logging.debug("Encrypted data file not found: " + filename);
                 return null;
             }
             
-            // Read encrypted data from file
-            String encryptedData = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
-            
-            // Decrypt the data
-            String json = decrypt(encryptedData);
+            // Read and decrypt the file
+            long startTime = System.nanoTime();
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            byte[] fileData = EncryptedFileCodec.readFile(filePath);
+            String json = new String(codec.decrypt(fileData), StandardCharsets.UTF_8);
             
             // Deserialize JSON to object
             T data = gson.fromJson(json, classType);
+            READ_TIME.recordSince(startTime);
+            
+            // Rewrite legacy Base64 files in the binary format
+            if (!codec.isBinaryFormat(fileData)) {
+                Logging.info("Migrating legacy encrypted data file: " + filename);
+                enqueueWrite(filename, json);
+                cacheValue(filename, classType, new CachedValue(data, json, null), json);
+            } else {
+                cacheValue(filename, classType, new CachedValue(data, null, attributes), null);
+            }
             
             Logging.debug("Successfully retrieved encrypted data: " + filename);
             return data;
@@ -292,29 +370,219 @@ public class LocalStorageService {
      * @return true if the file exists, false otherwise
      */
     public boolean hasEncryptedData(String filename) {
+        String pending = pendingWrites.get(filename);
+        if (pending != null) {
+            return pending != PENDING_DELETE;
+        }
+        
+        // A recently validated cache entry means the file was there a moment ago
+        Map<Class<?>, CachedValue> cachedValues = readCache.get(filename);
+        if (cachedValues != null) {
+            long now = System.currentTimeMillis();
+            for (CachedValue cached : cachedValues.values()) {
+                if (cached.pendingJson == null && now - cached.validatedAt < CACHE_VALIDATION_INTERVAL_MS) {
+                    return true;
+                }
+            }
+        }
+        
         Path filePath = encryptedDataDir.resolve(filename + ".enc");
         return Files.exists(filePath);
     }
     
     /**
      * Delete encrypted data file.
+     * Queued behind any pending writes so the last operation on a file wins.
      *
      * @param filename The filename to delete
      */
     public void deleteEncryptedData(String filename) {
-        try {
-            Logging.debug("Deleting encrypted data: " + filename);
+        Logging.debug("Queueing encrypted data delete: " + filename);
+        enqueueWrite(filename, PENDING_DELETE);
+        readCache.remove(filename);
+    }
+    
+    /**
+     * Writes all queued encrypted data to disk, blocking until done.
+     * Called by the background writer and during application shutdown.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            // Allow writes queued from now on to schedule another flush
+            flushScheduled.set(false);
+            if (pendingWrites.isEmpty()) {
+                return;
+            }
+            long flushStartTime = System.nanoTime();
             
-            Path filePath = encryptedDataDir.resolve(filename + ".enc");
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
-                Logging.debug("Successfully deleted encrypted data: " + filename);
+            boolean failed = false;
+            List<String> filenames = new ArrayList<>(pendingWrites.keySet());
+            for (String filename : filenames) {
+                String pending = pendingWrites.get(filename);
+                if (pending == null) {
+                    continue;
+                }
+                
+                try {
+                    if (pending == PENDING_DELETE) {
+                        deleteFile(filename);
+                        flushedWrites.remove(filename);
+                    } else {
+                        writeFile(filename, pending);
+                        flushedWrites.put(filename, pending);
+                    }
+                    // Only drop the entry if no newer write replaced it meanwhile
+                    pendingWrites.remove(filename, pending);
+                } catch (Exception e) {
+                    WRITE_FAILURES.increment();
+                    failed = true;
+                    Logging.error("Failed to flush encrypted data: " + filename + " (will retry on next flush)", e);
+                }
+            }
+            FLUSH_TIME.recordSince(flushStartTime);
+            
+            if (failed) {
+                scheduleRetry();
             } else {
-                Logging.debug("Encrypted data file not found for deletion: " + filename);
+                retryDelayMs = WRITE_BEHIND_DELAY_MS;
+            }
+        }
+    }
+    
+    /**
+     * Schedules another flush for writes that failed, backing off while they keep failing.
+     * Must be called holding flushLock.
+     */
+    private void scheduleRetry() {
+        long delay = retryDelayMs;
+        retryDelayMs = Math.min(retryDelayMs * 2, MAX_RETRY_DELAY_MS);
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                writeExecutor.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+                Logging.warning("⚠️ Retrying failed storage writes in {} ms", delay);
+            } catch (Exception e) {
+                // Writer already stopped - the entries stay queued for the next flush() call
+                flushScheduled.set(false);
+            }
+        }
+    }
+    
+    /**
+     * Flushes pending writes and stops the background writer.
+     * Called during application shutdown.
+     */
+    public void shutdown() {
+        flush();
+        writeExecutor.shutdown();
+        Logging.info("LocalStorageService writer stopped");
+    }
+    
+    /**
+     * Queues a write or delete and schedules a flush if none is pending.
+     */
+    private void enqueueWrite(String filename, String json) {
+        pendingWrites.put(filename, json);
+        
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                writeExecutor.schedule(this::flush, WRITE_BEHIND_DELAY_MS, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // Writer already stopped (shutdown in progress) - write synchronously
+                flush();
             }
-        } catch (Exception e) {
-            Logging.error("Failed to delete encrypted data: " + filename, e);
-            throw new RuntimeException("Failed to delete encrypted data", e);
+        }
+    }
+    
+    /**
+     * Encrypts and writes data to its file via an fsync'd temp file and atomic rename.
+     */
+    private void writeFile(String filename, String json) throws Exception {
+        // Ensure encrypted data directory exists
+        if (!Files.exists(encryptedDataDir)) {
+            Files.createDirectories(encryptedDataDir);
+        }
+        
+        long startTime = System.nanoTime();
+        Path filePath = encryptedDataDir.resolve(filename + ".enc");
+        Path tempPath = encryptedDataDir.resolve(filename + ".enc" + TEMP_FILE_SUFFIX);
+        codec.writeFile(tempPath, json.getBytes(StandardCharsets.UTF_8));
+        
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        WRITE_TIME.recordSince(startTime);
+        
+        Logging.debug("Successfully stored encrypted data: " + filename);
+    }
+    
+    /**
+     * Deletes a data file from disk.
+     */
+    private void deleteFile(String filename) throws IOException {
+        Path filePath = encryptedDataDir.resolve(filename + ".enc");
+        if (Files.deleteIfExists(filePath)) {
+            Logging.debug("Successfully deleted encrypted data: " + filename);
+        } else {
+            Logging.debug("Encrypted data file not found for deletion: " + filename);
+        }
+    }
+    
+    // ==================== READ CACHE ====================
+    
+    /**
+     * Checks if a cached value still matches the queued write or the file on disk.
+     * Entries read from disk are re-checked against the file attributes at most
+     * once per CACHE_VALIDATION_INTERVAL_MS, so most hits are a map lookup.
+     */
+    private boolean isCacheValid(String filename, CachedValue cached) throws IOException {
+        String pending = pendingWrites.get(filename);
+        if (pending != null) {
+            // Queued writes are compared by identity: any newer write is a new string
+            return pending == cached.pendingJson;
+        }
+        
+        long now = System.currentTimeMillis();
+        if (cached.pendingJson == null && now - cached.validatedAt < CACHE_VALIDATION_INTERVAL_MS) {
+            return true;
+        }
+        
+        Path filePath = encryptedDataDir.resolve(filename + ".enc");
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        
+        if (cached.pendingJson != null) {
+            // Only the flush of this very write makes the file hold this value
+            if (flushedWrites.get(filename) != cached.pendingJson) {
+                return false;
+            }
+            cached.markFlushed(attributes, now);
+            return true;
+        }
+        
+        if (attributes.lastModifiedTime().equals(cached.modified) && attributes.size() == cached.size) {
+            cached.validatedAt = now;
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Caches a deserialized value for a filename and class.
+     * A write queued while the value was being read may have cleared the cache
+     * before the value landed in it, so the entry is dropped again unless the
+     * queued write is still the one the value was read from.
+     *
+     * @param expectedPending The queued write the value came from, or null if read from disk
+     */
+    private void cacheValue(String filename, Class<?> classType, CachedValue value, String expectedPending) {
+        Map<Class<?>, CachedValue> cachedValues = readCache.computeIfAbsent(filename, key -> new ConcurrentHashMap<>());
+        cachedValues.put(classType, value);
+        if (pendingWrites.get(filename) != expectedPending) {
+            cachedValues.remove(classType, value);
         }
     }
     
@@ -338,6 +606,8 @@ public class LocalStorageService {
                 generateEncryptionKey(saltPath, keyPath);
             }
             
+            this.codec = new EncryptedFileCodec(secretKey);
+            
             Logging.debug("Encryption initialized successfully");
         } catch (Exception e) {
             Logging.error("Failed to initialize encryption", e);
@@ -383,29 +653,6 @@ public class LocalStorageService {
         Logging.debug("Existing encryption key loaded");
     }
     
-    /**
-     * Encrypt a string using AES encryption.
-     */
-    private String encrypt(String data) throws Exception {
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-        
-        byte[] encryptedBytes = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(encryptedBytes);
-    }
-    
-    /**
-     * Decrypt a string using AES decryption.
-     */
-    private String decrypt(String encryptedData) throws Exception {
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey);
-        
-        byte[] encryptedBytes = Base64.getDecoder().decode(encryptedData);
-        byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
-        return new String(decryptedBytes, StandardCharsets.UTF_8);
-    }
-    
     // ==================== UTILITY METHODS ====================
     
     /**
@@ -459,6 +706,13 @@ public class LocalStorageService {
             // Clear preferences
             preferences.clear();
             
+            // Drop queued writes so they can't recreate deleted files
+            synchronized (flushLock) {
+                pendingWrites.clear();
+                flushedWrites.clear();
+            }
+            readCache.clear();
+            
             // Delete encrypted data directory
             if (Files.exists(encryptedDataDir)) {
                 Files.walk(encryptedDataDir)
@@ -479,6 +733,13 @@ public class LocalStorageService {
         }
     }
     
+    /**
+     * Get the path to the application data directory.
+     */
+    public Path getAppDataPath() {
+        return appDataDir;
+    }
+    
     /**
      * Get the path to the encrypted data directory.
      */
@@ -486,6 +747,41 @@ public class LocalStorageService {
         return encryptedDataDir;
     }
     
+    // ==================== CACHE ENTRY ====================
+    
+    /**
+     * A deserialized value in the read cache and the data it was read from:
+     * either a queued write (pendingJson) or a file with the given attributes.
+     */
+    private static class CachedValue {
+        
+        final Object value;
+        volatile String pendingJson;
+        volatile FileTime modified;
+        volatile long size;
+        volatile long validatedAt;
+        
+        CachedValue(Object value, String pendingJson, BasicFileAttributes attributes) {
+            this.value = value;
+            this.pendingJson = pendingJson;
+            if (attributes != null) {
+                this.modified = attributes.lastModifiedTime();
+                this.size = attributes.size();
+            }
+            this.validatedAt = System.currentTimeMillis();
+        }
+        
+        /**
+         * Switches an entry read from a queued write over to the flushed file.
+         */
+        void markFlushed(BasicFileAttributes attributes, long now) {
+            this.modified = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.validatedAt = now;
+            this.pendingJson = null;
+        }
+    }
+    
     // ==================== CUSTOM TYPE ADAPTERS ====================
     
     /**
@@ -3,17 +3,29 @@ package com.services;
 import com.network.HTTPHandler;
 import com.network.responses.LoginResponse;
 import com.network.responses.RegistrationResponse;
+import com.utils.concurrent.ExecutorRegistry;
 import com.utils.error_handling.Dialog;
 import com.utils.error_handling.Logging;
 import com.core.ServiceManager;
 import com.services.WebSocketService;
 import javafx.application.Platform;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Handles user authentication and account management operations.
  * This service provides methods for user login, guest access, registration,
  * and password recovery functionality.
+ * 
+ * loginAsync and registerAsync run the blocking HTTP calls on a background
+ * thread, so the JavaFX thread stays responsive; only one such operation runs
+ * at a time. Repeating the same request joins it, and a different request
+ * replaces it.
  *
  * @authors Clement Luo
  * @date May 17, 2025
@@ -24,6 +36,30 @@ public class LoginService {
 
     private final ValidationService validationService;
     private final TokenService tokenService;
+    
+    // Blocking HTTP calls run on the shared I/O pool, off the JavaFX thread. Only one operation
+    // is live at a time, but a cancelled one may still be waiting on the server in another thread
+    private final ExecutorService authExecutor = ExecutorRegistry.getInstance().io();
+    private final AtomicReference<InFlightAuthentication> inFlightAuthentication = new AtomicReference<>();
+
+    /**
+     * The live operation and what it was asked to do, e.g. "login:alice".
+     * Whichever of the answer or a cancellation claims it first decides how it ends.
+     */
+    private record InFlightAuthentication(String request, CompletableFuture<AuthResult> future, AtomicBoolean claimed) {
+
+        InFlightAuthentication(String request) {
+            this(request, new CompletableFuture<>(), new AtomicBoolean(false));
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        boolean cancel() {
+            return claim() && future.cancel(true);
+        }
+    }
 
     public LoginService(ValidationService validationService, TokenService tokenService) {
         this.validationService = validationService;
@@ -33,6 +69,7 @@ public class LoginService {
     /**
      * Authenticates a user with the provided credentials.
      * Handles all validation internally and shows appropriate dialogs.
+     * Blocks until the server responds; UI code should use loginAsync instead.
      *
      * @param username The user's login name
      * @param password The user's password
@@ -41,44 +78,111 @@ public class LoginService {
     public boolean login(String username, String password) {
         Logging.info("Login attempt initiated - Username: '" + username + "'");
         
-        // Validate credentials using ValidationService
+        AuthResult result = validateLogin(username, password);
+        if (result == null) {
+            result = performLogin(username, password);
+            if (result.success()) {
+                startSession(username, result);
+            }
+        }
+        if (result.isFailure()) {
+            Dialog.showErrorCompact(result.errorTitle(), result.errorMessage());
+        }
+        return result.success();
+    }
+
+    /**
+     * Authenticates a user on a background thread.
+     * Input is validated on the caller's thread; invalid input completes the
+     * future right away. While a login for the same user is running, further
+     * calls (e.g. a double click) return the same future instead of sending
+     * another request; any other running operation is cancelled and replaced.
+     * Cancelling the future discards the server's answer: no token is stored
+     * and no WebSocket connection is made. On success the token is stored and
+     * the WebSocket connection is started without waiting for it, so it
+     * overlaps with whatever the caller loads next.
+     *
+     * Dialogs are not shown; failures are described by the result. The future
+     * completes on the authentication thread, and progress may be reported on
+     * any thread.
+     *
+     * @param username The user's login name
+     * @param password The user's password
+     * @param progress Receives each stage of the operation, may be null
+     * @return Future of the outcome
+     */
+    public CompletableFuture<AuthResult> loginAsync(String username, String password, Consumer<AuthProgress> progress) {
+        Logging.info("Async login attempt initiated - Username: '{}'", username);
+        AuthResult invalid = validateLogin(username, password);
+        if (invalid != null) {
+            notify(progress, AuthProgress.FAILED);
+            return CompletableFuture.completedFuture(invalid);
+        }
+        return submitAuthentication("login:" + username, progress,
+                () -> {
+                    notify(progress, AuthProgress.SIGNING_IN);
+                    return performLogin(username, password);
+                },
+                result -> startSession(username, result));
+    }
+
+    /**
+     * Cancels the running login or registration, if any.
+     *
+     * @return true if an operation was cancelled
+     */
+    public boolean cancelAuthentication() {
+        InFlightAuthentication operation = inFlightAuthentication.get();
+        return operation != null && operation.cancel();
+    }
+
+    /**
+     * Checks whether a login or registration is running.
+     *
+     * @return true if an operation is in flight
+     */
+    public boolean isAuthenticating() {
+        return inFlightAuthentication.get() != null;
+    }
+
+    /**
+     * Validates login input.
+     *
+     * @return A failed result if the input is invalid, null if it is valid
+     */
+    private AuthResult validateLogin(String username, String password) {
         ValidationService.ValidationResult validation = validationService.validateLoginCredentials(username, password);
         if (!validation.isValid()) {
             Logging.warning("Login failed: " + validation.getErrorMessage());
-            Dialog.showErrorCompact(validation.getErrorTitle(), validation.getErrorMessage());
-            return false;
+            return AuthResult.failed(validation.getErrorTitle(), validation.getErrorMessage());
         }
-        
-        // Call HTTPHandler to perform the actual authentication
+        return null;
+    }
+
+    /**
+     * Sends the login request. The token is returned in the result rather than
+     * stored, so that only a delivered result replaces the current session.
+     */
+    private AuthResult performLogin(String username, String password) {
         try {
             LoginResponse response = HTTPHandler.login(username, password);
             Logging.info("Login response - Status: " + response.getStatusCode() + ", Body: " + response.getResponseBody());
             
             // Check if login was successful based on HTTP status code
             if (response.isSuccess()) {
-                // Store JWT token if present in response
-                if (response.hasJWTToken()) {
-                    tokenService.setToken(response.getJWTToken());
-                    Logging.info("JWT token stored for user: '" + username + "'");
-                } else {
+                if (!response.hasJWTToken()) {
                     Logging.warning("Login successful but no JWT token received for user: '" + username + "'");
                 }
                 
-                // Establish WebSocket connection after successful login
-                establishWebSocketConnection(username);
-                
                 Logging.info("Login successful for user: '" + username + "'");
-                return true;
+                return AuthResult.succeeded(response.getJWTToken());
             } else {
                 Logging.warning("Login failed - Status: " + response.getStatusCode() + ", Response: " + response.getResponseBody());
-                String errorMessage = response.getUserFriendlyErrorMessage();
-                Dialog.showErrorCompact("Login Error", errorMessage);
-                return false;
+                return AuthResult.failed("Login Error", response.getUserFriendlyErrorMessage());
             }
         } catch (Exception e) {
             Logging.error("Login failed with exception: " + e.getMessage(), e);
-            Dialog.showErrorCompact("Login Error", "Failed to connect to server. Please try again.");
-            return false;
+            return AuthResult.failed("Login Error", "Failed to connect to server. Please try again.");
         }
     }
 
@@ -109,6 +213,7 @@ public class LoginService {
     /**
      * Registers a new user account in the system.
      * Handles all validation internally and shows appropriate dialogs.
+     * Blocks until the server responds; UI code should use registerAsync instead.
      *
      * @param username Desired username for the new account
      * @param password Password for the new account
@@ -120,17 +225,63 @@ public class LoginService {
     public boolean register(String username, String password, String fullName, String dateOfBirth, String confirmPassword) {
         Logging.info("Registration attempt initiated - Username: '" + username + "', Full Name: '" + fullName + "'");
         
-        // Validate registration data using ValidationService
+        AuthResult result = validateRegistration(username, password, fullName, dateOfBirth, confirmPassword);
+        if (result == null) {
+            result = performRegistration(username, password, fullName, dateOfBirth);
+        }
+        if (result.isFailure()) {
+            Dialog.showErrorCompact(result.errorTitle(), result.errorMessage());
+        }
+        return result.success();
+    }
+
+    /**
+     * Registers a new user account on a background thread.
+     * Validation, de-duplication, cancellation and threading work as in loginAsync.
+     * A cancelled registration may still have created the account on the server;
+     * only the answer is discarded.
+     *
+     * @param username Desired username for the new account
+     * @param password Password for the new account
+     * @param fullName Full name of the user
+     * @param dateOfBirth Date of birth of the user
+     * @param confirmPassword Password confirmation
+     * @param progress Receives each stage of the operation, may be null
+     * @return Future of the outcome
+     */
+    public CompletableFuture<AuthResult> registerAsync(String username, String password, String fullName,
+                                                       String dateOfBirth, String confirmPassword,
+                                                       Consumer<AuthProgress> progress) {
+        Logging.info("Async registration attempt initiated - Username: '{}'", username);
+        AuthResult invalid = validateRegistration(username, password, fullName, dateOfBirth, confirmPassword);
+        if (invalid != null) {
+            notify(progress, AuthProgress.FAILED);
+            return CompletableFuture.completedFuture(invalid);
+        }
+        return submitAuthentication("register:" + username, progress,
+                () -> performRegistration(username, password, fullName, dateOfBirth), null);
+    }
+
+    /**
+     * Validates registration input.
+     *
+     * @return A failed result if the input is invalid, null if it is valid
+     */
+    private AuthResult validateRegistration(String username, String password, String fullName,
+                                            String dateOfBirth, String confirmPassword) {
         ValidationService.ValidationResult validation = validationService.validateRegistrationData(
             fullName, username, password, confirmPassword, dateOfBirth);
-        
         if (!validation.isValid()) {
             Logging.warning("Registration failed: " + validation.getErrorMessage());
-            Dialog.showErrorCompact(validation.getErrorTitle(), validation.getErrorMessage());
-            return false;
+            return AuthResult.failed(validation.getErrorTitle(), validation.getErrorMessage());
         }
-        
-        // Call HTTPHandler to perform the actual registration
+        return null;
+    }
+
+    /**
+     * Sends the registration request.
+     */
+    private AuthResult performRegistration(String username, String password, String fullName, String dateOfBirth) {
         try {
             RegistrationResponse response = HTTPHandler.register(username, password, fullName, dateOfBirth);
             Logging.info("Registration response - Status: " + response.getStatusCode() + ", Body: " + response.getResponseBody());
@@ -138,17 +289,14 @@ public class LoginService {
             // Check if registration was successful based on HTTP status code
             if (response.isSuccess()) {
                 Logging.info("Registration successful for user: '" + username + "'");
-                return true;
+                return AuthResult.succeeded();
             } else {
                 Logging.warning("Registration failed - Status: " + response.getStatusCode() + ", Response: " + response.getResponseBody());
-                String errorMessage = response.getUserFriendlyErrorMessage();
-                Dialog.showErrorCompact("Registration Error", errorMessage);
-                return false;
+                return AuthResult.failed("Registration Error", response.getUserFriendlyErrorMessage());
             }
         } catch (Exception e) {
             Logging.error("Registration failed with exception: " + e.getMessage(), e);
-            Dialog.showErrorCompact("Registration Error", "Failed to register account. Please try again.");
-            return false;
+            return AuthResult.failed("Registration Error", "Failed to register account. Please try again.");
         }
     }
 
@@ -198,6 +346,112 @@ public class LoginService {
         return false;
     }
     
+    /**
+     * Runs an authentication step on the auth thread. If the same request is
+     * already running it is joined; any other running operation is cancelled,
+     * so its answer is discarded, and replaced by this one.
+     *
+     * @param request Identifies the request, e.g. "login:alice"
+     * @param step Performs the request; runs on the auth thread
+     * @param onSuccess Runs with a successful result before the future completes, may be null
+     */
+    private CompletableFuture<AuthResult> submitAuthentication(String request, Consumer<AuthProgress> progress,
+                                                               Supplier<AuthResult> step, Consumer<AuthResult> onSuccess) {
+        InFlightAuthentication operation = new InFlightAuthentication(request);
+        while (true) {
+            InFlightAuthentication existing = inFlightAuthentication.get();
+            if (existing != null && existing.request().equals(request)) {
+                Logging.debug("Authentication already in progress, joining existing request");
+                return existing.future();
+            }
+            
+            if (inFlightAuthentication.compareAndSet(existing, operation)) {
+                if (existing != null) {
+                    Logging.info("Cancelling running authentication '{}' for '{}'", existing.request(), request);
+                    existing.cancel();
+                }
+                break;
+            }
+        }
+
+        CompletableFuture<AuthResult> future = operation.future();
+        // Clear the slot however the operation ends, including cancellation
+        future.whenComplete((result, error) -> {
+            inFlightAuthentication.compareAndSet(operation, null);
+            if (future.isCancelled()) {
+                notify(progress, AuthProgress.CANCELLED);
+            }
+        });
+        notify(progress, AuthProgress.CONTACTING_SERVER);
+        try {
+            authExecutor.execute(() -> runAuthentication(operation, progress, step, onSuccess));
+        } catch (RejectedExecutionException e) {
+            future.complete(AuthResult.failed("Error", "The application is shutting down."));
+        }
+        return future;
+    }
+
+    private void runAuthentication(InFlightAuthentication operation, Consumer<AuthProgress> progress,
+                                   Supplier<AuthResult> step, Consumer<AuthResult> onSuccess) {
+        if (operation.future().isDone()) {
+            return;
+        }
+        AuthResult result;
+        try {
+            result = step.get();
+        } catch (RuntimeException e) {
+            Logging.error("Authentication failed with exception: " + e.getMessage(), e);
+            result = AuthResult.failed("Error", "Something went wrong. Please try again.");
+        }
+        // The claim fails if the caller cancelled meanwhile; the cancellation was already reported
+        // and the result is dropped, so a late answer never touches the current session. Once
+        // claimed, the session is started before completing, so callers chaining on the future
+        // (e.g. navigating to the dashboard) see the stored token
+        if (operation.claim()) {
+            try {
+                notify(progress, result.success() ? AuthProgress.SUCCEEDED : AuthProgress.FAILED);
+                if (result.success() && onSuccess != null) {
+                    onSuccess.accept(result);
+                }
+            } finally {
+                operation.future().complete(result);
+            }
+        } else {
+            Logging.info("Authentication was cancelled, discarding the server's answer");
+        }
+    }
+
+    private static void notify(Consumer<AuthProgress> progress, AuthProgress stage) {
+        if (progress != null) {
+            try {
+                progress.accept(stage);
+            } catch (RuntimeException e) {
+                Logging.warning("⚠️ Auth progress listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Cancels any running authentication. Called during application shutdown.
+     */
+    public void shutdown() {
+        cancelAuthentication();
+    }
+
+    /**
+     * Stores the token from a successful login and connects the WebSocket.
+     *
+     * @param username The username of the logged-in user
+     * @param result The delivered login result
+     */
+    private void startSession(String username, AuthResult result) {
+        if (result.token() != null) {
+            tokenService.setToken(result.token());
+            Logging.info("JWT token stored for user: '" + username + "'");
+        }
+        establishWebSocketConnection(username);
+    }
+
     /**
      * Establishes a WebSocket connection after successful login.
      * This method is called automatically after successful authentication.
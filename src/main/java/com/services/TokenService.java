@@ -1,24 +1,44 @@
 package com.services;
 
+import com.config.HTTPConfig;
+import com.network.HTTPHandler;
 import com.network.JWTToken;
+import com.network.JwtClaims;
+import com.network.responses.LoginResponse;
+import com.utils.concurrent.ExecutorRegistry;
 import com.utils.error_handling.Logging;
 import java.time.LocalDateTime;
 import com.entities.StoredToken;
 import com.services.LocalStorageService;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Manages JWT tokens for user authentication.
  * Handles token storage, retrieval, validation, and lifecycle management.
+ * Tokens are refreshed on a background scheduler shortly before they expire;
+ * concurrent refresh requests share a single in-flight refresh.
  *
  * @authors Clement Luo
  * @date June 29, 2025
  * @since 1.0
  */
 public class TokenService {
-    private JWTToken currentToken;
+    private volatile JWTToken currentToken;
     private static final String TOKEN_STORAGE_KEY = "auth_token";
     private final LocalStorageService localStorageService = LocalStorageService.getInstance();
+    
+    // Background refresh state
+    private final ScheduledExecutorService refreshScheduler = ExecutorRegistry.newSerialScheduler("token-refresh");
+    private final AtomicReference<CompletableFuture<JWTToken>> inFlightRefresh = new AtomicReference<>();
+    private ScheduledFuture<?> scheduledRefresh;
 
     /**
      * Creates a new TokenService instance.
@@ -33,7 +53,7 @@ public class TokenService {
      *
      * @param token The JWT token to store
      */
-    public void setToken(JWTToken token) {
+    public synchronized void setToken(JWTToken token) {
         if (token == null) {
             Logging.warning("Attempted to store null JWT token");
             return;
@@ -53,6 +73,8 @@ public class TokenService {
         Logging.info("JWT token stored successfully for user: '" + token.getUsername() + "'");
         // Persist token to disk
         persistTokenToDisk(token);
+        // Renew the token shortly before it expires
+        scheduleRefresh(token);
     }
 
     /**
@@ -67,6 +89,7 @@ public class TokenService {
                 if (stored.getExpiresAt().isAfter(LocalDateTime.now())) {
                     this.currentToken = toJWTToken(stored);
                     Logging.info("Loaded valid JWT token from disk for user: '" + stored.getUsername() + "'");
+                    scheduleRefresh(this.currentToken);
                 } else {
                     Logging.warning("Stored JWT token on disk is expired. Deleting...");
                     localStorageService.deleteEncryptedData(TOKEN_STORAGE_KEY);
@@ -87,12 +110,6 @@ public class TokenService {
      * @return The current JWT token, or null if no token is stored
      */
     public JWTToken getToken() {
-        if (currentToken == null) {
-            Logging.debug("No JWT token available for retrieval");
-            return null;
-        }
-        
-        Logging.debug("Retrieved JWT token for user: '" + currentToken.getUsername() + "'");
         return currentToken;
     }
 
@@ -102,14 +119,8 @@ public class TokenService {
      * @return The current JWT token string, or null if no token is stored
      */
     public String getTokenString() {
-        if (currentToken == null) {
-            Logging.debug("No JWT token string available");
-            return null;
-        }
-        
-        Logging.debug("Retrieved JWT token string for user: '" + currentToken.getUsername() + 
-                     "', length: " + currentToken.getToken().length() + " characters");
-        return currentToken.getToken();
+        JWTToken token = currentToken;
+        return token != null ? token.getToken() : null;
     }
 
     /**
@@ -118,15 +129,8 @@ public class TokenService {
      * @return The authorization header value, or null if no token is stored
      */
     public String getAuthorizationHeader() {
-        if (currentToken == null) {
-            Logging.debug("No authorization header available - no token stored");
-            return null;
-        }
-        
-        String authHeader = currentToken.getAuthorizationHeader();
-        Logging.debug("Generated authorization header for user: '" + currentToken.getUsername() + 
-                     "', header length: " + authHeader.length() + " characters");
-        return authHeader;
+        JWTToken token = currentToken;
+        return token != null ? token.getAuthorizationHeader() : null;
     }
 
     /**
@@ -135,20 +139,8 @@ public class TokenService {
      * @return true if a valid token is stored, false otherwise
      */
     public boolean hasValidToken() {
-        if (currentToken == null) {
-            Logging.debug("No JWT token stored");
-            return false;
-        }
-        
-        boolean isValid = !currentToken.isExpired();
-        
-        if (isValid) {
-            Logging.debug("Valid JWT token found for user: '" + currentToken.getUsername() + "'");
-        } else {
-            Logging.warning("JWT token is invalid (expired) for user: '" + currentToken.getUsername() + "'");
-        }
-        
-        return isValid;
+        JWTToken token = currentToken;
+        return token != null && !token.isExpired();
     }
 
     /**
@@ -157,20 +149,8 @@ public class TokenService {
      * @return true if the token is expired or doesn't exist, false otherwise
      */
     public boolean isTokenExpired() {
-        if (currentToken == null) {
-            Logging.debug("No JWT token to check for expiration");
-            return true;
-        }
-        
-        boolean expired = currentToken.isExpired();
-        
-        if (expired) {
-            Logging.warning("JWT token is expired for user: '" + currentToken.getUsername() + "'");
-        } else {
-            Logging.debug("JWT token is not expired for user: '" + currentToken.getUsername() + "'");
-        }
-        
-        return expired;
+        JWTToken token = currentToken;
+        return token == null || token.isExpired();
     }
 
     /**
@@ -179,19 +159,34 @@ public class TokenService {
      * @return The username, or null if no token is stored
      */
     public String getCurrentUsername() {
-        if (currentToken == null) {
-            Logging.debug("No username available - no token stored");
-            return null;
-        }
-        
-        Logging.debug("Retrieved username: '" + currentToken.getUsername() + "' from current token");
-        return currentToken.getUsername();
+        JWTToken token = currentToken;
+        return token != null ? token.getUsername() : null;
+    }
+
+    /**
+     * Gets the roles granted by the current token.
+     *
+     * @return The roles, empty if no token is stored or the token has no roles
+     */
+    public List<String> getCurrentRoles() {
+        JWTToken token = currentToken;
+        return token != null ? token.getRoles() : List.of();
+    }
+
+    /**
+     * Checks if the current token grants a role.
+     *
+     * @param role The role to check
+     * @return true if a token is stored and grants the role
+     */
+    public boolean hasRole(String role) {
+        return getCurrentRoles().contains(role);
     }
 
     /**
      * Clears the current token (logout) and deletes it from disk.
      */
-    public void clearToken() {
+    public synchronized void clearToken() {
         if (currentToken == null) {
             Logging.debug("No JWT token to clear");
             return;
@@ -199,6 +194,7 @@ public class TokenService {
         String username = currentToken.getUsername();
         Logging.info("Clearing JWT token for user: '" + username + "'");
         this.currentToken = null;
+        cancelScheduledRefresh();
         // Delete token from disk
         localStorageService.deleteEncryptedData(TOKEN_STORAGE_KEY);
         Logging.info("JWT token cleared successfully for user: '" + username + "'");
@@ -217,9 +213,9 @@ public class TokenService {
         
         if (currentToken.expiresWithin(warningMinutes)) {
             long minutesLeft = currentToken.getSecondsUntilExpiration() / 60;
-            Logging.warning("JWT token will expire in " + minutesLeft + " minutes for user: '" + currentToken.getUsername() + "'");
+            Logging.warning("JWT token will expire in {} minutes for user: '{}'", minutesLeft, currentToken.getUsername());
         } else {
-            Logging.debug("JWT token will not expire within " + warningMinutes + " minutes for user: '" + currentToken.getUsername() + "'");
+            Logging.debug("JWT token will not expire within {} minutes for user: '{}'", warningMinutes, currentToken.getUsername());
         }
     }
 
@@ -236,33 +232,90 @@ public class TokenService {
             return false;
         }
         
-        if (currentToken.expiresWithin(refreshThresholdMinutes)) {
-            Logging.info("Token refresh needed for user: '" + currentToken.getUsername() + 
-                        "' (expires within " + refreshThresholdMinutes + " minutes)");
-            // TODO: Implement token refresh logic
-            // This would typically make an HTTP request to refresh the token
-            return true;
+        JWTToken token = currentToken;
+        if (token.expiresWithin(refreshThresholdMinutes)) {
+            Logging.info("Token refresh needed for user: '{}' (expires within {} minutes)",
+                        token.getUsername(), refreshThresholdMinutes);
+            JWTToken refreshed = awaitRefresh(refreshToken());
+            return refreshed != null && refreshed != token;
         } else {
-            Logging.debug("Token refresh not needed for user: '" + currentToken.getUsername() + 
-                         "' (does not expire within " + refreshThresholdMinutes + " minutes)");
+            Logging.debug("Token refresh not needed for user: '{}' (does not expire within {} minutes)",
+                         token.getUsername(), refreshThresholdMinutes);
             return false;
         }
     }
 
     /**
-     * Gets the time remaining until token expiration in seconds.
+     * Refreshes the current token in the background.
+     * If a refresh is already in flight, the existing refresh is returned instead
+     * of starting another one.
      *
-     * @return Seconds remaining until expiration, negative if expired, null if no token
+     * @return Future completed with the refreshed token, the still-valid current
+     *         token if the refresh failed, or null if no valid token is available
      */
-    public Long getSecondsUntilExpiration() {
-        if (currentToken == null) {
-            Logging.debug("No JWT token to check expiration time");
+    public CompletableFuture<JWTToken> refreshToken() {
+        while (true) {
+            CompletableFuture<JWTToken> existing = inFlightRefresh.get();
+            if (existing != null) {
+                Logging.debug("Token refresh already in progress, joining existing refresh");
+                return existing;
+            }
+            
+            CompletableFuture<JWTToken> refresh = new CompletableFuture<>();
+            if (inFlightRefresh.compareAndSet(null, refresh)) {
+                try {
+                    refreshScheduler.execute(() -> performRefresh(refresh));
+                } catch (RejectedExecutionException e) {
+                    Logging.debug("Token refresh scheduler is shut down, skipping refresh");
+                    inFlightRefresh.compareAndSet(refresh, null);
+                    JWTToken token = currentToken;
+                    refresh.complete(token != null && !token.isExpired() ? token : null);
+                }
+                return refresh;
+            }
+        }
+    }
+
+    /**
+     * Gets the authorization header for an outgoing request.
+     * If the current token has expired, waits for a refresh to complete
+     * rather than sending a request that would be rejected.
+     *
+     * @return The authorization header value, or null if no valid token is available
+     */
+    public String getValidAuthorizationHeader() {
+        JWTToken token = currentToken;
+        if (token == null) {
+            Logging.debug("No authorization header available - no token stored");
             return null;
         }
         
-        Long secondsLeft = currentToken.getSecondsUntilExpiration();
-        Logging.debug("JWT token expires in " + secondsLeft + " seconds for user: '" + currentToken.getUsername() + "'");
-        return secondsLeft;
+        if (token.isExpired()) {
+            Logging.info("JWT token expired, waiting for refresh before sending request");
+            token = awaitRefresh(refreshToken());
+        }
+        
+        return token != null ? token.getAuthorizationHeader() : null;
+    }
+
+    /**
+     * Stops the background refresh scheduler.
+     * Called during application shutdown.
+     */
+    public synchronized void shutdown() {
+        cancelScheduledRefresh();
+        refreshScheduler.shutdownNow();
+        Logging.info("Token refresh scheduler stopped");
+    }
+
+    /**
+     * Gets the time remaining until token expiration in seconds.
+     *
+     * @return Seconds remaining until expiration, negative if expired, null if no token
+     */
+    public Long getSecondsUntilExpiration() {
+        JWTToken token = currentToken;
+        return token != null ? token.getSecondsUntilExpiration() : null;
     }
 
     /**
@@ -272,20 +325,117 @@ public class TokenService {
      * @return true if the token will expire within the specified time, false otherwise
      */
     public boolean expiresWithin(int minutes) {
-        if (currentToken == null) {
-            Logging.debug("No JWT token to check if expires within " + minutes + " minutes");
-            return false;
+        JWTToken token = currentToken;
+        return token != null && token.expiresWithin(minutes);
+    }
+
+    /**
+     * Performs a token refresh against the server and completes the given future.
+     * Runs on the refresh scheduler thread.
+     */
+    private void performRefresh(CompletableFuture<JWTToken> refresh) {
+        JWTToken token = currentToken;
+        JWTToken result = null;
+        
+        try {
+            if (token == null) {
+                Logging.debug("No JWT token to refresh");
+                return;
+            }
+            
+            LoginResponse response = HTTPHandler.refreshToken(token.getAuthorizationHeader());
+            if (response.isSuccess() && response.hasJWTToken()) {
+                result = replaceRefreshedToken(token, response.getJWTToken());
+                Logging.info("JWT token refreshed for user: '" + token.getUsername() + "'");
+            } else {
+                Logging.warning("Token refresh failed - Status: " + response.getStatusCode());
+                result = token.isExpired() ? null : token;
+                scheduleRetry(token);
+            }
+        } catch (Exception e) {
+            Logging.error("Token refresh failed with exception: " + e.getMessage(), e);
+            result = token.isExpired() ? null : token;
+            scheduleRetry(token);
+        } finally {
+            inFlightRefresh.compareAndSet(refresh, null);
+            refresh.complete(result);
+        }
+    }
+
+    /**
+     * Installs a refreshed token unless the session changed while the refresh was running.
+     *
+     * @return The token that is current after the swap
+     */
+    private synchronized JWTToken replaceRefreshedToken(JWTToken previous, JWTToken refreshed) {
+        if (currentToken != previous) {
+            Logging.info("Token changed during refresh, discarding refreshed token");
+            return currentToken;
+        }
+        setToken(refreshed);
+        return refreshed;
+    }
+
+    /**
+     * Waits for a refresh to complete, bounded by the HTTP request timeout.
+     *
+     * @return The refreshed token, or null if the refresh did not produce a valid token
+     */
+    private JWTToken awaitRefresh(CompletableFuture<JWTToken> refresh) {
+        try {
+            return refresh.get(HTTPConfig.HTTP_TIMEOUT + HTTPConfig.HTTP_REQUEST_TIMEOUT, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            Logging.warning("Timed out waiting for JWT token refresh");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            Logging.error("Error waiting for JWT token refresh: " + e.getMessage(), e);
+        }
+        JWTToken token = currentToken;
+        return token != null && !token.isExpired() ? token : null;
+    }
+
+    /**
+     * Schedules a refresh shortly before the token expires.
+     */
+    private synchronized void scheduleRefresh(JWTToken token) {
+        cancelScheduledRefresh();
+        if (token == null || refreshScheduler.isShutdown()) {
+            return;
         }
         
-        boolean willExpire = currentToken.expiresWithin(minutes);
+        long delaySeconds = Math.max(0, token.getSecondsUntilExpiration() - HTTPConfig.TOKEN_REFRESH_THRESHOLD);
+        scheduledRefresh = refreshScheduler.schedule(this::refreshToken, delaySeconds, TimeUnit.SECONDS);
+        Logging.debug("Scheduled JWT token refresh in {} seconds for user: '{}'", delaySeconds, token.getUsername());
+    }
+
+    /**
+     * Schedules another refresh attempt after a failure, if the token is still usable.
+     */
+    private synchronized void scheduleRetry(JWTToken token) {
+        if (token != currentToken || refreshScheduler.isShutdown()) {
+            return;
+        }
         
-        if (willExpire) {
-            Logging.warning("JWT token will expire within " + minutes + " minutes for user: '" + currentToken.getUsername() + "'");
-        } else {
-            Logging.debug("JWT token will not expire within " + minutes + " minutes for user: '" + currentToken.getUsername() + "'");
+        long secondsLeft = token.getSecondsUntilExpiration();
+        if (secondsLeft <= 0) {
+            Logging.warning("JWT token expired and could not be refreshed for user: '" + token.getUsername() + "'");
+            return;
         }
         
-        return willExpire;
+        long delaySeconds = Math.min(HTTPConfig.TOKEN_REFRESH_RETRY_DELAY, secondsLeft);
+        cancelScheduledRefresh();
+        scheduledRefresh = refreshScheduler.schedule(this::refreshToken, delaySeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Cancels any pending scheduled refresh.
+     */
+    private synchronized void cancelScheduledRefresh() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
     }
 
     /**
@@ -303,6 +453,9 @@ public class TokenService {
      */
     private JWTToken toJWTToken(StoredToken stored) {
         if (stored == null) return null;
-        return new JWTToken(stored.getToken(), stored.getUsername(), LocalDateTime.now(), stored.getExpiresAt(), "Bearer");
+        JwtClaims claims = stored.getClaims();
+        LocalDateTime issuedAt = claims != null && claims.getIssuedAt() != null ? claims.getIssuedAt() : LocalDateTime.now();
+        String username = stored.getUsername() != null ? stored.getUsername() : (claims != null ? claims.getSubject() : null);
+        return new JWTToken(stored.getToken(), username, issuedAt, stored.getExpiresAt(), "Bearer", claims);
     }
 } 
\ No newline at end of file
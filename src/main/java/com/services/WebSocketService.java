@@ -1,14 +1,26 @@
 package com.services;
 
 import com.config.WebSocketConfig;
+import com.utils.concurrent.ExecutorRegistry;
 import com.utils.error_handling.Logging;
+import com.utils.metrics.Counter;
+import com.utils.metrics.LatencyHistogram;
+import com.utils.metrics.MetricsRegistry;
+import org.java_websocket.WebSocket;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.handshake.ServerHandshake;
 import org.java_websocket.framing.Framedata;
+import org.java_websocket.framing.PingFrame;
 
 import java.net.URI;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
@@ -25,10 +37,24 @@ import java.security.cert.X509Certificate;
  */
 public class WebSocketService {
     
+    // Metrics shared by every connection
+    private static final LatencyHistogram CONNECT_TIME = MetricsRegistry.getInstance().histogram("ws.connect");
+    private static final LatencyHistogram ROUND_TRIP_TIME = MetricsRegistry.getInstance().histogram("ws.round_trip");
+    private static final LatencyHistogram DISPATCH_TIME = MetricsRegistry.getInstance().histogram("ws.dispatch");
+    private static final Counter MESSAGES_SENT = MetricsRegistry.getInstance().counter("ws.messages_sent");
+    private static final Counter MESSAGES_RECEIVED = MetricsRegistry.getInstance().counter("ws.messages_received");
+    private static final Counter SEND_FAILURES = MetricsRegistry.getInstance().counter("ws.send_failures");
+    
     private WebSocketClient webSocketClient;
     private final AtomicBoolean isConnected = new AtomicBoolean(false);
     private final AtomicBoolean isConnecting = new AtomicBoolean(false);
     private String currentUsername;
+    private final List<Consumer<String>> messageListeners = new CopyOnWriteArrayList<>();
+    // System.nanoTime() of the unanswered ping, 0 if none; pings are sent by the connection-lost checker
+    private final AtomicLong pingSentAt = new AtomicLong();
+    
+    // How long connect() waits for the handshake before reporting a timeout
+    private static final long CONNECT_WAIT_MILLIS = 5_000;
     
     // Trust manager that accepts all certificates (for development only)
     private static final TrustManager[] trustAllCerts = new TrustManager[]{
@@ -45,6 +71,16 @@ public class WebSocketService {
      * @return CompletableFuture that completes when connection is established
      */
     public CompletableFuture<Boolean> connect(String username) {
+        return connect(username, WebSocketConfig.getGeneralWebSocketUrl());
+    }
+    
+    /**
+     * Connects to a specific WebSocket server URL
+     * @param username The username to identify this connection
+     * @param wsUrl The WebSocket URL to connect to (e.g. a local test server)
+     * @return CompletableFuture that completes when connection is established
+     */
+    public CompletableFuture<Boolean> connect(String username, String wsUrl) {
         if (isConnected.get()) {
             Logging.info("WebSocket already connected");
             return CompletableFuture.completedFuture(true);
@@ -56,7 +92,6 @@ public class WebSocketService {
         }
         
         // Check if WebSocket is enabled
-        String wsUrl = WebSocketConfig.getGeneralWebSocketUrl();
         if (wsUrl == null || wsUrl.isEmpty()) {
             Logging.info("🔌 WebSocket connections are disabled");
             return CompletableFuture.completedFuture(false);
@@ -65,6 +100,7 @@ public class WebSocketService {
         this.currentUsername = username;
         
         return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
             try {
                 isConnecting.set(true);
                 Logging.info("🔌 Attempting to connect to WebSocket server: " + wsUrl);
@@ -75,6 +111,9 @@ public class WebSocketService {
                 SSLContext sslContext = SSLContext.getInstance("TLS");
                 sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
                 
+                // Released as soon as the handshake succeeds or fails, instead of polling
+                CountDownLatch handshakeDone = new CountDownLatch(1);
+                
                 webSocketClient = new WebSocketClient(uri) {
                     @Override
                     public void onOpen(ServerHandshake handshakedata) {
@@ -82,6 +121,8 @@ public class WebSocketService {
                         Logging.info("📊 Handshake status: " + handshakedata.getHttpStatus() + " " + handshakedata.getHttpStatusMessage());
                         isConnected.set(true);
                         isConnecting.set(false);
+                        CONNECT_TIME.recordSince(startTime);
+                        handshakeDone.countDown();
                         
                         // Send a test message after successful connection
                         sendTestMessage();
@@ -89,15 +130,32 @@ public class WebSocketService {
                     
                     @Override
                     public void onMessage(String message) {
-                        Logging.info("📨 WebSocket message received: " + message);
+                        Logging.debug("📨 WebSocket message received: " + message);
                         handleIncomingMessage(message);
                     }
                     
+                    @Override
+                    public PingFrame onPreparePing(WebSocket conn) {
+                        // Only time the first of overlapping pings; its pong answers it
+                        pingSentAt.compareAndSet(0, System.nanoTime());
+                        return super.onPreparePing(conn);
+                    }
+                    
+                    @Override
+                    public void onWebsocketPong(WebSocket conn, Framedata frame) {
+                        long sentAt = pingSentAt.getAndSet(0);
+                        if (sentAt != 0) {
+                            ROUND_TRIP_TIME.recordSince(sentAt);
+                        }
+                    }
+                    
                     @Override
                     public void onClose(int code, String reason, boolean remote) {
                         Logging.info("🔌 WebSocket connection closed - Code: " + code + ", Reason: " + reason + ", Remote: " + remote);
                         isConnected.set(false);
                         isConnecting.set(false);
+                        pingSentAt.set(0);
+                        handshakeDone.countDown();
                     }
                     
                     @Override
@@ -105,6 +163,7 @@ public class WebSocketService {
                         Logging.error("❌ WebSocket error occurred: " + ex.getMessage(), ex);
                         isConnected.set(false);
                         isConnecting.set(false);
+                        handshakeDone.countDown();
                     }
                 };
                 
@@ -112,11 +171,7 @@ public class WebSocketService {
                 webSocketClient.connect();
                 
                 // Wait for connection to be established
-                int attempts = 0;
-                while (!isConnected.get() && attempts < 10) {
-                    Thread.sleep(500);
-                    attempts++;
-                }
+                handshakeDone.await(CONNECT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
                 
                 if (isConnected.get()) {
                     Logging.info("✅ WebSocket connection established successfully");
@@ -131,7 +186,7 @@ public class WebSocketService {
                 isConnecting.set(false);
                 return false;
             }
-        });
+        }, ExecutorRegistry.getInstance().io());
     }
     
     /**
@@ -159,38 +214,86 @@ public class WebSocketService {
      */
     public boolean sendMessage(String message) {
         if (!isConnected.get() || webSocketClient == null) {
+            SEND_FAILURES.increment();
             Logging.warning("Cannot send message: WebSocket not connected");
             return false;
         }
         
         try {
             webSocketClient.send(message);
-            Logging.info("Message sent via WebSocket: " + message);
+            MESSAGES_SENT.increment();
+            Logging.debug("Message sent via WebSocket: {}", message);
             return true;
         } catch (Exception e) {
+            SEND_FAILURES.increment();
             Logging.error("Failed to send WebSocket message: " + e.getMessage(), e);
             return false;
         }
     }
     
+    /**
+     * Sends a ping; the time until the server's pong is recorded in the
+     * "ws.round_trip" histogram. The client also pings on its own when the
+     * connection has been quiet for the connection-lost timeout.
+     * @return true if the ping was sent, false if not connected
+     */
+    public boolean ping() {
+        if (!isConnected.get() || webSocketClient == null) {
+            return false;
+        }
+        try {
+            webSocketClient.sendPing();
+            return true;
+        } catch (Exception e) {
+            Logging.warning("⚠️ Failed to send WebSocket ping: {}", e.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Handles incoming WebSocket messages
      * @param message The received message
      */
     private void handleIncomingMessage(String message) {
+        MESSAGES_RECEIVED.increment();
+        long startTime = System.nanoTime();
         try {
-            // For now, just log the message
-            // In a real application, you would parse the message and handle different types
-            Logging.info("Processing incoming WebSocket message: " + message);
+            Logging.debug("Processing incoming WebSocket message: " + message);
+            
+            // Hand the raw message to any registered listeners
+            for (Consumer<String> listener : messageListeners) {
+                listener.accept(message);
+            }
             
             // TODO: Add message parsing and handling logic based on message type
             // Example: handle game updates, chat messages, notifications, etc.
             
         } catch (Exception e) {
             Logging.error("Error handling incoming WebSocket message: " + e.getMessage(), e);
+        } finally {
+            DISPATCH_TIME.recordSince(startTime);
         }
     }
     
+    /**
+     * Registers a listener that receives every incoming WebSocket message.
+     * Listeners are invoked on the WebSocket client's read thread.
+     * @param listener The listener to add
+     */
+    public void addMessageListener(Consumer<String> listener) {
+        if (listener != null) {
+            messageListeners.add(listener);
+        }
+    }
+    
+    /**
+     * Removes a previously registered message listener.
+     * @param listener The listener to remove
+     */
+    public void removeMessageListener(Consumer<String> listener) {
+        messageListeners.remove(listener);
+    }
+    
     /**
      * Disconnects from the WebSocket server
      */
@@ -0,0 +1,95 @@
+package com.test;
+
+import com.utils.error_handling.Logging;
+import com.utils.error_handling.SafeExecute;
+import com.utils.error_handling.SafeExecute.BatchResult;
+import com.utils.error_handling.enums.BatchFailureMode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Wall-clock benchmark for I/O-bound batches, such as loading modules or
+ * fetching several endpoints. Each task blocks for a fixed latency, standing
+ * in for a disk read or HTTP round trip, so the results depend on overlap
+ * rather than CPU count.
+ *
+ * Compares the sequential executeBatch with executeBatchParallel at several
+ * concurrency limits, then shows fail-fast and deadline behaviour.
+ *
+ * Usage: BatchExecutionBenchmark [tasks] [latencyMs] [rounds]
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class BatchExecutionBenchmark {
+
+    private static final int[] CONCURRENCY_LIMITS = {2, 4, 8, 16};
+
+    public static void main(String[] args) {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 20;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            int id = i;
+            tasks.add(() -> {
+                Thread.sleep(latencyMs);
+                return id;
+            });
+        }
+
+        Logging.info("🧪 Starting batch benchmark - Tasks: " + taskCount + ", latency: " + latencyMs
+                + "ms, rounds: " + rounds);
+
+        // Warm up the pool threads and the code paths
+        SafeExecute.executeBatchParallel(tasks, "Warmup batch failed", 16);
+
+        double sequentialMs = runCase("sequential", rounds,
+                () -> SafeExecute.executeBatch(tasks, "Sequential batch failed").size());
+        for (int limit : CONCURRENCY_LIMITS) {
+            double parallelMs = runCase("parallel x" + limit, rounds,
+                    () -> SafeExecute.executeBatchParallel(tasks, "Parallel batch failed", limit).getSuccessCount());
+            Logging.info(String.format("  %-28s %8.2fx", "  speedup", sequentialMs / parallelMs));
+        }
+
+        // One early failure: fail-fast stops the batch, collect-all runs it to the end
+        List<Callable<Integer>> failing = new ArrayList<>(tasks);
+        failing.set(1, () -> {
+            Thread.sleep(latencyMs);
+            throw new IOException("Simulated endpoint failure");
+        });
+        runCase("collect-all, 1 failure", rounds, () -> SafeExecute.executeBatchParallel(failing,
+                "Batch failed", 4, BatchFailureMode.COLLECT_ALL, 0).getFailureCount());
+        runCase("fail-fast, 1 failure", rounds, () -> SafeExecute.executeBatchParallel(failing,
+                "Batch failed", 4, BatchFailureMode.FAIL_FAST, 0).getFailureCount());
+
+        // A deadline shorter than the batch: unfinished tasks are cancelled when it passes
+        long deadlineMs = latencyMs * 3;
+        BatchResult<Integer> partial = SafeExecute.executeBatchParallel(tasks, "Batch timed out", 4,
+                BatchFailureMode.COLLECT_ALL, deadlineMs);
+        Logging.info("  deadline " + deadlineMs + "ms: " + partial.getSuccessCount() + " succeeded, "
+                + partial.getFailureCount() + " cancelled");
+
+        SafeExecute.shutdown();
+    }
+
+    /**
+     * Runs a batch case several times and logs the average wall-clock time.
+     * @return The average time per batch in milliseconds
+     */
+    private static double runCase(String name, int rounds, java.util.function.IntSupplier batch) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            sink += batch.getAsInt();
+        }
+        double averageMs = (System.nanoTime() - start) / 1e6 / rounds;
+        Logging.info(String.format("  %-28s %8.2f ms/batch (%d)", name, averageMs, sink / rounds));
+        return averageMs;
+    }
+}
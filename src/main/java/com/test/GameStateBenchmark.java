@@ -0,0 +1,119 @@
+package com.test;
+
+import com.game.GameOptions;
+import com.game.GameState;
+import com.game.enums.GameMode;
+import com.utils.error_handling.Logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Micro-benchmark for per-frame GameState updates.
+ * Compares the previous HashMap<String, Object> storage (boxed values and an
+ * instanceof check per read) against the slot storage, accessed by key name
+ * and by pre-resolved key ID, for score and timer read/write loops.
+ *
+ * Usage: GameStateBenchmark [iterations]
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class GameStateBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000_000;
+
+    // Prevents the JIT from eliminating the benchmarked calls
+    private static long sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            Logging.error("❌ Thread allocation measurement is not supported on this JVM");
+            return;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // Previous storage: boxed values in a HashMap
+        Map<String, Object> map = new HashMap<>();
+        map.put("score", 1000);
+        map.put("elapsed", 0.0);
+        map.put("turn", 0L);
+
+        GameState state = new GameState("benchmark", "Benchmark", GameMode.SINGLE_PLAYER, 1, new GameOptions());
+        state.setIntStateValue("score", 1000);
+        state.setDoubleStateValue("elapsed", 0.0);
+        state.setLongStateValue("turn", 0L);
+        int scoreId = GameState.keyId("score");
+        int elapsedId = GameState.keyId("elapsed");
+        int turnId = GameState.keyId("turn");
+
+        Logging.info("🧪 Starting game state benchmark - Iterations: " + iterations);
+        runCase(threadBean, "HashMap score += 1", iterations, () -> {
+            Object value = map.get("score");
+            int score = (value instanceof Integer ? (Integer) value : 0) + 1;
+            map.put("score", score);
+            return score;
+        });
+        runCase(threadBean, "slots by name score += 1", iterations, () -> {
+            int score = state.getIntStateValue("score", 0) + 1;
+            state.setIntStateValue("score", score);
+            return score;
+        });
+        runCase(threadBean, "slots by id score += 1", iterations, () -> {
+            int score = state.getIntStateValue(scoreId, 0) + 1;
+            state.setIntStateValue(scoreId, score);
+            return score;
+        });
+
+        runCase(threadBean, "HashMap frame tick", iterations, () -> {
+            Object elapsed = map.get("elapsed");
+            Object turn = map.get("turn");
+            map.put("elapsed", (elapsed instanceof Double ? (Double) elapsed : 0.0) + 0.016);
+            long next = (turn instanceof Long ? (Long) turn : 0L) + 1;
+            map.put("turn", next);
+            return next;
+        });
+        runCase(threadBean, "slots by id frame tick", iterations, () -> {
+            state.setDoubleStateValue(elapsedId, state.getDoubleStateValue(elapsedId, 0.0) + 0.016);
+            long next = state.getLongStateValue(turnId, 0L) + 1;
+            state.setLongStateValue(turnId, next);
+            return next;
+        });
+
+        runCase(threadBean, "HashMap read score", iterations, () -> {
+            Object value = map.get("score");
+            return value instanceof Integer ? (Integer) value : 0;
+        });
+        runCase(threadBean, "slots by name read score", iterations, () -> state.getIntStateValue("score", 0));
+        runCase(threadBean, "slots by id read score", iterations, () -> state.getIntStateValue(scoreId, 0));
+        Logging.info("Result sink: " + sink);
+    }
+
+    /**
+     * Runs a single benchmark case and logs ns/op and bytes/op.
+     */
+    private static void runCase(com.sun.management.ThreadMXBean threadBean, String name,
+                                int iterations, java.util.function.LongSupplier operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.getAsLong();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        Logging.info(String.format("  %-28s %8.2f ns/op %10.4f bytes/op", name,
+                (double) elapsed / iterations, (double) bytes / iterations));
+    }
+}
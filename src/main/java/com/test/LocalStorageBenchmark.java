@@ -0,0 +1,158 @@
+package com.test;
+
+import com.services.EncryptedFileCodec;
+import com.utils.error_handling.Logging;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Benchmark of the encrypted storage file formats.
+ * Compares the legacy format (Cipher.getInstance per call, AES/ECB, Base64 text,
+ * Files.write) against EncryptedFileCodec (cached AES-GCM cipher, binary
+ * container, channel I/O) for read/write latency and file size.
+ *
+ * Usage: LocalStorageBenchmark [iterations]
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class LocalStorageBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 500;
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        SecretKey key = new SecretKeySpec(keyBytes, "AES");
+        EncryptedFileCodec codec = new EncryptedFileCodec(key);
+
+        Path dir = Files.createTempDirectory("omg-storage-bench");
+        try {
+            Logging.info("🧪 Starting local storage benchmark - Iterations: " + iterations);
+            for (int size : new int[]{256, 4 * 1024, 64 * 1024}) {
+                byte[] payload = createPayload(size);
+                runLegacy(dir.resolve("legacy.enc"), key, payload, iterations);
+                runBinary(dir.resolve("binary.enc"), codec, payload, iterations);
+
+                // The codec must still read files written in the legacy format
+                byte[] migrated = codec.decrypt(Files.readAllBytes(dir.resolve("legacy.enc")));
+                if (!Arrays.equals(migrated, payload)) {
+                    Logging.error("❌ Legacy file could not be read back through the codec");
+                }
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                files.forEach(path -> path.toFile().delete());
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Benchmarks the legacy Base64/ECB format as LocalStorageService used to write it.
+     */
+    private static void runLegacy(Path path, SecretKey key, byte[] payload, int iterations) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            writeLegacy(path, key, payload);
+            readLegacy(path, key);
+        }
+
+        long writeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            writeLegacy(path, key, payload);
+        }
+        long writeNanos = System.nanoTime() - writeStart;
+
+        long readStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            readLegacy(path, key);
+        }
+        long readNanos = System.nanoTime() - readStart;
+
+        report("legacy", payload.length, Files.size(path), writeNanos, readNanos, iterations);
+    }
+
+    /**
+     * Benchmarks the binary AES-GCM container.
+     * Writes are measured without fsync so both formats pay the same I/O cost.
+     */
+    private static void runBinary(Path path, EncryptedFileCodec codec, byte[] payload, int iterations) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            writeBinary(path, codec, payload);
+            codec.decrypt(EncryptedFileCodec.readFile(path));
+        }
+
+        long writeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            writeBinary(path, codec, payload);
+        }
+        long writeNanos = System.nanoTime() - writeStart;
+
+        long readStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            codec.decrypt(EncryptedFileCodec.readFile(path));
+        }
+        long readNanos = System.nanoTime() - readStart;
+
+        report("binary", payload.length, Files.size(path), writeNanos, readNanos, iterations);
+    }
+
+    private static void writeLegacy(Path path, SecretKey key, byte[] payload) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, key);
+        String encoded = Base64.getEncoder().encodeToString(cipher.doFinal(payload));
+        Files.write(path, encoded.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] readLegacy(Path path, SecretKey key) throws Exception {
+        String encoded = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, key);
+        return cipher.doFinal(Base64.getDecoder().decode(encoded));
+    }
+
+    private static void writeBinary(Path path, EncryptedFileCodec codec, byte[] payload) throws Exception {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] buffers = codec.encrypt(payload);
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+    }
+
+    /**
+     * Creates a JSON-like payload of roughly the requested size.
+     */
+    private static byte[] createPayload(int size) {
+        StringBuilder json = new StringBuilder("{\"entries\":[");
+        int i = 0;
+        while (json.length() < size - 2) {
+            json.append("{\"key\":\"setting").append(i).append("\",\"value\":").append(i * 31).append("},");
+            i++;
+        }
+        json.setLength(Math.min(json.length(), size - 2));
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void report(String format, int payloadSize, long fileSize, long writeNanos, long readNanos, int iterations) {
+        Logging.info(String.format("  %-7s payload %6d B  file %6d B  write %8.2f us/op  read %8.2f us/op",
+                format, payloadSize, fileSize,
+                writeNanos / 1000.0 / iterations, readNanos / 1000.0 / iterations));
+    }
+}
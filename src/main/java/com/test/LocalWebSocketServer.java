@@ -0,0 +1,229 @@
+package com.test;
+
+import com.config.WebSocketConfig;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.utils.error_handling.Logging;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embeddable local WebSocket server that stands in for the game server.
+ * Mimics the general, game, chat and lobby endpoints from WebSocketConfig so the
+ * client networking stack can be exercised offline.
+ *
+ * Every request is answered with an "ack" message that echoes the request's
+ * "id" and "sentAt" fields, which lets load generators measure round trips.
+ * - General endpoint: acknowledges any message.
+ * - Game endpoint: "join_match" joins a match, "move" is relayed to the other players.
+ * - Chat endpoint: "chat" is broadcast to every chat connection.
+ * - Lobby endpoint: "create_match", "list_matches" and "join_match".
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class LocalWebSocketServer extends WebSocketServer {
+
+    private final CountDownLatch startedLatch = new CountDownLatch(1);
+    private final Map<String, Set<WebSocket>> matchPlayers = new ConcurrentHashMap<>();
+    private final Set<WebSocket> chatConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger matchCounter = new AtomicInteger();
+
+    /**
+     * Creates a local server bound to the loopback interface.
+     *
+     * @param port The port to listen on
+     */
+    public LocalWebSocketServer(int port) {
+        super(new InetSocketAddress("127.0.0.1", port));
+        setReuseAddr(true);
+    }
+
+    /**
+     * Starts the server and waits until it is accepting connections.
+     *
+     * @param timeoutMs Maximum time to wait for startup
+     * @return true if the server started in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean startAndWait(long timeoutMs) throws InterruptedException {
+        start();
+        return startedLatch.await(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the base URL of this server, e.g. "ws://127.0.0.1:8080".
+     *
+     * @return The base WebSocket URL
+     */
+    public String getBaseUrl() {
+        return "ws://127.0.0.1:" + getPort();
+    }
+
+    @Override
+    public void onStart() {
+        Logging.info("🧪 Local WebSocket server listening on " + getBaseUrl());
+        startedLatch.countDown();
+    }
+
+    @Override
+    public void onOpen(WebSocket conn, ClientHandshake handshake) {
+        String endpoint = handshake.getResourceDescriptor();
+        conn.setAttachment(endpoint);
+        if (WebSocketConfig.getChatEndpoint().equals(endpoint)) {
+            chatConnections.add(conn);
+        }
+        Logging.debug("Local server connection opened on " + endpoint);
+    }
+
+    @Override
+    public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+        chatConnections.remove(conn);
+        matchPlayers.values().forEach(players -> players.remove(conn));
+        Logging.debug("Local server connection closed - Code: " + code);
+    }
+
+    @Override
+    public void onMessage(WebSocket conn, String message) {
+        JsonObject request;
+        try {
+            request = JsonParser.parseString(message).getAsJsonObject();
+        } catch (Exception e) {
+            conn.send("{\"type\":\"error\",\"message\":\"Invalid JSON\"}");
+            return;
+        }
+
+        String endpoint = conn.getAttachment();
+        String type = request.has("type") ? request.get("type").getAsString() : "";
+
+        if (WebSocketConfig.getGameEndpoint().equals(endpoint)) {
+            handleGameMessage(conn, type, request);
+        } else if (WebSocketConfig.getChatEndpoint().equals(endpoint)) {
+            handleChatMessage(conn, type, request);
+        } else if (WebSocketConfig.getLobbyEndpoint().equals(endpoint)) {
+            handleLobbyMessage(conn, type, request);
+        }
+
+        conn.send(createAck(type, request).toString());
+    }
+
+    @Override
+    public void onError(WebSocket conn, Exception ex) {
+        Logging.error("❌ Local WebSocket server error: " + ex.getMessage(), ex);
+    }
+
+    /**
+     * Handles game protocol messages.
+     */
+    private void handleGameMessage(WebSocket conn, String type, JsonObject request) {
+        String matchId = request.has("matchId") ? request.get("matchId").getAsString() : null;
+        if (matchId == null) {
+            return;
+        }
+
+        if ("join_match".equals(type)) {
+            matchPlayers.computeIfAbsent(matchId, id -> ConcurrentHashMap.newKeySet()).add(conn);
+        } else if ("move".equals(type)) {
+            Set<WebSocket> players = matchPlayers.get(matchId);
+            if (players != null) {
+                String relay = request.toString();
+                for (WebSocket player : players) {
+                    if (player != conn && player.isOpen()) {
+                        player.send(relay);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles chat protocol messages.
+     */
+    private void handleChatMessage(WebSocket conn, String type, JsonObject request) {
+        if ("chat".equals(type)) {
+            String relay = request.toString();
+            for (WebSocket other : chatConnections) {
+                if (other != conn && other.isOpen()) {
+                    other.send(relay);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles lobby protocol messages.
+     */
+    private void handleLobbyMessage(WebSocket conn, String type, JsonObject request) {
+        if ("create_match".equals(type)) {
+            String matchId = "M" + (10000 + matchCounter.incrementAndGet());
+            matchPlayers.computeIfAbsent(matchId, id -> ConcurrentHashMap.newKeySet()).add(conn);
+            request.addProperty("matchId", matchId);
+        } else if ("list_matches".equals(type)) {
+            JsonArray matches = new JsonArray();
+            matchPlayers.forEach((matchId, players) -> {
+                JsonObject match = new JsonObject();
+                match.addProperty("matchId", matchId);
+                match.addProperty("players", players.size());
+                matches.add(match);
+            });
+            request.add("matches", matches);
+        } else if ("join_match".equals(type) && request.has("matchId")) {
+            matchPlayers.computeIfAbsent(request.get("matchId").getAsString(),
+                    id -> ConcurrentHashMap.newKeySet()).add(conn);
+        }
+    }
+
+    /**
+     * Builds the acknowledgement sent back for every request.
+     */
+    private JsonObject createAck(String type, JsonObject request) {
+        JsonObject ack = new JsonObject();
+        ack.addProperty("type", "ack");
+        ack.addProperty("replyTo", type);
+        if (request.has("id")) {
+            ack.add("id", request.get("id"));
+        }
+        if (request.has("sentAt")) {
+            ack.add("sentAt", request.get("sentAt"));
+        }
+        if (request.has("matchId")) {
+            ack.add("matchId", request.get("matchId"));
+        }
+        if (request.has("matches")) {
+            ack.add("matches", request.get("matches"));
+        }
+        return ack;
+    }
+
+    /**
+     * Runs the server standalone until the process is stopped.
+     *
+     * @param args Optional port (defaults to 8080)
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        LocalWebSocketServer server = new LocalWebSocketServer(port);
+        if (!server.startAndWait(5000)) {
+            Logging.error("❌ Local WebSocket server failed to start on port " + port);
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.stop(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+}
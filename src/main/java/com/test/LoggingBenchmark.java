@@ -0,0 +1,111 @@
+package com.test;
+
+import com.network.JWTToken;
+import com.services.TokenService;
+import com.utils.error_handling.Logging;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Micro-benchmark for logging overhead on the token hot path.
+ * Compares a disabled debug message built by string concatenation (the previous
+ * style) with the parameterized, Supplier and guarded forms, then measures the
+ * TokenService validity checks that log on every call. Optionally logs enabled
+ * INFO messages to show the caller-side cost of the asynchronous appender.
+ *
+ * Run with the default INFO level so the debug cases measure a disabled level.
+ *
+ * Usage: LoggingBenchmark [iterations] [enabledIterations]
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class LoggingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000_000;
+    private static final int WARNING_MINUTES = 5;
+
+    // Prevents the JIT from eliminating the benchmarked calls
+    private static long sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int enabledIterations = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            Logging.error("❌ Thread allocation measurement is not supported on this JVM");
+            return;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        if (Logging.isDebugEnabled()) {
+            Logging.warning("⚠️ Debug logging is enabled - the disabled-level cases will log every call");
+        }
+
+        JWTToken token = JWTToken.fromServerResponse("header.payload.signature", "benchmark", 3600);
+        TokenService tokenService = new TokenService();
+        tokenService.setToken(token);
+        String username = token.getUsername();
+
+        Logging.info("🧪 Starting logging benchmark - Iterations: " + iterations);
+        runCase(threadBean, "debug concatenation", WARMUP_ITERATIONS, iterations, () -> {
+            Logging.debug("JWT token will not expire within " + WARNING_MINUTES + " minutes for user: '"
+                    + token.getUsername() + "'" + sink);
+            return 1;
+        });
+        runCase(threadBean, "debug parameterized", WARMUP_ITERATIONS, iterations, () -> {
+            Logging.debug("JWT token will not expire within {} minutes for user: '{}'", sink, username);
+            return 1;
+        });
+        runCase(threadBean, "debug supplier", WARMUP_ITERATIONS, iterations, () -> {
+            Logging.debug(() -> "JWT token will not expire within " + sink + " minutes for user: '" + username + "'");
+            return 1;
+        });
+        runCase(threadBean, "debug guarded", WARMUP_ITERATIONS, iterations, () -> {
+            if (Logging.isDebugEnabled()) {
+                Logging.debug("JWT token will not expire within " + sink + " minutes for user: '" + username + "'");
+            }
+            return 1;
+        });
+        runCase(threadBean, "checkTokenExpiration", WARMUP_ITERATIONS, iterations, () -> {
+            tokenService.checkTokenExpiration(WARNING_MINUTES);
+            return 1;
+        });
+        runCase(threadBean, "refreshTokenIfNeeded", WARMUP_ITERATIONS, iterations,
+                () -> tokenService.refreshTokenIfNeeded(WARNING_MINUTES) ? 1 : 0);
+
+        if (enabledIterations > 0) {
+            // Each call is written by the async appender's thread; only the enqueue is timed here
+            runCase(threadBean, "info enabled (async)", 0, enabledIterations, () -> {
+                Logging.info("🧪 Token check {} for user: '{}'", sink, username);
+                return 1;
+            });
+        }
+        tokenService.shutdown();
+        Logging.info("Result sink: " + sink);
+    }
+
+    /**
+     * Runs a single benchmark case and logs ns/op and bytes/op.
+     */
+    private static void runCase(com.sun.management.ThreadMXBean threadBean, String name,
+                                int warmup, int iterations, java.util.function.LongSupplier operation) {
+        for (int i = 0; i < warmup; i++) {
+            sink += operation.getAsLong();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        Logging.info(String.format("  %-28s %8.2f ns/op %10.4f bytes/op", name,
+                (double) elapsed / iterations, (double) bytes / iterations));
+    }
+}
@@ -0,0 +1,92 @@
+package com.test;
+
+import com.game.GameModule;
+import com.game.GameOptions;
+import com.game.rules.GameRules;
+import com.game.rules.SelfPlaySimulator;
+import com.game.sourcing.LocalGameSource;
+import com.utils.error_handling.Logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless self-play benchmark and fuzzer for game modules: the module classes
+ * named on the command line, or every module LocalGameSource discovers.
+ * For each module with headless rules, plays one validated run (every move
+ * checked against the legal moves) to fuzz the rules, then measures random
+ * self-play throughput on 1, 2, 4, ... up to all available cores.
+ *
+ * Usage: SelfPlayBenchmark [games] [boardSize|-] [moduleClass...]
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SelfPlayBenchmark {
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 2_000_000;
+        GameOptions options = new GameOptions();
+        if (args.length > 1 && !args[1].equals("-")) {
+            options.setIntOption("boardSize", Integer.parseInt(args[1]));
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+
+        Logging.info("🧪 Starting self-play benchmark - Games: " + games + ", cores: " + cores);
+        List<GameModule> modules = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            modules.add((GameModule) Class.forName(args[i]).getDeclaredConstructor().newInstance());
+        }
+        if (modules.isEmpty()) {
+            modules = new LocalGameSource().discoverGames();
+        }
+        for (GameModule module : modules) {
+            GameRules<?> rules = module.getRules(options);
+            if (rules == null) {
+                Logging.info("⏭️ " + module.getGameName() + " has no headless rules");
+                continue;
+            }
+            Logging.info("🎲 " + module.getGameName() + " (" + rules.getClass().getSimpleName() + ")");
+            benchmark(rules, games, threadCounts);
+        }
+    }
+
+    private static <S> void benchmark(GameRules<S> rules, long games, List<Integer> threadCounts) {
+        SelfPlaySimulator.SimulationResult fuzz = SelfPlaySimulator.run(rules, Math.max(1, games / 10), SEED);
+        if (fuzz.failures() > 0) {
+            Logging.error("❌ Rules fuzzing failed: " + fuzz);
+        } else {
+            Logging.info("  ✅ fuzzing: " + fuzz);
+        }
+
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                // Warm up the JIT on this pool, then measure
+                SelfPlaySimulator.run(rules, SelfPlaySimulator.randomPolicy(), Math.max(1, games / 10), SEED,
+                        pool, SelfPlaySimulator.DEFAULT_MAX_PLIES, false);
+                SelfPlaySimulator.SimulationResult result = SelfPlaySimulator.run(rules,
+                        SelfPlaySimulator.randomPolicy(), games, SEED, pool, SelfPlaySimulator.DEFAULT_MAX_PLIES,
+                        false);
+                double rate = result.getGamesPerSecond();
+                if (baseline == 0) {
+                    baseline = rate;
+                }
+                Logging.info(String.format("  %2d threads %12.0f games/s %6.2fx  %.1f moves/game", threads, rate,
+                        rate / baseline, result.getAverageLength()));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
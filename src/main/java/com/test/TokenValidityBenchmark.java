@@ -0,0 +1,68 @@
+package com.test;
+
+import com.network.JWTToken;
+import com.utils.error_handling.Logging;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Micro-benchmark for the token validity hot path.
+ * Measures time and heap allocation per call of the checks that run on every
+ * authenticated request, using the JVM's per-thread allocation counter.
+ *
+ * Usage: TokenValidityBenchmark [iterations]
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class TokenValidityBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000_000;
+
+    // Prevents the JIT from eliminating the benchmarked calls
+    private static long sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            Logging.error("❌ Thread allocation measurement is not supported on this JVM");
+            return;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        JWTToken token = JWTToken.fromServerResponse("header.payload.signature", "benchmark", 3600);
+
+        Logging.info("🧪 Starting token validity benchmark - Iterations: " + iterations);
+        runCase(threadBean, "isExpired", WARMUP_ITERATIONS, iterations, () -> token.isExpired() ? 1 : 0);
+        runCase(threadBean, "expiresWithin", WARMUP_ITERATIONS, iterations, () -> token.expiresWithin(5) ? 1 : 0);
+        runCase(threadBean, "getSecondsUntilExpiration", WARMUP_ITERATIONS, iterations, token::getSecondsUntilExpiration);
+        runCase(threadBean, "getAuthorizationHeader", WARMUP_ITERATIONS, iterations, () -> token.getAuthorizationHeader().length());
+        Logging.info("Result sink: " + sink);
+    }
+
+    /**
+     * Runs a single benchmark case and logs ns/op and bytes/op.
+     */
+    private static void runCase(com.sun.management.ThreadMXBean threadBean, String name,
+                                int warmup, int iterations, java.util.function.LongSupplier operation) {
+        for (int i = 0; i < warmup; i++) {
+            sink += operation.getAsLong();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        Logging.info(String.format("  %-28s %8.2f ns/op %10.4f bytes/op", name,
+                (double) elapsed / iterations, (double) bytes / iterations));
+    }
+}
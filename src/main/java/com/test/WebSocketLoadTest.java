@@ -0,0 +1,186 @@
+package com.test;
+
+import com.config.WebSocketConfig;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.services.WebSocketService;
+import com.utils.error_handling.Logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load generator for the client networking stack.
+ * Starts a LocalWebSocketServer, connects N simulated clients through
+ * WebSocketService and reports p50/p99 round-trip latency and throughput.
+ *
+ * Usage: WebSocketLoadTest [clients] [messagesPerClient] [general|game|chat|lobby]
+ *
+ * Each client runs on its own thread from a fixed pool (the project targets
+ * Java 17, so virtual threads are not available) and sends messages in a
+ * closed loop, waiting for the server's ack before sending the next one.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class WebSocketLoadTest {
+
+    private static final long ACK_TIMEOUT_MS = 5000;
+
+    public static void main(String[] args) {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int messagesPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        String protocol = args.length > 2 ? args[2] : "game";
+
+        Logging.info("🧪 Starting WebSocket load test - Clients: " + clientCount +
+                ", Messages per client: " + messagesPerClient + ", Protocol: " + protocol);
+
+        LocalWebSocketServer server = new LocalWebSocketServer(0);
+        ExecutorService clientPool = Executors.newFixedThreadPool(clientCount);
+        try {
+            if (!server.startAndWait(5000)) {
+                Logging.error("❌ Local WebSocket server failed to start");
+                return;
+            }
+            String url = server.getBaseUrl() + endpointFor(protocol);
+
+            List<Future<long[]>> results = new ArrayList<>();
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < clientCount; i++) {
+                String username = "loaduser" + i;
+                results.add(clientPool.submit(() -> runClient(username, url, protocol, messagesPerClient)));
+            }
+
+            long[] latencies = new long[clientCount * messagesPerClient];
+            int count = 0;
+            for (Future<long[]> result : results) {
+                long[] clientLatencies = result.get();
+                System.arraycopy(clientLatencies, 0, latencies, count, clientLatencies.length);
+                count += clientLatencies.length;
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            printReport(Arrays.copyOf(latencies, count), clientCount * messagesPerClient, elapsedNanos);
+
+        } catch (Exception e) {
+            Logging.error("❌ WebSocket load test failed: " + e.getMessage(), e);
+        } finally {
+            clientPool.shutdownNow();
+            try {
+                server.stop(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Runs one simulated client and returns the round-trip latencies it observed.
+     */
+    private static long[] runClient(String username, String url, String protocol, int messages) throws Exception {
+        WebSocketService client = new WebSocketService();
+        BlockingQueue<Long> acks = new ArrayBlockingQueue<>(messages + 1);
+        client.addMessageListener(message -> {
+            JsonObject json = JsonParser.parseString(message).getAsJsonObject();
+            if ("ack".equals(json.get("type").getAsString()) && json.has("sentAt")) {
+                acks.offer(System.nanoTime() - json.get("sentAt").getAsLong());
+            }
+        });
+
+        if (!client.connect(username, url).get()) {
+            Logging.warning("❌ Load test client could not connect: " + username);
+            return new long[0];
+        }
+
+        String matchId = "M" + Math.abs(username.hashCode() % 100);
+        if ("game".equals(protocol)) {
+            client.sendMessage("{\"type\":\"join_match\",\"matchId\":\"" + matchId + "\"}");
+        }
+
+        long[] latencies = new long[messages];
+        int received = 0;
+        for (int i = 0; i < messages; i++) {
+            client.sendMessage(createMessage(protocol, username, matchId, i, System.nanoTime()));
+            Long rtt = acks.poll(ACK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (rtt == null) {
+                Logging.warning("⏰ Ack timeout for " + username + " message " + i);
+                continue;
+            }
+            latencies[received++] = rtt;
+        }
+
+        client.disconnect();
+        return Arrays.copyOf(latencies, received);
+    }
+
+    /**
+     * Creates a protocol-specific request carrying an id and send timestamp.
+     */
+    private static String createMessage(String protocol, String username, String matchId, int id, long sentAt) {
+        switch (protocol) {
+            case "game":
+                return "{\"type\":\"move\",\"id\":" + id + ",\"sentAt\":" + sentAt +
+                        ",\"matchId\":\"" + matchId + "\",\"username\":\"" + username + "\",\"position\":" + (id % 9) + "}";
+            case "chat":
+                return "{\"type\":\"chat\",\"id\":" + id + ",\"sentAt\":" + sentAt +
+                        ",\"username\":\"" + username + "\",\"message\":\"load test message " + id + "\"}";
+            case "lobby":
+                return "{\"type\":\"list_matches\",\"id\":" + id + ",\"sentAt\":" + sentAt + "}";
+            default:
+                return "{\"type\":\"ping\",\"id\":" + id + ",\"sentAt\":" + sentAt +
+                        ",\"username\":\"" + username + "\"}";
+        }
+    }
+
+    /**
+     * Maps a protocol name to its WebSocket endpoint path.
+     */
+    private static String endpointFor(String protocol) {
+        switch (protocol) {
+            case "game":
+                return WebSocketConfig.getGameEndpoint();
+            case "chat":
+                return WebSocketConfig.getChatEndpoint();
+            case "lobby":
+                return WebSocketConfig.getLobbyEndpoint();
+            default:
+                return WebSocketConfig.getGeneralEndpoint();
+        }
+    }
+
+    /**
+     * Logs the latency percentiles and throughput of the run.
+     */
+    private static void printReport(long[] latencies, int expected, long elapsedNanos) {
+        if (latencies.length == 0) {
+            Logging.error("❌ No round trips completed");
+            return;
+        }
+        Arrays.sort(latencies);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        Logging.info("📊 WebSocket Load Test Report:");
+        Logging.info("  Round trips: " + latencies.length + " / " + expected);
+        Logging.info(String.format("  Duration: %.2f s", seconds));
+        Logging.info(String.format("  Throughput: %.0f msg/s", latencies.length / seconds));
+        Logging.info(String.format("  p50: %.3f ms", percentile(latencies, 0.50) / 1_000_000.0));
+        Logging.info(String.format("  p99: %.3f ms", percentile(latencies, 0.99) / 1_000_000.0));
+        Logging.info(String.format("  max: %.3f ms", latencies[latencies.length - 1] / 1_000_000.0));
+    }
+
+    /**
+     * Gets a percentile from a sorted array using the nearest-rank method.
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+}
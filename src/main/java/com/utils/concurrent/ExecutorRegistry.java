@@ -0,0 +1,182 @@
+package com.utils.concurrent;
+
+import com.utils.error_handling.Logging;
+import com.utils.metrics.MetricsRegistry;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Central registry of the application's shared thread pools.
+ *
+ * - io(): blocking work (HTTP, WebSocket handshakes, file access). A bounded
+ *   pool of IO_THREADS daemon threads that retire when idle; at most
+ *   IO_MAX_QUEUED tasks wait, beyond that submissions are rejected.
+ * - cpu(): computation. A work-stealing ForkJoinPool with one thread per
+ *   core; cpuPool() gives the raw pool for fork/join tasks.
+ * - scheduler(): delayed and periodic work. Scheduled tasks must be short and
+ *   hand anything slow to io() or cpu().
+ * - newSerialScheduler(): a named single-thread scheduler for components that
+ *   need their tasks run one at a time, in order (e.g. a write-behind queue).
+ *   The caller owns and shuts it down.
+ *
+ * Threads are named "<pool>-<n>" and are daemons. Each pool reports queue
+ * depth, active threads, queueing delay, run time and rejections to
+ * MetricsRegistry under "executor.<pool>.".
+ *
+ * The I/O pool uses platform threads: this code base targets Java 17, which
+ * has no virtual threads.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class ExecutorRegistry {
+
+    private static final int IO_THREADS = 32;
+    private static final int IO_MAX_QUEUED = 1024;
+    private static final int CPU_MAX_QUEUED = 4096;
+    private static final int SCHEDULER_THREADS = 2;
+    private static final long IDLE_KEEP_ALIVE_SECONDS = 30;
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+    private static ExecutorRegistry instance;
+
+    private final ThreadPoolExecutor ioPool;
+    private final MeteredExecutorService io;
+    private final ForkJoinPool cpuPool;
+    private final MeteredExecutorService cpu;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private ExecutorRegistry() {
+        // The queue is the backpressure point; the wrapper rejects before the pool would
+        ioPool = new ThreadPoolExecutor(IO_THREADS, IO_THREADS, IDLE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(IO_MAX_QUEUED), namedThreadFactory("io"), new ThreadPoolExecutor.AbortPolicy());
+        ioPool.allowCoreThreadTimeOut(true);
+        io = new MeteredExecutorService("io", ioPool, () -> ioPool.getQueue().size(),
+                ioPool::getActiveCount, IO_MAX_QUEUED);
+
+        cpuPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), ExecutorRegistry::newCpuThread,
+                (thread, error) -> Logging.error("❌ Uncaught exception in " + thread.getName() + ": " + error.getMessage(), error),
+                true);
+        cpu = new MeteredExecutorService("cpu", cpuPool,
+                () -> cpuPool.getQueuedSubmissionCount() + cpuPool.getQueuedTaskCount(),
+                cpuPool::getActiveThreadCount, CPU_MAX_QUEUED);
+
+        scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS, namedThreadFactory("scheduler"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        MetricsRegistry.getInstance().gauge("executor.scheduler.queued", () -> scheduler.getQueue().size());
+    }
+
+    /**
+     * Gets the singleton instance, creating the pools on first use.
+     * @return The executor registry
+     */
+    public static synchronized ExecutorRegistry getInstance() {
+        if (instance == null) {
+            instance = new ExecutorRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the pool for blocking I/O.
+     * @return The I/O executor
+     */
+    public ExecutorService io() {
+        return io;
+    }
+
+    /**
+     * Gets the pool for CPU-bound work.
+     * @return The CPU executor
+     */
+    public ExecutorService cpu() {
+        return cpu;
+    }
+
+    /**
+     * Gets the ForkJoinPool behind cpu(), for RecursiveTask/RecursiveAction work.
+     * Tasks forked inside it bypass the cpu() metrics and queue limit.
+     * @return The CPU pool
+     */
+    public ForkJoinPool cpuPool() {
+        return cpuPool;
+    }
+
+    /**
+     * Gets the shared scheduler.
+     * @return The scheduler
+     */
+    public ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Creates a single-thread scheduler with a daemon thread of the given name
+     * and publishes its queue depth as "executor.<name>.queued".
+     * The caller owns it and must shut it down.
+     *
+     * @param name Thread and metric name
+     * @return The scheduler
+     */
+    public static ScheduledExecutorService newSerialScheduler(String name) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        MetricsRegistry.getInstance().gauge("executor." + name + ".queued", () -> executor.getQueue().size());
+        return executor;
+    }
+
+    /**
+     * Stops the shared pools, letting running tasks finish for a few seconds.
+     * Called during application shutdown.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        io.shutdown();
+        cpu.shutdown();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_WAIT_SECONDS);
+            for (ExecutorService pool : new ExecutorService[] {scheduler, io, cpu}) {
+                long remaining = deadline - System.nanoTime();
+                if (!pool.awaitTermination(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                    pool.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            io.shutdownNow();
+            cpu.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        Logging.info("Shared executors stopped");
+    }
+
+    private static ThreadFactory namedThreadFactory(String poolName) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, poolName + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ForkJoinWorkerThread newCpuThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("cpu-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,145 @@
+package com.utils.concurrent;
+
+import com.utils.metrics.Counter;
+import com.utils.metrics.LatencyHistogram;
+import com.utils.metrics.MetricsRegistry;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * ExecutorService wrapper that records, under "executor.<name>":
+ * - wait: time from submission until a thread starts the task (queueing delay)
+ * - run: time the task spent running
+ * - rejected: tasks refused because the pool was saturated
+ * - queued / active gauges
+ *
+ * Submissions beyond maxQueued waiting tasks are rejected with a
+ * RejectedExecutionException instead of growing the queue without bound, so a
+ * burst fails fast rather than exhausting memory or threads.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class MeteredExecutorService extends AbstractExecutorService {
+
+    private final String name;
+    private final ExecutorService delegate;
+    private final LongSupplier queueDepth;
+    private final long maxQueued;
+    private final LatencyHistogram waitTime;
+    private final LatencyHistogram runTime;
+    private final Counter rejected;
+
+    /**
+     * Wraps an executor.
+     *
+     * @param name Pool name used in metric names
+     * @param delegate The executor that runs the tasks
+     * @param queueDepth Supplies the number of tasks waiting in the delegate
+     * @param activeCount Supplies the number of tasks running in the delegate
+     * @param maxQueued Waiting tasks above which submissions are rejected
+     */
+    public MeteredExecutorService(String name, ExecutorService delegate, LongSupplier queueDepth,
+                                  LongSupplier activeCount, long maxQueued) {
+        this.name = name;
+        this.delegate = delegate;
+        this.queueDepth = queueDepth;
+        this.maxQueued = maxQueued;
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        String prefix = "executor." + name + ".";
+        this.waitTime = metrics.histogram(prefix + "wait");
+        this.runTime = metrics.histogram(prefix + "run");
+        this.rejected = metrics.counter(prefix + "rejected");
+        metrics.gauge(prefix + "queued", queueDepth);
+        metrics.gauge(prefix + "active", activeCount);
+    }
+
+    /**
+     * Gets the pool name.
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of tasks waiting to run.
+     * @return The queue depth
+     */
+    public long getQueueDepth() {
+        return queueDepth.getAsLong();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        if (queueDepth.getAsLong() >= maxQueued) {
+            rejected.increment();
+            throw new RejectedExecutionException("Executor '" + name + "' is saturated: "
+                    + maxQueued + " tasks waiting");
+        }
+        try {
+            delegate.execute(new TimedTask(command, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * A task and when it was submitted.
+     */
+    private final class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long submittedAt;
+
+        TimedTask(Runnable task, long submittedAt) {
+            this.task = task;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            waitTime.record(startedAt - submittedAt);
+            try {
+                task.run();
+            } finally {
+                runTime.recordSince(startedAt);
+            }
+        }
+    }
+}
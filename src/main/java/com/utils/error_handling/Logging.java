@@ -6,11 +6,17 @@ import org.slf4j.MDC;
 
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 /**
  * Logging utility for the application.
  * Provides methods for logging messages with various levels.
  * 
+ * On hot paths, prefer the parameterized overloads (SLF4J "{}" placeholders) or
+ * the Supplier overloads over string concatenation: the message is then only
+ * built if the level is enabled. Output goes through the asynchronous appender
+ * configured in logback.xml, so enabled calls don't wait on the console.
+ * 
  * @authors Clement Luo
  * @date June 22, 2025
  * @edited June 24, 2025
@@ -127,6 +133,200 @@ public final class Logging {
 
     //endregion
 
+    //region ==================== LEVEL GUARDS ====================
+
+    /**
+     * Checks if trace messages are logged.
+     *
+     * @return true if the trace level is enabled
+     */
+    public static boolean isTraceEnabled() { return logger.isTraceEnabled(); }
+
+    /**
+     * Checks if debug messages are logged.
+     *
+     * @return true if the debug level is enabled
+     */
+    public static boolean isDebugEnabled() { return logger.isDebugEnabled(); }
+
+    /**
+     * Checks if informational messages are logged.
+     *
+     * @return true if the info level is enabled
+     */
+    public static boolean isInfoEnabled() { return logger.isInfoEnabled(); }
+
+    /**
+     * Checks if warning messages are logged.
+     *
+     * @return true if the warn level is enabled
+     */
+    public static boolean isWarningEnabled() { return logger.isWarnEnabled(); }
+
+    //endregion
+
+    //region ==================== PARAMETERIZED AND DEFERRED LOGGING ====================
+
+    /**
+     * Logs a trace message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg the placeholder value
+     */
+    public static void trace(String format, Object arg) { logger.trace(format, arg); }
+
+    /**
+     * Logs a trace message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg1 the first placeholder value
+     * @param arg2 the second placeholder value
+     */
+    public static void trace(String format, Object arg1, Object arg2) { logger.trace(format, arg1, arg2); }
+
+    /**
+     * Logs a trace message, formatting it only if the level is enabled.
+     * A trailing Throwable argument is logged as the exception.
+     *
+     * @param format the message with "{}" placeholders
+     * @param args the placeholder values
+     */
+    public static void trace(String format, Object... args) { logger.trace(format, args); }
+
+    /**
+     * Logs a trace message built only if the level is enabled.
+     *
+     * @param message supplies the message
+     */
+    public static void trace(Supplier<String> message) { if (logger.isTraceEnabled()) { logger.trace(message.get()); } }
+
+    /**
+     * Logs a debug message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg the placeholder value
+     */
+    public static void debug(String format, Object arg) { logger.debug(format, arg); }
+
+    /**
+     * Logs a debug message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg1 the first placeholder value
+     * @param arg2 the second placeholder value
+     */
+    public static void debug(String format, Object arg1, Object arg2) { logger.debug(format, arg1, arg2); }
+
+    /**
+     * Logs a debug message, formatting it only if the level is enabled.
+     * A trailing Throwable argument is logged as the exception.
+     *
+     * @param format the message with "{}" placeholders
+     * @param args the placeholder values
+     */
+    public static void debug(String format, Object... args) { logger.debug(format, args); }
+
+    /**
+     * Logs a debug message built only if the level is enabled.
+     *
+     * @param message supplies the message
+     */
+    public static void debug(Supplier<String> message) { if (logger.isDebugEnabled()) { logger.debug(message.get()); } }
+
+    /**
+     * Logs an informational message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg the placeholder value
+     */
+    public static void info(String format, Object arg) { logger.info(format, arg); }
+
+    /**
+     * Logs an informational message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg1 the first placeholder value
+     * @param arg2 the second placeholder value
+     */
+    public static void info(String format, Object arg1, Object arg2) { logger.info(format, arg1, arg2); }
+
+    /**
+     * Logs an informational message, formatting it only if the level is enabled.
+     * A trailing Throwable argument is logged as the exception.
+     *
+     * @param format the message with "{}" placeholders
+     * @param args the placeholder values
+     */
+    public static void info(String format, Object... args) { logger.info(format, args); }
+
+    /**
+     * Logs an informational message built only if the level is enabled.
+     *
+     * @param message supplies the message
+     */
+    public static void info(Supplier<String> message) { if (logger.isInfoEnabled()) { logger.info(message.get()); } }
+
+    /**
+     * Logs a warning message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg the placeholder value
+     */
+    public static void warning(String format, Object arg) { logger.warn(format, arg); }
+
+    /**
+     * Logs a warning message, formatting it only if the level is enabled.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg1 the first placeholder value
+     * @param arg2 the second placeholder value
+     */
+    public static void warning(String format, Object arg1, Object arg2) { logger.warn(format, arg1, arg2); }
+
+    /**
+     * Logs a warning message, formatting it only if the level is enabled.
+     * A trailing Throwable argument is logged as the exception.
+     *
+     * @param format the message with "{}" placeholders
+     * @param args the placeholder values
+     */
+    public static void warning(String format, Object... args) { logger.warn(format, args); }
+
+    /**
+     * Logs a warning message built only if the level is enabled.
+     *
+     * @param message supplies the message
+     */
+    public static void warning(Supplier<String> message) { if (logger.isWarnEnabled()) { logger.warn(message.get()); } }
+
+    /**
+     * Logs an error message with placeholders.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg the placeholder value
+     */
+    public static void error(String format, Object arg) { logger.error(format, arg); }
+
+    /**
+     * Logs an error message with placeholders.
+     *
+     * @param format the message with "{}" placeholders
+     * @param arg1 the first placeholder value
+     * @param arg2 the second placeholder value
+     */
+    public static void error(String format, Object arg1, Object arg2) { logger.error(format, arg1, arg2); }
+
+    /**
+     * Logs an error message with placeholders.
+     * A trailing Throwable argument is logged as the exception.
+     *
+     * @param format the message with "{}" placeholders
+     * @param args the placeholder values
+     */
+    public static void error(String format, Object... args) { logger.error(format, args); }
+
+    //endregion
+
     //region ==================== METHOD LOGGING METHODS ====================
 
     /**
@@ -364,69 +564,38 @@ public final class Logging {
     }
 
     /**
-     * Logs a message with current MDC context information.
+     * Logs a message at a level given by name. The current MDC context is added
+     * by the log pattern (see logback.xml), not copied into the message.
      *
-     * @param level the logging level (DEBUG, INFO, WARN, ERROR)
+     * @param level the logging level (TRACE, DEBUG, INFO, WARN, ERROR)
      * @param message the message to log
      */
-    public static void logWithMDC(String level, String message) {
-        Map<String, String> context = MDC.getCopyOfContextMap();
-        String contextInfo = context != null && !context.isEmpty() 
-            ? " [MDC: " + context + "]" 
-            : "";
-        
-        switch (level.toUpperCase()) {
-            case "TRACE":
-                logger.trace(message + contextInfo);
-                break;
-            case "DEBUG":
-                logger.debug(message + contextInfo);
-                break;
-            case "INFO":
-                logger.info(message + contextInfo);
-                break;
-            case "WARN":
-                logger.warn(message + contextInfo);
-                break;
-            case "ERROR":
-                logger.error(message + contextInfo);
-                break;
-            default:
-                logger.info(message + contextInfo);
-        }
-    }
+    public static void logWithMDC(String level, String message) { logWithMDC(level, message, null); }
 
     /**
-     * Logs a message with current MDC context information and throwable.
+     * Logs a message with a throwable at a level given by name. The current MDC
+     * context is added by the log pattern (see logback.xml), not copied into the message.
      *
-     * @param level the logging level (DEBUG, INFO, WARN, ERROR)
+     * @param level the logging level (TRACE, DEBUG, INFO, WARN, ERROR)
      * @param message the message to log
-     * @param throwable the throwable to log
+     * @param throwable the throwable to log (can be null)
      */
     public static void logWithMDC(String level, String message, Throwable throwable) {
-        Map<String, String> context = MDC.getCopyOfContextMap();
-        String contextInfo = context != null && !context.isEmpty() 
-            ? " [MDC: " + context + "]" 
-            : "";
-        
         switch (level.toUpperCase()) {
             case "TRACE":
-                logger.trace(message + contextInfo, throwable);
+                logger.trace(message, throwable);
                 break;
             case "DEBUG":
-                logger.debug(message + contextInfo, throwable);
-                break;
-            case "INFO":
-                logger.info(message + contextInfo, throwable);
+                logger.debug(message, throwable);
                 break;
             case "WARN":
-                logger.warn(message + contextInfo, throwable);
+                logger.warn(message, throwable);
                 break;
             case "ERROR":
-                logger.error(message + contextInfo, throwable);
+                logger.error(message, throwable);
                 break;
             default:
-                logger.info(message + contextInfo, throwable);
+                logger.info(message, throwable);
         }
     }
 
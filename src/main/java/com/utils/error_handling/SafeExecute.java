@@ -1,9 +1,13 @@
 package com.utils.error_handling;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -12,8 +16,16 @@ import java.util.function.Supplier;
 import java.util.function.Consumer;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
+import com.utils.concurrent.ExecutorRegistry;
+import com.utils.error_handling.enums.BatchFailureMode;
+import com.utils.error_handling.enums.ErrorCategory;
+import com.utils.error_handling.enums.ErrorSeverity;
+import com.utils.metrics.MetricsRegistry;
+
 /**
  * Safe execution utility for the application.
  * Provides methods for executing code with error handling.
@@ -27,9 +39,9 @@ import java.util.Map;
 public final class SafeExecute {
 
     /**
-     * Default executor service for async operations.
+     * Default executor service for async operations: the shared, bounded I/O pool.
      */
-    private static final ExecutorService defaultExecutor = Executors.newCachedThreadPool();
+    private static final ExecutorService defaultExecutor = ExecutorRegistry.getInstance().io();
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -293,7 +305,14 @@ public final class SafeExecute {
      */
     public static <T> T executeWithTimeout(Callable<T> task, String errorMessage, long timeoutMs) {
         // Submit the task to the executor service for execution
-        Future<T> future = defaultExecutor.submit(task);
+        Future<T> future;
+        try {
+            future = defaultExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            // Pool saturated - fail fast instead of queueing without bound
+            ErrorHandler.handleNonCriticalError(e, errorMessage);
+            return null;
+        }
         
         try {
             // Wait for the task to complete with the specified timeout
@@ -325,7 +344,14 @@ public final class SafeExecute {
     public static <T> T executeWithTimeout(Callable<T> task, String errorMessage, 
                                          long timeoutMs, T defaultValue) {
         // Submit the task to the executor service for execution
-        Future<T> future = defaultExecutor.submit(task);
+        Future<T> future;
+        try {
+            future = defaultExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            // Pool saturated - fail fast instead of queueing without bound
+            ErrorHandler.handleNonCriticalError(e, errorMessage);
+            return defaultValue;
+        }
         
         try {
             // Wait for the task to complete with the specified timeout
@@ -356,17 +382,23 @@ public final class SafeExecute {
      * @return a CompletableFuture representing the task execution
      */
     public static <T> CompletableFuture<T> executeAsync(Callable<T> task, String errorMessage) {
-        // Create an asynchronous task using CompletableFuture.supplyAsync
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Execute the task and return its result
-                return task.call();
-            } catch (Exception e) {
-                // Handle any exceptions that occur during task execution
-                ErrorHandler.handleNonCriticalError(e, errorMessage);
-                return null; // Return null on failure
-            }
-        }, defaultExecutor); // Use the default thread pool for execution
+        try {
+            // Create an asynchronous task using CompletableFuture.supplyAsync
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    // Execute the task and return its result
+                    return task.call();
+                } catch (Exception e) {
+                    // Handle any exceptions that occur during task execution
+                    ErrorHandler.handleNonCriticalError(e, errorMessage);
+                    return null; // Return null on failure
+                }
+            }, defaultExecutor); // Use the default thread pool for execution
+        } catch (RejectedExecutionException e) {
+            // Pool saturated - fail fast instead of queueing without bound
+            ErrorHandler.handleNonCriticalError(e, errorMessage);
+            return CompletableFuture.completedFuture(null);
+        }
     }
 
     /**
@@ -381,17 +413,31 @@ public final class SafeExecute {
     public static <T> CompletableFuture<T> executeAsyncWithTimeout(Callable<T> task, 
                                                                  String errorMessage, 
                                                                  long timeoutMs) {
-        // Create the base asynchronous task (same as executeAsync)
-        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
-            try {
-                // Execute the task and return its result
-                return task.call();
-            } catch (Exception e) {
-                // Handle any exceptions that occur during task execution
-                ErrorHandler.handleNonCriticalError(e, errorMessage);
-                return null; // Return null on failure
+        // Run on the default pool, keeping the Future so a timeout can interrupt the task
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Future<?> running;
+        try {
+            running = defaultExecutor.submit(() -> {
+                try {
+                    // Execute the task and return its result
+                    future.complete(task.call());
+                } catch (Exception e) {
+                    // Handle any exceptions that occur during task execution
+                    ErrorHandler.handleNonCriticalError(e, errorMessage);
+                    future.complete(null); // Return null on failure
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Pool saturated - fail fast instead of queueing without bound
+            ErrorHandler.handleNonCriticalError(e, errorMessage);
+            return CompletableFuture.completedFuture(null);
+        }
+        // Stop the task if it times out, rather than leaving it running
+        future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                running.cancel(true);
             }
-        }, defaultExecutor); // Use the default thread pool for execution
+        });
 
         // Add timeout behavior to the future
         return future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
@@ -541,6 +587,8 @@ public final class SafeExecute {
 
     /**
      * Executes a task with performance logging.
+     * The duration is also recorded in the MetricsRegistry histogram named
+     * operationName, and failures are counted in "operationName.failures".
      *
      * @param <T> the return type of the task
      * @param task the task to execute
@@ -550,20 +598,25 @@ public final class SafeExecute {
      */
     public static <T> T executeWithMetrics(Callable<T> task, String errorMessage, 
                                          String operationName) {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
         // Record start time for performance measurement
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         try {
             // Execute the task and measure duration
             T result = task.call();
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = System.nanoTime() - startTime;
+            metrics.histogram(operationName).record(duration);
             // Log successful operation performance
-            Logging.logPerformance(operationName, duration);
+            Logging.logPerformance(operationName, TimeUnit.NANOSECONDS.toMillis(duration));
             return result;
         } catch (Exception e) {
             // Calculate duration even for failed operations
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = System.nanoTime() - startTime;
+            metrics.histogram(operationName).record(duration);
+            metrics.counter(operationName + ".failures").increment();
             // Log failed operation with duration
-            Logging.warning("Operation '" + operationName + "' failed after " + duration + "ms: " + e.getMessage());
+            Logging.warning("Operation '{}' failed after {}ms: {}", operationName,
+                    TimeUnit.NANOSECONDS.toMillis(duration), e.getMessage());
             ErrorHandler.handleNonCriticalError(e, errorMessage);
             return null;
         }
@@ -575,23 +628,23 @@ public final class SafeExecute {
      * @param <T> the return type of the task
      * @param task the task to execute
      * @param errorMessage the error message to display if the task fails
-     * @param metricsConsumer the consumer to handle performance metrics
+     * @param metricsConsumer the consumer to handle performance metrics, in milliseconds
      * @return the result of the task, or null if an exception occurred
      */
     public static <T> T executeWithMetrics(Callable<T> task, String errorMessage, 
                                          Consumer<Long> metricsConsumer) {
-        // Record start time for performance measurement
-        long startTime = System.currentTimeMillis();
+        // Record start time for performance measurement (monotonic, unlike the wall clock)
+        long startTime = System.nanoTime();
         try {
             // Execute the task and measure duration
             T result = task.call();
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
             // Pass duration to custom metrics consumer
             metricsConsumer.accept(duration);
             return result;
         } catch (Exception e) {
             // Calculate duration and pass to consumer even for failed operations
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
             metricsConsumer.accept(duration);
             ErrorHandler.handleNonCriticalError(e, errorMessage);
             return null;
@@ -684,6 +737,171 @@ public final class SafeExecute {
         return new BatchResult<>(successfulResults, failures, failedIndices);
     }
 
+    /**
+     * Executes a batch of tasks in parallel on the shared I/O pool, collecting every failure.
+     *
+     * @param <T> the return type of the tasks
+     * @param tasks the list of tasks to execute
+     * @param errorMessage the error message to report if any task fails
+     * @param maxConcurrency the maximum number of tasks running at once
+     * @return a BatchResult with successful results and failures in task order
+     */
+    public static <T> BatchResult<T> executeBatchParallel(List<Callable<T>> tasks, String errorMessage,
+                                                          int maxConcurrency) {
+        return executeBatchParallel(tasks, errorMessage, defaultExecutor, maxConcurrency,
+                BatchFailureMode.COLLECT_ALL, 0);
+    }
+
+    /**
+     * Executes a batch of tasks in parallel on the shared I/O pool.
+     *
+     * @param <T> the return type of the tasks
+     * @param tasks the list of tasks to execute
+     * @param errorMessage the error message to report if any task fails
+     * @param maxConcurrency the maximum number of tasks running at once
+     * @param failureMode whether the first failure cancels the rest of the batch
+     * @param timeoutMs the deadline for the whole batch in milliseconds, or 0 for none
+     * @return a BatchResult with successful results and failures in task order
+     */
+    public static <T> BatchResult<T> executeBatchParallel(List<Callable<T>> tasks, String errorMessage,
+                                                          int maxConcurrency, BatchFailureMode failureMode,
+                                                          long timeoutMs) {
+        return executeBatchParallel(tasks, errorMessage, defaultExecutor, maxConcurrency, failureMode, timeoutMs);
+    }
+
+    /**
+     * Executes a batch of tasks in parallel with a concurrency limit and an overall deadline.
+     * At most maxConcurrency tasks are submitted at a time, so a large batch cannot fill the pool's queue.
+     * No task outlives the call: when the batch fails fast, times out or the calling thread is
+     * interrupted, tasks still running are cancelled (interrupted) and tasks not yet started never run.
+     * Each abandoned task is reported as failed with a CancellationException, or with a TimeoutException
+     * when the deadline passed, so every task index appears exactly once in the result.
+     * Failures are reported once for the whole batch; callers decide from the BatchResult what to show.
+     *
+     * The calling thread blocks until the batch finishes; don't call this from the JavaFX thread.
+     *
+     * @param <T> the return type of the tasks
+     * @param tasks the list of tasks to execute
+     * @param errorMessage the error message to report if any task fails
+     * @param executor the executor to run the tasks on
+     * @param maxConcurrency the maximum number of tasks running at once
+     * @param failureMode whether the first failure cancels the rest of the batch
+     * @param timeoutMs the deadline for the whole batch in milliseconds, or 0 for none
+     * @return a BatchResult with successful results and failures in task order
+     */
+    public static <T> BatchResult<T> executeBatchParallel(List<Callable<T>> tasks, String errorMessage,
+                                                          ExecutorService executor, int maxConcurrency,
+                                                          BatchFailureMode failureMode, long timeoutMs) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1: " + maxConcurrency);
+        }
+        int taskCount = tasks.size();
+        // Outcome of each task by index: a result when succeeded[i], else an exception once it has failed
+        List<T> results = new ArrayList<>(Collections.nCopies(taskCount, (T) null));
+        boolean[] succeeded = new boolean[taskCount];
+        Exception[] errors = new Exception[taskCount];
+
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Map<Future<T>, Integer> running = new HashMap<>();
+        boolean hasDeadline = timeoutMs > 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMs));
+        // Set when the batch stops early; becomes the failure of every abandoned task
+        Exception abortCause = null;
+        int next = 0;
+
+        try {
+            while (abortCause == null && (next < taskCount || !running.isEmpty())) {
+                // Keep up to maxConcurrency tasks in flight
+                while (abortCause == null && next < taskCount && running.size() < maxConcurrency) {
+                    int index = next++;
+                    try {
+                        running.put(completion.submit(tasks.get(index)), index);
+                    } catch (RejectedExecutionException e) {
+                        // Pool saturated - fail this task instead of blocking the batch
+                        errors[index] = e;
+                        if (failureMode == BatchFailureMode.FAIL_FAST) {
+                            abortCause = new CancellationException("Cancelled after task " + (index + 1) + " was rejected");
+                        }
+                    }
+                }
+                if (abortCause != null || running.isEmpty()) {
+                    continue;
+                }
+
+                // Wait for the next task to finish, in completion order
+                Future<T> done;
+                if (hasDeadline) {
+                    done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        abortCause = new TimeoutException("Batch timed out after " + timeoutMs + "ms");
+                        continue;
+                    }
+                } else {
+                    done = completion.take();
+                }
+
+                int index = running.remove(done);
+                try {
+                    results.set(index, done.get());
+                    succeeded[index] = true;
+                } catch (ExecutionException e) {
+                    errors[index] = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    if (failureMode == BatchFailureMode.FAIL_FAST) {
+                        abortCause = new CancellationException("Cancelled after task " + (index + 1) + " failed");
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stop waiting, but let the caller see the interrupt
+            Thread.currentThread().interrupt();
+            abortCause = e;
+        } finally {
+            // Cancel siblings so none keeps running after the call; keep results that finished just in time
+            for (Map.Entry<Future<T>, Integer> entry : running.entrySet()) {
+                Future<T> future = entry.getKey();
+                if (!future.cancel(true) && !future.isCancelled()) {
+                    int index = entry.getValue();
+                    try {
+                        results.set(index, future.get());
+                        succeeded[index] = true;
+                    } catch (ExecutionException e) {
+                        errors[index] = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    } catch (InterruptedException | CancellationException e) {
+                        // Left as abandoned below
+                    }
+                }
+            }
+        }
+
+        // Split outcomes in task order; anything without an outcome was abandoned
+        List<T> successfulResults = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        List<Integer> failedIndices = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            if (succeeded[i]) {
+                successfulResults.add(results.get(i));
+            } else {
+                failures.add(errors[i] != null ? errors[i] : abortCause);
+                failedIndices.add(i);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            // Report the root cause rather than a sibling's cancellation
+            Exception cause = abortCause;
+            for (Exception error : errors) {
+                if (error != null) {
+                    cause = error;
+                    break;
+                }
+            }
+            ErrorCategory category = abortCause instanceof TimeoutException ? ErrorCategory.TIMEOUT : ErrorCategory.UNKNOWN;
+            ErrorHandler.handleNonCriticalError(cause, errorMessage + " (" + failures.size() + " of "
+                    + taskCount + " tasks failed)", category, ErrorSeverity.LOW);
+        }
+        return new BatchResult<>(successfulResults, failures, failedIndices);
+    }
+
     //endregion
 
     //region ==================== CONTEXT-AWARE EXECUTION ====================
@@ -777,22 +995,11 @@ public final class SafeExecute {
 
     /**
      * Shuts down the default executor service.
+     * It is the shared I/O pool, so this stops all shared pools via ExecutorRegistry.
      * Should be called when the application is shutting down.
      */
     public static void shutdown() {
-        // Initiate graceful shutdown of the executor service
-        defaultExecutor.shutdown();
-        try {
-            // Wait up to 60 seconds for tasks to complete gracefully
-            if (!defaultExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
-                // Force shutdown if graceful shutdown times out
-                defaultExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            // Handle interruption during shutdown wait
-            defaultExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        ExecutorRegistry.getInstance().shutdown();
     }
 
     //endregion
@@ -0,0 +1,25 @@
+package com.utils.error_handling.enums;
+
+/**
+ * How a parallel batch reacts when one of its tasks fails.
+ * Used by SafeExecute.executeBatchParallel.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public enum BatchFailureMode {
+    FAIL_FAST("Fail fast"),
+    COLLECT_ALL("Collect all");
+
+    private final String displayName;
+
+    BatchFailureMode(String displayName) { this.displayName = displayName; }
+
+    /**
+     * Gets the user-friendly display name for this failure mode.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() { return displayName; }
+}
@@ -0,0 +1,263 @@
+package com.utils.metrics;
+
+import com.utils.concurrent.ExecutorRegistry;
+import com.utils.error_handling.Logging;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Watches the JavaFX application thread for stalls and records frame times.
+ *
+ * - Heartbeat: a daemon watchdog thread posts a heartbeat with
+ *   Platform.runLater every HEARTBEAT_INTERVAL_MS, one at a time. The delay
+ *   until it runs is recorded in "fx.heartbeat". If a heartbeat is still
+ *   waiting after the stall threshold, the FX thread's stack is captured and
+ *   logged once, showing what is blocking it, and "fx.stalls" is counted; when
+ *   the heartbeat finally runs, the stall's length is recorded in "fx.stall".
+ * - Frames: pulse listeners on the stage's scene record the time between
+ *   consecutive pulses in "fx.frame_interval" (idle gaps longer than
+ *   FRAME_IDLE_CUTOFF_MS are not frames and are skipped), frames longer than
+ *   SLOW_FRAME_MS in "fx.slow_frames", and the CSS and layout pass of each
+ *   pulse in "fx.pulse_layout".
+ *
+ * A heartbeat costs one queued Runnable and no allocation, so the monitor can
+ * stay on in production.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class FxThreadMonitor {
+
+    /** Default time the FX thread may be unresponsive before it counts as a stall. */
+    public static final long DEFAULT_STALL_THRESHOLD_MS = 500;
+
+    private static final long HEARTBEAT_INTERVAL_MS = 100;
+    private static final long FRAME_IDLE_CUTOFF_MS = 250;
+    private static final long SLOW_FRAME_MS = 34; // Two frames at 60 Hz
+    private static final int MAX_LOGGED_FRAMES = 40;
+
+    private static FxThreadMonitor instance;
+
+    private final LatencyHistogram heartbeatTime;
+    private final LatencyHistogram stallTime;
+    private final LatencyHistogram frameInterval;
+    private final LatencyHistogram pulseLayoutTime;
+    private final Counter stalls;
+    private final Counter slowFrames;
+
+    private final Consumer<Runnable> fxExecutor;
+    private final LongSupplier nanoClock;
+    private final long stallThresholdNanos;
+    private final Runnable heartbeat = this::onHeartbeat;
+
+    // System.nanoTime() when the outstanding heartbeat was posted, 0 if none
+    private volatile long heartbeatPostedAt;
+    private volatile Thread fxThread;
+    private volatile String lastStallReport;
+    // Only touched on the watchdog thread
+    private boolean stallReported;
+
+    // Only touched on the FX thread
+    private Scene monitoredScene;
+    private long lastPulseStart;
+    private long pulseStart;
+    private final Runnable prePulse = this::onPrePulse;
+    private final Runnable postPulse = this::onPostPulse;
+    private final ChangeListener<Scene> sceneListener = (observable, oldScene, newScene) -> monitorScene(newScene);
+    private Stage monitoredStage;
+
+    private ScheduledExecutorService watchdog;
+    private ScheduledFuture<?> watchdogTask;
+
+    FxThreadMonitor(MetricsRegistry registry, Consumer<Runnable> fxExecutor, LongSupplier nanoClock,
+                    long stallThresholdMillis) {
+        this.fxExecutor = fxExecutor;
+        this.nanoClock = nanoClock;
+        this.stallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(stallThresholdMillis);
+        this.heartbeatTime = registry.histogram("fx.heartbeat");
+        this.stallTime = registry.histogram("fx.stall");
+        this.frameInterval = registry.histogram("fx.frame_interval");
+        this.pulseLayoutTime = registry.histogram("fx.pulse_layout");
+        this.stalls = registry.counter("fx.stalls");
+        this.slowFrames = registry.counter("fx.slow_frames");
+    }
+
+    /**
+     * Gets the singleton instance, using the default stall threshold.
+     * @return The monitor
+     */
+    public static synchronized FxThreadMonitor getInstance() {
+        if (instance == null) {
+            instance = new FxThreadMonitor(MetricsRegistry.getInstance(), Platform::runLater,
+                    System::nanoTime, DEFAULT_STALL_THRESHOLD_MS);
+        }
+        return instance;
+    }
+
+    /**
+     * Starts the heartbeat watchdog and frame timing for a stage's scenes.
+     * Must be called on the JavaFX thread.
+     *
+     * @param stage The stage whose scenes to time
+     */
+    public void start(Stage stage) {
+        fxThread = Thread.currentThread();
+        if (monitoredStage != null) {
+            monitoredStage.sceneProperty().removeListener(sceneListener);
+        }
+        monitoredStage = stage;
+        stage.sceneProperty().addListener(sceneListener);
+        monitorScene(stage.getScene());
+        startWatchdog();
+        MetricsRegistry.getInstance().gauge("fx.heartbeat_pending_ms", this::getPendingHeartbeatMillis);
+        Logging.info("🩺 FX thread monitor started - Stall threshold: {}ms",
+                TimeUnit.NANOSECONDS.toMillis(stallThresholdNanos));
+    }
+
+    /**
+     * Stops the watchdog and frame timing. Must be called on the JavaFX thread.
+     */
+    public void stop() {
+        stopWatchdog();
+        monitorScene(null);
+        if (monitoredStage != null) {
+            monitoredStage.sceneProperty().removeListener(sceneListener);
+            monitoredStage = null;
+        }
+        MetricsRegistry.getInstance().removeGauge("fx.heartbeat_pending_ms");
+    }
+
+    /**
+     * Gets the report of the most recent stall: its duration so far and the FX thread's stack.
+     * @return The report, or null if no stall was seen
+     */
+    public String getLastStallReport() {
+        return lastStallReport;
+    }
+
+    /**
+     * Gets how long the outstanding heartbeat has waited.
+     * @return Milliseconds, 0 if no heartbeat is waiting
+     */
+    public long getPendingHeartbeatMillis() {
+        long postedAt = heartbeatPostedAt;
+        return postedAt == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - postedAt);
+    }
+
+    synchronized void startWatchdog() {
+        if (watchdogTask != null) {
+            return;
+        }
+        // Its own thread, so a busy shared scheduler can't delay heartbeats into false stalls
+        watchdog = ExecutorRegistry.newSerialScheduler("fx-watchdog");
+        watchdogTask = watchdog.scheduleAtFixedRate(this::tick,
+                HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void stopWatchdog() {
+        if (watchdogTask != null) {
+            watchdogTask.cancel(false);
+            watchdog.shutdown();
+            watchdogTask = null;
+            watchdog = null;
+        }
+    }
+
+    /**
+     * One watchdog step: posts a heartbeat if none is outstanding, otherwise
+     * reports a stall once the outstanding one is overdue.
+     */
+    void tick() {
+        try {
+            long now = nanoClock.getAsLong();
+            long postedAt = heartbeatPostedAt;
+            if (postedAt == 0) {
+                stallReported = false;
+                heartbeatPostedAt = now;
+                fxExecutor.accept(heartbeat);
+            } else if (!stallReported && now - postedAt >= stallThresholdNanos) {
+                stallReported = true;
+                reportStall(now - postedAt);
+            }
+        } catch (RuntimeException e) {
+            // Keep the schedule alive (e.g. runLater after the toolkit exited)
+            Logging.warning("⚠️ FX watchdog tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void onHeartbeat() {
+        if (fxThread == null) {
+            fxThread = Thread.currentThread();
+        }
+        long latency = nanoClock.getAsLong() - heartbeatPostedAt;
+        heartbeatTime.record(latency);
+        if (latency >= stallThresholdNanos) {
+            stallTime.record(latency);
+            Logging.warning("🐢 FX thread stall ended after {}ms", TimeUnit.NANOSECONDS.toMillis(latency));
+        }
+        heartbeatPostedAt = 0;
+    }
+
+    private void reportStall(long stalledNanos) {
+        stalls.increment();
+        Thread thread = fxThread;
+        StringBuilder report = new StringBuilder();
+        report.append("FX thread unresponsive for ").append(TimeUnit.NANOSECONDS.toMillis(stalledNanos)).append("ms");
+        if (thread != null) {
+            report.append(" (").append(thread.getName()).append(", ").append(thread.getState()).append(')');
+            StackTraceElement[] stack = thread.getStackTrace();
+            for (int i = 0; i < stack.length && i < MAX_LOGGED_FRAMES; i++) {
+                report.append("\n\tat ").append(stack[i]);
+            }
+            if (stack.length > MAX_LOGGED_FRAMES) {
+                report.append("\n\t... ").append(stack.length - MAX_LOGGED_FRAMES).append(" more");
+            }
+        }
+        lastStallReport = report.toString();
+        Logging.warning("🐢 {}", lastStallReport);
+    }
+
+    private void monitorScene(Scene scene) {
+        if (monitoredScene != null) {
+            monitoredScene.removePreLayoutPulseListener(prePulse);
+            monitoredScene.removePostLayoutPulseListener(postPulse);
+        }
+        monitoredScene = scene;
+        lastPulseStart = 0;
+        if (scene != null) {
+            scene.addPreLayoutPulseListener(prePulse);
+            scene.addPostLayoutPulseListener(postPulse);
+        }
+    }
+
+    private void onPrePulse() {
+        long now = System.nanoTime();
+        if (lastPulseStart != 0) {
+            long interval = now - lastPulseStart;
+            if (interval < TimeUnit.MILLISECONDS.toNanos(FRAME_IDLE_CUTOFF_MS)) {
+                frameInterval.record(interval);
+                if (interval > TimeUnit.MILLISECONDS.toNanos(SLOW_FRAME_MS)) {
+                    slowFrames.increment();
+                }
+            }
+        }
+        lastPulseStart = now;
+        pulseStart = now;
+    }
+
+    private void onPostPulse() {
+        if (pulseStart != 0) {
+            pulseLayoutTime.recordSince(pulseStart);
+            pulseStart = 0;
+        }
+    }
+}
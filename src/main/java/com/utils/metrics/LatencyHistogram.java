@@ -0,0 +1,196 @@
+package com.utils.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with nanosecond values, in the style of
+ * HdrHistogram: buckets are log-linear, each power of two split into 32 equal
+ * sub-buckets, so any recorded value is reported within about 3% from 1 ns up
+ * to centuries, in a fixed 15 KB of counts.
+ *
+ * Recording is one bucket index computation (a leading-zeros count and a
+ * shift) and a few atomic adds; it never locks or allocates. Percentiles are
+ * computed from a snapshot of the counts.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+
+    // Sub-buckets per power of two: 2^5 = 32, a relative error of at most 1/32
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Values below SUB_BUCKET_COUNT get a bucket each; each higher power of two gets SUB_BUCKET_COUNT
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos The duration in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+        min.accumulate(value);
+    }
+
+    /**
+     * Records the time since a System.nanoTime() reading.
+     * @param startNanos The System.nanoTime() value at the start of the operation
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the metric name.
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return The count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Takes a consistent-enough snapshot for reporting. Values recorded while
+     * the snapshot is taken may be counted in some statistics and not others.
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long maxValue = max.get();
+        long minValue = total == 0 ? 0 : min.get();
+        return new Snapshot(total, sum.sum(), minValue, maxValue,
+                percentile(counts, total, 0.50, maxValue),
+                percentile(counts, total, 0.90, maxValue),
+                percentile(counts, total, 0.99, maxValue),
+                percentile(counts, total, 0.999, maxValue));
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+        min.reset();
+    }
+
+    /**
+     * Gets the bucket of a value: the value itself below SUB_BUCKET_COUNT,
+     * else its power of two and its top SUB_BUCKET_BITS bits below the leading one.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    /**
+     * Gets the largest value that falls in a bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lower = (long) (SUB_BUCKET_COUNT | (index & (SUB_BUCKET_COUNT - 1))) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Histogram statistics at one point in time, in nanoseconds.
+     *
+     * @param count Number of recorded values
+     * @param sum Sum of recorded values
+     * @param min Smallest value
+     * @param max Largest value
+     * @param p50 Median
+     * @param p90 90th percentile
+     * @param p99 99th percentile
+     * @param p999 99.9th percentile
+     */
+    public record Snapshot(long count, long sum, long min, long max, long p50, long p90, long p99, long p999) {
+
+        /**
+         * Gets the mean value.
+         * @return The mean in nanoseconds, 0 if nothing was recorded
+         */
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d mean=%s p50=%s p90=%s p99=%s p99.9=%s max=%s", count,
+                    formatNanos((long) getMean()), formatNanos(p50), formatNanos(p90), formatNanos(p99),
+                    formatNanos(p999), formatNanos(max));
+        }
+    }
+
+    /**
+     * Formats a duration with a readable unit.
+     * @param nanos The duration in nanoseconds
+     * @return e.g. "850ns", "12.3us", "4.56ms", "1.20s"
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format("%.1fus", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format("%.2fms", nanos / 1e6);
+        }
+        return String.format("%.2fs", nanos / 1e9);
+    }
+}
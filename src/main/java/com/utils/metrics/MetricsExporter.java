@@ -0,0 +1,184 @@
+package com.utils.metrics;
+
+import com.utils.concurrent.ExecutorRegistry;
+import com.utils.error_handling.Logging;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes MetricsRegistry snapshots outside the process.
+ *
+ * - File: start() rewrites a plain-text report at a fixed interval on the
+ *   shared scheduler, via a temp file and rename so readers never see a
+ *   partial report.
+ *   shutdown() writes a final report.
+ * - JMX: registerMBean() exposes the registry as "com.utils.metrics:type=Metrics".
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class MetricsExporter {
+
+    /** JMX name the registry is published under. */
+    public static final String MBEAN_NAME = "com.utils.metrics:type=Metrics";
+
+    /** Default file name for the periodic report, in the app data directory. */
+    public static final String DEFAULT_FILE_NAME = "metrics.txt";
+
+    private static MetricsExporter instance;
+
+    private final MetricsRegistry registry;
+    private ScheduledFuture<?> scheduledTask;
+    private Path outputFile;
+
+    MetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Gets the singleton instance, exporting the shared registry.
+     * @return The exporter
+     */
+    public static synchronized MetricsExporter getInstance() {
+        if (instance == null) {
+            instance = new MetricsExporter(MetricsRegistry.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Starts writing a report to a file at a fixed interval, replacing any
+     * earlier schedule.
+     *
+     * @param file The report file
+     * @param intervalSeconds Seconds between reports
+     */
+    public synchronized void start(Path file, long intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + intervalSeconds);
+        }
+        if (scheduledTask != null) {
+            scheduledTask.cancel(false);
+        }
+        outputFile = file;
+        scheduledTask = ExecutorRegistry.getInstance().scheduler().scheduleWithFixedDelay(this::exportQuietly,
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        Logging.info("📊 Metrics export started - File: {}, interval: {}s", file, intervalSeconds);
+    }
+
+    /**
+     * Stops the schedule and writes a final report.
+     */
+    public synchronized void shutdown() {
+        if (scheduledTask != null) {
+            scheduledTask.cancel(false);
+            scheduledTask = null;
+        }
+        exportQuietly();
+    }
+
+    /**
+     * Writes the current snapshot to a file.
+     * @param file The report file
+     * @throws IOException If the file can't be written
+     */
+    public void exportTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempPath = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tempPath, registry.snapshot().format(), StandardCharsets.UTF_8);
+        try {
+            Files.move(tempPath, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Publishes the registry to the platform MBean server. Safe to call more than once.
+     * @return True if the MBean is registered
+     */
+    public boolean registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(new RegistryMXBean(registry), new ObjectName(MBEAN_NAME));
+            Logging.info("📊 Metrics published over JMX as {}", MBEAN_NAME);
+            return true;
+        } catch (InstanceAlreadyExistsException e) {
+            return true;
+        } catch (Exception e) {
+            Logging.warning("⚠️ Could not publish metrics over JMX: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void exportQuietly() {
+        Path file;
+        synchronized (this) {
+            file = outputFile;
+        }
+        if (file == null) {
+            return;
+        }
+        try {
+            exportTo(file);
+        } catch (IOException | RuntimeException e) {
+            Logging.warning("⚠️ Failed to export metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * MetricsMXBean backed by a registry.
+     */
+    private static final class RegistryMXBean implements MetricsMXBean {
+
+        private final MetricsRegistry registry;
+
+        RegistryMXBean(MetricsRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            return registry.snapshot().getCounters();
+        }
+
+        @Override
+        public Map<String, Long> getGauges() {
+            return registry.snapshot().getGauges();
+        }
+
+        @Override
+        public Map<String, String> getHistograms() {
+            Map<String, String> result = new LinkedHashMap<>();
+            registry.snapshot().getHistograms().forEach((name, stats) -> result.put(name, stats.toString()));
+            return result;
+        }
+
+        @Override
+        public String getReport() {
+            return registry.snapshot().format();
+        }
+
+        @Override
+        public void reset() {
+            registry.reset();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.utils.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the metrics registry, registered by MetricsExporter as
+ * "com.utils.metrics:type=Metrics" so jconsole or VisualVM can read it.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Gets counter totals by name.
+     * @return The counters
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Gets gauge values by name.
+     * @return The gauges
+     */
+    Map<String, Long> getGauges();
+
+    /**
+     * Gets one formatted line of statistics per histogram.
+     * @return The histograms
+     */
+    Map<String, String> getHistograms();
+
+    /**
+     * Gets the full plain-text report.
+     * @return The report
+     */
+    String getReport();
+
+    /**
+     * Zeroes every counter and histogram.
+     */
+    void reset();
+}
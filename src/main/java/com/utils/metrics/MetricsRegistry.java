@@ -0,0 +1,139 @@
+package com.utils.metrics;
+
+import com.utils.error_handling.Logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Shared, in-process registry of named counters, latency histograms and gauges.
+ *
+ * Metrics are created on first use and live for the life of the process, so
+ * callers can look them up by name where they record, or keep a reference in a
+ * static field on hot paths to skip the map lookup:
+ *
+ *   private static final LatencyHistogram LOAD_TIME =
+ *           MetricsRegistry.getInstance().histogram("screen.navigate");
+ *   long start = System.nanoTime();
+ *   ...
+ *   LOAD_TIME.recordSince(start);
+ *
+ * Names are dot-separated, lower case, from general to specific
+ * (e.g. "http.login", "storage.read"). Recording never locks; snapshot() reads
+ * every metric for MetricsExporter or for display.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class MetricsRegistry {
+
+    private static MetricsRegistry instance;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Gets the singleton instance.
+     * @return The metrics registry
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets or creates a counter.
+     * @param name The metric name
+     * @return The counter
+     */
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Gets or creates a latency histogram.
+     * @param name The metric name
+     * @return The histogram
+     */
+    public LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge with the same name.
+     * The supplier is called on every snapshot, from the exporter's thread,
+     * so it must be thread-safe and cheap.
+     *
+     * @param name The metric name
+     * @param supplier Supplies the current value
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Removes a gauge.
+     * @param name The metric name
+     */
+    public void removeGauge(String name) {
+        gauges.remove(name);
+    }
+
+    /**
+     * Records the time since a System.nanoTime() reading in a histogram.
+     * @param name The histogram name
+     * @param startNanos The System.nanoTime() value at the start of the operation
+     */
+    public void recordSince(String name, long startNanos) {
+        histogram(name).recordSince(startNanos);
+    }
+
+    /**
+     * Adds one to a counter.
+     * @param name The counter name
+     */
+    public void increment(String name) {
+        counter(name).increment();
+    }
+
+    /**
+     * Reads every metric. Names are sorted so successive snapshots line up.
+     * @return The snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.getCount()));
+
+        Map<String, LatencyHistogram.Snapshot> histogramValues = new TreeMap<>();
+        histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.snapshot()));
+
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, supplier) -> {
+            try {
+                gaugeValues.put(name, supplier.getAsLong());
+            } catch (RuntimeException e) {
+                Logging.warning("⚠️ Gauge '{}' failed: {}", name, e.getMessage());
+            }
+        });
+        return new MetricsSnapshot(System.currentTimeMillis(), counterValues, histogramValues, gaugeValues);
+    }
+
+    /**
+     * Zeroes every counter and histogram. Gauges are kept.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+}
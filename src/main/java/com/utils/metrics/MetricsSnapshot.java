@@ -0,0 +1,78 @@
+package com.utils.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Values of every registered metric at one point in time.
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public final class MetricsSnapshot {
+
+    private final long timestampMillis;
+    private final Map<String, Long> counters;
+    private final Map<String, LatencyHistogram.Snapshot> histograms;
+    private final Map<String, Long> gauges;
+
+    MetricsSnapshot(long timestampMillis, Map<String, Long> counters,
+                    Map<String, LatencyHistogram.Snapshot> histograms, Map<String, Long> gauges) {
+        this.timestampMillis = timestampMillis;
+        this.counters = Collections.unmodifiableMap(counters);
+        this.histograms = Collections.unmodifiableMap(histograms);
+        this.gauges = Collections.unmodifiableMap(gauges);
+    }
+
+    /**
+     * Gets when the snapshot was taken.
+     * @return Epoch milliseconds
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Gets counter totals by name.
+     * @return Sorted, unmodifiable map
+     */
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * Gets histogram statistics by name.
+     * @return Sorted, unmodifiable map
+     */
+    public Map<String, LatencyHistogram.Snapshot> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Gets gauge values by name.
+     * @return Sorted, unmodifiable map
+     */
+    public Map<String, Long> getGauges() {
+        return gauges;
+    }
+
+    /**
+     * Formats the snapshot as plain text, one metric per line.
+     * @return The report
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# metrics ").append(Instant.ofEpochMilli(timestampMillis)).append('\n');
+        counters.forEach((name, value) -> sb.append("counter   ").append(name).append(' ').append(value).append('\n'));
+        gauges.forEach((name, value) -> sb.append("gauge     ").append(name).append(' ').append(value).append('\n'));
+        histograms.forEach((name, value) -> sb.append("histogram ").append(name).append(' ').append(value).append('\n'));
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
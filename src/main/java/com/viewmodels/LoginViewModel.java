@@ -3,10 +3,16 @@ package com.viewmodels;
 import com.config.ScreenRegistry;
 import com.core.ServiceManager;
 import com.core.screens.ScreenManager;
+import com.services.AuthProgress;
+import com.services.AuthResult;
 import com.utils.error_handling.Dialog;
 import com.utils.error_handling.Logging;
+import javafx.application.Platform;
 import javafx.beans.property.*;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages GUI state and logic for the login screen
  *
@@ -23,6 +29,11 @@ public class LoginViewModel {
     private final StringProperty password = new SimpleStringProperty();
     private final StringProperty guestUsername = new SimpleStringProperty();
     private final BooleanProperty rememberMe = new SimpleBooleanProperty(false);
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+    private final ReadOnlyObjectWrapper<AuthProgress> progress = new ReadOnlyObjectWrapper<>();
+    
+    // The running login, null if none; only touched on the JavaFX thread
+    private CompletableFuture<AuthResult> pendingLogin;
 
     // ==================== DEPENDENCIES ====================
     
@@ -42,27 +53,41 @@ public class LoginViewModel {
     public StringProperty passwordProperty() { return password; }
     public StringProperty guestUsernameProperty() { return guestUsername; }
     public BooleanProperty rememberMeProperty() { return rememberMe; }
+    public ReadOnlyBooleanProperty busyProperty() { return busy.getReadOnlyProperty(); }
+    public ReadOnlyObjectProperty<AuthProgress> progressProperty() { return progress.getReadOnlyProperty(); }
 
     // ==================== PUBLIC ACTION HANDLERS ====================
     
     /**
-     * Handles regular user login attempt
+     * Handles regular user login attempt.
+     * Authenticates in the background; the screen stays responsive and
+     * clicks while a login is running are ignored.
      */
     public void handleLogin() {
-        Logging.info("Login button clicked - Synchronous authentication");
+        if (busy.get()) {
+            Logging.debug("Login already in progress, ignoring click");
+            return;
+        }
+        Logging.info("Login button clicked - Asynchronous authentication");
         
         // Get values from UI components
         String usernameValue = username.get();
         String passwordValue = password.get();
         
-        // Perform synchronous authentication
-        boolean success = serviceManager.getLoginService().login(usernameValue, passwordValue);
-        
-        if (success) {
-            // Login successful, navigate to dashboard
-            navigateToDashboard();
+        busy.set(true);
+        CompletableFuture<AuthResult> login = serviceManager.getLoginService().loginAsync(usernameValue, passwordValue,
+                stage -> Platform.runLater(() -> progress.set(stage)));
+        pendingLogin = login;
+        login.whenComplete((result, error) -> Platform.runLater(() -> onLoginFinished(login, result, error)));
+    }
+
+    /**
+     * Cancels the running login, if any
+     */
+    public void cancelLogin() {
+        if (pendingLogin != null && pendingLogin.cancel(true)) {
+            Logging.info("Login cancelled by user");
         }
-        // If login fails, LoginService will show error dialog automatically
     }
 
     /**
@@ -89,6 +114,7 @@ public class LoginViewModel {
      */
     public void handleCreateAccount() {
         Logging.info("Create account button clicked");
+        cancelLogin();
         
         try {
             screenManager.navigateTo(ScreenRegistry.REGISTER);
@@ -108,6 +134,31 @@ public class LoginViewModel {
 
     // ==================== PRIVATE HELPER METHODS ====================
     
+    /**
+     * Applies the outcome of a login on the JavaFX thread
+     */
+    private void onLoginFinished(CompletableFuture<AuthResult> login, AuthResult result, Throwable error) {
+        if (login != pendingLogin) {
+            return;
+        }
+        pendingLogin = null;
+        busy.set(false);
+        
+        if (error != null) {
+            if (!(error instanceof CancellationException)) {
+                Logging.error("Login failed: " + error.getMessage(), error);
+                Dialog.showErrorCompact("Login Error", "Something went wrong. Please try again.");
+            }
+            return;
+        }
+        if (result.success()) {
+            // Login successful, navigate to dashboard (the WebSocket connects meanwhile)
+            navigateToDashboard();
+        } else {
+            Dialog.showErrorCompact(result.errorTitle(), result.errorMessage());
+        }
+    }
+    
     /**
      * Navigates to the dashboard screen
      */
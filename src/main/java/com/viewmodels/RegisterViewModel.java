@@ -3,10 +3,16 @@ package com.viewmodels;
 import com.config.ScreenRegistry;
 import com.core.ServiceManager;
 import com.core.screens.ScreenManager;
+import com.services.AuthProgress;
+import com.services.AuthResult;
 import com.utils.error_handling.Dialog;
 import com.utils.error_handling.Logging;
+import javafx.application.Platform;
 import javafx.beans.property.*;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages GUI state and logic for the registration screen
  *
@@ -24,6 +30,11 @@ public class RegisterViewModel {
     private final StringProperty password = new SimpleStringProperty();
     private final StringProperty confirmPassword = new SimpleStringProperty();
     private final StringProperty dateOfBirth = new SimpleStringProperty();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+    private final ReadOnlyObjectWrapper<AuthProgress> progress = new ReadOnlyObjectWrapper<>();
+    
+    // The running registration, null if none; only touched on the JavaFX thread
+    private CompletableFuture<AuthResult> pendingRegistration;
 
     // ==================== DEPENDENCIES ====================
     
@@ -44,14 +55,22 @@ public class RegisterViewModel {
     public StringProperty passwordProperty() { return password; }
     public StringProperty confirmPasswordProperty() { return confirmPassword; }
     public StringProperty dateOfBirthProperty() { return dateOfBirth; }
+    public ReadOnlyBooleanProperty busyProperty() { return busy.getReadOnlyProperty(); }
+    public ReadOnlyObjectProperty<AuthProgress> progressProperty() { return progress.getReadOnlyProperty(); }
 
     // ==================== PUBLIC ACTION HANDLERS ====================
     
     /**
-     * Handles user registration attempt
+     * Handles user registration attempt.
+     * Registers in the background; the screen stays responsive and clicks
+     * while a registration is running are ignored.
      */
     public void handleRegistration() {
-        Logging.info("Create account button clicked - Synchronous registration");
+        if (busy.get()) {
+            Logging.debug("Registration already in progress, ignoring click");
+            return;
+        }
+        Logging.info("Create account button clicked - Asynchronous registration");
         
         // Get values from UI components
         String fullNameValue = fullName.get();
@@ -60,18 +79,22 @@ public class RegisterViewModel {
         String confirmPasswordValue = confirmPassword.get();
         String dobValue = dateOfBirth.get();
         
-        // Perform synchronous registration
-        boolean success = serviceManager.getLoginService().register(usernameValue, passwordValue, fullNameValue, dobValue, confirmPasswordValue);
-        
-        if (success) {
-            // Registration successful, navigate to dashboard
-            try {
-                screenManager.navigateTo(ScreenRegistry.DASHBOARD);
-            } catch (Exception e) {
-                Logging.error("Could not navigate to dashboard: " + e.getMessage(), e);
-            }
+        busy.set(true);
+        CompletableFuture<AuthResult> registration = serviceManager.getLoginService().registerAsync(
+                usernameValue, passwordValue, fullNameValue, dobValue, confirmPasswordValue,
+                stage -> Platform.runLater(() -> progress.set(stage)));
+        pendingRegistration = registration;
+        registration.whenComplete((result, error) ->
+                Platform.runLater(() -> onRegistrationFinished(registration, result, error)));
+    }
+
+    /**
+     * Cancels the running registration, if any
+     */
+    public void cancelRegistration() {
+        if (pendingRegistration != null && pendingRegistration.cancel(true)) {
+            Logging.info("Registration cancelled by user");
         }
-        // If registration fails, LoginService will show error dialog automatically
     }
 
     /**
@@ -79,6 +102,7 @@ public class RegisterViewModel {
      */
     public void navigateToLogin() {
         Logging.info("Back to login button clicked");
+        cancelRegistration();
         
         try {
             screenManager.navigateTo(ScreenRegistry.LOGIN);
@@ -87,6 +111,37 @@ public class RegisterViewModel {
         }
     }
 
+    // ==================== PRIVATE HELPER METHODS ====================
+    
+    /**
+     * Applies the outcome of a registration on the JavaFX thread
+     */
+    private void onRegistrationFinished(CompletableFuture<AuthResult> registration, AuthResult result, Throwable error) {
+        if (registration != pendingRegistration) {
+            return;
+        }
+        pendingRegistration = null;
+        busy.set(false);
+        
+        if (error != null) {
+            if (!(error instanceof CancellationException)) {
+                Logging.error("Registration failed: " + error.getMessage(), error);
+                Dialog.showErrorCompact("Registration Error", "Something went wrong. Please try again.");
+            }
+            return;
+        }
+        if (result.success()) {
+            // Registration successful, navigate to dashboard
+            try {
+                screenManager.navigateTo(ScreenRegistry.DASHBOARD);
+            } catch (Exception e) {
+                Logging.error("Could not navigate to dashboard: " + e.getMessage(), e);
+            }
+        } else {
+            Dialog.showErrorCompact(result.errorTitle(), result.errorMessage());
+        }
+    }
+
     // ==================== UI LOGGING METHODS ====================
     
     /**
@@ -0,0 +1,83 @@
+package com.utils.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the FX thread stall detector, driven by a manual clock and a
+ * queue standing in for Platform.runLater
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class FxThreadMonitorTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    // Manual time source, in nanoseconds
+    private long now = 1_000 * MILLIS;
+    private final Queue<Runnable> fxQueue = new ArrayDeque<>();
+
+    private FxThreadMonitor newMonitor() {
+        return new FxThreadMonitor(MetricsRegistry.getInstance(), fxQueue::add, () -> now, 500);
+    }
+
+    private void runFxQueue() {
+        while (!fxQueue.isEmpty()) {
+            fxQueue.poll().run();
+        }
+    }
+
+    @Test
+    public void testResponsiveThreadRecordsHeartbeats() {
+        FxThreadMonitor monitor = newMonitor();
+        LatencyHistogram heartbeats = MetricsRegistry.getInstance().histogram("fx.heartbeat");
+        long before = heartbeats.getCount();
+
+        for (int i = 0; i < 5; i++) {
+            monitor.tick();
+            now += 3 * MILLIS;
+            runFxQueue();
+            now += 100 * MILLIS;
+        }
+        assertEquals(before + 5, heartbeats.getCount());
+        assertEquals(0, monitor.getPendingHeartbeatMillis());
+        assertNull(monitor.getLastStallReport());
+    }
+
+    @Test
+    public void testStallIsReportedOnceWithStack() {
+        FxThreadMonitor monitor = newMonitor();
+        Counter stalls = MetricsRegistry.getInstance().counter("fx.stalls");
+        LatencyHistogram stallTime = MetricsRegistry.getInstance().histogram("fx.stall");
+        long stallsBefore = stalls.getCount();
+        long stallTimeBefore = stallTime.getCount();
+
+        // The first heartbeat runs on this thread, which the monitor then treats as the FX thread
+        monitor.tick();
+        runFxQueue();
+
+        monitor.tick();
+        assertEquals(1, fxQueue.size());
+        for (int i = 0; i < 10; i++) {
+            now += 100 * MILLIS;
+            monitor.tick();
+        }
+        // Only one heartbeat is outstanding at a time, and the stall is reported once
+        assertEquals(1, fxQueue.size());
+        assertEquals(stallsBefore + 1, stalls.getCount());
+        assertEquals(1_000, monitor.getPendingHeartbeatMillis());
+        String report = monitor.getLastStallReport();
+        assertNotNull(report);
+        assertTrue(report.contains("testStallIsReportedOnceWithStack"), report);
+
+        runFxQueue();
+        assertEquals(stallTimeBefore + 1, stallTime.getCount());
+        assertEquals(0, monitor.getPendingHeartbeatMillis());
+    }
+}
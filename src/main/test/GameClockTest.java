@@ -0,0 +1,106 @@
+package com.game.clock;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the game clock
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class GameClockTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    // Manual time source, in nanoseconds
+    private long now = 1_000 * MILLIS;
+
+    private GameClock newClock(TimeControl timeControl) {
+        return new GameClock(2, timeControl, () -> now);
+    }
+
+    @Test
+    public void testFischerIncrementAfterMove() {
+        GameClock clock = newClock(TimeControl.fischer(60_000, 2_000));
+        clock.startTurn(0);
+        now += 5_000 * MILLIS;
+        assertEquals(55_000, clock.getRemainingMillis(0));
+
+        clock.startTurn(1);
+        assertEquals(57_000, clock.getRemainingMillis(0));
+        now += 1_000 * MILLIS;
+        assertEquals(57_000, clock.getRemainingMillis(0));
+        assertEquals(59_000, clock.getRemainingMillis(1));
+    }
+
+    @Test
+    public void testRestartingSameTurnAddsNoIncrement() {
+        GameClock clock = newClock(TimeControl.fischer(60_000, 2_000));
+        clock.startTurn(0);
+        now += 5_000 * MILLIS;
+
+        clock.startTurn(0);
+        assertEquals(55_000, clock.getRemainingMillis(0));
+        clock.startTurn(0);
+        assertEquals(55_000, clock.getRemainingMillis(0));
+    }
+
+    @Test
+    public void testDelayIsNotCharged() {
+        GameClock clock = newClock(TimeControl.delay(10_000, 3_000));
+        clock.startTurn(0);
+        now += 2_000 * MILLIS;
+        assertEquals(10_000, clock.getRemainingMillis(0));
+        now += 4_000 * MILLIS;
+        assertEquals(7_000, clock.getRemainingMillis(0));
+    }
+
+    @Test
+    public void testPerMoveTimerRestartsEachTurn() {
+        GameClock clock = newClock(TimeControl.perMove(30_000));
+        clock.startTurn(0);
+        now += 31_000 * MILLIS;
+        assertTrue(clock.isTimeUp(0));
+
+        clock.startTurn(0);
+        assertEquals(30_000, clock.getRemainingMillis(0));
+        assertFalse(clock.isTimeUp(0));
+    }
+
+    @Test
+    public void testPausedTimeIsNotCharged() {
+        GameClock clock = newClock(TimeControl.suddenDeath(60_000));
+        clock.startTurn(1);
+        now += 1_000 * MILLIS;
+        clock.pause();
+        assertFalse(clock.isRunning());
+        now += 10_000 * MILLIS;
+        assertEquals(59_000, clock.getRemainingMillis(1));
+
+        clock.resume();
+        now += 1_000 * MILLIS;
+        assertEquals(58_000, clock.getRemainingMillis(1));
+        clock.stop();
+        now += 5_000 * MILLIS;
+        assertEquals(58_000, clock.getRemainingMillis(1));
+        assertEquals(-1, clock.getActivePlayer());
+    }
+
+    @Test
+    public void testServerSyncMessage() {
+        GameClock clock = newClock(TimeControl.fischer(60_000, 0));
+        clock.startTurn(0);
+
+        String message = "{\"type\":\"clock_sync\",\"matchId\":\"M1\",\"active\":1,\"remaining\":[41000,30000],\"latency\":50}";
+        assertFalse(GameClockService.applyServerMessage(clock, "M2", message));
+        assertFalse(GameClockService.applyServerMessage(clock, "M1", "{\"type\":\"chat\",\"text\":\"clock_sync\"}"));
+        assertFalse(GameClockService.applyServerMessage(clock, "M1", "clock_sync {"));
+        assertTrue(GameClockService.applyServerMessage(clock, "M1", message));
+
+        assertEquals(1, clock.getActivePlayer());
+        assertEquals(41_000, clock.getRemainingMillis(0));
+        assertEquals(29_950, clock.getRemainingMillis(1));
+    }
+}
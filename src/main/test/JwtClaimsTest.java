@@ -0,0 +1,82 @@
+package com.network;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Tests for JWT payload claim decoding
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class JwtClaimsTest {
+
+    private static String tokenWithPayload(String json) {
+        String payload = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        return "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9." + payload + ".signature";
+    }
+
+    @Test
+    void testDecodesTypedClaims() {
+        JwtClaims claims = JwtClaims.decode(tokenWithPayload(
+            "{\"sub\":\"testuser\",\"exp\":1900000000,\"iat\":1800000000,\"roles\":[\"admin\",\"player\"]}"));
+
+        assertNotNull(claims);
+        assertEquals("testuser", claims.getSubject());
+        assertEquals(1900000000L, claims.getExpiresAtEpochSecond());
+        assertEquals(1800000000L, claims.getIssuedAtEpochSecond());
+        assertEquals(List.of("admin", "player"), claims.getRoles());
+        assertTrue(claims.hasRole("admin"));
+    }
+
+    @Test
+    void testTokenExpiryFollowsExpClaimInAnyTimeZone() {
+        java.util.TimeZone original = java.util.TimeZone.getDefault();
+        try {
+            java.util.TimeZone.setDefault(java.util.TimeZone.getTimeZone("Asia/Tokyo"));
+            JwtClaims claims = JwtClaims.decode(tokenWithPayload("{\"sub\":\"testuser\",\"exp\":1900000000,\"iat\":1800000000}"));
+            JWTToken token = JWTToken.fromEpochSecond("token", "testuser", claims.getExpiresAtEpochSecond(), claims);
+
+            assertEquals(1_900_000_000_000L, token.getExpiresAtEpochMillis());
+            assertEquals(java.time.LocalDateTime.of(2030, 3, 18, 2, 46, 40), token.getExpiresAt());
+            assertEquals(token.getExpiresAt(), claims.getExpiresAt());
+            assertEquals(java.time.LocalDateTime.of(2027, 1, 15, 17, 0), claims.getIssuedAt());
+        } finally {
+            java.util.TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    void testFallsBackToUsernameClaimAndSingleRole() {
+        JwtClaims claims = JwtClaims.decode(tokenWithPayload("{\"username\":\"testuser\",\"role\":\"player\"}"));
+
+        assertNotNull(claims);
+        assertEquals("testuser", claims.getSubject());
+        assertNull(claims.getExpiresAt());
+        assertEquals(List.of("player"), claims.getRoles());
+    }
+
+    @Test
+    void testDecodesUrlSafeCharacters() {
+        // This payload encodes with a "_" in base64url, exercising the URL-safe alphabet
+        JwtClaims claims = JwtClaims.decode(tokenWithPayload("{\"sub\":\"??>\"}"));
+
+        assertNotNull(claims);
+        assertEquals("??>", claims.getSubject());
+    }
+
+    @Test
+    void testRejectsMalformedTokens() {
+        assertNull(JwtClaims.decode(null));
+        assertNull(JwtClaims.decode("not-a-token"));
+        assertNull(JwtClaims.decode("a.b"));
+        assertNull(JwtClaims.decode("a.b.c.d"));
+        assertNull(JwtClaims.decode("header.%%%.signature"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.utils.concurrent;
+
+import com.utils.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the metered executor wrapper
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class MeteredExecutorServiceTest {
+
+    @Test
+    public void testRecordsWaitAndRunTimes() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        MeteredExecutorService executor = new MeteredExecutorService("test-timed", pool,
+                () -> pool.getQueue().size(), pool::getActiveCount, 100);
+        try {
+            Future<Integer> result = executor.submit(() -> 6 * 7);
+            assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+            MetricsRegistry metrics = MetricsRegistry.getInstance();
+            assertEquals(1, metrics.histogram("executor.test-timed.wait").getCount());
+            assertEquals(1, metrics.histogram("executor.test-timed.run").getCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRejectsWhenQueueIsFull() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        MeteredExecutorService executor = new MeteredExecutorService("test-bounded", pool,
+                () -> pool.getQueue().size(), pool::getActiveCount, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.execute(() -> { });
+            executor.execute(() -> { });
+            assertEquals(2, executor.getQueueDepth());
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+            assertEquals(1, MetricsRegistry.getInstance().counter("executor.test-bounded.rejected").getCount());
+            assertEquals(2L, MetricsRegistry.getInstance().snapshot().getGauges().get("executor.test-bounded.queued"));
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.utils.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the metrics registry and latency histogram
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class MetricsRegistryTest {
+
+    @Test
+    public void testBucketsCoverValuesWithinRelativeError() {
+        long[] values = {0, 1, 31, 32, 33, 63, 64, 1_000, 999_999, 123_456_789, Long.MAX_VALUE / 3};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upper >= value, "upper bound below value " + value);
+            assertTrue(upper - value <= value / 32, "bucket too wide for " + value);
+        }
+        // From 64 up, buckets hold two or more values
+        assertTrue(LatencyHistogram.bucketIndex(66) > LatencyHistogram.bucketIndex(65));
+        assertEquals(LatencyHistogram.bucketIndex(64), LatencyHistogram.bucketIndex(65));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1_000, snapshot.count());
+        assertEquals(1_000, snapshot.min());
+        assertEquals(1_000_000, snapshot.max());
+        assertEquals(500_500.0, snapshot.getMean(), 0.001);
+        assertEquals(500_000, snapshot.p50(), 500_000 / 32);
+        assertEquals(990_000, snapshot.p99(), 990_000 / 32);
+        assertTrue(snapshot.p999() <= snapshot.max());
+    }
+
+    @Test
+    public void testRegistrySharesMetricsByName() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        Counter counter = registry.counter("test.counter");
+        assertSame(counter, registry.counter("test.counter"));
+        long before = counter.getCount();
+        registry.increment("test.counter");
+        counter.add(2);
+        registry.gauge("test.gauge", () -> 42);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(before + 3, snapshot.getCounters().get("test.counter"));
+        assertEquals(42, snapshot.getGauges().get("test.gauge"));
+        assertTrue(snapshot.format().contains("counter   test.counter " + (before + 3)));
+        registry.removeGauge("test.gauge");
+    }
+}
@@ -0,0 +1,150 @@
+package com.game.ai;
+
+import com.game.rules.GameRules;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the Monte Carlo tree search engine
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class MonteCarloTreeSearchTest {
+
+    /**
+     * Nim with one pile: each turn takes 1 to 3 stones, taking the last stone wins.
+     * State is {stones left, player to move}. Leaving a multiple of 4 wins.
+     */
+    private static final class NimRules implements GameRules<int[]> {
+        private final int stones;
+
+        NimRules(int stones) {
+            this.stones = stones;
+        }
+
+        @Override
+        public int[] initialState() {
+            return new int[]{stones, 0};
+        }
+
+        @Override
+        public int[] copy(int[] state) {
+            return state.clone();
+        }
+
+        @Override
+        public int getPlayerCount() {
+            return 2;
+        }
+
+        @Override
+        public int getCurrentPlayer(int[] state) {
+            return state[1];
+        }
+
+        @Override
+        public int getMaxMoves() {
+            return 3;
+        }
+
+        @Override
+        public int getLegalMoves(int[] state, int[] moves) {
+            int count = Math.min(3, state[0]);
+            for (int i = 0; i < count; i++) {
+                moves[i] = i + 1;
+            }
+            return count;
+        }
+
+        @Override
+        public void apply(int[] state, int move) {
+            state[0] -= move;
+            state[1] ^= 1;
+        }
+
+        @Override
+        public boolean isTerminal(int[] state) {
+            return state[0] == 0;
+        }
+
+        @Override
+        public int getWinner(int[] state) {
+            // The player who took the last stone is the one not to move
+            return state[0] == 0 ? state[1] ^ 1 : -1;
+        }
+    }
+
+    private static MonteCarloTreeSearch<int[]> newSearch(NimRules rules, int parallelism) {
+        return new MonteCarloTreeSearch<>(rules, ForkJoinPool.commonPool(), parallelism,
+                MonteCarloTreeSearch.DEFAULT_EXPLORATION);
+    }
+
+    @Test
+    public void testFindsWinningMove() {
+        NimRules rules = new NimRules(7);
+        MonteCarloTreeSearch<int[]> search = newSearch(rules, 2);
+
+        MonteCarloTreeSearch.SearchResult result = search.search(rules.initialState(), 10_000, 20_000);
+
+        assertEquals(3, result.move());
+        assertEquals(40_000, result.playouts());
+        assertTrue(result.winRate() > 0.5);
+    }
+
+    @Test
+    public void testReusesTreeAfterAdvance() {
+        NimRules rules = new NimRules(10);
+        MonteCarloTreeSearch<int[]> search = newSearch(rules, 1);
+        int[] state = rules.initialState();
+
+        int move = search.search(state, 10_000, 5_000).move();
+        rules.apply(state, move);
+        search.advance(move);
+        rules.apply(state, 1);
+        search.advance(1);
+
+        MonteCarloTreeSearch.SearchResult result = search.search(state, 10_000, 5_000);
+        assertTrue(result.reusedVisits() > 0);
+        assertEquals(state[0] % 4, result.move());
+    }
+
+    @Test
+    public void testRebuildsTreesOutOfStepWithGame() {
+        NimRules rules = new NimRules(10);
+        MonteCarloTreeSearch<int[]> search = newSearch(rules, 1);
+        search.search(rules.initialState(), 10_000, 1_000);
+
+        // One stone left: the only legal move is 1, which the stale tree would not pick
+        MonteCarloTreeSearch.SearchResult result = search.search(new int[]{1, 0}, 10_000, 1_000);
+        assertEquals(1, result.move());
+        assertEquals(0, result.reusedVisits());
+    }
+
+    @Test
+    public void testResetAbortsRunningSearch() throws Exception {
+        NimRules rules = new NimRules(40);
+        MonteCarloTreeSearch<int[]> search = newSearch(rules, 2);
+        java.util.concurrent.CompletableFuture<Integer> move = search.chooseMoveAsync(rules.initialState(), 10_000);
+        Thread.sleep(100);
+
+        // Returns at once even though the search holds the lock
+        long start = System.nanoTime();
+        search.reset();
+        assertTrue(System.nanoTime() - start < 50_000_000L);
+
+        assertEquals(-1, move.get(2, java.util.concurrent.TimeUnit.SECONDS));
+        assertNull(search.getLastResult());
+        MonteCarloTreeSearch.SearchResult result = search.search(rules.initialState(), 10_000, 1_000);
+        assertEquals(0, result.reusedVisits());
+    }
+
+    @Test
+    public void testFinishedGameHasNoMove() {
+        NimRules rules = new NimRules(4);
+        assertEquals(-1, newSearch(rules, 1).chooseMove(new int[]{0, 1}, 100));
+    }
+}
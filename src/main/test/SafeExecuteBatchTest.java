@@ -0,0 +1,124 @@
+package com.utils.error_handling;
+
+import com.utils.error_handling.SafeExecute.BatchResult;
+import com.utils.error_handling.enums.BatchFailureMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for parallel batch execution
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SafeExecuteBatchTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testResultsInTaskOrderWithinConcurrencyLimit() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int id = i;
+            tasks.add(() -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.sleep(12 - id);
+                active.decrementAndGet();
+                if (id == 5) {
+                    throw new IOException("task 5");
+                }
+                return id;
+            });
+        }
+
+        BatchResult<Integer> result = SafeExecute.executeBatchParallel(tasks, "Batch failed", executor, 3,
+                BatchFailureMode.COLLECT_ALL, 0);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 6, 7, 8, 9, 10, 11), result.getSuccessfulResults());
+        assertEquals(List.of(5), result.getFailedIndices());
+        assertTrue(result.getFailures().get(0) instanceof IOException);
+        assertTrue(maxActive.get() <= 3);
+    }
+
+    @Test
+    public void testFailFastCancelsSiblings() throws InterruptedException {
+        CountDownLatch siblingsStarted = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        AtomicInteger started = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int id = i;
+            tasks.add(() -> {
+                started.incrementAndGet();
+                if (id == 1) {
+                    // Fail once both running siblings are inside their sleep
+                    siblingsStarted.await();
+                    throw new IOException("task 1");
+                }
+                siblingsStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return id;
+            });
+        }
+
+        long start = System.nanoTime();
+        BatchResult<Integer> result = SafeExecute.executeBatchParallel(tasks, "Batch failed", executor, 3,
+                BatchFailureMode.FAIL_FAST, 0);
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(0, result.getSuccessCount());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), result.getFailedIndices());
+        assertTrue(result.getFailures().get(1) instanceof IOException);
+        assertTrue(result.getFailures().get(0) instanceof CancellationException);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(3, started.get());
+    }
+
+    @Test
+    public void testDeadlineAbandonsUnfinishedTasks() {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        tasks.add(() -> 0);
+        for (int i = 1; i < 4; i++) {
+            tasks.add(() -> {
+                Thread.sleep(10_000);
+                return 1;
+            });
+        }
+
+        BatchResult<Integer> result = SafeExecute.executeBatchParallel(tasks, "Batch failed", executor, 4,
+                BatchFailureMode.COLLECT_ALL, 100);
+
+        assertEquals(List.of(0), result.getSuccessfulResults());
+        assertEquals(List.of(1, 2, 3), result.getFailedIndices());
+        for (Exception failure : result.getFailures()) {
+            assertTrue(failure instanceof TimeoutException);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.game.saves;
+
+import com.game.GameOptions;
+import com.game.GameState;
+import com.game.enums.GameMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Tests for the append-only saved game store
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SaveGameStoreTest {
+
+    private Path directory;
+    private SaveGameStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("save-store-test");
+        store = new SaveGameStore(directory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static GameState createState(String gameId, int move) {
+        GameOptions options = new GameOptions();
+        options.setOption("boardSize", 3);
+        GameState state = new GameState(gameId, "Game " + gameId, GameMode.LOCAL_MULTIPLAYER, 2, options);
+        state.setStateValue("move", move);
+        state.setStateValue("board", "X-O------");
+        state.setStateValue("finished", false);
+        return state;
+    }
+
+    @Test
+    void testSavesSurviveReopenWithTypesAndLazyData() {
+        store.save(createState("tictactoe", 1));
+        store.save(createState("tictactoe", 2));
+        store.save(createState("chess", 7));
+        store.close();
+
+        SaveGameStore reopened = new SaveGameStore(directory);
+        List<GameState> saves = reopened.getSaves("tictactoe");
+        assertEquals(2, saves.size());
+
+        GameState latest = saves.get(0);
+        assertFalse(latest.isStateDataLoaded());
+        assertEquals(Integer.valueOf(2), latest.getIntStateValue("move"));
+        assertEquals("X-O------", latest.getStringStateValue("board"));
+        assertEquals(Boolean.FALSE, latest.getBooleanStateValue("finished"));
+        assertEquals(Integer.valueOf(3), latest.getGameOptions().getIntOption("boardSize"));
+        assertEquals(GameMode.LOCAL_MULTIPLAYER, latest.getGameMode());
+        assertEquals(3, reopened.getSaveCount());
+        reopened.close();
+    }
+
+    @Test
+    void testLatestSaveFollowsDeletes() {
+        GameState first = store.save(createState("tictactoe", 1));
+        GameState second = store.save(createState("tictactoe", 2));
+
+        assertEquals(second.getSaveId(), store.getLatestSave("tictactoe").getSaveId());
+        assertTrue(store.delete(second.getSaveId()));
+        assertEquals(first.getSaveId(), store.getLatestSave("tictactoe").getSaveId());
+        assertTrue(store.delete(first.getSaveId()));
+        assertNull(store.getLatestSave("tictactoe"));
+        assertFalse(store.delete(first.getSaveId()));
+    }
+
+    @Test
+    void testCompactionKeepsLiveSaves() throws IOException {
+        GameState kept = store.save(createState("tictactoe", 42));
+        for (int i = 0; i < 20; i++) {
+            store.delete(store.save(createState("chess", i)).getSaveId());
+        }
+        long sizeBefore = Files.size(directory.resolve("saves.log"));
+
+        store.compact();
+
+        assertTrue(Files.size(directory.resolve("saves.log")) < sizeBefore);
+        assertEquals(Integer.valueOf(42), store.getSave(kept.getSaveId()).getIntStateValue("move"));
+        assertEquals(1, store.getSaveCount());
+    }
+
+    @Test
+    void testUnknownGameModeDoesNotBlockOpening() throws IOException {
+        store.save(createState("tictactoe", 1));
+        store.save(createState("chess", 2));
+        store.close();
+
+        // Rename the first record's mode to one this build doesn't know, keeping its checksum valid
+        Path log = directory.resolve("saves.log");
+        byte[] data = Files.readAllBytes(log);
+        int headerLength = ByteBuffer.wrap(data).getInt(0);
+        byte[] header = new byte[headerLength];
+        System.arraycopy(data, 16, header, 0, headerLength);
+        String text = new String(header, StandardCharsets.ISO_8859_1);
+        byte[] renamed = text.replace("LOCAL_MULTIPLAYER", "RETIRED_GAME_MODE").getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(renamed, 0, data, 16, headerLength);
+        CRC32 crc = new CRC32();
+        crc.update(renamed);
+        ByteBuffer.wrap(data).putInt(8, (int) crc.getValue());
+        Files.write(log, data);
+
+        SaveGameStore reopened = new SaveGameStore(directory);
+        assertEquals(2, reopened.getSaveCount());
+        GameState unknown = reopened.getLatestSave("tictactoe");
+        assertNull(unknown.getGameMode());
+        assertEquals(GameMode.LOCAL_MULTIPLAYER, reopened.getLatestSave("chess").getGameMode());
+
+        // The save still loads, shows and deletes
+        assertEquals(Integer.valueOf(1), reopened.getSave(unknown.getSaveId()).getIntStateValue("move"));
+        assertTrue(unknown.getDisplayName().contains("Unknown mode"));
+        assertTrue(reopened.delete(unknown.getSaveId()));
+        assertNull(reopened.getLatestSave("tictactoe"));
+        assertEquals(1, reopened.getSaveCount());
+        reopened.close();
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws IOException {
+        store.save(createState("tictactoe", 1));
+        store.save(createState("tictactoe", 2));
+        store.close();
+
+        Path log = directory.resolve("saves.log");
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        SaveGameStore reopened = new SaveGameStore(directory);
+        assertEquals(1, reopened.getSaveCount());
+        GameState next = reopened.save(createState("tictactoe", 3));
+        assertEquals(2, reopened.getSaveCount());
+        assertEquals(next.getSaveId(), reopened.getLatestSave("tictactoe").getSaveId());
+        reopened.close();
+    }
+}
@@ -0,0 +1,125 @@
+package com.game.rules;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the headless self-play simulator
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SelfPlaySimulatorTest {
+
+    /**
+     * Nim with one pile: each turn takes 1 to 3 stones, taking the last stone wins.
+     * State is {stones left, player to move}.
+     */
+    private static class NimRules implements GameRules<int[]> {
+        @Override
+        public int[] initialState() {
+            return new int[]{22, 0};
+        }
+
+        @Override
+        public int[] copy(int[] state) {
+            return state.clone();
+        }
+
+        @Override
+        public int getPlayerCount() {
+            return 2;
+        }
+
+        @Override
+        public int getCurrentPlayer(int[] state) {
+            return state[1];
+        }
+
+        @Override
+        public int getMaxMoves() {
+            return 3;
+        }
+
+        @Override
+        public int getLegalMoves(int[] state, int[] moves) {
+            int count = Math.min(3, state[0]);
+            for (int i = 0; i < count; i++) {
+                moves[i] = i + 1;
+            }
+            return count;
+        }
+
+        @Override
+        public void apply(int[] state, int move) {
+            state[0] -= move;
+            state[1] ^= 1;
+        }
+
+        @Override
+        public boolean isTerminal(int[] state) {
+            return state[0] <= 0;
+        }
+
+        @Override
+        public int getWinner(int[] state) {
+            return state[0] <= 0 ? state[1] ^ 1 : -1;
+        }
+    }
+
+    @Test
+    public void testResultsDoNotDependOnParallelism() {
+        NimRules rules = new NimRules();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            SelfPlaySimulator.SimulationResult one = SelfPlaySimulator.run(rules, SelfPlaySimulator.randomPolicy(),
+                    10_000, 7, single, SelfPlaySimulator.DEFAULT_MAX_PLIES, true);
+            SelfPlaySimulator.SimulationResult four = SelfPlaySimulator.run(rules, SelfPlaySimulator.randomPolicy(),
+                    10_000, 7, quad, SelfPlaySimulator.DEFAULT_MAX_PLIES, true);
+
+            assertEquals(10_000, one.games());
+            assertEquals(0, one.failures());
+            assertEquals(10_000, one.wins()[0] + one.wins()[1] + one.draws());
+            assertArrayEquals(one.wins(), four.wins());
+            assertEquals(one.plies(), four.plies());
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    public void testReportsIllegalMovesAndReplaysThem() {
+        NimRules rules = new NimRules();
+        // Takes 3 stones even when fewer are left
+        SelfPlaySimulator.MovePolicy<int[]> greedy = (r, state, random, moves) -> 3;
+
+        SelfPlaySimulator.SimulationResult result = SelfPlaySimulator.run(rules, greedy, 100, 1,
+                ForkJoinPool.commonPool(), SelfPlaySimulator.DEFAULT_MAX_PLIES, true);
+
+        assertEquals(100, result.failures());
+        assertTrue(result.firstFailure().startsWith("game 0: illegal move 3"));
+        // Without validation the replay runs the broken game to its end
+        assertEquals(-2, SelfPlaySimulator.playGame(rules, greedy, 1, 0)[0]);
+    }
+
+    @Test
+    public void testReportsGamesThatNeverEnd() {
+        NimRules rules = new NimRules() {
+            @Override
+            public void apply(int[] state, int move) {
+                state[1] ^= 1;
+            }
+        };
+
+        SelfPlaySimulator.SimulationResult result = SelfPlaySimulator.run(rules, SelfPlaySimulator.randomPolicy(),
+                10, 1, ForkJoinPool.commonPool(), 1_000, false);
+
+        assertEquals(10, result.failures());
+        assertEquals("game 0: no result after 1000 moves", result.firstFailure());
+    }
+}
@@ -0,0 +1,184 @@
+package com.game.session;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Tests for the session event log and replay
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SessionLogTest {
+
+    private static final int ACTION_ADD = 1;
+    private static final int ACTION_RESET = 2;
+
+    /**
+     * Replay rules for a running total: ADD adds data, RESET sets it to 0.
+     */
+    private static final ReplayRules<long[]> TOTAL_RULES = new ReplayRules<>() {
+        @Override
+        public long[] initialState() {
+            return new long[1];
+        }
+
+        @Override
+        public long[] applyEvent(long[] state, SessionEvent event) {
+            state[0] = event.getAction() == ACTION_RESET ? 0 : state[0] + event.getData();
+            return state;
+        }
+
+        @Override
+        public long[] copy(long[] state) {
+            return state.clone();
+        }
+
+        // Replay only needs the state and events; the move-based side is trivial
+        @Override
+        public int getPlayerCount() {
+            return 2;
+        }
+
+        @Override
+        public int getCurrentPlayer(long[] state) {
+            return 0;
+        }
+
+        @Override
+        public int getMaxMoves() {
+            return 0;
+        }
+
+        @Override
+        public int getLegalMoves(long[] state, int[] moves) {
+            return 0;
+        }
+
+        @Override
+        public void apply(long[] state, int move) {
+            state[0] += move;
+        }
+
+        @Override
+        public boolean isTerminal(long[] state) {
+            return false;
+        }
+
+        @Override
+        public int getWinner(long[] state) {
+            return -1;
+        }
+    };
+
+    private static SessionLog createLog(int events) {
+        SessionLog log = new SessionLog();
+        for (int i = 0; i < events; i++) {
+            if (i % 100 == 99) {
+                log.append(ACTION_RESET, -1, 0);
+            } else {
+                log.append(ACTION_ADD, i % 2, i - 50, i % 10 == 0 ? new byte[]{(byte) i} : null);
+            }
+        }
+        return log;
+    }
+
+    private static long expectedTotal(int events) {
+        long total = 0;
+        for (int i = 0; i < events; i++) {
+            total = i % 100 == 99 ? 0 : total + (i - 50);
+        }
+        return total;
+    }
+
+    @Test
+    void testEventsRoundTripAcrossIndexIntervals() {
+        SessionLog log = createLog(1000);
+        assertEquals(1000, log.size());
+
+        SessionEvent event = log.get(130);
+        assertEquals(130, event.getIndex());
+        assertEquals(ACTION_ADD, event.getAction());
+        assertEquals(0, event.getPlayer());
+        assertEquals(80, event.getData());
+        assertArrayEquals(new byte[]{(byte) 130}, event.getPayload());
+
+        SessionEvent reset = log.get(199);
+        assertEquals(ACTION_RESET, reset.getAction());
+        assertEquals(-1, reset.getPlayer());
+
+        List<SessionEvent> tail = log.getEvents(990);
+        assertEquals(10, tail.size());
+        assertEquals(940, tail.get(0).getData());
+    }
+
+    @Test
+    void testEncodedLogRestoresAndContinues() {
+        SessionLog log = createLog(300);
+        SessionLog restored = SessionLog.fromBytes(log.toByteArray());
+
+        assertEquals(300, restored.size());
+        assertEquals(log.getStartEpochMillis(), restored.getStartEpochMillis());
+        assertEquals(log.get(257).getData(), restored.get(257).getData());
+        assertEquals(log.get(257).getTimeMillis(), restored.get(257).getTimeMillis());
+
+        restored.append(ACTION_ADD, 1, 5);
+        assertEquals(301, restored.size());
+        assertEquals(5, restored.get(300).getData());
+        assertTrue(restored.get(300).getTimeMillis() >= restored.get(299).getTimeMillis());
+
+        assertThrows(IllegalArgumentException.class, () -> SessionLog.fromBytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void testSpectatorCatchesUpIncrementally() {
+        SessionLog host = createLog(70);
+        SessionLog spectator = new SessionLog();
+
+        spectator.appendEncoded(host.encodeSince(0));
+        for (int i = 0; i < 200; i++) {
+            host.append(ACTION_ADD, 0, i);
+        }
+        spectator.appendEncoded(host.encodeSince(spectator.size()));
+
+        assertEquals(host.size(), spectator.size());
+        assertEquals(host.get(265).getData(), spectator.get(265).getData());
+        assertThrows(IllegalArgumentException.class, () -> spectator.appendEncoded(host.encodeSince(10)));
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterEvents() {
+        SessionLog log = createLog(10);
+        SessionLog snapshot = log.snapshot();
+        for (int i = 0; i < 500; i++) {
+            log.append(ACTION_ADD, 0, 1);
+        }
+
+        assertEquals(10, snapshot.size());
+        assertEquals(log.get(9).getData(), snapshot.get(9).getData());
+        assertThrows(IllegalStateException.class, () -> snapshot.append(ACTION_ADD, 0, 1));
+    }
+
+    @Test
+    void testReplayerFastForwardsFromCheckpoints() {
+        SessionLog log = createLog(1000);
+        SessionReplayer<long[]> replayer = new SessionReplayer<>(log, TOTAL_RULES, 64);
+
+        assertEquals(expectedTotal(1000), replayer.latestState()[0]);
+        assertEquals(1 + 1000 / 64, replayer.getCheckpointCount());
+
+        // Seeking backwards uses the checkpoints and returns independent states
+        long[] early = replayer.stateAt(150);
+        assertEquals(expectedTotal(150), early[0]);
+        early[0] = 12345;
+        assertEquals(expectedTotal(150), replayer.stateAt(150)[0]);
+        assertEquals(0, replayer.stateAt(0)[0]);
+
+        // Checkpoints stay valid as the log grows
+        log.append(ACTION_ADD, 0, 7);
+        assertEquals(expectedTotal(1000) + 7, replayer.latestState()[0]);
+    }
+}
@@ -0,0 +1,131 @@
+package com.game.state;
+
+import com.game.GameOptions;
+import com.game.GameState;
+import com.game.enums.GameMode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+/**
+ * Tests for the slot storage behind GameState and GameOptions
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class SlotStoreTest {
+
+    @Test
+    void testTypedGettersKeepMapSemantics() {
+        GameState state = new GameState("test", "Test", GameMode.SINGLE_PLAYER, 1, new GameOptions());
+        state.setStateValue("score", 5000);
+        state.setLongStateValue("elapsed", 12L);
+        state.setStateValue("winner", null);
+
+        assertEquals(Integer.valueOf(5000), state.getIntStateValue("score"));
+        assertEquals(5000, state.getStateValue("score"));
+        // A long is not an int, as with the previous instanceof checks
+        assertNull(state.getIntStateValue("elapsed"));
+        assertEquals(7, state.getIntStateValue("elapsed", 7));
+        assertEquals(12L, state.getStateValue("elapsed"));
+
+        assertTrue(state.hasStateValue("winner"));
+        assertNull(state.getStateValue("winner", "default"));
+        assertEquals(3, state.getStateDataSize());
+
+        Map<String, Object> all = state.getAllStateData();
+        assertEquals(5000, all.get("score"));
+        assertTrue(all.containsKey("winner"));
+    }
+
+    @Test
+    void testPrimitiveSettersAndKeyIds() {
+        GameState state = new GameState("test", "Test", GameMode.SINGLE_PLAYER, 1, new GameOptions());
+        int scoreId = GameState.keyId("score");
+
+        state.setIntStateValue(scoreId, 41);
+        state.setIntStateValue(scoreId, state.getIntStateValue(scoreId, 0) + 1);
+        assertEquals(42, state.getIntStateValue("score", 0));
+
+        state.setStateValue("score", "replaced");
+        assertEquals(-1, state.getIntStateValue(scoreId, -1));
+        assertEquals("replaced", state.getStringStateValue("score"));
+
+        state.removeStateValue("score");
+        assertFalse(state.hasStateValue("score"));
+        assertTrue(state.isStateDataEmpty());
+    }
+
+    @Test
+    void testReadsDoNotInternUnknownKeys() {
+        GameOptions options = new GameOptions();
+        String key = "never-stored-" + System.nanoTime();
+
+        assertNull(options.getOption(key));
+        assertFalse(options.hasOption(key));
+        assertEquals(-1, SlotStore.findKeyId(key));
+
+        options.setIntOption(key, 3);
+        assertEquals(Integer.valueOf(3), options.getIntOption(key));
+        assertEquals(key, SlotStore.keyName(SlotStore.findKeyId(key)));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        SlotStore store = new SlotStore();
+        int id = SlotStore.keyId("value");
+        store.putInt(id, 1);
+
+        SlotStore copy = store.copy();
+        copy.putInt(id, 2);
+        assertEquals(1, store.getInt(id, 0));
+        assertEquals(2, copy.getInt(id, 0));
+    }
+
+    @Test
+    void testStoreKeepsOnlyItsOwnKeys() {
+        // Many interned names don't matter to a store holding a few of them
+        int lastId = -1;
+        for (int i = 0; i < 2_000; i++) {
+            lastId = SlotStore.keyId("interned-" + i);
+        }
+        SlotStore store = new SlotStore();
+        store.putInt(lastId, 1);
+        store.put(SlotStore.keyId("name"), "X");
+        store.putBoolean(SlotStore.keyId("done"), true);
+
+        store.remove(lastId);
+        assertFalse(store.containsKey(lastId));
+        assertEquals("X", store.get(SlotStore.keyId("name")));
+        assertTrue(store.getBoolean(SlotStore.keyId("done"), false));
+        assertEquals(Map.of("name", "X", "done", true), store.toMap());
+    }
+
+    @Test
+    void testSnapshotIsIsolatedFromLaterWrites() {
+        GameOptions options = new GameOptions();
+        options.setIntOption("boardSize", 3);
+        GameState live = new GameState("test", "Test", GameMode.SINGLE_PLAYER, 1, options);
+        live.setIntStateValue("score", 10);
+        live.setStateValue("player", "X");
+
+        GameState snapshot = live.snapshot();
+        live.setIntStateValue("score", 11);
+        live.removeStateValue("player");
+        live.setStateValue("newKey", true);
+        live.getGameOptions().setIntOption("boardSize", 4);
+
+        assertEquals(10, snapshot.getIntStateValue("score", 0));
+        assertEquals("X", snapshot.getStringStateValue("player"));
+        assertFalse(snapshot.hasStateValue("newKey"));
+        assertEquals(3, snapshot.getGameOptions().getIntOption("boardSize", 0));
+        assertEquals(GameState.UNSAVED_ID, snapshot.getSaveId());
+
+        // Writes to the snapshot don't reach the live state either
+        snapshot.setIntStateValue("score", 99);
+        assertEquals(11, live.getIntStateValue("score", 0));
+        assertEquals(4, live.getGameOptions().getIntOption("boardSize", 0));
+    }
+}
@@ -0,0 +1,179 @@
+package com.game.state;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for schema-based state encoding and deltas
+ *
+ * @authors Clement Luo
+ * @date October 18, 2026
+ * @since 1.0
+ */
+public class StateCodecTest {
+
+    private static final StateSchema SCHEMA_V1 = StateSchema.builder("test", 1)
+        .intKey(1, "score")
+        .longKey(2, "elapsed")
+        .booleanKey(3, "finished")
+        .stringKey(4, "player")
+        .bytesKey(5, "board")
+        .build();
+
+    private static Map<String, Object> sampleValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("score", -42);
+        values.put("elapsed", 123_456_789_000L);
+        values.put("finished", true);
+        values.put("player", "X");
+        values.put("board", new byte[]{1, 0, 2, 0, 1, 0, 0, 0, 2});
+        values.put("history", List.of("a1", "b2"));
+        return values;
+    }
+
+    @Test
+    void testSnapshotRoundTripKeepsTypes() {
+        Map<String, Object> decoded = StateCodec.decode(SCHEMA_V1, StateCodec.encode(SCHEMA_V1, sampleValues()));
+
+        assertEquals(-42, decoded.get("score"));
+        assertEquals(123_456_789_000L, decoded.get("elapsed"));
+        assertEquals(Boolean.TRUE, decoded.get("finished"));
+        assertEquals("X", decoded.get("player"));
+        assertArrayEquals(new byte[]{1, 0, 2, 0, 1, 0, 0, 0, 2}, (byte[]) decoded.get("board"));
+        // Not in the schema - written by name
+        assertNotNull(decoded.get("history"));
+    }
+
+    @Test
+    void testValueOfWrongTypeFallsBackToDynamicField() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("score", "not a number");
+
+        Map<String, Object> decoded = StateCodec.decode(SCHEMA_V1, StateCodec.encode(SCHEMA_V1, values));
+        assertEquals("not a number", decoded.get("score"));
+    }
+
+    @Test
+    void testDeltaContainsOnlyChanges() {
+        Map<String, Object> previous = sampleValues();
+        Map<String, Object> current = sampleValues();
+        current.put("score", 7);
+        current.remove("player");
+
+        byte[] delta = StateCodec.encodeDelta(SCHEMA_V1, previous, current);
+        assertNotNull(delta);
+        assertTrue(delta.length < StateCodec.encode(SCHEMA_V1, current).length);
+
+        Map<String, Object> applied = StateCodec.apply(SCHEMA_V1, previous, delta);
+        assertEquals(7, applied.get("score"));
+        assertFalse(applied.containsKey("player"));
+        assertEquals(123_456_789_000L, applied.get("elapsed"));
+
+        assertNull(StateCodec.encodeDelta(SCHEMA_V1, current, sampleValuesWith(current)));
+    }
+
+    private static Map<String, Object> sampleValuesWith(Map<String, Object> values) {
+        Map<String, Object> copy = new HashMap<>(values);
+        copy.put("board", ((byte[]) values.get("board")).clone());
+        return copy;
+    }
+
+    @Test
+    void testNewerSchemaReadsOlderDataAndOlderSkipsNewFields() {
+        StateSchema v2 = StateSchema.builder("test", 2)
+            .intKey(1, "score")
+            .stringKey(4, "player")
+            .intKey(6, "round")
+            .build();
+
+        Map<String, Object> fromV1 = StateCodec.decode(v2, StateCodec.encode(SCHEMA_V1, sampleValues()));
+        assertEquals(-42, fromV1.get("score"));
+        assertFalse(fromV1.containsKey("elapsed"));
+
+        Map<String, Object> v2Values = new HashMap<>();
+        v2Values.put("score", 1);
+        v2Values.put("round", 3);
+        Map<String, Object> fromV2 = StateCodec.decode(SCHEMA_V1, StateCodec.encode(v2, v2Values));
+        assertEquals(1, fromV2.get("score"));
+        assertFalse(fromV2.containsKey("round"));
+    }
+
+    static final class Position {
+        int row;
+        int col;
+
+        Position(int row, int col) {
+            this.row = row;
+            this.col = col;
+        }
+    }
+
+    @Test
+    void testOnlyRegisteredClassesDecodeFromJson() {
+        StateSchema schema = StateSchema.builder("test", 1)
+            .intKey(1, "score")
+            .valueClass(Position.class)
+            .build();
+        Map<String, Object> values = new HashMap<>();
+        values.put("move", new Position(1, 2));
+        values.put("tags", new java.util.ArrayList<>(List.of("a", "b")));
+        byte[] frame = StateCodec.encode(schema, values);
+
+        Map<String, Object> decoded = StateCodec.decode(schema, frame);
+        assertInstanceOf(Position.class, decoded.get("move"));
+        assertEquals(2, ((Position) decoded.get("move")).col);
+        // Registered nowhere - plain values, whatever class name the data names
+        assertEquals(List.of("a", "b"), decoded.get("tags"));
+
+        Map<String, Object> unregistered = StateCodec.decode(SCHEMA_V1, frame);
+        assertInstanceOf(Map.class, unregistered.get("move"));
+        assertEquals(2.0, ((Map<?, ?>) unregistered.get("move")).get("col"));
+    }
+
+    @Test
+    void testDeltaEncoderDetectsInPlaceArrayChanges() {
+        StateDeltaEncoder encoder = new StateDeltaEncoder(SCHEMA_V1, 10);
+        Map<String, Object> values = sampleValues();
+
+        byte[] first = encoder.next(values);
+        assertNotNull(first);
+        assertNull(encoder.next(values));
+
+        ((byte[]) values.get("board"))[1] = 2;
+        byte[] delta = encoder.next(values);
+        assertNotNull(delta);
+
+        Map<String, Object> receiver = StateCodec.apply(SCHEMA_V1, new HashMap<>(), first);
+        receiver = StateCodec.apply(SCHEMA_V1, receiver, delta);
+        assertEquals(2, ((byte[]) receiver.get("board"))[1]);
+    }
+
+    @Test
+    void testMalformedFramesAreRejected() {
+        byte[] encoded = StateCodec.encode(SCHEMA_V1, sampleValues());
+        List<byte[]> frames = List.of(
+            // Field count far beyond the frame
+            new byte[]{'S', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07},
+            // Bytes field (ID 5) claiming 0x7fffffff bytes
+            new byte[]{'S', 1, 1, 42, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07},
+            // Bytes field with a negative length
+            new byte[]{'S', 1, 1, 42, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01},
+            // Dynamic field whose name has a negative length
+            new byte[]{'S', 1, 1, 3, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF},
+            // Dynamic byte array value claiming 0x7fffffff bytes
+            new byte[]{'S', 1, 1, 3, 0, 0, 0, 1, 'x', 7, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF},
+            // Truncated snapshot
+            Arrays.copyOf(encoded, encoded.length - 3));
+
+        for (byte[] frame : frames) {
+            assertThrows(IllegalArgumentException.class, () -> StateCodec.decode(SCHEMA_V1, frame));
+            assertThrows(IllegalArgumentException.class, () -> StateCodec.apply(SCHEMA_V1, new HashMap<>(), frame));
+        }
+    }
+}